@@ -17,7 +17,10 @@ import org.eclipse.jkube.kit.common.AssemblyFileEntry;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -60,6 +63,32 @@ public class AssemblyFiles {
         return entries.stream().filter(AssemblyFileEntry::isUpdated).collect(Collectors.toList());
     }
 
+    /**
+     * Same as {@link #getUpdatedEntriesAndRefresh()} but only checks the entries whose source file is located in one
+     * of the provided directories (e.g. the directories where file system events were reported).
+     *
+     * @param directories the directories to check
+     * @return list of all entries in the given directories which have been updated since the last check
+     */
+    public List<AssemblyFileEntry> getUpdatedEntriesAndRefresh(Collection<File> directories) {
+        return entries.stream()
+            .filter(e -> directories.contains(e.getSource().getAbsoluteFile().getParentFile()))
+            .filter(AssemblyFileEntry::isUpdated)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Get the directories containing the source files of the entries
+     *
+     * @return set of distinct directories that need to be monitored
+     */
+    public Set<File> getSourceDirectories() {
+        return entries.stream()
+            .map(e -> e.getSource().getAbsoluteFile().getParentFile())
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    }
+
     /**
      * Returns true if there are no entries
      *
@@ -36,6 +36,7 @@ import org.eclipse.jkube.kit.common.AssemblyMode;
 import org.eclipse.jkube.kit.common.JavaProject;
 import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.archive.ArchiveCompression;
+import org.eclipse.jkube.kit.common.archive.ArchiveWriter;
 import org.eclipse.jkube.kit.common.archive.JKubeTarArchiver;
 import org.eclipse.jkube.kit.common.util.FileUtil;
 import org.eclipse.jkube.kit.common.util.JKubeProjectUtil;
@@ -93,6 +94,36 @@ public class AssemblyManager {
         String imageName, final JKubeConfiguration configuration, final BuildConfiguration buildConfig, KitLogger log,
         ArchiverCustomizer finalCustomizer) throws IOException {
 
+        return createDockerTarArchive(imageName, configuration, buildConfig, log, finalCustomizer,
+            (tarArchiver, inputDirectory, buildDirs) ->
+                tarArchiver.createArchive(inputDirectory, buildDirs, buildConfig.getCompression()));
+    }
+
+    /**
+     * Prepare the contents of the docker tar archive for the given configuration and return an {@link ArchiveWriter}
+     * that creates the archive on the fly, so that it can be streamed to the Docker host without writing it to disk.
+     *
+     * @param imageName Name of the image to create (used for creating build directories)
+     * @param configuration Mojos parameters (used for finding the directories)
+     * @param buildConfig configuration for how to build the image
+     * @param log KitLogger used to display warning if permissions are to be normalized
+     * @param finalCustomizer finalCustomizer to be applied to the tar archive
+     * @return writer for the assembly tar archive
+     * @throws IOException IO exception
+     */
+    public ArchiveWriter createDockerTarArchiveWriter(
+        String imageName, final JKubeConfiguration configuration, final BuildConfiguration buildConfig, KitLogger log,
+        ArchiverCustomizer finalCustomizer) throws IOException {
+
+        return createDockerTarArchive(imageName, configuration, buildConfig, log, finalCustomizer,
+            (tarArchiver, inputDirectory, buildDirs) ->
+                tarArchiver.createArchiveWriter(inputDirectory, buildConfig.getCompression()));
+    }
+
+    private <T> T createDockerTarArchive(
+        String imageName, final JKubeConfiguration configuration, final BuildConfiguration buildConfig, KitLogger log,
+        ArchiverCustomizer finalCustomizer, BuildTarBallFactory<T> buildTarBallFactory) throws IOException {
+
         final BuildDirs buildDirs = createBuildDirs(imageName, configuration);
         final List<ArchiverCustomizer> archiveCustomizers = new ArrayList<>();
         final AssemblyConfiguration assemblyConfig = getAssemblyConfiguration(buildConfig, configuration);
@@ -107,7 +138,7 @@ public class AssemblyManager {
             }
             archiveCustomizers.addAll(
                 getDefaultCustomizers(configuration, assemblyConfig, finalCustomizer, assemblyFileEntries));
-            return createBuildTarBall(configuration, buildDirs, archiveCustomizers, assemblyConfig, buildConfig.getCompression());
+            return createBuildTarBall(configuration, buildDirs, archiveCustomizers, assemblyConfig, buildTarBallFactory);
         } catch (IOException e) {
             throw new IOException(String.format("Cannot create %s in %s", DOCKERFILE_NAME, buildDirs.getOutputDirectory()), e);
         }
@@ -218,8 +249,8 @@ public class AssemblyManager {
     }
 
     // Create final tar-ball to be used for building the archive to send to the Docker daemon
-    private File createBuildTarBall(JKubeConfiguration params, BuildDirs buildDirs, List<ArchiverCustomizer> archiverCustomizers,
-                                    AssemblyConfiguration assemblyConfig, ArchiveCompression compression) throws IOException {
+    private <T> T createBuildTarBall(JKubeConfiguration params, BuildDirs buildDirs, List<ArchiverCustomizer> archiverCustomizers,
+                                     AssemblyConfiguration assemblyConfig, BuildTarBallFactory<T> buildTarBallFactory) throws IOException {
         AssemblyConfigurationSource source = new AssemblyConfigurationSource(params, buildDirs, assemblyConfig);
 
         JKubeBuildTarArchiver jkubeTarArchiver = new JKubeBuildTarArchiver();
@@ -228,7 +259,12 @@ public class AssemblyManager {
                 jkubeTarArchiver = customizer.customize(jkubeTarArchiver);
             }
         }
-        return jkubeTarArchiver.createArchive(source.getOutputDirectory(), buildDirs, compression);
+        return buildTarBallFactory.create(jkubeTarArchiver, source.getOutputDirectory(), buildDirs);
+    }
+
+    @FunctionalInterface
+    private interface BuildTarBallFactory<T> {
+        T create(JKubeBuildTarArchiver tarArchiver, File inputDirectory, BuildDirs buildDirs) throws IOException;
     }
 
     private File createArchiveDir(BuildDirs dirs) throws IOException{
@@ -14,7 +14,9 @@
 package org.eclipse.jkube.kit.build.api.assembly;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -22,11 +24,10 @@ import java.util.Map;
 
 import org.eclipse.jkube.kit.common.AssemblyFileEntry;
 import org.eclipse.jkube.kit.common.archive.ArchiveCompression;
+import org.eclipse.jkube.kit.common.archive.ArchiveWriter;
 import org.eclipse.jkube.kit.common.archive.JKubeTarArchiver;
 import org.eclipse.jkube.kit.common.util.FileUtil;
 
-import org.apache.commons.io.FileUtils;
-
 public class JKubeBuildTarArchiver {
 
     public static final String ARCHIVE_FILE_NAME = "docker-build.";
@@ -48,6 +49,23 @@ public class JKubeBuildTarArchiver {
 
     public File createArchive(File inputDirectory, BuildDirs buildDirs, ArchiveCompression compression) throws IOException {
         File outputFile = new File(buildDirs.getTemporaryRootDirectory(), ARCHIVE_FILE_NAME + (compression.equals(ArchiveCompression.none) ? "tar" : compression.getFileSuffix()));
+        final ArchiveWriter archiveWriter = createArchiveWriter(inputDirectory, compression);
+        try (OutputStream outputStream = new FileOutputStream(outputFile)) {
+            archiveWriter.writeTo(outputStream);
+        }
+        return outputFile;
+    }
+
+    /**
+     * Prepares the contents of the archive in the provided input directory and returns an {@link ArchiveWriter}
+     * that creates the tar ball on the fly when written to a stream.
+     *
+     * @param inputDirectory directory with the contents of the archive.
+     * @param compression compression to apply to the tar ball.
+     * @return the writer for the archive.
+     * @throws IOException in case the archive contents can't be prepared.
+     */
+    public ArchiveWriter createArchiveWriter(File inputDirectory, ArchiveCompression compression) throws IOException {
         List<File> files = FileUtil.listFilesAndDirsRecursivelyInDirectory(inputDirectory);
 
         if (!filesToIncludeNameMap.isEmpty()) {
@@ -75,7 +93,8 @@ public class JKubeBuildTarArchiver {
             }
             fileListToAddInTarball.add(currentFile);
         }
-
-        return JKubeTarArchiver.createTarBall(outputFile, inputDirectory, fileListToAddInTarball, fileModeMap, compression);
+        final Map<File, String> fileModes = new HashMap<>(fileModeMap);
+        return outputStream -> JKubeTarArchiver.writeTarBall(
+            outputStream, inputDirectory, fileListToAddInTarball, fileModes, compression);
     }
 }
\ No newline at end of file
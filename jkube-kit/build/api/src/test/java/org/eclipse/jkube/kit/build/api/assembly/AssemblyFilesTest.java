@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.api.assembly;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.jkube.kit.common.AssemblyFileEntry;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AssemblyFilesTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private File first;
+  private File second;
+  private AssemblyFiles assemblyFiles;
+
+  @Before
+  public void setUp() throws Exception {
+    first = temporaryFolder.newFolder("first");
+    second = temporaryFolder.newFolder("second");
+    assemblyFiles = new AssemblyFiles(temporaryFolder.getRoot());
+    assemblyFiles.addEntry(entry(new File(first, "a.txt")));
+    assemblyFiles.addEntry(entry(new File(first, "b.txt")));
+    assemblyFiles.addEntry(entry(new File(second, "c.txt")));
+  }
+
+  @Test
+  public void getSourceDirectories_shouldReturnDistinctDirectories() {
+    assertEquals(2, assemblyFiles.getSourceDirectories().size());
+    assertTrue(assemblyFiles.getSourceDirectories().contains(first));
+    assertTrue(assemblyFiles.getSourceDirectories().contains(second));
+  }
+
+  @Test
+  public void getUpdatedEntriesAndRefresh_withDirectories_shouldOnlyCheckEntriesInDirectories() {
+    // Given
+    touch(new File(first, "a.txt"));
+    touch(new File(second, "c.txt"));
+    // When
+    final List<AssemblyFileEntry> result = assemblyFiles.getUpdatedEntriesAndRefresh(Collections.singleton(second));
+    // Then
+    assertEquals(1, result.size());
+    assertEquals(new File(second, "c.txt"), result.get(0).getSource());
+    assertEquals(1, assemblyFiles.getUpdatedEntriesAndRefresh().size());
+    assertTrue(assemblyFiles.getUpdatedEntriesAndRefresh().isEmpty());
+  }
+
+  private static AssemblyFileEntry entry(File source) throws Exception {
+    assertTrue(source.createNewFile());
+    assertTrue(source.setLastModified(1000L));
+    return AssemblyFileEntry.builder().source(source).dest(source).build();
+  }
+
+  private static void touch(File file) {
+    assertTrue(file.setLastModified(System.currentTimeMillis()));
+  }
+}
@@ -21,6 +21,7 @@ import org.eclipse.jkube.kit.build.api.assembly.AssemblyManager;
 import org.eclipse.jkube.kit.config.image.ImageConfiguration;
 import org.eclipse.jkube.kit.config.image.build.BuildConfiguration;
 import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.archive.ArchiveWriter;
 
 import java.io.File;
 import java.io.IOException;
@@ -117,4 +118,9 @@ public class ArchiveService {
             throws IOException {
         return assemblyManager.createDockerTarArchive(imageName, params, buildConfig, log, customizer);
     }
+
+    ArchiveWriter createArchiveWriter(String imageName, BuildConfiguration buildConfig, JKubeConfiguration params, KitLogger log)
+            throws IOException {
+        return assemblyManager.createDockerTarArchiveWriter(imageName, params, buildConfig, log, null);
+    }
 }
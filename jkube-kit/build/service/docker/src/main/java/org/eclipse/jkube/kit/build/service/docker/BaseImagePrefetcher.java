@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.service.docker;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+
+import org.eclipse.jkube.kit.config.image.RegistryConfig;
+
+/**
+ * Pulls the distinct base images of several image builds (according to the image pull policy).
+ *
+ * <p> If {@link RegistryConfig#getPullConcurrency()} is greater than 1, the images are pulled in parallel so that
+ * the pulls overlap with the creation of the build contexts. Otherwise each image is pulled when it's awaited.
+ */
+class BaseImagePrefetcher implements Closeable {
+
+    private final ExecutorService executor;
+    private final Map<String, FutureTask<Void>> pulls;
+
+    private BaseImagePrefetcher(ExecutorService executor) {
+        this.executor = executor;
+        this.pulls = new LinkedHashMap<>();
+    }
+
+    /**
+     * Starts pulling the provided base images in the background, if concurrent pulls are enabled.
+     *
+     * @param baseImages base images to pull, duplicates are only pulled once
+     * @param registryService service to pull the images with
+     * @param queryService service to check whether an image is already available
+     * @param imagePullManager the image pull manager
+     * @param registryConfig registry configuration
+     * @return the prefetcher tracking the started pulls
+     */
+    static BaseImagePrefetcher start(Collection<String> baseImages, RegistryService registryService,
+        QueryService queryService, ImagePullManager imagePullManager, RegistryConfig registryConfig) {
+
+        final int concurrency = Math.min(baseImages.size(), registryConfig.getPullConcurrency());
+        final BaseImagePrefetcher prefetcher = new BaseImagePrefetcher(
+            concurrency > 1 ? Executors.newFixedThreadPool(concurrency) : null);
+        for (String baseImage : baseImages) {
+            prefetcher.pulls.computeIfAbsent(baseImage, image -> {
+                final FutureTask<Void> pull = new FutureTask<>(() -> {
+                    registryService.pullImageWithPolicy(image, imagePullManager, registryConfig, queryService.hasImage(image));
+                    return null;
+                });
+                if (prefetcher.executor != null) {
+                    prefetcher.executor.execute(pull);
+                }
+                return pull;
+            });
+        }
+        return prefetcher;
+    }
+
+    /**
+     * Waits until the provided base images are pulled.
+     *
+     * @param baseImages base images to wait for, images that weren't prefetched are ignored
+     * @throws IOException if any of the pulls failed
+     */
+    void await(Collection<String> baseImages) throws IOException {
+        for (String baseImage : baseImages) {
+            final FutureTask<Void> pull = pulls.get(baseImage);
+            if (pull == null) {
+                continue;
+            }
+            if (executor == null) {
+                // Pulled on the calling thread, a no-op if the image was already pulled
+                pull.run();
+            }
+            try {
+                pull.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while pulling " + baseImage, e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new IOException("Unable to pull " + baseImage + ": " + e.getCause().getMessage(), e.getCause());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
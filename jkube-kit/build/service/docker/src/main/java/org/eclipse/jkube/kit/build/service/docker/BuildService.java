@@ -15,13 +15,18 @@ package org.eclipse.jkube.kit.build.service.docker;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.LinkedList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.gson.JsonObject;
 
@@ -32,9 +37,11 @@ import org.eclipse.jkube.kit.build.api.helper.DockerFileUtil;
 import org.eclipse.jkube.kit.build.api.assembly.AssemblyManager;
 import org.eclipse.jkube.kit.common.util.EnvUtil;
 import org.eclipse.jkube.kit.build.service.docker.access.BuildOptions;
+import org.eclipse.jkube.kit.build.service.docker.access.BuildResult;
 import org.eclipse.jkube.kit.build.service.docker.access.DockerAccess;
 import org.eclipse.jkube.kit.build.service.docker.access.DockerAccessException;
 import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.archive.ArchiveWriter;
 import org.eclipse.jkube.kit.config.image.ImageConfiguration;
 import org.eclipse.jkube.kit.config.image.ImageName;
 import org.eclipse.jkube.kit.common.AssemblyConfiguration;
@@ -50,6 +57,8 @@ public class BuildService {
     private final ArchiveService archiveService;
     private final RegistryService registryService;
     private final KitLogger log;
+    // IDs of the images built by this service, keyed by image name
+    private final Map<String, String> builtImageIds = new ConcurrentHashMap<>();
 
     BuildService(DockerAccess docker, QueryService queryService, RegistryService registryService, ArchiveService archiveService, KitLogger log) {
         this.docker = docker;
@@ -65,16 +74,54 @@ public class BuildService {
      * @param imageConfig the image configuration
      * @param imagePullManager the image pull manager
      * @param configuration the project configuration
+     * @return the image and layer IDs of the built image
      * @throws IOException in case of any problems
      */
-    public void buildImage(ImageConfiguration imageConfig, ImagePullManager imagePullManager, JKubeConfiguration configuration)
+    public BuildResult buildImage(ImageConfiguration imageConfig, ImagePullManager imagePullManager, JKubeConfiguration configuration)
             throws IOException {
 
         if (imagePullManager != null) {
             autoPullBaseImage(imageConfig, imagePullManager, configuration);
         }
 
-        buildImage(imageConfig, configuration, checkForNocache(imageConfig), addBuildArgs(configuration));
+        return buildImage(imageConfig, configuration, checkForNocache(imageConfig), addBuildArgs(configuration));
+    }
+
+    /**
+     * Pull the base images if needed and build and tag the provided images.
+     *
+     * <p> The distinct base images of all the images are resolved up front. If concurrent pulls are enabled
+     * ({@link org.eclipse.jkube.kit.config.image.RegistryConfig#getPullConcurrency()}), they are pulled in parallel
+     * while the build contexts are prepared and each build waits only for the pulls of its own base images.
+     *
+     * @param imageConfigs the image configurations
+     * @param imagePullManager the image pull manager
+     * @param configuration the project configuration
+     * @throws IOException in case of any problems
+     */
+    public void buildImages(Collection<ImageConfiguration> imageConfigs, ImagePullManager imagePullManager,
+        JKubeConfiguration configuration) throws IOException {
+
+        final List<List<String>> baseImages = new ArrayList<>();
+        final Set<String> distinctBaseImages = new LinkedHashSet<>();
+        for (ImageConfiguration imageConfig : imageConfigs) {
+            final List<String> imageBaseImages = imagePullManager != null ?
+                getBaseImagesToPull(imageConfig, configuration) : Collections.<String>emptyList();
+            baseImages.add(imageBaseImages);
+            distinctBaseImages.addAll(imageBaseImages);
+        }
+
+        final Map<String, String> buildArgs = addBuildArgs(configuration);
+        try (BaseImagePrefetcher prefetcher = BaseImagePrefetcher.start(distinctBaseImages, registryService,
+            queryService, imagePullManager, configuration.getRegistryConfig())) {
+            int index = 0;
+            for (ImageConfiguration imageConfig : imageConfigs) {
+                final List<String> imageBaseImages = baseImages.get(index++);
+                buildImage(imageConfig, configuration, checkForNocache(imageConfig), buildArgs,
+                    () -> prefetcher.await(imageBaseImages));
+                tagImage(imageConfig.getName(), imageConfig);
+            }
+        }
     }
 
     public void tagImage(String imageName, ImageConfiguration imageConfig) throws DockerAccessException {
@@ -83,11 +130,13 @@ public class BuildService {
         if (!tags.isEmpty()) {
             log.info("%s: Tag with %s", imageConfig.getDescription(), EnvUtil.stringJoin(tags, ","));
 
+            final List<String> targetImages = new ArrayList<>();
             for (String tag : tags) {
                 if (tag != null) {
-                    docker.tag(imageName, new ImageName(imageName, tag).getFullName(), true);
+                    targetImages.add(new ImageName(imageName, tag).getFullName());
                 }
             }
+            docker.tag(imageName, targetImages, true);
 
             log.debug("Tagging image successful!");
         }
@@ -100,11 +149,17 @@ public class BuildService {
      * @param params mojo params for the project
      * @param noCache if not null, dictate the caching behaviour. Otherwise its taken from the build configuration
      * @param buildArgs maven build context
+     * @return the image and layer IDs of the built image
      * @throws DockerAccessException docker access exception
      * @throws IOException in case of any I/O exception
      */
-    protected void buildImage(ImageConfiguration imageConfig, JKubeConfiguration params, boolean noCache, Map<String, String> buildArgs)
+    protected BuildResult buildImage(ImageConfiguration imageConfig, JKubeConfiguration params, boolean noCache, Map<String, String> buildArgs)
             throws IOException {
+        return buildImage(imageConfig, params, noCache, buildArgs, () -> {});
+    }
+
+    private BuildResult buildImage(ImageConfiguration imageConfig, JKubeConfiguration params, boolean noCache,
+        Map<String, String> buildArgs, BaseImagesReady baseImagesReady) throws IOException {
 
         String imageName = imageConfig.getName();
         ImageName.validate(imageName);
@@ -112,10 +167,13 @@ public class BuildService {
         BuildConfiguration buildConfig = imageConfig.getBuildConfiguration();
 
         String oldImageId = null;
+        // A recorded ID is only valid until the image is built again, it's recorded anew once the build finishes
+        final String builtImageId = builtImageIds.remove(imageName);
 
         CleanupMode cleanupMode = buildConfig.cleanupMode();
         if (cleanupMode.isRemove()) {
-            oldImageId = queryService.getImageId(imageName);
+            // Images built by this service are known from their build result, no need to inspect them again
+            oldImageId = builtImageId != null ? builtImageId : queryService.getImageId(imageName);
         }
 
         long time = System.currentTimeMillis();
@@ -124,14 +182,28 @@ public class BuildService {
             docker.loadImage(imageName, buildConfig.getAbsoluteDockerTarPath(params.getSourceDirectory(), params.getProject().getBaseDirectory() != null
                     ? params.getProject().getBaseDirectory().toString() : null));
             log.info("%s: Loaded tarball in %s", buildConfig.getDockerArchive(), EnvUtil.formatDurationTill(time));
-            return;
+            return BuildResult.builder().build();
         }
 
-        File dockerArchive = archiveService.createArchive(imageName, buildConfig, params, log);
-        log.info("%s: Created %s in %s", imageConfig.getDescription(), dockerArchive.getName(), EnvUtil.formatDurationTill(time));
+        // The build context is streamed to the docker daemon while it's being created, it's only written to disk
+        // if explicitly requested (e.g. to inspect it)
+        final File dockerArchive;
+        final ArchiveWriter dockerArchiveWriter;
+        if (params.isKeepBuildArchive()) {
+            dockerArchive = archiveService.createArchive(imageName, buildConfig, params, log);
+            dockerArchiveWriter = null;
+            log.info("%s: Created %s in %s", imageConfig.getDescription(), dockerArchive.getName(), EnvUtil.formatDurationTill(time));
+        } else {
+            dockerArchive = null;
+            dockerArchiveWriter = archiveService.createArchiveWriter(imageName, buildConfig, params, log);
+            log.info("%s: Prepared build context in %s", imageConfig.getDescription(), EnvUtil.formatDurationTill(time));
+        }
 
         Map<String, String> mergedBuildMap = prepareBuildArgs(buildArgs, buildConfig);
 
+        // Base images might still be being pulled while the build context was prepared
+        baseImagesReady.await();
+
         // auto is now supported by docker, consider switching?
         BuildOptions opts =
                 new BuildOptions(buildConfig.getBuildOptions())
@@ -140,8 +212,13 @@ public class BuildService {
                         .noCache(noCache)
                         .cacheFrom(buildConfig.getCacheFrom())
                         .buildArgs(mergedBuildMap);
-        String newImageId = doBuildImage(imageName, dockerArchive, opts);
+        BuildResult buildResult = dockerArchive != null ?
+                doBuildImage(imageName, dockerArchive, opts) : doBuildImage(imageName, dockerArchiveWriter, opts);
+        String newImageId = buildResult.getImageId();
         log.info("%s: Built image %s", imageConfig.getDescription(), newImageId);
+        if (newImageId != null) {
+            builtImageIds.put(imageName, newImageId);
+        }
 
         if (oldImageId != null && !oldImageId.equals(newImageId)) {
             try {
@@ -156,6 +233,7 @@ public class BuildService {
                 }
             }
         }
+        return buildResult;
     }
 
     private Map<String, String> prepareBuildArgs(Map<String, String> buildArgs, BuildConfiguration buildConfig) {
@@ -174,10 +252,23 @@ public class BuildService {
         }
     }
 
-    private String doBuildImage(String imageName, File dockerArchive, BuildOptions options)
+    private BuildResult doBuildImage(String imageName, File dockerArchive, BuildOptions options)
+            throws DockerAccessException {
+        return withImageId(imageName, docker.buildImage(imageName, dockerArchive, options));
+    }
+
+    private BuildResult doBuildImage(String imageName, ArchiveWriter dockerArchive, BuildOptions options)
             throws DockerAccessException {
-        docker.buildImage(imageName, dockerArchive, options);
-        return queryService.getImageId(imageName);
+        return withImageId(imageName, docker.buildImage(imageName, dockerArchive, options));
+    }
+
+    // Daemons not reporting the image ID in the build response stream require an additional inspect
+    private BuildResult withImageId(String imageName, BuildResult buildResult) throws DockerAccessException {
+        if (buildResult != null && buildResult.getImageId() != null) {
+            return buildResult;
+        }
+        final BuildResult.BuildResultBuilder builder = buildResult != null ? buildResult.toBuilder() : BuildResult.builder();
+        return builder.imageId(queryService.getImageId(imageName)).build();
     }
 
     private Map<String, String> addBuildArgs(JKubeConfiguration configuration) {
@@ -241,11 +332,17 @@ public class BuildService {
 
     private void autoPullBaseImage(ImageConfiguration imageConfig, ImagePullManager imagePullManager, JKubeConfiguration configuration)
             throws IOException {
+        for (String fromImage : getBaseImagesToPull(imageConfig, configuration)) {
+            registryService.pullImageWithPolicy(fromImage, imagePullManager, configuration.getRegistryConfig(), queryService.hasImage(fromImage));
+        }
+    }
+
+    private List<String> getBaseImagesToPull(ImageConfiguration imageConfig, JKubeConfiguration configuration) {
         BuildConfiguration buildConfig = imageConfig.getBuildConfiguration();
 
         if (buildConfig.getDockerArchive() != null) {
             // No auto pull needed in archive mode
-            return;
+            return Collections.emptyList();
         }
 
         List<String> fromImages;
@@ -258,11 +355,13 @@ public class BuildService {
                 fromImages.add(extractBaseFromConfiguration(buildConfig));
             }
         }
+        final List<String> ret = new ArrayList<>();
         for (String fromImage : fromImages) {
             if (fromImage != null && !AssemblyManager.SCRATCH_IMAGE.equals(fromImage)) {
-                registryService.pullImageWithPolicy(fromImage, imagePullManager, configuration.getRegistryConfig(), queryService.hasImage(fromImage));
+                ret.add(fromImage);
             }
         }
+        return ret;
     }
 
     private String extractBaseFromConfiguration(BuildConfiguration buildConfig) {
@@ -306,4 +405,9 @@ public class BuildService {
         return str == null || str.isEmpty();
     }
 
+    @FunctionalInterface
+    private interface BaseImagesReady {
+        void await() throws IOException;
+    }
+
 }
@@ -32,6 +32,10 @@ public class ImagePullManager {
 
     private CacheStore cacheStore;
 
+    // In-memory pull-state index and the stored JSON it was parsed from
+    private ImagePullCache cache;
+    private String cacheJson;
+
     public ImagePullManager(CacheStore cacheStore, String imagePullPolicy, String autoPull) {
         this.cacheStore = cacheStore;
         this.imagePullPolicy = createPullPolicy(imagePullPolicy, autoPull);
@@ -60,11 +64,11 @@ public class ImagePullManager {
         return ImagePullPolicy.IfNotPresent;
     }
 
-    public boolean hasAlreadyPulled(String image) {
+    public synchronized boolean hasAlreadyPulled(String image) {
         return load().has(image);
     }
 
-    public void pulled(String image) {
+    public synchronized void pulled(String image) {
         save(load().add(image));
     }
 
@@ -75,21 +79,33 @@ public class ImagePullManager {
         void put(String key, String value);
     }
 
-    public ImagePullCache load() {
+    /**
+     * Returns the in-memory index of the pulled images.
+     *
+     * <p> The JSON stored in the {@link CacheStore} is only parsed again if it was modified by someone else
+     * (e.g. another build module sharing the same store).
+     *
+     * @return the pull cache
+     */
+    public synchronized ImagePullCache load() {
 
         String pullCacheJson = cacheStore.get(CONTEXT_KEY_PREVIOUSLY_PULLED);
 
-        ImagePullCache cache = new ImagePullCache(pullCacheJson);
+        if (cache == null || pullCacheJson == null || !pullCacheJson.equals(cacheJson)) {
+            cache = new ImagePullCache(pullCacheJson);
+            cacheJson = pullCacheJson;
+        }
 
         if (pullCacheJson == null) {
             save(cache);
-            cacheStore.put(CONTEXT_KEY_PREVIOUSLY_PULLED, cache.toString());
         }
         return cache;
     }
 
-    public void save(ImagePullCache cache) {
-        cacheStore.put(CONTEXT_KEY_PREVIOUSLY_PULLED, cache.toString());
+    public synchronized void save(ImagePullCache cache) {
+        this.cache = cache;
+        cacheJson = cache.toString();
+        cacheStore.put(CONTEXT_KEY_PREVIOUSLY_PULLED, cacheJson);
     }
 
     /**
@@ -14,7 +14,17 @@
 package org.eclipse.jkube.kit.build.service.docker;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.eclipse.jkube.kit.build.api.auth.AuthConfig;
 import org.eclipse.jkube.kit.build.service.docker.access.DockerAccess;
@@ -41,7 +51,11 @@ public class RegistryService {
     }
 
     /**
-     * Push a set of images to a registry
+     * Push a set of images to a registry.
+     *
+     * <p> Distinct images are pushed concurrently, up to {@link RegistryConfig#getPushConcurrency()} pushes at the
+     * same time. For each image the primary name is pushed first, the additional tags are pushed afterwards (in
+     * parallel) since the registry already holds all of their layers.
      *
      * @param imageConfigs images to push (but only if they have a build configuration)
      * @param retries how often to retry
@@ -51,10 +65,12 @@ public class RegistryService {
      */
     public void pushImages(Collection<ImageConfiguration> imageConfigs,
                            int retries, RegistryConfig registryConfig, boolean skipTag) throws IOException {
+        final List<PushTask> pushTasks = new ArrayList<>();
+        final Set<String> scheduledImages = new HashSet<>();
         for (ImageConfiguration imageConfig : imageConfigs) {
             BuildConfiguration buildConfig = imageConfig.getBuildConfiguration();
             String name = imageConfig.getName();
-            if (buildConfig != null) {
+            if (buildConfig != null && scheduledImages.add(name)) {
                 String configuredRegistry = EnvUtil.firstRegistryOf(
                     new ImageName(imageConfig.getName()).getRegistry(),
                     imageConfig.getRegistry(),
@@ -63,21 +79,60 @@ public class RegistryService {
 
                 AuthConfig authConfig = createAuthConfig(true, new ImageName(name).getUser(), configuredRegistry, registryConfig);
 
-                long start = System.currentTimeMillis();
-                docker.pushImage(name, authConfig, configuredRegistry, retries);
-                log.info("Pushed %s in %s", name, EnvUtil.formatDurationTill(start));
-
+                final Set<String> tags = new LinkedHashSet<>();
                 if (!skipTag) {
-                    for (String tag : imageConfig.getBuildConfiguration().getTags()) {
+                    for (String tag : buildConfig.getTags()) {
                         if (tag != null) {
-                            docker.pushImage(new ImageName(name, tag).getFullName(), authConfig, configuredRegistry, retries);
+                            tags.add(new ImageName(name, tag).getFullName());
                         }
                     }
+                    tags.remove(name);
                 }
+                pushTasks.add(new PushTask(name, tags, authConfig, configuredRegistry));
             }
         }
+        final int concurrency = Math.min(registryConfig.getPushConcurrency(), pushTasks.size());
+        if (concurrency <= 1) {
+            for (PushTask pushTask : pushTasks) {
+                pushTask.pushImage(retries);
+                for (String tag : pushTask.tags) {
+                    pushTask.pushTag(tag, retries);
+                }
+            }
+        } else {
+            pushConcurrently(pushTasks, retries, concurrency);
+        }
     }
 
+    private void pushConcurrently(List<PushTask> pushTasks, int retries, int concurrency) throws IOException {
+        final ExecutorService pushExecutor = Executors.newFixedThreadPool(concurrency);
+        try {
+            final List<CompletableFuture<Void>> pushes = new ArrayList<>();
+            for (PushTask pushTask : pushTasks) {
+                pushes.add(CompletableFuture
+                    .runAsync(() -> uncheck(() -> pushTask.pushImage(retries)), pushExecutor)
+                    .thenCompose(v -> CompletableFuture.allOf(pushTask.tags.stream()
+                        .map(tag -> CompletableFuture.runAsync(() -> uncheck(() -> pushTask.pushTag(tag, retries)), pushExecutor))
+                        .toArray(CompletableFuture[]::new))));
+            }
+            // Wait for every push to finish, the first failure (in image order) is reported
+            IOException failure = null;
+            for (CompletableFuture<Void> push : pushes) {
+                try {
+                    push.join();
+                } catch (CompletionException e) {
+                    if (failure == null) {
+                        failure = toIOException(e.getCause());
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            pushExecutor.shutdownNow();
+        }
+    }
 
     /**
      * Check an image, and, if <code>autoPull</code> is set to true, fetch it. Otherwise if the image
@@ -146,6 +201,21 @@ public class RegistryService {
         return pullPolicy == ImagePullPolicy.Always;
     }
 
+    private static void uncheck(PushOperation pushOperation) {
+        try {
+            pushOperation.push();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static IOException toIOException(Throwable throwable) {
+        if (throwable instanceof UncheckedIOException) {
+            return ((UncheckedIOException) throwable).getCause();
+        }
+        return new IOException(throwable.getMessage(), throwable);
+    }
+
     private AuthConfig createAuthConfig(boolean isPush, String user, String registry, RegistryConfig config)
             throws IOException {
 
@@ -154,4 +224,33 @@ public class RegistryService {
             config.getSettings(), user, registry, config.getPasswordDecryptionMethod());
     }
 
+    @FunctionalInterface
+    private interface PushOperation {
+        void push() throws IOException;
+    }
+
+    private class PushTask {
+        private final String name;
+        private final Set<String> tags;
+        private final AuthConfig authConfig;
+        private final String registry;
+
+        private PushTask(String name, Set<String> tags, AuthConfig authConfig, String registry) {
+            this.name = name;
+            this.tags = tags;
+            this.authConfig = authConfig;
+            this.registry = registry;
+        }
+
+        private void pushImage(int retries) throws IOException {
+            long start = System.currentTimeMillis();
+            docker.pushImage(name, authConfig, registry, retries);
+            log.info("Pushed %s in %s", name, EnvUtil.formatDurationTill(start));
+        }
+
+        private void pushTag(String tag, int retries) throws IOException {
+            docker.pushImage(tag, authConfig, registry, retries);
+        }
+    }
+
 }
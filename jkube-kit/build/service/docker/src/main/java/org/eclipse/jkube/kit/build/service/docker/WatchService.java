@@ -22,13 +22,16 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import org.eclipse.jkube.kit.build.api.assembly.AssemblyFiles;
+import org.eclipse.jkube.kit.build.service.docker.access.BuildResult;
 import org.eclipse.jkube.kit.build.service.docker.access.PortMapping;
 import org.eclipse.jkube.kit.build.service.docker.helper.StartContainerExecutor;
 import org.eclipse.jkube.kit.build.service.docker.helper.Task;
 import org.eclipse.jkube.kit.build.service.docker.watch.CopyFilesTask;
 import org.eclipse.jkube.kit.build.service.docker.watch.ExecTask;
+import org.eclipse.jkube.kit.build.service.docker.watch.FileChangeWatcher;
 import org.eclipse.jkube.kit.build.service.docker.watch.WatchContext;
 import org.eclipse.jkube.kit.build.service.docker.watch.WatchException;
 import org.eclipse.jkube.kit.common.AssemblyFileEntry;
@@ -47,6 +50,9 @@ import org.apache.commons.lang3.StringUtils;
  */
 public class WatchService {
 
+    // Quiet period after the last file system event before the changes of an image are processed
+    private static final long WATCH_DEBOUNCE_MILLIS = 200;
+
     private final ArchiveService archiveService;
     private final BuildService buildService;
     private final QueryService queryService;
@@ -67,6 +73,7 @@ public class WatchService {
 
         // Important to be be a single threaded scheduler since watch jobs must run serialized
         ScheduledExecutorService executor = null;
+        final List<FileChangeWatcher> fileChangeWatchers = new ArrayList<>();
         try {
             executor = Executors.newSingleThreadScheduledExecutor();
 
@@ -86,12 +93,14 @@ public class WatchService {
                 if (imageConfig.getBuildConfiguration() != null &&
                         imageConfig.getBuildConfiguration().getAssembly() != null) {
                     if (watcher.isCopy()) {
-                        schedule(executor, createCopyWatchTask(watcher, context.getBuildContext()), interval);
+                        final AssemblyFiles files = archiveService.getAssemblyFiles(imageConfig, context.getBuildContext());
+                        schedule(executor, fileChangeWatchers, files, createCopyWatchTask(watcher, files, context.getBuildContext()), interval);
                         tasks.add("copying artifacts");
                     }
 
                     if (watcher.isBuild()) {
-                        schedule(executor, createBuildWatchTask(watcher, context.getBuildContext(), watchMode == WatchMode.both, buildContext), interval);
+                        final AssemblyFiles files = archiveService.getAssemblyFiles(imageConfig, context.getBuildContext());
+                        schedule(executor, fileChangeWatchers, files, createBuildWatchTask(watcher, files, watchMode == WatchMode.both, buildContext), interval);
                         tasks.add("rebuilding");
                     }
                 }
@@ -114,6 +123,9 @@ public class WatchService {
             log.warn("Interrupted");
             Thread.currentThread().interrupt();
         } finally {
+            for (FileChangeWatcher fileChangeWatcher : fileChangeWatchers) {
+                closeQuietly(fileChangeWatcher);
+            }
             if (executor != null) {
                 executor.shutdownNow();
             }
@@ -124,27 +136,53 @@ public class WatchService {
         executor.scheduleAtFixedRate(runnable, 0, interval, TimeUnit.MILLISECONDS);
     }
 
-    private Runnable createCopyWatchTask(final ImageWatcher watcher,
-                                         final JKubeConfiguration jKubeConfiguration) throws IOException {
-        final ImageConfiguration imageConfig = watcher.getImageConfiguration();
+    /**
+     * Schedules the provided task whenever the assembly files change.
+     *
+     * <p> File system events are used to detect the changes. The task is submitted to the (single threaded) executor
+     * once the events for the image have been debounced. Polling the files at the provided interval is used only if
+     * the file system can't be watched.
+     */
+    void schedule(ScheduledExecutorService executor, List<FileChangeWatcher> fileChangeWatchers, AssemblyFiles files,
+                  Consumer<List<AssemblyFileEntry>> task, long interval) {
+        try {
+            fileChangeWatchers.add(FileChangeWatcher.start(files.getSourceDirectories(), Math.min(interval, WATCH_DEBOUNCE_MILLIS),
+                    directories -> executor.execute(() -> runIfUpdated(files.getUpdatedEntriesAndRefresh(directories), task)),
+                    log));
+        } catch (IOException | UnsupportedOperationException e) {
+            log.warn("Cannot watch file system events (%s), polling for changes every %d ms", e.getMessage(), interval);
+            schedule(executor, () -> runIfUpdated(files.getUpdatedEntriesAndRefresh(), task), interval);
+        }
+    }
 
-        final AssemblyFiles files = archiveService.getAssemblyFiles(imageConfig, jKubeConfiguration);
+    private static void runIfUpdated(List<AssemblyFileEntry> entries, Consumer<List<AssemblyFileEntry>> task) {
+        if (entries != null && !entries.isEmpty()) {
+            task.accept(entries);
+        }
+    }
 
-        return () -> {
-            List<AssemblyFileEntry> entries = files.getUpdatedEntriesAndRefresh();
-                 if (!entries.isEmpty()) {
-                     try {
-                         log.info("%s: Assembly changed. Copying changed files to container...", imageConfig.getDescription());
-                         File changedFilesArchive = archiveService.createChangedFilesArchive(entries, files.getAssemblyDirectory(),
-                                 imageConfig.getName(), jKubeConfiguration);
-                         copyFilesToContainer(changedFilesArchive, watcher);
-                                    callPostExec(watcher);
-                     } catch (IOException | WatchException e) {
-                         log.error("%s: Error when copying files to container %s: %s",
-                                 imageConfig.getDescription(), watcher.getContainerId(), e.getMessage());
+    private void closeQuietly(FileChangeWatcher fileChangeWatcher) {
+        try {
+            fileChangeWatcher.close();
+        } catch (IOException e) {
+            log.debug("Error closing file watcher: %s", e.getMessage());
+        }
+    }
 
+    private Consumer<List<AssemblyFileEntry>> createCopyWatchTask(final ImageWatcher watcher, final AssemblyFiles files,
+                                         final JKubeConfiguration jKubeConfiguration) {
+        final ImageConfiguration imageConfig = watcher.getImageConfiguration();
 
-                }
+        return entries -> {
+            try {
+                log.info("%s: Assembly changed. Copying changed files to container...", imageConfig.getDescription());
+                File changedFilesArchive = archiveService.createChangedFilesArchive(entries, files.getAssemblyDirectory(),
+                        imageConfig.getName(), jKubeConfiguration);
+                copyFilesToContainer(changedFilesArchive, watcher);
+                callPostExec(watcher);
+            } catch (IOException | WatchException e) {
+                log.error("%s: Error when copying files to container %s: %s",
+                        imageConfig.getDescription(), watcher.getContainerId(), e.getMessage());
             }
         };
     }
@@ -166,34 +204,30 @@ public class WatchService {
         }
     }
 
-    Runnable createBuildWatchTask(final ImageWatcher watcher,
-                                          final JKubeConfiguration mojoParameters, final boolean doRestart, final JKubeConfiguration buildContext)
+    Consumer<List<AssemblyFileEntry>> createBuildWatchTask(final ImageWatcher watcher, final AssemblyFiles files,
+                                                           final boolean doRestart, final JKubeConfiguration buildContext)
             throws IOException {
         final ImageConfiguration imageConfig = watcher.getImageConfiguration();
-        final AssemblyFiles files = archiveService.getAssemblyFiles(imageConfig, mojoParameters);
         if (files.isEmpty()) {
             log.error("No assembly files for %s. Are you sure you invoked together with the `package` goal?", imageConfig.getDescription());
             throw new IOException("No files to watch found for " + imageConfig);
         }
 
-        return () -> {
-            List<AssemblyFileEntry> entries = files.getUpdatedEntriesAndRefresh();
-            if (entries != null && !entries.isEmpty()) {
-                try {
-                    log.info("%s: Assembly changed. Rebuild ...", imageConfig.getDescription());
+        return entries -> {
+            try {
+                log.info("%s: Assembly changed. Rebuild ...", imageConfig.getDescription());
 
-                    if (watcher.getWatchContext().getImageCustomizer() != null) {
-                        log.info("%s: Customizing the image ...", imageConfig.getDescription());
-                        watcher.getWatchContext().getImageCustomizer().execute(imageConfig);
-                    }
-                    buildService.buildImage(imageConfig, null, buildContext);
-
-                    String name = imageConfig.getName();
-                    watcher.setImageId(queryService.getImageId(name));
-                    restartContainerAndCallPostGoal(watcher, doRestart);
-                } catch (Exception e) {
-                    log.error("%s: Error when rebuilding - %s", imageConfig.getDescription(), e);
+                if (watcher.getWatchContext().getImageCustomizer() != null) {
+                    log.info("%s: Customizing the image ...", imageConfig.getDescription());
+                    watcher.getWatchContext().getImageCustomizer().execute(imageConfig);
                 }
+                BuildResult buildResult = buildService.buildImage(imageConfig, null, buildContext);
+
+                String imageId = buildResult != null ? buildResult.getImageId() : null;
+                watcher.setImageId(imageId != null ? imageId : queryService.getImageId(imageConfig.getName()));
+                restartContainerAndCallPostGoal(watcher, doRestart);
+            } catch (Exception e) {
+                log.error("%s: Error when rebuilding - %s", imageConfig.getDescription(), e);
             }
         };
     }
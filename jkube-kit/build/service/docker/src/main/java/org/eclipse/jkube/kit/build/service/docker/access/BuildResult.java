@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.service.docker.access;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Singular;
+
+/**
+ * Outcome of an image build as reported by the Docker daemon in the build response stream.
+ */
+@Builder(toBuilder = true)
+@Getter
+@EqualsAndHashCode
+public class BuildResult {
+
+  /**
+   * Length of the image IDs as returned by {@link DockerAccess#getImageId(String)}.
+   */
+  public static final int IMAGE_ID_LENGTH = 12;
+
+  /**
+   * ID of the built image, in the same format as {@link DockerAccess#getImageId(String)}.
+   *
+   * <p> Might be null if the daemon didn't report it.
+   */
+  private String imageId;
+
+  /**
+   * IDs of the intermediate images (layers) created or reused by each build step, in build order.
+   */
+  @Singular
+  private List<String> layerIds;
+
+}
@@ -24,9 +24,11 @@ import org.eclipse.jkube.kit.build.service.docker.access.log.LogCallback;
 import org.eclipse.jkube.kit.build.service.docker.access.log.LogGetHandle;
 import org.eclipse.jkube.kit.build.service.docker.access.log.LogOutputSpec;
 import org.eclipse.jkube.kit.common.archive.ArchiveCompression;
+import org.eclipse.jkube.kit.common.archive.ArchiveWriter;
 import org.eclipse.jkube.kit.config.image.build.Arguments;
 
 import java.io.File;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -222,9 +224,21 @@ public interface DockerAccess {
      * @param image name of the image to build or <code>null</code> if none should be used
      * @param dockerArchive from which the docker image should be build
      * @param options additional query arguments to add when building the image. Can be null.
+     * @return the image and layer IDs reported by the docker host while building
      * @throws DockerAccessException if docker host reports an error during building of an image
      */
-    void buildImage(String image, File dockerArchive, BuildOptions options) throws DockerAccessException;
+    BuildResult buildImage(String image, File dockerArchive, BuildOptions options) throws DockerAccessException;
+
+    /**
+     * Create an docker image from an archive that is streamed to the docker host while it's being created
+     *
+     * @param image name of the image to build or <code>null</code> if none should be used
+     * @param dockerArchive writer for the archive from which the docker image should be build
+     * @param options additional query arguments to add when building the image. Can be null.
+     * @return the image and layer IDs reported by the docker host while building
+     * @throws DockerAccessException if docker host reports an error during building of an image
+     */
+    BuildResult buildImage(String image, ArchiveWriter dockerArchive, BuildOptions options) throws DockerAccessException;
 
     /**
      * Alias an image in the repository with a complete new name. (Note that this maps to a Docker Remote API 'tag'
@@ -237,6 +251,21 @@ public interface DockerAccess {
      */
     void tag(String sourceImage, String targetImage, boolean force) throws DockerAccessException;
 
+    /**
+     * Alias an image in the repository with several new names. Implementations may issue the tag requests
+     * concurrently.
+     *
+     * @param sourceImage full name (including tag) of the image to alias
+     * @param targetImages the alias names
+     * @param force forced tagging
+     * @throws DockerAccessException if the original image doesn't exist or another error occurs somehow.
+     */
+    default void tag(String sourceImage, Collection<String> targetImages, boolean force) throws DockerAccessException {
+        for (String targetImage : targetImages) {
+            tag(sourceImage, targetImage, force);
+        }
+    }
+
     /**
      * Remove an image from this docker installation
      *
@@ -257,6 +286,23 @@ public interface DockerAccess {
      */
     void saveImage(String image, String filename, ArchiveCompression compression) throws DockerAccessException;
 
+    /**
+     * Save several images to a single tar file, layers shared by the images are only written once.
+     *
+     * <p> Implementations which can't export several images at once only support a single image.
+     *
+     * @param images images to save
+     * @param filename target filename
+     * @param compression compression to use for the archive
+     * @throws DockerAccessException if the images cannot be saved
+     */
+    default void saveImages(List<String> images, String filename, ArchiveCompression compression) throws DockerAccessException {
+        if (images.size() != 1) {
+            throw new UnsupportedOperationException("Saving several images to a single file is not supported");
+        }
+        saveImage(images.get(0), filename, compression);
+    }
+
     /**
      * List all networks
      *
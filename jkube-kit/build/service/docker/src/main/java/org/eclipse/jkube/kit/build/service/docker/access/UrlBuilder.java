@@ -19,8 +19,11 @@ import org.eclipse.jkube.kit.config.image.ImageName;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeSet;
 
@@ -86,6 +89,16 @@ public final class UrlBuilder {
             .build();
     }
 
+    public String getImages(List<ImageName> names) {
+        final List<String> fullNames = new ArrayList<>();
+        for (ImageName name : names) {
+            fullNames.add(name.getFullName());
+        }
+        return u("images/get")
+            .p("names", fullNames)
+            .build();
+    }
+
     public String inspectContainer(String containerId) {
         return u("containers/%s/json", containerId)
                 .build();
@@ -242,7 +255,7 @@ public final class UrlBuilder {
 
     private static class Builder {
 
-        private Map<String,String> queryParams = new HashMap<>();
+        private Map<String,List<String>> queryParams = new HashMap<>();
         private String url;
 
         public Builder(String url) {
@@ -250,13 +263,22 @@ public final class UrlBuilder {
         }
 
         private Builder p(Map<String, String> params) {
-            queryParams.putAll(params);
+            for (Map.Entry<String, String> param : params.entrySet()) {
+                p(param.getKey(), param.getValue());
+            }
             return this;
         }
 
         private Builder p(String key, String value) {
              if (value != null) {
-                queryParams.put(key, value);
+                queryParams.put(key, Collections.singletonList(value));
+            }
+            return this;
+        }
+
+        private Builder p(String key, List<String> values) {
+            if (values != null && !values.isEmpty()) {
+                queryParams.put(key, values);
             }
             return this;
         }
@@ -275,10 +297,12 @@ public final class UrlBuilder {
                 ret.append("?");
                 // Sort to make order predictable e.g. for unit testing
                 for (String key : new TreeSet<>(queryParams.keySet())) {
-                    ret.append(key)
-                       .append("=")
-                       .append(encode(queryParams.get(key)))
-                       .append("&");
+                    for (String value : queryParams.get(key)) {
+                        ret.append(key)
+                           .append("=")
+                           .append(encode(value))
+                           .append("&");
+                    }
                 }
                 return ret.substring(0,ret.length() - 1);
             } else {
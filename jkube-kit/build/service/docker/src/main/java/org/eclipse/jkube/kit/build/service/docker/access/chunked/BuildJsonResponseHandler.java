@@ -13,16 +13,34 @@
  */
 package org.eclipse.jkube.kit.build.service.docker.access.chunked;
 
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import com.google.gson.JsonObject;
+import org.eclipse.jkube.kit.build.service.docker.access.BuildResult;
 import org.eclipse.jkube.kit.build.service.docker.access.DockerAccessException;
 import org.eclipse.jkube.kit.common.KitLogger;
 
 public class BuildJsonResponseHandler implements EntityStreamReaderUtil.JsonEntityResponseHandler {
 
+    // Step results are printed as " ---> <id>" ("Running in" and "Using cache" lines are skipped)
+    private static final Pattern LAYER_ID_PATTERN = Pattern.compile("^\\s*--->\\s+([0-9a-f]{12,64})\\s*$");
+
     private final KitLogger log;
+    private final BuildResult.BuildResultBuilder buildResult;
 
     public BuildJsonResponseHandler(KitLogger log) {
         this.log = log;
+        this.buildResult = BuildResult.builder();
+    }
+
+    /**
+     * Returns the image and layer IDs captured from the processed build response stream.
+     *
+     * @return the result of the build.
+     */
+    public BuildResult getBuildResult() {
+        return buildResult.build();
     }
 
     @Override
@@ -39,6 +57,16 @@ public class BuildJsonResponseHandler implements EntityStreamReaderUtil.JsonEnti
         } else if (json.has("stream")) {
             String message = json.get("stream").getAsString();
             log.verbose("%s", message.trim());
+            Matcher layerId = LAYER_ID_PATTERN.matcher(message);
+            if (layerId.matches()) {
+                buildResult.layerId(layerId.group(1));
+            }
+        } else if (json.has("aux")) {
+            JsonObject aux = json.getAsJsonObject("aux");
+            if (aux.has("ID")) {
+                String imageId = aux.get("ID").getAsString();
+                buildResult.imageId(imageId.substring(0, Math.min(imageId.length(), BuildResult.IMAGE_ID_LENGTH)));
+            }
         } else if (json.has("status")) {
             String status = json.get("status").getAsString().trim();
             String id = json.has("id") ? json.get("id").getAsString() : null;
@@ -22,10 +22,16 @@ import java.io.LineNumberReader;
 import java.io.OutputStream;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -40,6 +46,7 @@ import org.eclipse.jkube.kit.build.api.model.NetworksListElement;
 import org.eclipse.jkube.kit.build.api.model.VolumeCreateConfig;
 import org.eclipse.jkube.kit.build.api.auth.AuthConfig;
 import org.eclipse.jkube.kit.build.service.docker.access.BuildOptions;
+import org.eclipse.jkube.kit.build.service.docker.access.BuildResult;
 import org.eclipse.jkube.kit.build.service.docker.access.ContainerCreateConfig;
 import org.eclipse.jkube.kit.build.service.docker.access.DockerAccess;
 import org.eclipse.jkube.kit.build.service.docker.access.DockerAccessException;
@@ -61,6 +68,7 @@ import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.util.EnvUtil;
 import org.eclipse.jkube.kit.config.image.ImageName;
 import org.eclipse.jkube.kit.common.archive.ArchiveCompression;
+import org.eclipse.jkube.kit.common.archive.ArchiveWriter;
 import org.eclipse.jkube.kit.config.image.build.Arguments;
 import org.apache.commons.io.IOUtils;
 import org.apache.http.HttpHeaders;
@@ -100,6 +108,9 @@ public class DockerAccessWithHcClient implements DockerAccess {
     // Base URL which is given through when using NamedPipe communication but is not really used
     private static final String NPIPE_URL = "npipe://127.0.0.1:1/";
 
+    // Threads available to compress exported images
+    private static final int COMPRESSION_THREADS = Runtime.getRuntime().availableProcessors();
+
     // Minimal API version, independent of any feature used
     public static final String API_VERSION = "1.18";
 
@@ -108,6 +119,10 @@ public class DockerAccessWithHcClient implements DockerAccess {
 
     private final ApacheHttpClientDelegate delegate;
     private final UrlBuilder urlBuilder;
+    // Number of independent requests which may be sent to the daemon at the same time
+    private final int requestConcurrency;
+    // Sends independent requests concurrently, created on first use and bounded by requestConcurrency
+    private ExecutorService requestExecutor;
 
     /**
      * Create a new access for the given URL
@@ -129,12 +144,16 @@ public class DockerAccessWithHcClient implements DockerAccess {
         }
         if (uri.getScheme().equalsIgnoreCase("unix")) {
             this.delegate = createHttpClient(new UnixSocketClientBuilder(uri.getPath(), maxConnections, log));
+            this.requestConcurrency = maxConnections;
             baseUrl = UNIX_URL;
         } else if (uri.getScheme().equalsIgnoreCase("npipe")) {
             this.delegate = createHttpClient(new NamedPipeClientBuilder(uri.getPath(), maxConnections, log), false);
+            // Named pipe client uses a single connection
+            this.requestConcurrency = 1;
             baseUrl = NPIPE_URL;
         } else {
             this.delegate = createHttpClient(new HttpClientBuilder(isSSL(baseUrl) ? certPath : null, maxConnections));
+            this.requestConcurrency = maxConnections;
         }
 
         // Strip trailing slashes if any
@@ -264,10 +283,21 @@ public class DockerAccessWithHcClient implements DockerAccess {
     }
 
     @Override
-    public void buildImage(String image, File dockerArchive, BuildOptions options) throws DockerAccessException {
+    public BuildResult buildImage(String image, File dockerArchive, BuildOptions options) throws DockerAccessException {
+        return doBuildImage(image, dockerArchive, options);
+    }
+
+    @Override
+    public BuildResult buildImage(String image, ArchiveWriter dockerArchive, BuildOptions options) throws DockerAccessException {
+        return doBuildImage(image, dockerArchive, options);
+    }
+
+    private BuildResult doBuildImage(String image, Object dockerArchive, BuildOptions options) throws DockerAccessException {
         try {
             String url = urlBuilder.buildImage(image, options);
-            delegate.post(url, dockerArchive, createBuildResponseHandler(), HTTP_OK);
+            BuildJsonResponseHandler buildResponseHandler = new BuildJsonResponseHandler(log);
+            delegate.post(url, dockerArchive, new HcChunkedResponseHandlerWrapper(buildResponseHandler), HTTP_OK);
+            return buildResponseHandler.getBuildResult();
         } catch (IOException e) {
             throw new DockerAccessException(e, "Unable to build image [%s]", image);
         }
@@ -465,12 +495,26 @@ public class DockerAccessWithHcClient implements DockerAccess {
 
     }
 
+    @Override
+    public void saveImages(List<String> images, String filename, ArchiveCompression compression) throws DockerAccessException {
+        final List<ImageName> names = new ArrayList<>();
+        for (String image : images) {
+            names.add(new ImageName(image));
+        }
+        String url = urlBuilder.getImages(names);
+        try {
+            delegate.get(url, getImageResponseHandler(filename, compression), HTTP_OK);
+        } catch (IOException e) {
+            throw new DockerAccessException(e, "Unable to save '%s' to '%s'", String.join(", ", images), filename);
+        }
+    }
+
     private ResponseHandler<Object> getImageResponseHandler(final String filename, final ArchiveCompression compression) {
         return new ResponseHandler<Object>() {
             @Override
             public Object handleResponse(HttpResponse response) throws IOException {
                 try (InputStream stream = response.getEntity().getContent();
-                     OutputStream out = compression.wrapOutputStream(new FileOutputStream(filename))) {
+                     OutputStream out = compression.wrapOutputStream(new FileOutputStream(filename), COMPRESSION_THREADS)) {
                     IOUtils.copy(stream, out, 65536);
                 }
                 return null;
@@ -492,6 +536,52 @@ public class DockerAccessWithHcClient implements DockerAccess {
         }
     }
 
+    @Override
+    public void tag(String sourceImage, Collection<String> targetImages, boolean force)
+            throws DockerAccessException {
+        final int threads = Math.min(requestConcurrency, targetImages.size());
+        if (threads <= 1) {
+            DockerAccess.super.tag(sourceImage, targetImages, force);
+            return;
+        }
+        // Tag requests are independent from each other, send them over separate pooled (kept-alive) connections
+        final ExecutorService executorService = getRequestExecutor();
+        final List<Future<Void>> results = new ArrayList<>();
+        try {
+            for (String targetImage : targetImages) {
+                results.add(executorService.submit(() -> {
+                    tag(sourceImage, targetImage, force);
+                    return null;
+                }));
+            }
+            for (Future<Void> result : results) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DockerAccessException(e, "Interrupted while tagging image [%s]", sourceImage);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DockerAccessException) {
+                throw (DockerAccessException) e.getCause();
+            }
+            throw new DockerAccessException(e.getCause(), "Unable to tag image [%s]", sourceImage);
+        } finally {
+            results.forEach(result -> result.cancel(true));
+        }
+    }
+
+    private synchronized ExecutorService getRequestExecutor() {
+        if (requestExecutor == null) {
+            final AtomicInteger count = new AtomicInteger();
+            requestExecutor = Executors.newFixedThreadPool(requestConcurrency, runnable -> {
+                final Thread thread = new Thread(runnable, "jkube-docker-request-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return requestExecutor;
+    }
+
     @Override
     public boolean removeImage(String image, boolean... forceOpt) throws DockerAccessException {
         boolean force = forceOpt != null && forceOpt.length > 0 && forceOpt[0];
@@ -608,6 +698,12 @@ public class DockerAccessWithHcClient implements DockerAccess {
 
     @Override
     public void shutdown() {
+        synchronized (this) {
+            if (requestExecutor != null) {
+                requestExecutor.shutdownNow();
+                requestExecutor = null;
+            }
+        }
         try {
             delegate.close();
         } catch (IOException exp) {
@@ -623,11 +719,6 @@ public class DockerAccessWithHcClient implements DockerAccess {
         return new ApacheHttpClientDelegate(builder, pooled);
     }
 
-    // visible for testing?
-    private HcChunkedResponseHandlerWrapper createBuildResponseHandler() {
-        return new HcChunkedResponseHandlerWrapper(new BuildJsonResponseHandler(log));
-    }
-
     // visible for testing?
     private HcChunkedResponseHandlerWrapper createPullOrPushResponseHandler() {
         return new HcChunkedResponseHandlerWrapper(new PullOrPushResponseJsonHandler(log));
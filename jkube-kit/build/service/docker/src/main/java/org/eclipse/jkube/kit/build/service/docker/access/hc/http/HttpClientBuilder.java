@@ -16,6 +16,7 @@ package org.eclipse.jkube.kit.build.service.docker.access.hc.http;
 import java.io.IOException;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
+import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.SSLContext;
 
@@ -51,6 +52,7 @@ public class HttpClientBuilder implements ClientBuilder {
         org.apache.http.impl.client.HttpClientBuilder builder = HttpClients.custom();
         HttpClientConnectionManager manager = getPooledConnectionFactory(certPath, maxConnections);
         builder.setConnectionManager(manager);
+        builder.evictIdleConnections(IDLE_CONNECTION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
         // TODO: For push-redirects working for 301, the redirect strategy should be relaxed (see #351)
         // However not sure whether we should do it right now and whether this is correct, since normally
         // a 301 should only occur when the image name is invalid (e.g. containing "//" in which case a redirect
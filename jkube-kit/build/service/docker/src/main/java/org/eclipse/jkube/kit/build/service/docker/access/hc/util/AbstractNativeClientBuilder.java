@@ -16,6 +16,7 @@ package org.eclipse.jkube.kit.build.service.docker.access.hc.util;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jkube.kit.common.KitLogger;
 import org.apache.http.config.Registry;
@@ -59,7 +60,10 @@ abstract public class AbstractNativeClientBuilder implements ClientBuilder {
         final HttpClientBuilder httpBuilder = HttpClients.custom();
         final PoolingHttpClientConnectionManager manager = new PoolingHttpClientConnectionManager(registry, dnsResolver);
         manager.setDefaultMaxPerRoute(maxConnections);
+        manager.setMaxTotal(maxConnections);
         httpBuilder.setConnectionManager(manager);
+        // Native socket connections are kept open and reused by subsequent requests until they're idle for a while
+        httpBuilder.evictIdleConnections(IDLE_CONNECTION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
         return httpBuilder.build();
     }
 
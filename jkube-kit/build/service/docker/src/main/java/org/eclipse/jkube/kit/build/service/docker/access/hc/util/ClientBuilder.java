@@ -25,6 +25,11 @@ import org.apache.http.impl.client.CloseableHttpClient;
  */
 public interface ClientBuilder {
 
+    /**
+     * Time after which idle connections of a pooled client are closed, until then they're kept open and reused.
+     */
+    long IDLE_CONNECTION_TIMEOUT_SECONDS = 30;
+
     /**
      * Create a pooled client
      *
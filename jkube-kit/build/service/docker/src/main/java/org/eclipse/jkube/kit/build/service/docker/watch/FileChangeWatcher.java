@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.service.docker.watch;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.jkube.kit.common.KitLogger;
+
+/**
+ * Watches a set of directories for file system events ({@link WatchService}, inotify on Linux) and
+ * notifies the directories that changed.
+ *
+ * <p> Events are coalesced and debounced: the change listener is invoked once the directories have been quiet for
+ * the configured debounce period, with the set of all the directories that changed in the meantime.
+ *
+ * <p> Directories that are deleted (e.g. by <code>mvn clean</code>) are watched again, and notified as changed, once
+ * they are created again.
+ */
+public class FileChangeWatcher implements Closeable {
+
+  private static final long LOST_DIRECTORY_CHECK_MILLIS = 500;
+
+  private final WatchService watchService;
+  private final Map<WatchKey, File> directories;
+  private final Set<File> lostDirectories;
+  private final long debounceMillis;
+  private final Consumer<Set<File>> onChange;
+  private final KitLogger log;
+  private final Thread thread;
+
+  private FileChangeWatcher(
+      WatchService watchService, long debounceMillis, Consumer<Set<File>> onChange, KitLogger log) {
+    this.watchService = watchService;
+    this.directories = new HashMap<>();
+    this.lostDirectories = new HashSet<>();
+    this.debounceMillis = debounceMillis;
+    this.onChange = onChange;
+    this.log = log;
+    thread = new Thread(this::run, "jkube-watch-file-changes");
+    thread.setDaemon(true);
+  }
+
+  /**
+   * Starts watching the provided directories.
+   *
+   * @param directories the directories to watch.
+   * @param debounceMillis quiet period after the last event before the listener is notified.
+   * @param onChange listener notified with the directories that changed.
+   * @param log logger.
+   * @return the started watcher, to be closed once no longer needed.
+   * @throws IOException if the directories can't be watched (e.g. the platform's watch limit is exceeded).
+   */
+  public static FileChangeWatcher start(
+      Collection<File> directories, long debounceMillis, Consumer<Set<File>> onChange, KitLogger log) throws IOException {
+    final FileChangeWatcher fileChangeWatcher = new FileChangeWatcher(
+        FileSystems.getDefault().newWatchService(), debounceMillis, onChange, log);
+    try {
+      for (File directory : directories) {
+        fileChangeWatcher.register(directory);
+      }
+    } catch (IOException | RuntimeException e) {
+      fileChangeWatcher.close();
+      throw e instanceof IOException ? (IOException) e : new IOException(e.getMessage(), e);
+    }
+    fileChangeWatcher.thread.start();
+    return fileChangeWatcher;
+  }
+
+  @Override
+  public void close() throws IOException {
+    watchService.close();
+  }
+
+  private void register(File directory) throws IOException {
+    final WatchKey key = directory.toPath().register(watchService,
+        StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+    directories.put(key, directory);
+  }
+
+  private void run() {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        final Set<File> changed = new HashSet<>();
+        // Deleted directories are checked periodically until they are created again
+        WatchKey key = lostDirectories.isEmpty() ?
+            watchService.take() : watchService.poll(LOST_DIRECTORY_CHECK_MILLIS, TimeUnit.MILLISECONDS);
+        boolean active = restoreLostDirectories(changed) || key != null;
+        while (active) {
+          if (key != null) {
+            collect(key, changed);
+          }
+          key = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS);
+          active = restoreLostDirectories(changed) || key != null;
+        }
+        if (!changed.isEmpty()) {
+          notifyChanged(changed);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ClosedWatchServiceException e) {
+      // Watcher closed, stop watching
+    }
+  }
+
+  private void collect(WatchKey key, Set<File> changed) {
+    final File directory = directories.get(key);
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+        // Events were lost, all the directories must be checked
+        changed.addAll(directories.values());
+      } else if (directory != null) {
+        changed.add(directory);
+      }
+    }
+    if (!key.reset()) {
+      // The directory is no longer accessible (deleted), watch it again once it's created again
+      directories.remove(key);
+      if (directory != null) {
+        log.debug("Watched directory %s is no longer accessible, waiting for it to be created again", directory);
+        lostDirectories.add(directory);
+      }
+    }
+  }
+
+  private boolean restoreLostDirectories(Set<File> changed) {
+    boolean restored = false;
+    for (Iterator<File> it = lostDirectories.iterator(); it.hasNext(); ) {
+      final File directory = it.next();
+      if (directory.isDirectory()) {
+        try {
+          register(directory);
+          it.remove();
+          // Files might have been created before the directory was registered again
+          changed.add(directory);
+          restored = true;
+        } catch (IOException e) {
+          log.debug("Cannot watch %s yet: %s", directory, e.getMessage());
+        }
+      }
+    }
+    return restored;
+  }
+
+  private void notifyChanged(Set<File> changed) {
+    try {
+      onChange.accept(changed);
+    } catch (RuntimeException e) {
+      log.error("Error when processing file changes in %s: %s", changed, e.getMessage());
+    }
+  }
+}
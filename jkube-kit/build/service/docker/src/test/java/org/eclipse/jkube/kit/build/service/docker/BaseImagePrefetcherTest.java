@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.service.docker;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.jkube.kit.config.image.RegistryConfig;
+
+import mockit.Expectations;
+import mockit.Mocked;
+import mockit.Verifications;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
+
+public class BaseImagePrefetcherTest {
+
+  @Mocked
+  private RegistryService registryService;
+
+  @Mocked
+  private QueryService queryService;
+
+  @Mocked
+  private ImagePullManager imagePullManager;
+
+  private final RegistryConfig registryConfig = RegistryConfig.builder().pullConcurrency(2).build();
+
+  @Test
+  public void start_withDuplicateImages_shouldPullDistinctImagesOnce() throws Exception {
+    // Given
+    // @formatter:off
+    new Expectations() {{
+      queryService.hasImage("base:1"); result = true;
+      queryService.hasImage("base:2"); result = false;
+    }};
+    // @formatter:on
+    // When
+    try (BaseImagePrefetcher prefetcher = BaseImagePrefetcher.start(
+        Arrays.asList("base:1", "base:2", "base:1"), registryService, queryService, imagePullManager, registryConfig)) {
+      prefetcher.await(Arrays.asList("base:1", "base:2", "not-prefetched"));
+    }
+    // Then
+    // @formatter:off
+    new Verifications() {{
+      registryService.pullImageWithPolicy("base:1", imagePullManager, registryConfig, true); times = 1;
+      registryService.pullImageWithPolicy("base:2", imagePullManager, registryConfig, false); times = 1;
+    }};
+    // @formatter:on
+  }
+
+  @Test
+  public void await_withFailedPull_shouldThrowException() throws Exception {
+    // Given
+    // @formatter:off
+    new Expectations() {{
+      registryService.pullImageWithPolicy("base:1", imagePullManager, registryConfig, anyBoolean);
+      result = new IOException("No image 'base:1' found");
+    }};
+    // @formatter:on
+    try (BaseImagePrefetcher prefetcher = BaseImagePrefetcher.start(
+        Collections.singletonList("base:1"), registryService, queryService, imagePullManager, registryConfig)) {
+      // When
+      final IOException result = assertThrows(IOException.class,
+          () -> prefetcher.await(Collections.singletonList("base:1")));
+      // Then
+      assertThat(result).hasMessage("No image 'base:1' found");
+    }
+  }
+
+  @Test
+  public void start_withoutPullConcurrency_shouldPullImagesWhenAwaited() throws Exception {
+    // Given
+    final RegistryConfig sequentialRegistryConfig = RegistryConfig.builder().build();
+    try (BaseImagePrefetcher prefetcher = BaseImagePrefetcher.start(
+        Arrays.asList("base:1", "base:2"), registryService, queryService, imagePullManager, sequentialRegistryConfig)) {
+      // @formatter:off
+      new Verifications() {{
+        registryService.pullImageWithPolicy(anyString, imagePullManager, sequentialRegistryConfig, anyBoolean); times = 0;
+      }};
+      // @formatter:on
+      // When
+      prefetcher.await(Collections.singletonList("base:2"));
+      prefetcher.await(Collections.singletonList("base:2"));
+    }
+    // Then
+    // @formatter:off
+    new Verifications() {{
+      registryService.pullImageWithPolicy("base:2", imagePullManager, sequentialRegistryConfig, anyBoolean); times = 1;
+      registryService.pullImageWithPolicy("base:1", imagePullManager, sequentialRegistryConfig, anyBoolean); times = 0;
+    }};
+    // @formatter:on
+  }
+}
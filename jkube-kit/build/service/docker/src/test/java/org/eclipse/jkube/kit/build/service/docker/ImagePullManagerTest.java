@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.service.docker;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ImagePullManagerTest {
+
+  private Map<String, String> store;
+  private AtomicInteger reads;
+  private ImagePullManager imagePullManager;
+
+  @Before
+  public void setUp() {
+    store = new HashMap<>();
+    reads = new AtomicInteger();
+    imagePullManager = new ImagePullManager(new ImagePullManager.CacheStore() {
+      @Override
+      public String get(String key) {
+        reads.incrementAndGet();
+        return store.get(key);
+      }
+
+      @Override
+      public void put(String key, String value) {
+        store.put(key, value);
+      }
+    }, null, null);
+  }
+
+  @Test
+  public void pulled_shouldBeTrackedAndPersisted() {
+    // When
+    imagePullManager.pulled("busybox:latest");
+    // Then
+    assertThat(imagePullManager.hasAlreadyPulled("busybox:latest")).isTrue();
+    assertThat(imagePullManager.hasAlreadyPulled("alpine:latest")).isFalse();
+    assertThat(store).containsValue("{\"busybox:latest\":true}");
+  }
+
+  @Test
+  public void load_withUnmodifiedStore_shouldReuseIndex() {
+    // Given
+    imagePullManager.pulled("busybox:latest");
+    // When
+    final ImagePullManager.ImagePullCache result = imagePullManager.load();
+    // Then
+    assertThat(result).isSameAs(imagePullManager.load());
+    assertThat(reads.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void hasAlreadyPulled_withStoreModifiedElsewhere_shouldReadStoreAgain() {
+    // Given
+    imagePullManager.pulled("busybox:latest");
+    store.replaceAll((k, v) -> "{\"busybox:latest\":true,\"alpine:latest\":true}");
+    // When
+    final boolean result = imagePullManager.hasAlreadyPulled("alpine:latest");
+    // Then
+    assertThat(result).isTrue();
+  }
+}
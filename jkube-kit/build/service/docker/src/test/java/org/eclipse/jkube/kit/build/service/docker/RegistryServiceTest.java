@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.service.docker;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.jkube.kit.build.api.auth.AuthConfig;
+import org.eclipse.jkube.kit.build.service.docker.access.DockerAccess;
+import org.eclipse.jkube.kit.build.service.docker.access.DockerAccessException;
+import org.eclipse.jkube.kit.build.service.docker.auth.AuthConfigFactory;
+import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.config.image.ImageConfiguration;
+import org.eclipse.jkube.kit.config.image.RegistryConfig;
+import org.eclipse.jkube.kit.config.image.build.BuildConfiguration;
+
+import mockit.Delegate;
+import mockit.Expectations;
+import mockit.Mocked;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
+
+public class RegistryServiceTest {
+
+  @Mocked
+  private DockerAccess dockerAccess;
+
+  @Mocked
+  private AuthConfigFactory authConfigFactory;
+
+  @Mocked
+  private KitLogger logger;
+
+  private List<String> pushed;
+
+  private RegistryService registryService;
+
+  @Before
+  public void setUp() throws Exception {
+    pushed = new CopyOnWriteArrayList<>();
+    // @formatter:off
+    new Expectations() {{
+      dockerAccess.pushImage(anyString, (AuthConfig) any, anyString, anyInt);
+      result = new Delegate<Void>() {
+        @SuppressWarnings("unused")
+        void pushImage(String image, AuthConfig authConfig, String registry, int retries) throws DockerAccessException {
+          if (image.contains("broken")) {
+            throw new DockerAccessException("Push of %s failed", image);
+          }
+          pushed.add(image);
+        }
+      };
+      minTimes = 0;
+    }};
+    // @formatter:on
+    registryService = new RegistryService(dockerAccess, logger);
+  }
+
+  @Test
+  public void pushImages_withDuplicateImagesAndTags_shouldPushEachNameOnce() throws IOException {
+    // Given
+    final ImageConfiguration image = image("registry.example.com/project/app:1.0", "1.0", "latest", "latest");
+    // When
+    registryService.pushImages(Arrays.asList(image, image), 0, RegistryConfig.builder().build(), false);
+    // Then
+    assertThat(pushed).containsExactly(
+        "registry.example.com/project/app:1.0", "registry.example.com/project/app:latest");
+  }
+
+  @Test
+  public void pushImages_withSkipTag_shouldOnlyPushPrimaryName() throws IOException {
+    // When
+    registryService.pushImages(Collections.singletonList(image("registry.example.com/project/app:1.0", "latest")),
+        0, RegistryConfig.builder().build(), true);
+    // Then
+    assertThat(pushed).containsExactly("registry.example.com/project/app:1.0");
+  }
+
+  @Test
+  public void pushImages_withConcurrency_shouldPushPrimaryNameBeforeTags() throws IOException {
+    // Given
+    final List<ImageConfiguration> images = Arrays.asList(
+        image("registry.example.com/project/first:1.0", "latest", "stable"),
+        image("registry.example.com/project/second:1.0", "latest", "stable"));
+    // When
+    registryService.pushImages(images, 0, RegistryConfig.builder().pushConcurrency(4).build(), false);
+    // Then
+    assertThat(pushed).hasSize(6);
+    for (String image : new String[] { "first", "second" }) {
+      final String prefix = "registry.example.com/project/" + image + ":";
+      assertThat(pushed.indexOf(prefix + "1.0"))
+          .isLessThan(pushed.indexOf(prefix + "latest"))
+          .isLessThan(pushed.indexOf(prefix + "stable"));
+    }
+  }
+
+  @Test
+  public void pushImages_withConcurrencyAndFailure_shouldPushRemainingImagesAndThrowException() {
+    // Given
+    final List<ImageConfiguration> images = Arrays.asList(
+        image("registry.example.com/project/broken:1.0", "latest"),
+        image("registry.example.com/project/working:1.0", "latest"));
+    final RegistryConfig registryConfig = RegistryConfig.builder().pushConcurrency(2).build();
+    // When
+    final IOException result = assertThrows(IOException.class,
+        () -> registryService.pushImages(images, 0, registryConfig, false));
+    // Then
+    assertThat(result).hasMessageContaining("registry.example.com/project/broken:1.0");
+    assertThat(pushed).containsExactlyInAnyOrder(
+        "registry.example.com/project/working:1.0", "registry.example.com/project/working:latest");
+  }
+
+  private static ImageConfiguration image(String name, String... tags) {
+    return ImageConfiguration.builder()
+        .name(name)
+        .build(BuildConfiguration.builder().tags(Arrays.asList(tags)).build())
+        .build();
+  }
+}
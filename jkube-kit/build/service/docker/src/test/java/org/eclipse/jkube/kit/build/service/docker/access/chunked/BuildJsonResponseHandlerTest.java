@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.service.docker.access.chunked;
+
+import com.google.gson.JsonObject;
+import mockit.Mocked;
+import org.eclipse.jkube.kit.build.service.docker.access.BuildResult;
+import org.eclipse.jkube.kit.build.service.docker.access.DockerAccessException;
+import org.eclipse.jkube.kit.common.JsonFactory;
+import org.eclipse.jkube.kit.common.KitLogger;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BuildJsonResponseHandlerTest {
+
+  @Mocked
+  private KitLogger log;
+
+  private BuildJsonResponseHandler handler;
+
+  @Before
+  public void setUp() {
+    handler = new BuildJsonResponseHandler(log);
+  }
+
+  @Test
+  public void process_withBuildStream_shouldCaptureImageAndLayerIds() throws DockerAccessException {
+    // Given
+    process("{\"stream\":\"Step 1/2 : FROM busybox\\n\"}");
+    process("{\"stream\":\" ---> 6d5fcfe5ff17\\n\"}");
+    process("{\"stream\":\"Step 2/2 : RUN echo hello\\n\"}");
+    process("{\"stream\":\" ---> Running in 0a1b2c3d4e5f\\n\"}");
+    process("{\"stream\":\"Removing intermediate container 0a1b2c3d4e5f\\n\"}");
+    process("{\"stream\":\" ---> 1e2f3a4b5c6d\\n\"}");
+    process("{\"aux\":{\"ID\":\"sha256:1e2f3a4b5c6d7e8f9a0b1c2d3e4f5a6b7c8d9e0f1a2b3c4d5e6f7a8b9c0d1e2f\"}}");
+    process("{\"stream\":\"Successfully built 1e2f3a4b5c6d\\n\"}");
+    // When
+    final BuildResult result = handler.getBuildResult();
+    // Then
+    assertThat(result)
+        .hasFieldOrPropertyWithValue("imageId", "sha256:1e2f3")
+        .extracting(BuildResult::getLayerIds).asList()
+        .containsExactly("6d5fcfe5ff17", "1e2f3a4b5c6d");
+  }
+
+  @Test
+  public void process_withoutAux_shouldHaveNoImageId() throws DockerAccessException {
+    // Given
+    process("{\"stream\":\"Successfully built 1e2f3a4b5c6d\\n\"}");
+    // When
+    final BuildResult result = handler.getBuildResult();
+    // Then
+    assertThat(result.getImageId()).isNull();
+    assertThat(result.getLayerIds()).isEmpty();
+  }
+
+  @Test
+  public void process_withError_shouldThrowException() {
+    assertThatThrownBy(() -> process("{\"error\":\"failed\",\"errorDetail\":{\"message\":\"failed to build\"}}"))
+        .isInstanceOf(DockerAccessException.class)
+        .hasMessageContaining("(failed to build)");
+  }
+
+  private void process(String json) throws DockerAccessException {
+    final JsonObject jsonObject = JsonFactory.newJsonObject(json);
+    handler.process(jsonObject);
+  }
+}
@@ -15,22 +15,38 @@ package org.eclipse.jkube.kit.build.service.docker.access.hc;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jkube.kit.build.api.auth.AuthConfig;
+import org.eclipse.jkube.kit.build.service.docker.access.DockerAccessException;
 import org.eclipse.jkube.kit.build.service.docker.access.hc.util.ClientBuilder;
 import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.archive.ArchiveCompression;
+import mockit.Delegate;
 import mockit.Expectations;
 import mockit.Mocked;
+import mockit.Verifications;
 import org.apache.http.client.HttpResponseException;
 import org.apache.http.client.ResponseHandler;
 import org.junit.Before;
 import org.junit.Test;
 
+import static java.net.HttpURLConnection.HTTP_CREATED;
 import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 public class DockerAccessWithHcClientTest {
 
@@ -128,6 +144,87 @@ public class DockerAccessWithHcClientTest {
         thenImageWasNotSaved();
     }
 
+    @Test
+    @SuppressWarnings("rawtypes")
+    public void testSaveImages() throws Exception {
+        // When
+        client.saveImages(Arrays.asList("foo/image-a:1.0", "foo/image-b"), "images.tar.gz", ArchiveCompression.gzip);
+        // Then
+        new Verifications() {{
+            String url;
+            mockDelegate.get(url = withCapture(), (ResponseHandler) any, 200);
+            assertThat(url, containsString("/images/get?names=foo%2Fimage-a%3A1.0&names=foo%2Fimage-b%3Alatest"));
+        }};
+    }
+
+    @Test
+    public void testTagWithMultipleTargetsAndPooledConnections() throws Exception {
+        // Given
+        final DockerAccessWithHcClient pooledClient = newClient(4);
+        // When
+        pooledClient.tag("test:latest", Arrays.asList("test:1", "test:2", "test:3"), true);
+        // Then
+        final List<String> urls = new ArrayList<>();
+        new Verifications() {{
+            mockDelegate.post(withCapture(urls), HTTP_CREATED);
+            times = 3;
+        }};
+        assertThat(urls, containsInAnyOrder(
+            containsString("/images/test%3Alatest/tag?force=1&repo=test&tag=1"),
+            containsString("/images/test%3Alatest/tag?force=1&repo=test&tag=2"),
+            containsString("/images/test%3Alatest/tag?force=1&repo=test&tag=3")));
+    }
+
+    @Test
+    public void testTagWithMultipleTargetsAndFailure() throws Exception {
+        // Given
+        final DockerAccessWithHcClient pooledClient = newClient(4);
+        new Expectations() {{
+            mockDelegate.post(withSubstring("tag=2"), HTTP_CREATED);
+            result = new HttpResponseException(HTTP_INTERNAL_ERROR, "error");
+        }};
+        try {
+            // When
+            pooledClient.tag("test:latest", Arrays.asList("test:1", "test:2"), true);
+            fail("Expected DockerAccessException");
+        } catch (DockerAccessException e) {
+            // Then
+            assertThat(e.getMessage(), containsString("Unable to add tag [test:2] to image [test:latest]"));
+        }
+    }
+
+    @Test
+    public void testTagWithMultipleTargetsReusesBoundedRequestThreads() throws Exception {
+        // Given
+        final DockerAccessWithHcClient pooledClient = newClient(2);
+        final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        new Expectations() {{
+            mockDelegate.post(anyString, HTTP_CREATED);
+            result = new Delegate<Integer>() {
+                int post(String url, int... statusCodes) {
+                    threadNames.add(Thread.currentThread().getName());
+                    return HTTP_CREATED;
+                }
+            };
+        }};
+        // When
+        pooledClient.tag("test:latest", Arrays.asList("test:1", "test:2", "test:3"), true);
+        pooledClient.tag("test:latest", Arrays.asList("test:4", "test:5", "test:6"), true);
+        // Then
+        assertThat(threadNames, everyItem(startsWith("jkube-docker-request-")));
+        assertThat(threadNames.size(), lessThanOrEqualTo(2));
+        pooledClient.shutdown();
+    }
+
+    private DockerAccessWithHcClient newClient(int maxConnections) throws IOException {
+        return new DockerAccessWithHcClient("tcp://1.2.3.4:2375", null, maxConnections, mockLogger) {
+            @Override
+            ApacheHttpClientDelegate createHttpClient(ClientBuilder builder) throws IOException {
+                return mockDelegate;
+            }
+        };
+    }
+
     private void givenAnImageName(String imageName) {
         this.imageName = imageName;
     }
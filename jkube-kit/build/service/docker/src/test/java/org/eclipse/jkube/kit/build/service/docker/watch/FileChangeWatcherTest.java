@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.service.docker.watch;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jkube.kit.common.KitLogger;
+
+import mockit.Mocked;
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FileChangeWatcherTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Mocked
+  private KitLogger logger;
+
+  @Test
+  public void start_withModifiedFiles_shouldNotifyChangedDirectoryOnce() throws Exception {
+    // Given
+    final File directory = temporaryFolder.newFolder("watched");
+    final BlockingQueue<Set<File>> notifications = new LinkedBlockingQueue<>();
+    try (FileChangeWatcher ignored = FileChangeWatcher.start(
+        Collections.singletonList(directory), 500, notifications::add, logger)) {
+      // When
+      FileUtils.write(new File(directory, "first.txt"), "1", StandardCharsets.UTF_8);
+      FileUtils.write(new File(directory, "second.txt"), "2", StandardCharsets.UTF_8);
+      // Then
+      assertThat(notifications.poll(30, TimeUnit.SECONDS)).containsExactly(directory);
+      assertThat(notifications.poll(1, TimeUnit.SECONDS)).isNull();
+    }
+  }
+
+  @Test
+  public void start_withChangesInNotWatchedDirectory_shouldNotNotify() throws Exception {
+    // Given
+    final File directory = temporaryFolder.newFolder("watched");
+    final File other = temporaryFolder.newFolder("other");
+    final BlockingQueue<Set<File>> notifications = new LinkedBlockingQueue<>();
+    try (FileChangeWatcher ignored = FileChangeWatcher.start(
+        Collections.singletonList(directory), 100, notifications::add, logger)) {
+      // When
+      FileUtils.write(new File(other, "file.txt"), "1", StandardCharsets.UTF_8);
+      // Then
+      assertThat(notifications.poll(1, TimeUnit.SECONDS)).isNull();
+    }
+  }
+
+  @Test
+  public void start_withDeletedAndRecreatedDirectory_shouldKeepWatchingDirectory() throws Exception {
+    // Given
+    final File directory = temporaryFolder.newFolder("watched");
+    final BlockingQueue<Set<File>> notifications = new LinkedBlockingQueue<>();
+    try (FileChangeWatcher ignored = FileChangeWatcher.start(
+        Collections.singletonList(directory), 100, notifications::add, logger)) {
+      FileUtils.deleteDirectory(directory);
+      notifications.poll(1, TimeUnit.SECONDS);
+      // When
+      FileUtils.write(new File(directory, "recreated.txt"), "1", StandardCharsets.UTF_8);
+      // Then
+      assertThat(notifications.poll(30, TimeUnit.SECONDS)).containsExactly(directory);
+      notifications.clear();
+      FileUtils.write(new File(directory, "modified.txt"), "2", StandardCharsets.UTF_8);
+      assertThat(notifications.poll(30, TimeUnit.SECONDS)).containsExactly(directory);
+    }
+  }
+}
@@ -94,17 +94,57 @@ public class JibServiceUtil {
     public static void buildContainer(JibContainerBuilder jibContainerBuilder, TarImage image, KitLogger logger)
             throws InterruptedException {
 
+        containerize(jibContainerBuilder, Containerizer.to(image), "Unable to build the image tarball: ", logger);
+    }
+
+    /**
+     * Build container image using JIB and push it directly to the registry.
+     *
+     * <p> The layers are streamed to the registry in a single pass (taking advantage of cross-repository blob
+     * mounts), no image tarball is written to disk.
+     *
+     * @param jibContainerBuilder jib container builder object
+     * @param imageConfiguration ImageConfiguration of the image to push (including additional tags)
+     * @param pushCredentials push credentials
+     * @param logger kit logger
+     * @throws InterruptedException in case thread is interrupted
+     */
+    public static void buildAndPushContainer(JibContainerBuilder jibContainerBuilder,
+        ImageConfiguration imageConfiguration, Credential pushCredentials, KitLogger logger) throws InterruptedException {
+
+        final String imageName = getFullImageName(imageConfiguration, null);
+        final Containerizer containerizer;
+        try {
+            containerizer = Containerizer.to(getRegistryImage(imageName, pushCredentials));
+        } catch (InvalidImageReferenceException e) {
+            logger.error("Exception occurred while pushing the image: %s, %s", imageName, e.getMessage());
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+        final String imageTag = new ImageName(imageName).getTag();
+        for (String tag : getAllImageTags(imageConfiguration.getBuildConfiguration().getTags(), imageName)) {
+            if (!tag.equals(imageTag)) {
+                containerizer.withAdditionalTag(tag);
+            }
+        }
+        logger.info("Pushing image: %s", imageName);
+        containerize(jibContainerBuilder, containerizer, "Unable to build and push the image: ", logger);
+    }
+
+    private static void containerize(
+        JibContainerBuilder jibContainerBuilder, Containerizer containerizer, String errorMessage, KitLogger logger)
+        throws InterruptedException {
+
         final ExecutorService jibBuildExecutor = Executors.newCachedThreadPool();
         try {
             jibContainerBuilder.setCreationTime(Instant.now());
-            jibContainerBuilder.containerize(Containerizer.to(image)
+            jibContainerBuilder.containerize(containerizer
                 .setAllowInsecureRegistries(true)
                 .setExecutorService(jibBuildExecutor)
                 .addEventHandler(LogEvent.class, log(logger))
                 .addEventHandler(ProgressEvent.class, new ProgressEventHandler(logUpdate())));
             logUpdateFinished();
         } catch (CacheDirectoryCreationException | IOException | ExecutionException | RegistryException ex) {
-            logger.error("Unable to build the image tarball: ", ex);
+            logger.error(errorMessage, ex);
             throw new IllegalStateException(ex);
         } catch (InterruptedException ex) {
             Thread.currentThread().interrupt();
@@ -29,11 +29,14 @@ import com.google.cloud.tools.jib.api.buildplan.Port;
 import org.eclipse.jkube.kit.common.Assembly;
 import org.eclipse.jkube.kit.common.AssemblyConfiguration;
 import org.eclipse.jkube.kit.common.AssemblyFile;
+import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.config.image.ImageConfiguration;
 import org.eclipse.jkube.kit.config.image.build.Arguments;
 import org.eclipse.jkube.kit.config.image.build.BuildConfiguration;
 
+import com.google.cloud.tools.jib.api.Containerizer;
 import com.google.cloud.tools.jib.api.JibContainerBuilder;
+import com.google.cloud.tools.jib.api.RegistryImage;
 import com.google.cloud.tools.jib.api.LayerConfiguration;
 import mockit.Mocked;
 import mockit.Verifications;
@@ -105,6 +108,28 @@ public class JibServiceUtilTest {
         }};
     }
 
+    @Test
+    public void testBuildAndPushContainer(
+        @Mocked JibContainerBuilder containerBuilder, @Mocked Containerizer containerizer, @Mocked KitLogger logger)
+        throws Exception {
+        // Given
+        ImageConfiguration imageConfiguration = ImageConfiguration.builder()
+                .name("registry.example.com/test/test-project:0.0.1")
+                .build(BuildConfiguration.builder().tags(Arrays.asList("0.0.1", "latest")).build())
+                .build();
+        // When
+        JibServiceUtil.buildAndPushContainer(containerBuilder, imageConfiguration, null, logger);
+        // Then
+        // @formatter:off
+        new Verifications() {{
+            Containerizer.to((RegistryImage) any); times = 1;
+            containerizer.withAdditionalTag("latest"); times = 1;
+            containerizer.withAdditionalTag("0.0.1"); times = 0;
+            containerBuilder.containerize((Containerizer) any); times = 1;
+        }};
+        // @formatter:on
+    }
+
     @Test
     public void testAppendOriginalImageNameTagIfApplicable() {
         // Given
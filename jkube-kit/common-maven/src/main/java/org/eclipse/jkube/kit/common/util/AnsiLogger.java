@@ -39,7 +39,10 @@ import static org.fusesource.jansi.Ansi.ansi;
 public class AnsiLogger implements KitLogger {
     // prefix used for console output
     public static final String DEFAULT_LOG_PREFIX = "DOCKER> ";
-    private static final int NON_ANSI_UPDATE_PERIOD = 80;
+    // Progress is repainted at most once per frame when using ANSI codes
+    private static final long ANSI_FRAME_INTERVAL_MILLIS = 100;
+    // Progress summary period when output is not a terminal (e.g. CI)
+    private static final long SUMMARY_INTERVAL_MILLIS = 10_000;
 
     private final Log log;
     private final String prefix;
@@ -57,12 +60,18 @@ public class AnsiLogger implements KitLogger {
     static Ansi.Color PROGRESS_BAR = CYAN;
     static Ansi.Color EMPHASIS = BLUE;
 
-    // Map remembering lines
-    private ThreadLocal<Map<String, Integer>> imageLines = new ThreadLocal<>();
-    private ThreadLocal<AtomicInteger> updateCount = new ThreadLocal<>();
+    // Latest progress of each layer
+    private ThreadLocal<ProgressModel> progress = new ThreadLocal<>();
+    // Number of threads with a started progress (e.g. concurrent pulls or pushes)
+    private final AtomicInteger activeProgresses = new AtomicInteger();
+    // Set while the progresses of several threads overlap, in place repaints of the shared console would garble
+    // each other so only summaries are logged until every progress is finished
+    private volatile boolean concurrentProgress;
 
     // Whether to use ANSI codes
     private boolean useAnsi;
+    // Whether progress can be repainted in place (ANSI codes and terminal output)
+    private boolean interactive;
 
 
     public AnsiLogger(Log log, boolean useColor, String verbose) {
@@ -74,11 +83,15 @@ public class AnsiLogger implements KitLogger {
     }
 
     public AnsiLogger(Log log, boolean useColor, String verbose, boolean batchMode, String prefix) {
+        this(log, useColor, verbose, batchMode, prefix, System.console() != null);
+    }
+
+    AnsiLogger(Log log, boolean useColor, String verbose, boolean batchMode, String prefix, boolean terminal) {
         this.log = log;
         this.prefix = prefix;
         this.batchMode = batchMode;
         checkVerboseLoggingEnabled(verbose);
-        initializeColor(useColor);
+        initializeColor(useColor, terminal);
     }
 
     /** {@inheritDoc} */
@@ -129,10 +142,11 @@ public class AnsiLogger implements KitLogger {
     public void progressStart() {
         // A progress indicator is always written out to standard out if a tty is enabled.
         if (!batchMode && log.isInfoEnabled()) {
-            imageLines.remove();
-            updateCount.remove();
-            imageLines.set(new HashMap<>());
-            updateCount.set(new AtomicInteger());
+            if (progress.get() == null && activeProgresses.incrementAndGet() > 1) {
+                concurrentProgress = true;
+            }
+            progress.set(new ProgressModel(
+                interactive ? ANSI_FRAME_INTERVAL_MILLIS : SUMMARY_INTERVAL_MILLIS, System::currentTimeMillis));
         }
     }
 
@@ -141,58 +155,53 @@ public class AnsiLogger implements KitLogger {
      */
     @Override
     public void progressUpdate(String layerId, String status, String progressMessage) {
-        if (!batchMode && log.isInfoEnabled() && StringUtils.isNotEmpty(layerId)) {
-            if (useAnsi) {
-                updateAnsiProgress(layerId, status, progressMessage);
-            } else {
-                updateNonAnsiProgress();
+        final ProgressModel model = progress.get();
+        if (!batchMode && log.isInfoEnabled() && StringUtils.isNotEmpty(layerId) && model != null) {
+            model.update(layerId, status, progressMessage);
+            if (model.isFrameDue()) {
+                repaintProgress(model);
             }
-            flush();
         }
     }
 
-    private void updateAnsiProgress(String imageId, String status, String progressMessage) {
-        Map<String,Integer> imgLineMap = imageLines.get();
-        Integer line = imgLineMap.get(imageId);
-
-        int diff = 0;
-        if (line == null) {
-            line = imgLineMap.size();
-            imgLineMap.put(imageId, line);
-        } else {
-            diff = imgLineMap.size() - line;
-        }
-
-        if (diff > 0) {
-            print(ansi().cursorUp(diff).eraseLine(Ansi.Erase.ALL).toString());
+    private void repaintProgress(ProgressModel model) {
+        if (interactive && concurrentProgress) {
+            // Keep the changes for the final summary, don't move the cursor of the shared console
+            return;
         }
-
-        // Status with progress bars: (max length = 11, hence pad to 11)
-        // Extracting
-        // Downloading
-        String progress = progressMessage != null ? progressMessage : "";
-        String msg =
-                ansi()
-                        .fg(PROGRESS_ID).a(imageId).reset().a(": ")
-                        .fg(PROGRESS_STATUS).a(StringUtils.rightPad(status,11) + " ")
-                        .fg(PROGRESS_BAR).a(progress).toString();
-        println(msg);
-
-        if (diff > 0) {
-            // move cursor back down to bottom
-            print(ansi().cursorDown(diff - 1).toString());
+        if (interactive) {
+            print(renderAnsiProgress(model));
+            flush();
+        } else {
+            model.nextFrame();
+            info("%s", model.summary());
         }
     }
 
-    private void updateNonAnsiProgress() {
-        AtomicInteger count = updateCount.get();
-        int nr = count.getAndIncrement();
-        if (nr % NON_ANSI_UPDATE_PERIOD == 0) {
-            print("#");
-        }
-        if (nr > 0 && nr % (80 * NON_ANSI_UPDATE_PERIOD) == 0) {
-            print("\n");
+    static String renderAnsiProgress(ProgressModel model) {
+        final StringBuilder frame = new StringBuilder();
+        final String lineSeparator = System.lineSeparator();
+        for (ProgressModel.Layer layer : model.nextFrame()) {
+            final int diff = model.getRenderedLines() - layer.getLine();
+            if (diff > 0) {
+                frame.append(ansi().cursorUp(diff).eraseLine(Ansi.Erase.ALL));
+            } else {
+                model.setRenderedLines(model.getRenderedLines() + 1);
+            }
+            // Status with progress bars: (max length = 11, hence pad to 11)
+            // Extracting
+            // Downloading
+            frame.append(ansi()
+                .fg(PROGRESS_ID).a(layer.getId()).reset().a(": ")
+                .fg(PROGRESS_STATUS).a(StringUtils.rightPad(layer.getStatus(), 11) + " ")
+                .fg(PROGRESS_BAR).a(layer.getProgressMessage()).reset())
+                .append(lineSeparator);
+            if (diff > 1) {
+                // move cursor back down to bottom
+                frame.append(ansi().cursorDown(diff - 1));
+            }
         }
+        return frame.toString();
     }
 
     /**
@@ -200,11 +209,23 @@ public class AnsiLogger implements KitLogger {
      */
     @Override
     public void progressFinished() {
+        final ProgressModel model = progress.get();
+        progress.remove();
+        if (model == null) {
+            return;
+        }
+        final boolean concurrent = concurrentProgress;
+        if (activeProgresses.decrementAndGet() == 0) {
+            concurrentProgress = false;
+        }
         if (!batchMode && log.isInfoEnabled()) {
-            imageLines.remove();
-            print(ansi().reset().toString());
-            if (!useAnsi) {
-                println("");
+            // Render the final state of every layer
+            if (interactive && !concurrent) {
+                print(renderAnsiProgress(model));
+                print(ansi().reset().toString());
+                flush();
+            } else if (!model.getLayers().isEmpty()) {
+                info("%s", model.summary());
             }
         }
     }
@@ -213,8 +234,9 @@ public class AnsiLogger implements KitLogger {
         System.out.flush();
     }
 
-    private void initializeColor(boolean useColor) {
+    private void initializeColor(boolean useColor, boolean terminal) {
         this.useAnsi = useColor && !log.isDebugEnabled();
+        this.interactive = useAnsi && terminal;
         if (useAnsi) {
             AnsiConsole.systemInstall();
             Ansi.setEnabled(true);
@@ -224,10 +246,6 @@ public class AnsiLogger implements KitLogger {
         }
     }
 
-    private void println(String txt) {
-        System.out.println(txt);
-    }
-
     private void print(String txt) {
         System.out.print(txt);
     }
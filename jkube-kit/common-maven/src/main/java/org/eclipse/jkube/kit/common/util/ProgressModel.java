@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.LongSupplier;
+
+/**
+ * Latest progress state of each layer of a pull or push, repainted at a fixed frame rate.
+ *
+ * <p> Progress events are only recorded when they arrive, {@link #isFrameDue()} tells when the changed layers
+ * should be rendered again. Thousands of events per second thus result in at most one repaint per frame interval.
+ */
+final class ProgressModel {
+
+  private final long frameIntervalMillis;
+  private final LongSupplier clock;
+  private final Map<String, Layer> layers;
+  private final TreeSet<Layer> changed;
+  private long lastFrame;
+  private int renderedLines;
+
+  ProgressModel(long frameIntervalMillis, LongSupplier clock) {
+    this.frameIntervalMillis = frameIntervalMillis;
+    this.clock = clock;
+    this.layers = new LinkedHashMap<>();
+    this.changed = new TreeSet<>((l1, l2) -> Integer.compare(l1.line, l2.line));
+    this.lastFrame = clock.getAsLong();
+  }
+
+  /**
+   * Records the latest state of a layer.
+   *
+   * @param layerId the layer
+   * @param status status of the layer (e.g. Downloading)
+   * @param progressMessage progress bar, may be null
+   */
+  void update(String layerId, String status, String progressMessage) {
+    final Layer layer = layers.computeIfAbsent(layerId, id -> new Layer(id, layers.size()));
+    layer.status = status != null ? status : "";
+    layer.progressMessage = progressMessage != null ? progressMessage : "";
+    changed.add(layer);
+  }
+
+  boolean isFrameDue() {
+    return !changed.isEmpty() && clock.getAsLong() - lastFrame >= frameIntervalMillis;
+  }
+
+  /**
+   * Returns the layers changed since the last frame (in line order) and starts a new frame.
+   */
+  List<Layer> nextFrame() {
+    lastFrame = clock.getAsLong();
+    final List<Layer> ret = new ArrayList<>(changed);
+    changed.clear();
+    return ret;
+  }
+
+  /**
+   * Number of lines already rendered, layers with a line number equal or greater haven't been rendered yet.
+   */
+  int getRenderedLines() {
+    return renderedLines;
+  }
+
+  void setRenderedLines(int renderedLines) {
+    this.renderedLines = renderedLines;
+  }
+
+  /**
+   * Coarse summary of the progress, e.g. <code>3 layers: 1 Downloading, 2 Pull complete</code>.
+   */
+  String summary() {
+    final Map<String, Integer> statusCount = new LinkedHashMap<>();
+    for (Layer layer : layers.values()) {
+      statusCount.merge(layer.status, 1, Integer::sum);
+    }
+    final List<String> counts = new ArrayList<>();
+    statusCount.forEach((status, count) -> counts.add(count + " " + status));
+    return layers.size() + (layers.size() == 1 ? " layer: " : " layers: ") + String.join(", ", counts);
+  }
+
+  Map<String, Layer> getLayers() {
+    return Collections.unmodifiableMap(layers);
+  }
+
+  static final class Layer {
+    private final String id;
+    private final int line;
+    private String status;
+    private String progressMessage;
+
+    private Layer(String id, int line) {
+      this.id = id;
+      this.line = line;
+    }
+
+    String getId() {
+      return id;
+    }
+
+    int getLine() {
+      return line;
+    }
+
+    String getStatus() {
+      return status;
+    }
+
+    String getProgressMessage() {
+      return progressMessage;
+    }
+  }
+}
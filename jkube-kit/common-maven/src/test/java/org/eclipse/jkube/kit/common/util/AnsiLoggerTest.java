@@ -13,7 +13,15 @@
  */
 package org.eclipse.jkube.kit.common.util;
 
+import static org.fusesource.jansi.Ansi.ansi;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.regex.Pattern;
 
 import org.eclipse.jkube.kit.common.KitLogger;
 import org.apache.maven.monitor.logging.DefaultLog;
@@ -219,6 +227,78 @@ public class AnsiLoggerTest {
                 testLog.getMessage());
     }
 
+    @Test
+    public void progressFromSeveralThreadsShouldNotMoveCursor() throws Exception {
+        final TestLog testLog = new TestLog();
+        final AnsiLogger logger = new AnsiLogger(testLog, true, null, false, "T>", true);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(out, true));
+        try {
+            final CountDownLatch started = new CountDownLatch(2);
+            final Runnable push = () -> {
+                logger.progressStart();
+                started.countDown();
+                try {
+                    started.await();
+                    Thread.sleep(150);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                logger.progressUpdate(Thread.currentThread().getName(), "Pushing", "[==>   ]");
+                logger.progressUpdate(Thread.currentThread().getName(), "Pushed", "");
+                logger.progressFinished();
+            };
+            final Thread first = new Thread(push, "layer-1");
+            final Thread second = new Thread(push, "layer-2");
+            first.start();
+            second.start();
+            first.join();
+            second.join();
+            // No progress bars rendered and no cursor movements on the shared console
+            assertFalse(out.toString().contains("[==>"));
+            assertFalse(Pattern.compile("\u001B\\[\\d+[AB]").matcher(out.toString()).find());
+            assertEquals(ansi().fg(AnsiLogger.INFO).a("T>1 layer: 1 Pushed").reset().toString(), testLog.getMessage());
+
+            // Once every progress is finished, a single progress is repainted in place again
+            logger.progressStart();
+            Thread.sleep(150);
+            logger.progressUpdate("layer-3", "Pushing", "[==>   ]");
+            logger.progressFinished();
+            assertTrue(out.toString().contains("layer-3"));
+        } finally {
+            System.setOut(originalOut);
+        }
+    }
+
+    @Test
+    public void progressStartedWhileAnotherIsRenderedShouldStopRepaints() throws Exception {
+        final TestLog testLog = new TestLog();
+        final AnsiLogger logger = new AnsiLogger(testLog, true, null, false, "T>", true);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(out, true));
+        try {
+            // Base image pull of the current build, rendered in place
+            logger.progressStart();
+            Thread.sleep(150);
+            logger.progressUpdate("build-layer", "Downloading", "[==>   ]");
+            assertTrue(out.toString().contains("build-layer"));
+            out.reset();
+            // Prefetched pull starting on another thread
+            final Thread prefetch = new Thread(logger::progressStart);
+            prefetch.start();
+            prefetch.join();
+            Thread.sleep(150);
+            logger.progressUpdate("build-layer", "Pull complete", "");
+            logger.progressFinished();
+            assertFalse(out.toString().contains("build-layer: "));
+            assertEquals(ansi().fg(AnsiLogger.INFO).a("T>1 layer: 1 Pull complete").reset().toString(),
+                testLog.getMessage());
+        } finally {
+            System.setOut(originalOut);
+        }
+    }
 
     private class TestLog extends DefaultLog {
         private String message;
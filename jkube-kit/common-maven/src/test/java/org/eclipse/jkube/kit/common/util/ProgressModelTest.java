@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.util;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ProgressModelTest {
+
+  private AtomicLong clock;
+  private ProgressModel progressModel;
+
+  @Before
+  public void setUp() {
+    clock = new AtomicLong(1000L);
+    progressModel = new ProgressModel(100L, clock::get);
+  }
+
+  @Test
+  public void isFrameDue_withUpdatesWithinFrameInterval_shouldReturnFalse() {
+    // Given
+    progressModel.update("layer1", "Downloading", "[=>  ]");
+    clock.addAndGet(50L);
+    // When
+    final boolean result = progressModel.isFrameDue();
+    // Then
+    assertFalse(result);
+  }
+
+  @Test
+  public void nextFrame_withManyUpdates_shouldReturnLatestStatePerLayerInLineOrder() {
+    // Given
+    for (int it = 0; it < 1000; it++) {
+      progressModel.update("layer2", "Downloading", "[" + it + "]");
+      progressModel.update("layer1", "Extracting", "[" + it + "]");
+    }
+    clock.addAndGet(100L);
+    // When
+    final boolean frameDue = progressModel.isFrameDue();
+    // Then
+    assertTrue(frameDue);
+    final List<ProgressModel.Layer> frame = progressModel.nextFrame();
+    assertEquals(2, frame.size());
+    assertEquals("layer2", frame.get(0).getId());
+    assertEquals(0, frame.get(0).getLine());
+    assertEquals("[999]", frame.get(0).getProgressMessage());
+    assertEquals("layer1", frame.get(1).getId());
+    assertEquals(1, frame.get(1).getLine());
+    assertEquals("[999]", frame.get(1).getProgressMessage());
+    assertFalse(progressModel.isFrameDue());
+  }
+
+  @Test
+  public void nextFrame_afterFrame_shouldOnlyReturnChangedLayers() {
+    // Given
+    progressModel.update("layer1", "Downloading", null);
+    progressModel.update("layer2", "Downloading", null);
+    progressModel.nextFrame();
+    progressModel.update("layer2", "Pull complete", null);
+    clock.addAndGet(100L);
+    // When
+    final boolean frameDue = progressModel.isFrameDue();
+    // Then
+    assertTrue(frameDue);
+    final List<ProgressModel.Layer> frame = progressModel.nextFrame();
+    assertEquals(1, frame.size());
+    assertEquals("layer2", frame.get(0).getId());
+    assertEquals("Pull complete", frame.get(0).getStatus());
+    assertEquals("", frame.get(0).getProgressMessage());
+  }
+
+  @Test
+  public void summary_withSeveralLayers_shouldCountLayersPerStatus() {
+    // Given
+    progressModel.update("layer1", "Pull complete", null);
+    progressModel.update("layer2", "Downloading", "[=>  ]");
+    progressModel.update("layer3", "Pull complete", null);
+    // When
+    final String result = progressModel.summary();
+    // Then
+    assertEquals("3 layers: 2 Pull complete, 1 Downloading", result);
+  }
+
+  @Test
+  public void renderAnsiProgress_withRenderedLayer_shouldOnlyAppendNewLines() {
+    // Given
+    progressModel.update("layer1", "Downloading", "[=>  ]");
+    AnsiLogger.renderAnsiProgress(progressModel);
+    progressModel.update("layer1", "Pull complete", null);
+    progressModel.update("layer2", "Downloading", "[=>  ]");
+    // When
+    AnsiLogger.renderAnsiProgress(progressModel);
+    // Then
+    assertEquals(2, progressModel.getRenderedLines());
+  }
+}
@@ -34,6 +34,14 @@ public enum ArchiveCompression {
         public OutputStream wrapOutputStream(OutputStream out) throws IOException {
             return new ArchiveCompression.GZIPOutputStream(out);
         }
+
+        @Override
+        public OutputStream wrapOutputStream(OutputStream out, int threads) throws IOException {
+            if (threads > 1) {
+                return new ParallelGzipOutputStream(out, GZIP_LEVEL, threads);
+            }
+            return wrapOutputStream(out);
+        }
     },
 
     bzip2(TarCompressionMethod.bzip2,"tar.bz") { // NOSONAR
@@ -45,6 +53,9 @@ public enum ArchiveCompression {
 
     // ====================================================================
 
+    // According to https://bugs.openjdk.java.net/browse/JDK-8142920, 3 is a better default
+    private static final int GZIP_LEVEL = 3;
+
     private final TarCompressionMethod tarCompressionMethod;
     private final String fileSuffix;
 
@@ -65,6 +76,20 @@ public enum ArchiveCompression {
         return outputStream;
     }
 
+    /**
+     * Wraps the provided stream with a compressing stream which may use up to the given number of threads.
+     *
+     * <p> Compressions without a parallel implementation fall back to {@link #wrapOutputStream(OutputStream)}.
+     *
+     * @param outputStream the stream to wrap.
+     * @param threads maximum number of threads to use for the compression.
+     * @return the compressing stream.
+     * @throws IOException in case the compressing stream can't be initialized.
+     */
+    public OutputStream wrapOutputStream(OutputStream outputStream, int threads) throws IOException {
+        return wrapOutputStream(outputStream);
+    }
+
     /**
      * Valid Modes for Compression
      */
@@ -90,8 +115,7 @@ public enum ArchiveCompression {
     private static class GZIPOutputStream extends java.util.zip.GZIPOutputStream {
         private GZIPOutputStream(OutputStream out) throws IOException {
             super(out, 65536);
-            // According to https://bugs.openjdk.java.net/browse/JDK-8142920, 3 is a better default
-            def.setLevel(3);
+            def.setLevel(GZIP_LEVEL);
         }
     }
 
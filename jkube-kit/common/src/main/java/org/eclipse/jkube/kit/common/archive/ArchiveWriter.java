@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.archive;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes the contents of an archive to the provided stream while it's being created.
+ *
+ * <p> Allows to send an archive (e.g. a Docker build context) to its consumer without writing it to disk first.
+ */
+@FunctionalInterface
+public interface ArchiveWriter {
+
+  /**
+   * Writes the complete archive to the provided stream, the stream is not closed.
+   *
+   * @param outputStream where to write the archive.
+   * @throws IOException in case of any I/O exception.
+   */
+  void writeTo(OutputStream outputStream) throws IOException;
+}
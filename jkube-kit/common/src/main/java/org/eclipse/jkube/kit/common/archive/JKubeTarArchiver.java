@@ -18,6 +18,7 @@ import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
 import org.apache.commons.compress.utils.IOUtils;
+import org.apache.commons.io.output.CloseShieldOutputStream;
 import org.eclipse.jkube.kit.common.util.FileUtil;
 
 import java.io.BufferedOutputStream;
@@ -25,6 +26,8 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -45,18 +48,37 @@ public class JKubeTarArchiver {
       ArchiveCompression compression)
       throws IOException {
 
-    try (FileOutputStream fileOutputStream = new FileOutputStream(outputFile);
-        BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(fileOutputStream)) {
+    try (FileOutputStream fileOutputStream = new FileOutputStream(outputFile)) {
+      writeTarBall(fileOutputStream, inputDirectory, fileList, fileModeMap, compression);
+    }
+    return outputFile;
+  }
 
-      final TarArchiveOutputStream tarArchiveOutputStream;
-      if (compression.equals(ArchiveCompression.gzip)) {
-        tarArchiveOutputStream = new TarArchiveOutputStream(new GzipCompressorOutputStream(bufferedOutputStream));
-      } else if (compression.equals(ArchiveCompression.bzip2)) {
-        tarArchiveOutputStream = new TarArchiveOutputStream(new BZip2CompressorOutputStream(bufferedOutputStream));
-      } else {
-        tarArchiveOutputStream = new TarArchiveOutputStream(bufferedOutputStream);
-      }
+  /**
+   * Writes a tar ball with the provided files to the given stream, the stream is not closed.
+   *
+   * @param outputStream where to write the tar ball.
+   * @param inputDirectory base directory, entry names are relative to it.
+   * @param fileList files and directories to add to the tar ball.
+   * @param fileModeMap file modes for specific files.
+   * @param compression compression to apply to the tar ball.
+   * @throws IOException in case of any I/O exception.
+   */
+  public static void writeTarBall(
+      OutputStream outputStream, File inputDirectory, List<File> fileList, Map<File, String> fileModeMap,
+      ArchiveCompression compression)
+      throws IOException {
 
+    final BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(new CloseShieldOutputStream(outputStream));
+    final TarArchiveOutputStream tarArchiveOutputStream;
+    if (compression.equals(ArchiveCompression.gzip)) {
+      tarArchiveOutputStream = new TarArchiveOutputStream(new GzipCompressorOutputStream(bufferedOutputStream));
+    } else if (compression.equals(ArchiveCompression.bzip2)) {
+      tarArchiveOutputStream = new TarArchiveOutputStream(new BZip2CompressorOutputStream(bufferedOutputStream));
+    } else {
+      tarArchiveOutputStream = new TarArchiveOutputStream(bufferedOutputStream);
+    }
+    try {
       tarArchiveOutputStream.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
       tarArchiveOutputStream.setLongFileMode(TarArchiveOutputStream.LONGFILE_GNU);
       for (File currentFile : fileList) {
@@ -75,13 +97,16 @@ public class JKubeTarArchiver {
         tarArchiveOutputStream.putArchiveEntry(tarEntry);
         tarArchiveOutputStream.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
         if (currentFile.isFile()) {
-          tarArchiveOutputStream.write(IOUtils.toByteArray(new FileInputStream(currentFile)));
+          try (InputStream fileInputStream = new FileInputStream(currentFile)) {
+            IOUtils.copy(fileInputStream, tarArchiveOutputStream);
+          }
         }
         tarArchiveOutputStream.closeArchiveEntry();
       }
+    } finally {
+      // Finishes the archive and compression, the underlying stream is shielded from closing
       tarArchiveOutputStream.close();
     }
-
-    return outputFile;
+    outputStream.flush();
   }
 }
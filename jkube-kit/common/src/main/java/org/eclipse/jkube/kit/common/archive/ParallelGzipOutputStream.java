@@ -0,0 +1,207 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * {@link OutputStream} writing gzip data whose blocks are compressed in parallel (same approach as pigz).
+ *
+ * <p> The input is split into fixed size blocks which are raw deflated by a pool of threads, each one primed with the
+ * last 32 KB of the previous block as dictionary and ending at a byte boundary (sync flush). The compressed blocks are
+ * written in order, resulting in a single gzip member that any gzip decompressor can read.
+ */
+public class ParallelGzipOutputStream extends OutputStream {
+
+  static final int DEFAULT_BLOCK_SIZE = 128 * 1024;
+  private static final int DICTIONARY_SIZE = 32 * 1024;
+  private static final byte[] HEADER = new byte[] {
+      (byte) 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0
+  };
+
+  private final OutputStream out;
+  private final int level;
+  private final int blockSize;
+  private final int maxPendingBlocks;
+  private final ExecutorService executorService;
+  private final Deque<Future<byte[]>> pendingBlocks;
+  private final CRC32 crc;
+  private long size;
+  private byte[] block;
+  private int blockLength;
+  private byte[] dictionary;
+  private boolean closed;
+
+  /**
+   * Creates a new stream compressing with the given level and number of threads.
+   *
+   * @param out the underlying stream where the gzip data is written.
+   * @param level the compression level (0-9).
+   * @param threads number of blocks compressed at the same time.
+   * @throws IOException if the gzip header can't be written.
+   */
+  public ParallelGzipOutputStream(OutputStream out, int level, int threads) throws IOException {
+    this(out, level, threads, DEFAULT_BLOCK_SIZE);
+  }
+
+  ParallelGzipOutputStream(OutputStream out, int level, int threads, int blockSize) throws IOException {
+    this.out = out;
+    this.level = level;
+    this.blockSize = blockSize;
+    this.maxPendingBlocks = threads * 2;
+    this.executorService = Executors.newFixedThreadPool(threads, threadFactory());
+    this.pendingBlocks = new ArrayDeque<>();
+    this.crc = new CRC32();
+    this.block = new byte[blockSize];
+    out.write(HEADER);
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    write(new byte[] { (byte) b }, 0, 1);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    if (closed) {
+      throw new IOException("Stream closed");
+    }
+    crc.update(b, off, len);
+    size += len;
+    while (len > 0) {
+      final int count = Math.min(len, blockSize - blockLength);
+      System.arraycopy(b, off, block, blockLength, count);
+      blockLength += count;
+      off += count;
+      len -= count;
+      if (blockLength == blockSize) {
+        submitBlock(false);
+        block = new byte[blockSize];
+        blockLength = 0;
+      }
+    }
+  }
+
+  /**
+   * Writes the blocks which have already been compressed and flushes the underlying stream.
+   *
+   * <p> Data of the block which is still being filled is not flushed.
+   */
+  @Override
+  public void flush() throws IOException {
+    while (!pendingBlocks.isEmpty() && pendingBlocks.peek().isDone()) {
+      writeNextBlock();
+    }
+    out.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      submitBlock(true);
+      while (!pendingBlocks.isEmpty()) {
+        writeNextBlock();
+      }
+      writeInt((int) crc.getValue());
+      writeInt((int) size);
+      out.flush();
+    } finally {
+      executorService.shutdownNow();
+      out.close();
+    }
+  }
+
+  private void submitBlock(boolean last) throws IOException {
+    final byte[] input = block;
+    final int length = blockLength;
+    final byte[] blockDictionary = dictionary;
+    pendingBlocks.add(executorService.submit(() -> deflate(input, length, blockDictionary, last)));
+    dictionary = Arrays.copyOfRange(input, Math.max(0, length - DICTIONARY_SIZE), length);
+    while (pendingBlocks.size() > maxPendingBlocks) {
+      writeNextBlock();
+    }
+  }
+
+  private byte[] deflate(byte[] input, int length, byte[] blockDictionary, boolean last) {
+    final Deflater deflater = new Deflater(level, true);
+    try {
+      if (blockDictionary != null && blockDictionary.length > 0) {
+        deflater.setDictionary(blockDictionary);
+      }
+      deflater.setInput(input, 0, length);
+      final ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 2 + 64);
+      final byte[] buffer = new byte[16 * 1024];
+      if (last) {
+        deflater.finish();
+        while (!deflater.finished()) {
+          compressed.write(buffer, 0, deflater.deflate(buffer));
+        }
+      } else {
+        int count;
+        do {
+          count = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+          compressed.write(buffer, 0, count);
+        } while (count == buffer.length);
+      }
+      return compressed.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private void writeNextBlock() throws IOException {
+    try {
+      out.write(pendingBlocks.remove().get());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while compressing data");
+    } catch (ExecutionException e) {
+      throw new IOException("Unable to compress data: " + e.getCause().getMessage(), e.getCause());
+    }
+  }
+
+  private void writeInt(int value) throws IOException {
+    out.write(value & 0xff);
+    out.write((value >> 8) & 0xff);
+    out.write((value >> 16) & 0xff);
+    out.write((value >> 24) & 0xff);
+  }
+
+  private static ThreadFactory threadFactory() {
+    final AtomicInteger count = new AtomicInteger();
+    return runnable -> {
+      final Thread thread = new Thread(runnable, "jkube-gzip-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
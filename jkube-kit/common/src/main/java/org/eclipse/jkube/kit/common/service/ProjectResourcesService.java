@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URLClassLoader;
+
+import org.eclipse.jkube.kit.common.JavaProject;
+import org.eclipse.jkube.kit.common.util.JKubeProjectUtil;
+import org.eclipse.jkube.kit.common.util.ProjectClassLoaders;
+
+/**
+ * Build scoped owner of the project's compile class loader.
+ *
+ * <p> The class loader (and the framework configuration files cached by it) is created on first access and shared
+ * by every generator, enricher and watcher in the same goal. It's released once the service is closed.
+ */
+public class ProjectResourcesService implements Closeable {
+
+  private final JavaProject project;
+  private ProjectClassLoaders projectClassLoaders;
+
+  public ProjectResourcesService(JavaProject project) {
+    this.project = project;
+  }
+
+  public synchronized ProjectClassLoaders getProjectClassLoaders() {
+    if (projectClassLoaders == null) {
+      projectClassLoaders = new ProjectClassLoaders(JKubeProjectUtil.getClassLoader(project));
+    }
+    return projectClassLoaders;
+  }
+
+  /**
+   * Returns the shared compile class loader for the project, callers must not close it.
+   *
+   * @return the shared compile class loader
+   */
+  public URLClassLoader getCompileClassLoader() {
+    return getProjectClassLoaders().getCompileClassLoader();
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (projectClassLoaders != null) {
+      projectClassLoaders.close();
+      projectClassLoaders = null;
+    }
+  }
+}
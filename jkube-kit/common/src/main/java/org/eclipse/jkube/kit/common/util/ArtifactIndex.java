@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Hash based index of a list of Maven coordinates (dependencies or plugins).
+ *
+ * <p> The index keeps the first occurrence for each key so lookups return the same element as a linear scan over
+ * the source list would. Indexes are kept per source list instance (see {@link JKubeProjectUtil}), they don't
+ * reference the source list so that they can be released along with it.
+ *
+ * @param <T> type of the indexed elements
+ */
+public final class ArtifactIndex<T> {
+
+  private final int size;
+  private final Map<String, T> byGroupId;
+  private final Map<String, T> byArtifactId;
+  private final Map<String, T> byCoordinates;
+
+  private ArtifactIndex(List<T> source, Function<T, String> groupId, Function<T, String> artifactId) {
+    this.size = source.size();
+    final Map<String, T> groups = new HashMap<>();
+    final Map<String, T> artifacts = new HashMap<>();
+    final Map<String, T> coordinates = new HashMap<>();
+    for (T element : source) {
+      if (element != null) {
+        groups.putIfAbsent(groupId.apply(element), element);
+        artifacts.putIfAbsent(artifactId.apply(element), element);
+        coordinates.putIfAbsent(key(groupId.apply(element), artifactId.apply(element)), element);
+      }
+    }
+    this.byGroupId = Collections.unmodifiableMap(groups);
+    this.byArtifactId = Collections.unmodifiableMap(artifacts);
+    this.byCoordinates = Collections.unmodifiableMap(coordinates);
+  }
+
+  static <T> ArtifactIndex<T> of(List<T> source, Function<T, String> groupId, Function<T, String> artifactId) {
+    return new ArtifactIndex<>(source, groupId, artifactId);
+  }
+
+  /**
+   * Whether the list this index was built for (looked up by instance) still has the same size, elements added to or
+   * removed from the list invalidate the index.
+   */
+  boolean isFor(List<T> list) {
+    return list.size() == size;
+  }
+
+  T getByGroupId(String groupId) {
+    return byGroupId.get(groupId);
+  }
+
+  T getByArtifactId(String artifactId) {
+    return byArtifactId.get(artifactId);
+  }
+
+  T get(String groupId, String artifactId) {
+    return byCoordinates.get(key(groupId, artifactId));
+  }
+
+  private static String key(String groupId, String artifactId) {
+    return Objects.toString(groupId, "") + ":" + Objects.toString(artifactId, "");
+  }
+}
@@ -13,6 +13,7 @@
  */
 package org.eclipse.jkube.kit.common.util;
 
+import com.google.common.collect.MapMaker;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.jkube.kit.common.JavaProject;
 import org.eclipse.jkube.kit.common.Dependency;
@@ -22,15 +23,21 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URLClassLoader;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 public class JKubeProjectUtil {
 
     public static final int MAX_RESOURCE_NAME_LENGTH = 63;
 
+    // Weak keys compared by identity, indexes don't outlive the project lists they were built for
+    private static final Map<List<Dependency>, ArtifactIndex<Dependency>> DEPENDENCY_INDEXES = new MapMaker().weakKeys().makeMap();
+    private static final Map<List<Plugin>, ArtifactIndex<Plugin>> PLUGIN_INDEXES = new MapMaker().weakKeys().makeMap();
+
     private JKubeProjectUtil() { }
 
     public static <T> Optional<T> iterateOverListWithCondition(List<T> dependencyList, Predicate<? super T> condition) {
@@ -41,22 +48,22 @@ public class JKubeProjectUtil {
     }
 
     public static String getAnyDependencyVersionWithGroupId(JavaProject jkubeProject, String groupId) {
-        Optional<Dependency> value = iterateOverListWithCondition(jkubeProject.getDependencies(),
-                dependency -> dependency.getGroupId().equals(groupId));
-
-        return value.map(Dependency::getVersion).orElse(null);
+        return Optional.ofNullable(dependencyIndex(jkubeProject))
+            .map(index -> index.getByGroupId(groupId))
+            .map(Dependency::getVersion)
+            .orElse(null);
     }
 
     public static Plugin getPlugin(JavaProject javaProject, String groupId, String artifactId) {
-        Optional<Plugin> value = iterateOverListWithCondition(javaProject.getPlugins(),
-                plugin -> plugin.getGroupId().equals(groupId) && plugin.getArtifactId().equals(artifactId));
-        return value.orElse(null);
+        return Optional.ofNullable(pluginIndex(javaProject))
+            .map(index -> index.get(groupId, artifactId))
+            .orElse(null);
     }
 
     public static Plugin getPlugin(JavaProject jkubeProject, String artifactId) {
-        Optional<Plugin> value = iterateOverListWithCondition(jkubeProject.getPlugins(),
-                plugin -> plugin.getArtifactId().equals(artifactId));
-        return value.orElse(null);
+        return Optional.ofNullable(pluginIndex(jkubeProject))
+            .map(index -> index.getByArtifactId(artifactId))
+            .orElse(null);
     }
 
     public static boolean hasPlugin(JavaProject jkubeProject, String groupId, String artifactId) {
@@ -72,19 +79,38 @@ public class JKubeProjectUtil {
     }
 
     public static boolean hasDependencyWithGroupId(JavaProject project, String groupId) {
-      return Optional.ofNullable(project).map(JavaProject::getDependencies)
-          .map(deps -> deps.stream().anyMatch(dep -> Objects.equals(dep.getGroupId(), groupId)))
+      return Optional.ofNullable(project)
+          .map(JKubeProjectUtil::dependencyIndex)
+          .map(index -> index.getByGroupId(groupId) != null)
           .orElse(false);
     }
 
     public static Dependency getDependency(JavaProject jkubeProject, String groupId, String artifactId) {
-        List<Dependency> dependencyList = jkubeProject.getDependencies();
-        if (dependencyList != null) {
-            return iterateOverListWithCondition(dependencyList, dependency ->
-                Objects.equals(dependency.getGroupId(), groupId) && Objects.equals(dependency.getArtifactId(), artifactId))
-                .orElse(null);
+        return Optional.ofNullable(dependencyIndex(jkubeProject))
+            .map(index -> index.get(groupId, artifactId))
+            .orElse(null);
+    }
+
+    // Generators and enrichers query the same project lists over and over, the indexes are kept per list instance
+    private static ArtifactIndex<Dependency> dependencyIndex(JavaProject project) {
+        return index(DEPENDENCY_INDEXES, project.getDependencies(), Dependency::getGroupId, Dependency::getArtifactId);
+    }
+
+    private static ArtifactIndex<Plugin> pluginIndex(JavaProject project) {
+        return index(PLUGIN_INDEXES, project.getPlugins(), Plugin::getGroupId, Plugin::getArtifactId);
+    }
+
+    private static <T> ArtifactIndex<T> index(
+        Map<List<T>, ArtifactIndex<T>> indexes, List<T> list, Function<T, String> groupId, Function<T, String> artifactId) {
+        if (list == null) {
+            return null;
+        }
+        ArtifactIndex<T> index = indexes.get(list);
+        if (index == null || !index.isFor(list)) {
+            index = ArtifactIndex.of(list, groupId, artifactId);
+            indexes.put(list, index);
         }
-        return null;
+        return index;
     }
 
   /**
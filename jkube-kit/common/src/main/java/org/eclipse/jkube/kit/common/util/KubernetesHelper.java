@@ -20,8 +20,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -78,7 +81,7 @@ import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.api.model.apps.StatefulSetSpec;
 import io.fabric8.kubernetes.api.model.batch.Job;
 import io.fabric8.kubernetes.api.model.batch.JobSpec;
-import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.utils.Utils;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
@@ -429,9 +432,41 @@ public class KubernetesHelper {
     }
 
 
+    /**
+     * Returns the namespace the default Kubernetes client configuration resolves to.
+     *
+     * <p> Only the namespace system property (or environment variable), the current kubeconfig context and the
+     * service account namespace file are read. Unlike a full client configuration, no credentials are resolved.
+     *
+     * @return the default namespace or <code>default</code> if none is configured
+     */
     public static String getDefaultNamespace() {
-        String ns = new ConfigBuilder().build().getNamespace();
-        return ns != null ? ns : "default";
+        String ns = Utils.getSystemPropertyOrEnvVar(io.fabric8.kubernetes.client.Config.KUBERNETES_NAMESPACE_SYSTEM_PROPERTY);
+        if (StringUtils.isBlank(ns)) {
+            ns = getNamespaceFromKubeConfigOrServiceAccount();
+        }
+        return StringUtils.isNotBlank(ns) ? ns : "default";
+    }
+
+    // Same sources and precedence as io.fabric8.kubernetes.client.Config#autoConfigure
+    private static String getNamespaceFromKubeConfigOrServiceAccount() {
+        if (Utils.getSystemPropertyOrEnvVar(io.fabric8.kubernetes.client.Config.KUBERNETES_AUTH_TRYKUBECONFIG_SYSTEM_PROPERTY, true)
+            && getKubernetesConfigFile().isFile()) {
+            final Config config = parseConfigs();
+            final Context currentContext = config != null ? getCurrentContext(config) : null;
+            return currentContext != null ? currentContext.getNamespace() : null;
+        }
+        final File namespaceFile = new File(Utils.getSystemPropertyOrEnvVar(
+            io.fabric8.kubernetes.client.Config.KUBERNETES_NAMESPACE_FILE, io.fabric8.kubernetes.client.Config.KUBERNETES_NAMESPACE_PATH));
+        if (Utils.getSystemPropertyOrEnvVar(io.fabric8.kubernetes.client.Config.KUBERNETES_TRYNAMESPACE_PATH_SYSTEM_PROPERTY, true)
+            && namespaceFile.isFile()) {
+            try {
+                return new String(Files.readAllBytes(namespaceFile.toPath()), StandardCharsets.UTF_8).trim();
+            } catch (IOException e) {
+                return null;
+            }
+        }
+        return null;
     }
 
     public static String currentUserName() {
@@ -487,7 +522,7 @@ public class KubernetesHelper {
         if (file != null) {
             return new File(file);
         }
-        file = System.getenv("KUBECONFIG");
+        file = Utils.getSystemPropertyOrEnvVar(io.fabric8.kubernetes.client.Config.KUBERNETES_KUBECONFIG_FILE);
         if (file != null) {
             return new File(file);
         }
@@ -524,6 +559,11 @@ public class KubernetesHelper {
     }
 
     public static void printLogsAsync(LogWatch logWatcher, final String failureMessage, final CountDownLatch terminateLatch, final KitLogger log) {
+        printLogsAsync(logWatcher, failureMessage, terminateLatch, log, "");
+    }
+
+    public static void printLogsAsync(LogWatch logWatcher, final String failureMessage, final CountDownLatch terminateLatch,
+        final KitLogger log, final String linePrefix) {
         final InputStream in = logWatcher.getOutput();
         Thread thread = new Thread() {
             @Override
@@ -537,7 +577,7 @@ public class KubernetesHelper {
                         if (terminateLatch.getCount() <= 0L) {
                             return;
                         }
-                        log.info("[[s]]%s", line);
+                        log.info("[[s]]%s%s", linePrefix, line);
                     }
                 } catch (IOException e) {
                     // Check again the latch which could be already count down to zero in between
@@ -882,16 +922,17 @@ public class KubernetesHelper {
     }
 
     public static String getServiceExposeUrl(KubernetesClient kubernetes, Collection<HasMetadata> resources, long serviceUrlWaitTimeSeconds, String exposeServiceAnnotationKey) throws InterruptedException {
+        Duration serviceUrlWaitTime = Duration.ofSeconds(serviceUrlWaitTimeSeconds);
         for (HasMetadata entity : resources) {
             if (entity instanceof Service) {
                 Service service = (Service) entity;
                 String name = KubernetesHelper.getName(service);
                 String namespace = kubernetes.getNamespace();
                 Resource<Service> serviceResource = kubernetes.services().inNamespace(namespace).withName(name);
-                String url = pollServiceForExposeUrl(serviceUrlWaitTimeSeconds, service, serviceResource, exposeServiceAnnotationKey);
+                String url = waitForServiceExposeUrl(serviceUrlWaitTime, service, serviceResource, exposeServiceAnnotationKey);
 
                 // lets not wait for other services
-                serviceUrlWaitTimeSeconds = 1;
+                serviceUrlWaitTime = Duration.ZERO;
                 if (StringUtils.isNotBlank(url) && url.startsWith("http")) {
                     return url;
                 }
@@ -900,19 +941,15 @@ public class KubernetesHelper {
         return null;
     }
 
-    private static String pollServiceForExposeUrl(long serviceUrlWaitTimeSeconds, Service service, Resource<Service> serviceResource, String exposeSvcAnnotationKey) throws InterruptedException {
-        String url = null;
-        // lets wait a little while until there is a service URL in case the exposecontroller is running slow
-        for (int i = 0; i < serviceUrlWaitTimeSeconds; i++) {
-            if (i > 0) {
-                Thread.sleep(1000);
-            }
-            url = KubernetesHelper.getAnnotationValue(serviceResource.get(), exposeSvcAnnotationKey);
-            if (StringUtils.isNotBlank(url) || !KubernetesHelper.isExposeService(service)) {
-                break;
-            }
+    private static String waitForServiceExposeUrl(Duration serviceUrlWaitTime, Service service, Resource<Service> serviceResource, String exposeSvcAnnotationKey) throws InterruptedException {
+        if (!KubernetesHelper.isExposeService(service) || serviceUrlWaitTime.isZero()) {
+            return KubernetesHelper.getAnnotationValue(serviceResource.get(), exposeSvcAnnotationKey);
         }
-        return url;
+        // lets wait a little while until there is a service URL in case the exposecontroller is running slow
+        final Service exposedService = WaitUtil.waitUntilCondition(serviceResource,
+            s -> StringUtils.isNotBlank(KubernetesHelper.getAnnotationValue(s, exposeSvcAnnotationKey)),
+            serviceUrlWaitTime);
+        return KubernetesHelper.getAnnotationValue(exposedService, exposeSvcAnnotationKey);
     }
 
     public static String getAnnotationValue(HasMetadata item, String annotationKey) {
@@ -13,6 +13,7 @@
  */
 package org.eclipse.jkube.kit.common.util;
 
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
@@ -40,4 +41,13 @@ public class LazyBuilder<T> {
         return result;
     }
 
+    /**
+     * Returns the object only if it has already been computed.
+     *
+     * @return the computed object or an empty Optional if {@link #get()} hasn't been called yet.
+     */
+    public Optional<T> getIfPresent() {
+        return Optional.ofNullable(instance.get());
+    }
+
 }
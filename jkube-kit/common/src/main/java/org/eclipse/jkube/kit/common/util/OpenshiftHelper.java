@@ -16,11 +16,17 @@ package org.eclipse.jkube.kit.common.util;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.kubernetes.client.KubernetesClient;
@@ -67,28 +73,13 @@ public class OpenshiftHelper {
         }
         List<Parameter> parameters = entity != null ? entity.getParameters() : null;
         if (parameters != null && !parameters.isEmpty()) {
-            String json = "{\"kind\": \"List\", \"apiVersion\": \"" + DEFAULT_API_VERSION + "\",\n" +
-                    "  \"items\": " + ResourceUtil.toJson(objects) + " }";
-
-            // lets make a few passes in case there's expressions in values
-            for (int i = 0; i < 5; i++) {
-                for (Parameter parameter : parameters) {
-                    String name = parameter.getName();
-                    String from = "${" + name + "}";
-                    String value = parameter.getValue();
-
-                    // TODO generate random strings for passwords etc!
-                    if (StringUtils.isBlank(value)) {
-                        if (failOnMissingParameterValue) {
-                            throw new IllegalArgumentException("No value available for parameter name: " + name);
-                        } else {
-                            value = "";
-                        }
-                    }
-                    json = json.replace(from, value);
-                }
-            }
-            return  OBJECT_MAPPER.readerFor(KubernetesList.class).readValue(json);
+            final ArrayNode items = OBJECT_MAPPER.valueToTree(objects);
+            replaceParameters(items, parameters, failOnMissingParameterValue);
+            final ObjectNode list = OBJECT_MAPPER.createObjectNode()
+                .put("kind", "List")
+                .put("apiVersion", DEFAULT_API_VERSION);
+            list.set("items", items);
+            return OBJECT_MAPPER.treeToValue(list, KubernetesList.class);
         } else {
             KubernetesList answer = new KubernetesList();
             answer.setItems(objects);
@@ -97,6 +88,63 @@ public class OpenshiftHelper {
     }
 
 
+    /**
+     * Replaces the template parameter expressions (<code>${NAME}</code>) found in the text values of the provided
+     * (already parsed) template objects in place.
+     *
+     * @param objects tree of the template objects
+     * @param parameters template parameters
+     * @param failOnMissingParameterValue whether to fail if a parameter has no value or to replace it with an empty String
+     */
+    static void replaceParameters(JsonNode objects, List<Parameter> parameters, boolean failOnMissingParameterValue) {
+        final Map<String, String> values = new LinkedHashMap<>();
+        for (Parameter parameter : parameters) {
+            String value = parameter.getValue();
+            // TODO generate random strings for passwords etc!
+            if (StringUtils.isBlank(value)) {
+                if (failOnMissingParameterValue) {
+                    throw new IllegalArgumentException("No value available for parameter name: " + parameter.getName());
+                }
+                value = "";
+            }
+            values.put("${" + parameter.getName() + "}", value);
+        }
+        replaceParameterValues(objects, values);
+    }
+
+    private static void replaceParameterValues(JsonNode node, Map<String, String> values) {
+        if (node.isObject()) {
+            final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                if (field.getValue().isTextual()) {
+                    field.setValue(TextNode.valueOf(replaceParameterValues(field.getValue().asText(), values)));
+                } else {
+                    replaceParameterValues(field.getValue(), values);
+                }
+            }
+        } else if (node.isArray()) {
+            final ArrayNode array = (ArrayNode) node;
+            for (int i = 0; i < array.size(); i++) {
+                if (array.get(i).isTextual()) {
+                    array.set(i, TextNode.valueOf(replaceParameterValues(array.get(i).asText(), values)));
+                } else {
+                    replaceParameterValues(array.get(i), values);
+                }
+            }
+        }
+    }
+
+    private static String replaceParameterValues(String text, Map<String, String> values) {
+        // lets make a few passes in case there's expressions in values
+        for (int i = 0; i < 5 && text.contains("${"); i++) {
+            for (Map.Entry<String, String> value : values.entrySet()) {
+                text = text.replace(value.getKey(), value.getValue());
+            }
+        }
+        return text;
+    }
+
     public static boolean isCancelled(String status) {
         return "Cancelled".equals(status);
     }
@@ -13,18 +13,15 @@
  */
 package org.eclipse.jkube.kit.common.util;
 
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.LineNumberReader;
 import java.lang.reflect.Constructor;
-import java.net.URL;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.TreeMap;
-import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.jkube.kit.common.util.ServiceCatalog.ServiceDescriptor;
 
 /**
  * A simple factory for creating services with no-arg constructors from a textual
@@ -45,6 +42,9 @@ import java.util.regex.Pattern;
  */
 public final class PluginServiceFactory<C> {
 
+    // Number of descriptors from which on they are read in parallel
+    private static final int PARALLEL_THRESHOLD = 8;
+
     private List<ClassLoader> additionalClassLoaders = new ArrayList<>();
 
     // Parameters for service constructors
@@ -71,79 +71,62 @@ public final class PluginServiceFactory<C> {
      * @return a ordered list of created services or an empty list.
      */
     public <T> List<T> createServiceObjects(String... descriptorPaths) {
+        final TreeMap<ServiceEntry, Constructor<T>> serviceMap = new TreeMap<>();
         try {
             ServiceEntry.initDefaultOrder();
-            TreeMap<ServiceEntry,T> serviceMap = new TreeMap<>();
             for (String descriptor : descriptorPaths) {
                 readServiceDefinitions(serviceMap, descriptor);
             }
-            ArrayList<T> ret = new ArrayList<>();
-            for (T service : serviceMap.values()) {
-                ret.add(service);
-            }
-            return ret;
         } finally {
             ServiceEntry.removeDefaultOrder();
         }
+        ArrayList<T> ret = new ArrayList<>();
+        for (Map.Entry<ServiceEntry, Constructor<T>> service : serviceMap.entrySet()) {
+            ret.add(newInstance(service.getKey(), service.getValue()));
+        }
+        return ret;
     }
 
-    private <T> void readServiceDefinitions(Map<ServiceEntry, T> extractorMap, String defPath) {
-        try {
-            for (String url : ClassUtil.getResources(defPath, additionalClassLoaders)) {
-                readServiceDefinitionFromUrl(extractorMap, url);
+    private <T> void readServiceDefinitions(Map<ServiceEntry, Constructor<T>> serviceMap, String defPath) {
+        final List<String> urls = ServiceCatalog.getResources(defPath, ClassUtil.mergeClassLoaders(additionalClassLoaders));
+        final Stream<String> urlStream = urls.size() >= PARALLEL_THRESHOLD ? urls.parallelStream() : urls.stream();
+        final List<ServiceDescriptor> descriptors = urlStream.map(ServiceCatalog::getDescriptor).collect(Collectors.toList());
+        for (ServiceDescriptor descriptor : descriptors) {
+            String line = null;
+            try {
+                for (String serviceLine : descriptor.getLines()) {
+                    line = serviceLine;
+                    addOrRemoveService(serviceMap, line);
+                }
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot load service " + line + " defined in " +
+                        descriptor.getUrl() + " : " + e + ". Aborting", e);
             }
-        } catch (IOException e) {
-            throw new IllegalStateException("Cannot load service from " + defPath + ": " + e, e);
         }
     }
 
-    private <T> void readServiceDefinitionFromUrl(Map<ServiceEntry, T> extractorMap, String url) {
-        String line = null;
-        try (LineNumberReader reader = new LineNumberReader(new InputStreamReader(new URL(url).openStream(), "UTF8"))) {
-            line = reader.readLine();
-            while (line != null) {
-                createOrRemoveService(extractorMap, line);
-                line = reader.readLine();
+    private <T> void addOrRemoveService(Map<ServiceEntry, Constructor<T>> serviceMap, String line)
+            throws ReflectiveOperationException {
+        ServiceEntry entry = new ServiceEntry(line);
+        if (entry.isRemove()) {
+            // Removing is a bit complex since we need to find out
+            // the proper key since the order is part of equals/hash
+            // so we cant fetch/remove it directly
+            serviceMap.keySet().removeIf(key -> key.getClassName().equals(entry.getClassName()));
+        } else {
+            Class<T> clazz = ClassUtil.classForName(entry.getClassName(), additionalClassLoaders);
+            if (clazz == null) {
+                throw new ClassNotFoundException("Class " + entry.getClassName() + " could not be found");
             }
-        } catch (ReflectiveOperationException|IOException e) {
-            throw new IllegalStateException("Cannot load service " + line + " defined in " +
-                    url + " : " + e + ". Aborting", e);
+            serviceMap.put(entry, ServiceCatalog.getConstructor(clazz, context.getClass()));
         }
     }
 
-    // Matches comment lines and empty lines. these are skipped
-    private static Pattern COMMENT_LINE_PATTERN = Pattern.compile("^(\\s*#.*|\\s*)$");
-
-    private synchronized  <T> void createOrRemoveService(Map<ServiceEntry, T> serviceMap, String line)
-            throws ReflectiveOperationException {
-        if (line.length() > 0 && !COMMENT_LINE_PATTERN.matcher(line).matches()) {
-            ServiceEntry entry = new ServiceEntry(line);
-            if (entry.isRemove()) {
-                // Removing is a bit complex since we need to find out
-                // the proper key since the order is part of equals/hash
-                // so we cant fetch/remove it directly
-                Set<ServiceEntry> toRemove = new HashSet<>();
-                for (ServiceEntry key : serviceMap.keySet()) {
-                    if (key.getClassName().equals(entry.getClassName())) {
-                        toRemove.add(key);
-                    }
-                }
-                for (ServiceEntry key : toRemove) {
-                    serviceMap.remove(key);
-                }
-            } else {
-                Class<T> clazz = ClassUtil.classForName(entry.getClassName(), additionalClassLoaders);
-                if (clazz == null) {
-                    throw new ClassNotFoundException("Class " + entry.getClassName() + " could not be found");
-                }
-                Constructor<T> constructor = clazz.getConstructor(context.getClass());
-                if (constructor == null) {
-                    throw new IllegalArgumentException(
-                            "Internal Error: " + clazz + " does not have constructor (" + context.getClass() + ")");
-                }
-                T service = constructor.newInstance(context);
-                serviceMap.put(entry, service);
-            }
+    private <T> T newInstance(ServiceEntry entry, Constructor<T> constructor) {
+        try {
+            return constructor.newInstance(context);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create service " + entry.getClassName() + " : " + e + ". Aborting", e);
         }
     }
 
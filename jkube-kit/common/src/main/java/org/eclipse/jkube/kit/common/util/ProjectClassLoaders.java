@@ -13,14 +13,25 @@
  */
 package org.eclipse.jkube.kit.common.util;
 
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
-public class ProjectClassLoaders {
+public class ProjectClassLoaders implements Closeable {
 
     private URLClassLoader compileClassLoader;
+    private final Map<String, CachedProperties> propertiesCache;
 
     public ProjectClassLoaders(URLClassLoader compileClassLoader) {
         this.compileClassLoader = compileClassLoader;
+        this.propertiesCache = new ConcurrentHashMap<>();
     }
 
     public URLClassLoader getCompileClassLoader() {
@@ -64,4 +75,75 @@ public class ProjectClassLoaders {
         }
         return true;
     }
+
+    /**
+     * Returns the given properties resource in the compile classpath if found or an empty properties object if not.
+     *
+     * <p> Parsed resources are cached until the underlying file is modified.
+     *
+     * @param resource name of the resource (e.g. application.properties)
+     * @return a copy of the parsed properties
+     */
+    public Properties getPropertiesFromResource(String resource) {
+        return getCachedProperties(resource, "properties", PropertiesUtil::getPropertiesFromResource);
+    }
+
+    /**
+     * Returns the given YAML resource in the compile classpath flattened into a properties object if found or an
+     * empty properties object if not.
+     *
+     * <p> Parsed resources are cached until the underlying file is modified.
+     *
+     * @param activeProfile the profile (YAML document) to use, or null to use the first one
+     * @param resource name of the resource (e.g. application.yml)
+     * @return a copy of the parsed properties
+     */
+    public Properties getPropertiesFromYamlResource(String activeProfile, String resource) {
+        return getCachedProperties(resource, "yaml:" + activeProfile,
+            url -> YamlUtil.getPropertiesFromYamlResource(activeProfile, url));
+    }
+
+    @Override
+    public void close() throws IOException {
+        propertiesCache.clear();
+        compileClassLoader.close();
+    }
+
+    private Properties getCachedProperties(String resource, String qualifier, Function<URL, Properties> parser) {
+        final URL url = compileClassLoader.findResource(resource);
+        final Properties ret = new Properties();
+        if (url != null) {
+            final long lastModified = lastModified(url);
+            final CachedProperties cached = propertiesCache.compute(url.toExternalForm() + "#" + qualifier,
+                (key, current) -> current != null && current.lastModified == lastModified ?
+                    current : new CachedProperties(lastModified, parser.apply(url)));
+            ret.putAll(cached.properties);
+        }
+        return ret;
+    }
+
+    static long lastModified(URL url) {
+        try {
+            if ("file".equals(url.getProtocol())) {
+                return new File(url.toURI()).lastModified();
+            }
+            if ("jar".equals(url.getProtocol())) {
+                final String path = url.getPath();
+                return lastModified(new URL(path.substring(0, path.indexOf("!/"))));
+            }
+        } catch (IOException | URISyntaxException | IndexOutOfBoundsException e) {
+            // ignore, entry is cached until the class loader is closed
+        }
+        return -1L;
+    }
+
+    private static final class CachedProperties {
+        private final long lastModified;
+        private final Properties properties;
+
+        private CachedProperties(long lastModified, Properties properties) {
+            this.lastModified = lastModified;
+            this.properties = properties;
+        }
+    }
 }
@@ -16,23 +16,26 @@ package org.eclipse.jkube.kit.common.util;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.gson.JsonObject;
 import io.fabric8.kubernetes.api.model.HasMetadata;
-import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.openshift.api.model.Parameter;
 import io.fabric8.openshift.api.model.Template;
 import org.apache.commons.io.FilenameUtils;
 import org.eclipse.jkube.kit.common.GenericCustomResource;
@@ -60,47 +63,123 @@ public class ResourceUtil {
         }
     }
 
+    /**
+     * Reads the resources of a Kubernetes List or an OpenShift Template (processed locally) manifest.
+     *
+     * <p> The manifest is streamed and each of its items is deserialized on its own and directly into the
+     * type registered for its apiVersion and kind (or into a {@link GenericCustomResource} if the kind is unknown),
+     * so that no in-memory copy of the whole manifest is needed.
+     *
+     * @param manifest the List or Template manifest file
+     * @return the resources in the manifest, empty if the file doesn't exist or is empty
+     * @throws IOException if the file can't be read or parsed
+     */
     public static List<HasMetadata> deserializeKubernetesListOrTemplate(File manifest)
         throws IOException {
 
         List<HasMetadata> kubernetesResources = new ArrayList<>();
         if (manifest.isFile()) {
-            String fileContentAsStr = new String(Files.readAllBytes(manifest.toPath()), StandardCharsets.UTF_8);
-            if (StringUtils.isNotBlank(fileContentAsStr)) {
-                kubernetesResources.addAll(parseKubernetesListOrTemplate(
-                    ResourceFileType.fromFile(manifest).getObjectMapper(), fileContentAsStr
-                ));
+            final ObjectMapper mapper = ResourceFileType.fromFile(manifest).getObjectMapper();
+            try (JsonParser parser = mapper.getFactory().createParser(manifest)) {
+                if (parser.nextToken() == JsonToken.START_OBJECT) {
+                    kubernetesResources.addAll(parseKubernetesListOrTemplate(mapper, parser));
+                }
             }
         }
         return kubernetesResources;
     }
 
-    private static List<HasMetadata> parseKubernetesListOrTemplate(ObjectMapper mapper, String manifestString)
+    private static List<HasMetadata> parseKubernetesListOrTemplate(ObjectMapper mapper, JsonParser parser)
         throws IOException {
-        final Map<String, Object> manifest = mapper
-            .readValue(manifestString, new TypeReference<Map<String, Object>>() {});
-        if (manifest.get("kind").equals(new Template().getKind())) {
-            return Optional.ofNullable(OpenshiftHelper.processTemplatesLocally(
-                mapper.convertValue(manifest, Template.class), false))
-                .map(KubernetesList::getItems)
-                .orElse(Collections.emptyList());
-        } else {
-            return parseKubernetesList(mapper, manifest);
+        final ItemDeserializer itemDeserializer = new ItemDeserializer(mapper);
+        final List<HasMetadata> items = new ArrayList<>();
+        final List<ObjectNode> templateObjects = new ArrayList<>();
+        List<Parameter> templateParameters = Collections.emptyList();
+        String kind = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = parser.getCurrentName();
+            final JsonToken value = parser.nextToken();
+            if ("kind".equals(field)) {
+                kind = parser.getValueAsString();
+            } else if ("items".equals(field) && value == JsonToken.START_ARRAY) {
+                for (ObjectNode item = nextObject(parser); item != null; item = nextObject(parser)) {
+                    items.add(itemDeserializer.deserialize(item));
+                }
+            } else if ("objects".equals(field) && value == JsonToken.START_ARRAY) {
+                for (ObjectNode object = nextObject(parser); object != null; object = nextObject(parser)) {
+                    templateObjects.add(object);
+                }
+            } else if ("parameters".equals(field) && value == JsonToken.START_ARRAY) {
+                templateParameters = mapper.readValue(parser, new TypeReference<List<Parameter>>() {});
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (new Template().getKind().equals(kind)) {
+            final ArrayNode objects = mapper.createArrayNode().addAll(templateObjects);
+            OpenshiftHelper.replaceParameters(objects, templateParameters, false);
+            for (ObjectNode object : templateObjects) {
+                items.add(itemDeserializer.deserialize(object));
+            }
+        }
+        return items;
+    }
+
+    private static ObjectNode nextObject(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        while (token != null && token != JsonToken.END_ARRAY) {
+            if (token == JsonToken.START_OBJECT) {
+                return parser.readValueAsTree();
+            }
+            parser.skipChildren();
+            token = parser.nextToken();
         }
+        return null;
     }
 
-    private static List<HasMetadata> parseKubernetesList(ObjectMapper mapper, Map<String, Object> manifest) {
-        final List<Map<String, Object>> items = (List<Map<String, Object>>)manifest.get("items");
-        return items.stream().map(item -> {
-            final GenericCustomResource fallback = mapper.convertValue(item, GenericCustomResource.class);
+    /**
+     * Deserializes manifest items into the type registered for their apiVersion and kind.
+     *
+     * <p> The type is resolved through the {@link io.fabric8.kubernetes.internal.KubernetesDeserializer} only for the
+     * first item of each apiVersion/kind, subsequent items are bound directly to the resolved type.
+     */
+    private static final class ItemDeserializer {
+
+        private final ObjectMapper mapper;
+        private final Map<String, Class<? extends HasMetadata>> types;
+
+        private ItemDeserializer(ObjectMapper mapper) {
+            this.mapper = mapper;
+            this.types = new HashMap<>();
+        }
+
+        private HasMetadata deserialize(ObjectNode item) throws IOException {
+            final JsonNode apiVersion = item.get("apiVersion");
+            final JsonNode kind = item.get("kind");
+            if (apiVersion == null || kind == null) {
+                return mapper.treeToValue(item, GenericCustomResource.class);
+            }
+            final String key = apiVersion.asText() + "#" + kind.asText();
+            final Class<? extends HasMetadata> type = types.get(key);
+            if (type == null) {
+                final HasMetadata resource = deserializeOrNull(item, HasMetadata.class);
+                types.put(key, resource != null ? resource.getClass() : GenericCustomResource.class);
+                return resource != null ? resource : mapper.treeToValue(item, GenericCustomResource.class);
+            }
+            if (type == GenericCustomResource.class) {
+                return mapper.treeToValue(item, GenericCustomResource.class);
+            }
+            final HasMetadata resource = deserializeOrNull(item, type);
+            return resource != null ? resource : mapper.treeToValue(item, GenericCustomResource.class);
+        }
+
+        private HasMetadata deserializeOrNull(ObjectNode item, Class<? extends HasMetadata> type) {
             try {
-                // Convert Using KubernetesDeserializer or fail and return fallback generic
-                return mapper.convertValue(fallback, HasMetadata.class);
-            } catch(Exception ex) {
-                return fallback;
+                return mapper.treeToValue(item, type);
+            } catch (IOException | IllegalArgumentException ex) {
+                return null;
             }
-        })
-            .collect(Collectors.toList());
+        }
     }
 
     public static <T> T load(File file, Class<T> clazz) throws IOException {
@@ -128,6 +207,28 @@ public class ResourceUtil {
         return output;
     }
 
+    /**
+     * Writes the already serialized content to the given file unless the file exists with the exact same content, in
+     * which case the file (and its modification time) is left untouched.
+     *
+     * @param file target file, the extension for the provided type is added if missing
+     * @param content serialized resource
+     * @param type type of the serialized resource
+     * @return the target file
+     * @throws IOException if the file can't be read or written
+     */
+    public static File saveIfChanged(File file, byte[] content, ResourceFileType type) throws IOException {
+        boolean hasExtension = FilenameUtils.indexOfExtension(file.getAbsolutePath()) != -1;
+        File output = hasExtension ? file : type.addExtensionIfMissing(file);
+        if (output.isFile() && output.length() == content.length
+            && Arrays.equals(Files.readAllBytes(output.toPath()), content)) {
+            return output;
+        }
+        ensureDir(file);
+        Files.write(output.toPath(), content);
+        return output;
+    }
+
 
     public static String toYaml(Object resource) throws JsonProcessingException {
         return serializeAsString(resource, ResourceFileType.yaml);
@@ -141,7 +242,7 @@ public class ResourceUtil {
         return getObjectMapper(resourceFileType).writeValueAsString(resource);
     }
 
-    private static ObjectMapper getObjectMapper(ResourceFileType resourceFileType) {
+    public static ObjectMapper getObjectMapper(ResourceFileType resourceFileType) {
         return resourceFileType.getObjectMapper()
                 .enable(SerializationFeature.INDENT_OUTPUT)
                 .disable(SerializationFeature.WRITE_EMPTY_JSON_ARRAYS)
@@ -151,7 +252,7 @@ public class ResourceUtil {
     private static void ensureDir(File file) throws IOException {
         File parentDir = file.getParentFile();
         if (!parentDir.exists()) {
-            if (!parentDir.mkdirs()) {
+            if (!parentDir.mkdirs() && !parentDir.isDirectory()) {
                 throw new IOException("Cannot create directory " + parentDir);
             }
         }
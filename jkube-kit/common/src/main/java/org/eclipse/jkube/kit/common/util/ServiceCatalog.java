@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.util;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.LineNumberReader;
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Catalog of the service descriptors read by {@link PluginServiceFactory}.
+ *
+ * <p> Caches, for the lifetime of the JVM (e.g. a whole Maven reactor build):
+ * <ul>
+ *   <li>The descriptor URLs found for a given path in each class loader, keyed by class loader identity. Class loaders
+ *   are weakly referenced so that discarded project class loaders can be collected.</li>
+ *   <li>The parsed service lines of each descriptor URL, invalidated if the underlying file or jar is modified.</li>
+ *   <li>The constructor handles of each service class for a given context type.</li>
+ * </ul>
+ */
+final class ServiceCatalog {
+
+  // Matches comment lines and empty lines. these are skipped
+  private static final Pattern COMMENT_LINE_PATTERN = Pattern.compile("^(\\s*#.*|\\s*)$");
+
+  private static final Map<ClassLoader, Map<String, List<String>>> RESOURCES =
+      Collections.synchronizedMap(new WeakHashMap<>());
+  private static final Map<String, ServiceDescriptor> DESCRIPTORS = new ConcurrentHashMap<>();
+  private static final ClassValue<Map<Class<?>, Constructor<?>>> CONSTRUCTORS =
+      new ClassValue<Map<Class<?>, Constructor<?>>>() {
+        @Override
+        protected Map<Class<?>, Constructor<?>> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  private ServiceCatalog() { }
+
+  /**
+   * Returns the URLs of all the resources with the given path in the provided class loaders.
+   *
+   * @param path resource path of the descriptor.
+   * @param classLoaders class loaders where to look up the resource.
+   * @return list of distinct URLs (as String) for the resource.
+   */
+  static List<String> getResources(String path, ClassLoader[] classLoaders) {
+    final Set<String> ret = new HashSet<>();
+    for (ClassLoader classLoader : classLoaders) {
+      final Map<String, List<String>> loaderResources;
+      synchronized (RESOURCES) {
+        loaderResources = RESOURCES.computeIfAbsent(classLoader, cl -> new ConcurrentHashMap<>());
+      }
+      ret.addAll(loaderResources.computeIfAbsent(path, p -> findResources(classLoader, p)));
+    }
+    return new ArrayList<>(ret);
+  }
+
+  /**
+   * Returns the parsed service descriptor available at the given URL.
+   *
+   * @param url the URL of the descriptor.
+   * @return the parsed descriptor.
+   */
+  static ServiceDescriptor getDescriptor(String url) {
+    try {
+      final long lastModified = ProjectClassLoaders.lastModified(new URL(url));
+      if (lastModified < 0) {
+        return readDescriptor(url, lastModified);
+      }
+      return DESCRIPTORS.compute(url, (key, current) -> current != null && current.lastModified == lastModified ?
+          current : readDescriptor(url, lastModified));
+    } catch (IOException e) {
+      throw new IllegalStateException("Cannot load service descriptor " + url + " : " + e + ". Aborting", e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  static <T> Constructor<T> getConstructor(Class<T> serviceClass, Class<?> contextClass) throws NoSuchMethodException {
+    final Map<Class<?>, Constructor<?>> constructors = CONSTRUCTORS.get(serviceClass);
+    Constructor<?> constructor = constructors.get(contextClass);
+    if (constructor == null) {
+      constructor = serviceClass.getConstructor(contextClass);
+      constructors.put(contextClass, constructor);
+    }
+    return (Constructor<T>) constructor;
+  }
+
+  private static List<String> findResources(ClassLoader classLoader, String path) {
+    try {
+      final List<String> ret = new ArrayList<>();
+      final Enumeration<URL> urls = classLoader.getResources(path);
+      while (urls.hasMoreElements()) {
+        ret.add(urls.nextElement().toString());
+      }
+      return Collections.unmodifiableList(ret);
+    } catch (IOException e) {
+      throw new IllegalStateException("Cannot load service from " + path + ": " + e, e);
+    }
+  }
+
+  private static ServiceDescriptor readDescriptor(String url, long lastModified) {
+    try (LineNumberReader reader = new LineNumberReader(
+        new InputStreamReader(new URL(url).openStream(), StandardCharsets.UTF_8))) {
+      final List<String> lines = new ArrayList<>();
+      String line = reader.readLine();
+      while (line != null) {
+        if (line.length() > 0 && !COMMENT_LINE_PATTERN.matcher(line).matches()) {
+          lines.add(line);
+        }
+        line = reader.readLine();
+      }
+      return new ServiceDescriptor(url, lastModified, Collections.unmodifiableList(lines));
+    } catch (IOException e) {
+      throw new IllegalStateException("Cannot load service descriptor " + url + " : " + e + ". Aborting", e);
+    }
+  }
+
+  static final class ServiceDescriptor {
+    private final String url;
+    private final long lastModified;
+    private final List<String> lines;
+
+    private ServiceDescriptor(String url, long lastModified, List<String> lines) {
+      this.url = url;
+      this.lastModified = lastModified;
+      this.lines = lines;
+    }
+
+    String getUrl() {
+      return url;
+    }
+
+    List<String> getLines() {
+      return lines;
+    }
+  }
+}
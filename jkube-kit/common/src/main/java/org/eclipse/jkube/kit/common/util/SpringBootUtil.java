@@ -57,6 +57,33 @@ public class SpringBootUtil {
         return props;
     }
 
+    /**
+     * Returns the spring boot configuration (supports `application.properties` and `application.yml`)
+     * or an empty properties object if not found, it assumes first profile as default profile.
+     *
+     * @param projectClassLoaders project class loaders
+     * @return properties object
+     */
+    public static Properties getSpringBootApplicationProperties(ProjectClassLoaders projectClassLoaders) {
+        return getSpringBootApplicationProperties(null, projectClassLoaders);
+    }
+
+    /**
+     * Returns the spring boot configuration (supports `application.properties` and `application.yml`)
+     * or an empty properties object if not found.
+     *
+     * <p> Parsed files are cached by the provided {@link ProjectClassLoaders} until they're modified.
+     *
+     * @param springActiveProfile currently active spring-boot profile
+     * @param projectClassLoaders project class loaders
+     * @return properties object
+     */
+    public static Properties getSpringBootApplicationProperties(String springActiveProfile, ProjectClassLoaders projectClassLoaders) {
+        Properties props = projectClassLoaders.getPropertiesFromYamlResource(springActiveProfile, "application.yml");
+        props.putAll(projectClassLoaders.getPropertiesFromResource("application.properties"));
+        return props;
+    }
+
     public static Properties getPropertiesFromApplicationYamlResource(String springActiveProfile, URL ymlResource) {
         return YamlUtil.getPropertiesFromYamlResource(springActiveProfile, ymlResource);
     }
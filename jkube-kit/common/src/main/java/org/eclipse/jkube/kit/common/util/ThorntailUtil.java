@@ -32,4 +32,15 @@ public class ThorntailUtil {
         URL ymlResource = compileClassLoader.findResource("project-defaults.yml");
         return YamlUtil.getPropertiesFromYamlResource(ymlResource);
     }
+
+    /**
+     * Returns the thorntail configuration (supports `project-defaults.yml`)
+     * or an empty properties object if not found
+     *
+     * @param projectClassLoaders project class loaders
+     * @return thorntail configuration properties
+     */
+    public static Properties getThorntailProperties(ProjectClassLoaders projectClassLoaders) {
+        return projectClassLoaders.getPropertiesFromYamlResource(null, "project-defaults.yml");
+    }
 }
@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.util;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.dsl.Resource;
+
+/**
+ * Waits for cluster resources to reach a given condition.
+ *
+ * <p> Waits are driven by a watch on the resource and complete as soon as an event matching the condition is received.
+ * All of them share the same model:
+ * <ul>
+ *   <li>The wait is bounded by the provided timeout, after which <code>null</code> is returned.</li>
+ *   <li>The wait can be cancelled by interrupting the waiting thread, in which case an
+ *   {@link InterruptedException} is thrown.</li>
+ *   <li>The watch is always closed when the wait completes.</li>
+ *   <li>If the resource can't be watched (e.g. missing permissions), the resource is polled instead.</li>
+ * </ul>
+ */
+public class WaitUtil {
+
+  private static final long POLL_INTERVAL_MILLIS = 1000L;
+
+  private WaitUtil() { }
+
+  /**
+   * Waits until the provided resource exists and matches the given condition.
+   *
+   * @param resource the resource to wait for.
+   * @param condition the condition the resource must match.
+   * @param timeout maximum time to wait.
+   * @param <T> type of the resource.
+   * @return the resource matching the condition or null if the timeout elapsed.
+   * @throws InterruptedException if the waiting thread was interrupted.
+   */
+  public static <T> T waitUntilCondition(Resource<T> resource, Predicate<T> condition, Duration timeout)
+      throws InterruptedException {
+    final long deadline = System.nanoTime() + timeout.toNanos();
+    final CompletableFuture<T> matched = new CompletableFuture<>();
+    try (Watch ignored = resource.watch(new Watcher<T>() {
+      @Override
+      public void eventReceived(Action action, T item) {
+        if (action != Action.DELETED && matches(item, condition)) {
+          matched.complete(item);
+        }
+      }
+
+      @Override
+      public void onClose(WatcherException cause) {
+        matched.completeExceptionally(cause);
+      }
+    })) {
+      // The resource might already match the condition before the watch was established
+      final T current = resource.get();
+      if (matches(current, condition)) {
+        return current;
+      }
+      return matched.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      return null;
+    } catch (ExecutionException | KubernetesClientException e) {
+      return poll(resource, condition, deadline);
+    }
+  }
+
+  private static <T> T poll(Resource<T> resource, Predicate<T> condition, long deadline) throws InterruptedException {
+    while (true) {
+      final T current = resource.get();
+      if (matches(current, condition)) {
+        return current;
+      }
+      final long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+      if (remainingMillis <= 0) {
+        return null;
+      }
+      Thread.sleep(Math.min(POLL_INTERVAL_MILLIS, remainingMillis));
+    }
+  }
+
+  private static <T> boolean matches(T item, Predicate<T> condition) {
+    return item != null && condition.test(item);
+  }
+}
@@ -42,7 +42,7 @@ public class YamlUtil {
       return getPropertiesFromYamlResource(null, resource);
   }
 
-  protected static Properties getPropertiesFromYamlResource(String activeProfile, URL resource) {
+  public static Properties getPropertiesFromYamlResource(String activeProfile, URL resource) {
     if (resource != null) {
       try {
         Properties properties = new Properties();
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.archive;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JKubeTarArchiverTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void writeTarBall_withFiles_shouldWriteEntriesAndKeepStreamOpen() throws IOException {
+    // Given
+    final File inputDirectory = temporaryFolder.newFolder("input");
+    final File directory = new File(inputDirectory, "maven");
+    final File file = new File(directory, "app.jar");
+    FileUtils.write(file, "content", StandardCharsets.UTF_8);
+    final AtomicBoolean closed = new AtomicBoolean(false);
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream() {
+      @Override
+      public void close() {
+        closed.set(true);
+      }
+    };
+    // When
+    JKubeTarArchiver.writeTarBall(outputStream, inputDirectory, Arrays.asList(directory, file),
+        Collections.singletonMap(file, "0755"), ArchiveCompression.none);
+    // Then
+    assertThat(closed).isFalse();
+    try (TarArchiveInputStream tar = new TarArchiveInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+      final TarArchiveEntry directoryEntry = tar.getNextTarEntry();
+      assertThat(directoryEntry.getName()).isEqualTo("maven/");
+      final TarArchiveEntry fileEntry = tar.getNextTarEntry();
+      assertThat(fileEntry.getName()).isEqualTo("maven/app.jar");
+      assertThat(fileEntry.getMode()).isEqualTo(0755);
+      assertThat(IOUtils.toString(tar, StandardCharsets.UTF_8)).isEqualTo("content");
+      assertThat(tar.getNextTarEntry()).isNull();
+    }
+  }
+}
@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.archive;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+public class ParallelGzipOutputStreamTest {
+
+  @Test
+  public void write_withMultipleBlocks_shouldProduceSingleReadableGzipMember() throws IOException {
+    // Given
+    final byte[] data = compressibleData(1024 * 1024 + 17);
+    final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    // When
+    try (OutputStream out = new ParallelGzipOutputStream(compressed, 3, 4, 64 * 1024)) {
+      out.write(data, 0, 1000);
+      out.write(data[1000]);
+      out.write(data, 1001, data.length - 1001);
+    }
+    // Then
+    assertThat(compressed.size()).isLessThan(data.length / 2);
+    assertThat(IOUtils.toByteArray(new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))))
+        .isEqualTo(data);
+    // decompressing without concatenated members support proves a single member was written
+    assertThat(IOUtils.toByteArray(new GzipCompressorInputStream(new ByteArrayInputStream(compressed.toByteArray()), false)))
+        .isEqualTo(data);
+  }
+
+  @Test
+  public void write_withRandomData_shouldRoundTrip() throws IOException {
+    // Given
+    final byte[] data = new byte[300 * 1024];
+    new Random(42).nextBytes(data);
+    final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    // When
+    try (OutputStream out = new ParallelGzipOutputStream(compressed, 9, 2, 32 * 1024)) {
+      out.write(data);
+    }
+    // Then
+    assertThat(IOUtils.toByteArray(new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))))
+        .isEqualTo(data);
+  }
+
+  @Test
+  public void close_withNoData_shouldProduceEmptyGzip() throws IOException {
+    // Given
+    final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    // When
+    new ParallelGzipOutputStream(compressed, 3, 2).close();
+    // Then
+    assertThat(IOUtils.toByteArray(new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))))
+        .isEmpty();
+  }
+
+  @Test
+  public void write_afterClose_shouldThrowException() throws IOException {
+    // Given
+    final OutputStream out = new ParallelGzipOutputStream(new ByteArrayOutputStream(), 3, 2);
+    out.close();
+    // When - Then
+    assertThatIOException().isThrownBy(() -> out.write(1)).withMessage("Stream closed");
+  }
+
+  @Test
+  public void wrapOutputStream_withGzipAndMultipleThreads_shouldUseParallelStream() throws IOException {
+    assertThat(ArchiveCompression.gzip.wrapOutputStream(new ByteArrayOutputStream(), 4))
+        .isInstanceOf(ParallelGzipOutputStream.class);
+    assertThat(ArchiveCompression.gzip.wrapOutputStream(new ByteArrayOutputStream(), 1))
+        .isNotInstanceOf(ParallelGzipOutputStream.class);
+    assertThat(ArchiveCompression.bzip2.wrapOutputStream(new ByteArrayOutputStream(), 4))
+        .isNotInstanceOf(ParallelGzipOutputStream.class);
+  }
+
+  private static byte[] compressibleData(int length) {
+    final Random random = new Random(7);
+    final byte[] data = new byte[length];
+    for (int it = 0; it < length; it++) {
+      data[it] = (byte) ('a' + random.nextInt(4));
+    }
+    return data;
+  }
+}
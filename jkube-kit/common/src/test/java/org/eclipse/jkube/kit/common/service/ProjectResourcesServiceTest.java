@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.service;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.jkube.kit.common.JavaProject;
+import org.eclipse.jkube.kit.common.util.ProjectClassLoaders;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class ProjectResourcesServiceTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private JavaProject project;
+
+  @Before
+  public void setUp() throws Exception {
+    final File outputDirectory = folder.newFolder("classes");
+    FileUtils.write(new File(outputDirectory, "application.properties"), "server.port=8081", StandardCharsets.UTF_8);
+    project = JavaProject.builder().outputDirectory(outputDirectory).build();
+  }
+
+  @Test
+  public void getProjectClassLoaders_shouldReturnSameInstance() throws Exception {
+    try (ProjectResourcesService projectResourcesService = new ProjectResourcesService(project)) {
+      // When
+      final ProjectClassLoaders result = projectResourcesService.getProjectClassLoaders();
+      // Then
+      assertSame(result, projectResourcesService.getProjectClassLoaders());
+      assertSame(result.getCompileClassLoader(), projectResourcesService.getCompileClassLoader());
+      assertEquals("8081", result.getPropertiesFromResource("application.properties").getProperty("server.port"));
+    }
+  }
+
+  @Test
+  public void close_shouldReleaseProjectClassLoaders() throws Exception {
+    // Given
+    final ProjectResourcesService projectResourcesService = new ProjectResourcesService(project);
+    final ProjectClassLoaders initial = projectResourcesService.getProjectClassLoaders();
+    // When
+    projectResourcesService.close();
+    // Then
+    assertNotSame(initial, projectResourcesService.getProjectClassLoaders());
+    projectResourcesService.close();
+  }
+}
@@ -18,9 +18,13 @@ import mockit.Expectations;
 import mockit.Mocked;
 import org.eclipse.jkube.kit.common.Dependency;
 import org.eclipse.jkube.kit.common.JavaProject;
+import org.eclipse.jkube.kit.common.Plugin;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -70,4 +74,98 @@ public class JKubeProjectUtilTest {
     // Then
     assertThat(result).isFalse();
   }
-}
\ No newline at end of file
+
+  @Test
+  public void getDependencyReturnsFirstMatch() {
+    // Given
+    final JavaProject project = JavaProject.builder()
+        .dependency(Dependency.builder().groupId("io.dep").artifactId("artifact").version("1.0.0").build())
+        .dependency(Dependency.builder().groupId("io.dep").artifactId("artifact").version("2.0.0").build())
+        .dependency(Dependency.builder().groupId("io.dep").artifactId("other").version("3.0.0").build())
+        .build();
+    // When
+    final Dependency result = JKubeProjectUtil.getDependency(project, "io.dep", "artifact");
+    // Then
+    assertThat(result).hasFieldOrPropertyWithValue("version", "1.0.0");
+    assertThat(JKubeProjectUtil.getAnyDependencyVersionWithGroupId(project, "io.dep")).isEqualTo("1.0.0");
+    assertThat(JKubeProjectUtil.hasDependency(project, "io.dep", "nothere")).isFalse();
+  }
+
+  @Test
+  public void getDependencyWithModifiedDependencies() {
+    // Given
+    final List<Dependency> dependencies = new ArrayList<>();
+    dependencies.add(Dependency.builder().groupId("io.dep").artifactId("artifact").build());
+    final JavaProject project = JavaProject.builder().build();
+    project.setDependencies(dependencies);
+    assertThat(JKubeProjectUtil.hasDependency(project, "io.dep", "added")).isFalse();
+    dependencies.add(Dependency.builder().groupId("io.dep").artifactId("added").build());
+    // When
+    final boolean result = JKubeProjectUtil.hasDependency(project, "io.dep", "added");
+    // Then
+    assertThat(result).isTrue();
+  }
+
+  @Test
+  public void getDependencyWithReplacedDependencies() {
+    // Given
+    final JavaProject project = JavaProject.builder()
+        .dependency(Dependency.builder().groupId("io.dep").artifactId("artifact").version("1.0.0").build())
+        .build();
+    assertThat(JKubeProjectUtil.getDependency(project, "io.dep", "artifact")).hasFieldOrPropertyWithValue("version", "1.0.0");
+    project.setDependencies(Collections.singletonList(
+        Dependency.builder().groupId("io.dep").artifactId("artifact").version("2.0.0").build()));
+    // When
+    final Dependency result = JKubeProjectUtil.getDependency(project, "io.dep", "artifact");
+    // Then
+    assertThat(result).hasFieldOrPropertyWithValue("version", "2.0.0");
+  }
+
+  @Test
+  public void getDependencyWithAddedDependency() {
+    // Given
+    final List<Dependency> dependencies = new ArrayList<>();
+    final JavaProject project = JavaProject.builder().build();
+    project.setDependencies(dependencies);
+    assertThat(JKubeProjectUtil.getDependency(project, "io.dep", "artifact")).isNull();
+    dependencies.add(Dependency.builder().groupId("io.dep").artifactId("artifact").version("1.0.0").build());
+    // When
+    final Dependency result = JKubeProjectUtil.getDependency(project, "io.dep", "artifact");
+    // Then
+    assertThat(result).hasFieldOrPropertyWithValue("version", "1.0.0");
+  }
+
+  @Test
+  public void getDependencyWithSeveralProjects() {
+    // Given
+    final JavaProject first = JavaProject.builder()
+        .dependency(Dependency.builder().groupId("io.dep").artifactId("artifact").version("1.0.0").build())
+        .build();
+    final JavaProject second = JavaProject.builder()
+        .dependency(Dependency.builder().groupId("io.dep").artifactId("artifact").version("2.0.0").build())
+        .build();
+    // When
+    final Dependency firstResult = JKubeProjectUtil.getDependency(first, "io.dep", "artifact");
+    final Dependency secondResult = JKubeProjectUtil.getDependency(second, "io.dep", "artifact");
+    // Then
+    assertThat(firstResult).hasFieldOrPropertyWithValue("version", "1.0.0");
+    assertThat(secondResult).hasFieldOrPropertyWithValue("version", "2.0.0");
+    assertThat(JKubeProjectUtil.getDependency(first, "io.dep", "artifact")).isSameAs(firstResult);
+  }
+
+  @Test
+  public void getPluginByCoordinatesAndArtifactId() {
+    // Given
+    final JavaProject project = JavaProject.builder()
+        .plugin(Plugin.builder().groupId("org.apache.maven.plugins").artifactId("maven-war-plugin").version("3.3.1").build())
+        .plugin(Plugin.builder().groupId("org.eclipse.jetty").artifactId("jetty-maven-plugin").version("9.4.0").build())
+        .build();
+    // When
+    final Plugin byCoordinates = JKubeProjectUtil.getPlugin(project, "org.eclipse.jetty", "jetty-maven-plugin");
+    final Plugin byArtifactId = JKubeProjectUtil.getPlugin(project, "maven-war-plugin");
+    // Then
+    assertThat(byCoordinates).hasFieldOrPropertyWithValue("version", "9.4.0");
+    assertThat(byArtifactId).hasFieldOrPropertyWithValue("version", "3.3.1");
+    assertThat(JKubeProjectUtil.hasPlugin(project, "org.apache.maven.plugins", "jetty-maven-plugin")).isFalse();
+  }
+}
@@ -40,6 +40,7 @@ import io.fabric8.openshift.api.model.DeploymentConfigBuilder;
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.ServiceBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.openshift.api.model.Template;
 import mockit.Expectations;
@@ -47,15 +48,20 @@ import mockit.Mocked;
 import mockit.Verifications;
 import org.eclipse.jkube.kit.common.GenericCustomResource;
 import org.eclipse.jkube.kit.common.KitLogger;
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -70,9 +76,88 @@ import static org.junit.Assert.assertTrue;
 
 public class KubernetesHelperTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Mocked
     private KitLogger logger;
 
+    @Test
+    public void getDefaultNamespace_withNamespaceProperty_shouldReturnProperty() {
+        final String previous = System.getProperty("kubernetes.namespace");
+        try {
+            // Given
+            System.setProperty("kubernetes.namespace", "from-property");
+            // When
+            final String result = KubernetesHelper.getDefaultNamespace();
+            // Then
+            assertThat(result).isEqualTo("from-property");
+        } finally {
+            restoreProperty("kubernetes.namespace", previous);
+        }
+    }
+
+    @Test
+    public void getDefaultNamespace_withKubeConfig_shouldReturnCurrentContextNamespace() throws IOException {
+        final String previous = System.getProperty("kubeconfig");
+        try {
+            // Given
+            final File kubeConfig = temporaryFolder.newFile("config");
+            FileUtils.write(kubeConfig, "apiVersion: v1\nkind: Config\ncurrent-context: ctx\n" +
+                "contexts:\n- name: other\n  context:\n    namespace: other-ns\n" +
+                "- name: ctx\n  context:\n    cluster: cluster\n    namespace: from-kubeconfig\n", StandardCharsets.UTF_8);
+            System.setProperty("kubeconfig", kubeConfig.getAbsolutePath());
+            // When
+            final String result = KubernetesHelper.getDefaultNamespace();
+            // Then
+            assertThat(result).isEqualTo("from-kubeconfig");
+        } finally {
+            restoreProperty("kubeconfig", previous);
+        }
+    }
+
+    @Test
+    public void getDefaultNamespace_withKubeConfigWithoutNamespace_shouldReturnDefault() throws IOException {
+        final String previous = System.getProperty("kubeconfig");
+        try {
+            // Given
+            final File kubeConfig = temporaryFolder.newFile("config");
+            FileUtils.write(kubeConfig, "apiVersion: v1\nkind: Config\ncurrent-context: ctx\n" +
+                "contexts:\n- name: ctx\n  context:\n    cluster: cluster\n", StandardCharsets.UTF_8);
+            System.setProperty("kubeconfig", kubeConfig.getAbsolutePath());
+            // When
+            final String result = KubernetesHelper.getDefaultNamespace();
+            // Then
+            assertThat(result).isEqualTo("default");
+        } finally {
+            restoreProperty("kubeconfig", previous);
+        }
+    }
+
+    @Test
+    public void getDefaultNamespace_withKubernetesConfigFileProperty_shouldTakePrecedenceOverKubeConfig() throws IOException {
+        final String previousKubeConfig = System.getProperty("kubeconfig");
+        final String previousConfigFile = System.getProperty("kubernetes.config.file");
+        try {
+            // Given
+            final File kubeConfig = temporaryFolder.newFile("config");
+            FileUtils.write(kubeConfig, "apiVersion: v1\nkind: Config\ncurrent-context: ctx\n" +
+                "contexts:\n- name: ctx\n  context:\n    namespace: from-kubeconfig\n", StandardCharsets.UTF_8);
+            final File configFile = temporaryFolder.newFile("config-file");
+            FileUtils.write(configFile, "apiVersion: v1\nkind: Config\ncurrent-context: ctx\n" +
+                "contexts:\n- name: ctx\n  context:\n    namespace: from-config-file\n", StandardCharsets.UTF_8);
+            System.setProperty("kubeconfig", kubeConfig.getAbsolutePath());
+            System.setProperty("kubernetes.config.file", configFile.getAbsolutePath());
+            // When
+            final String result = KubernetesHelper.getDefaultNamespace();
+            // Then
+            assertThat(result).isEqualTo("from-config-file");
+        } finally {
+            restoreProperty("kubeconfig", previousKubeConfig);
+            restoreProperty("kubernetes.config.file", previousConfigFile);
+        }
+    }
+
     @Test
     public void testListResourceFragments() {
         // Given
@@ -343,6 +428,32 @@ public class KubernetesHelperTest {
         }};
     }
 
+    @Test
+    public void testGetServiceExposeUrlWaitsForFirstExposedServiceOnly(@Mocked KubernetesClient kubernetesClient, @Mocked Resource<Service> svcResource) throws InterruptedException {
+        // Given
+        Set<HasMetadata> entities = new LinkedHashSet<>();
+        entities.add(new ServiceBuilder().withNewMetadata().withName("svc1").addToLabels("expose", "true").endMetadata().build());
+        entities.add(new ServiceBuilder().withNewMetadata().withName("svc2").addToLabels("expose", "true").endMetadata().build());
+        new Expectations() {{
+            kubernetesClient.services().inNamespace(anyString).withName(anyString);
+            result = svcResource;
+            svcResource.get();
+            result = new ServiceBuilder().withNewMetadata().withName("svc").endMetadata().build();
+        }};
+
+        // When
+        String result = KubernetesHelper.getServiceExposeUrl(kubernetesClient, entities, 1, "exposeUrl");
+
+        // Then
+        assertNull(result);
+        new Verifications() {{
+            svcResource.watch((Watcher<Service>) any);
+            times = 1;
+            svcResource.get();
+            times = 2;
+        }};
+    }
+
     @Test
     public void testGetFullyQualifiedApiGroupWithKind() {
         // Given
@@ -542,4 +653,11 @@ public class KubernetesHelperTest {
             .build();
     }
 
+    private static void restoreProperty(String key, String value) {
+        if (value == null) {
+            System.clearProperty(key);
+        } else {
+            System.setProperty(key, value);
+        }
+    }
 }
@@ -138,6 +138,40 @@ public class OpenshiftHelperTest {
         assertNotEquals("${REDIS_PASSWORD}", item.getSpec().getContainers().get(0).getEnv().get(0).getValue());
     }
 
+    @Test
+    public void testProcessTemplatesLocallyWithNestedParameters() throws IOException {
+        //Given
+        Template template = new TemplateBuilder()
+                .withNewMetadata().withName("nested-template").endMetadata()
+                .addToObjects(new PodBuilder()
+                        .withNewMetadata().withName("pod-${NAME}").endMetadata()
+                        .withNewSpec()
+                        .addNewContainer().withImage("${IMAGE}").endContainer()
+                        .endSpec()
+                        .build())
+                .addNewParameter().withName("IMAGE").withValue("${NAME}:\"latest\"").endParameter()
+                .addNewParameter().withName("NAME").withValue("redis").endParameter()
+                .build();
+        //When
+        KubernetesList result = OpenshiftHelper.processTemplatesLocally(template, false);
+        //Then
+        Pod item = (Pod) result.getItems().get(0);
+        assertEquals("pod-redis", item.getMetadata().getName());
+        assertEquals("redis:\"latest\"", item.getSpec().getContainers().get(0).getImage());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testProcessTemplatesLocallyWithMissingParameterValueShouldFail() throws IOException {
+        //Given
+        Template template = new TemplateBuilder()
+                .withNewMetadata().withName("missing-value-template").endMetadata()
+                .addToObjects(new PodBuilder().withNewMetadata().withName("${NAME}").endMetadata().build())
+                .addNewParameter().withName("NAME").endParameter()
+                .build();
+        //When
+        OpenshiftHelper.processTemplatesLocally(template, true);
+    }
+
     @Test
     public void testProcessTemplatesLocallyNull() throws IOException {
         //Given
@@ -21,7 +21,9 @@ import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
 import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Properties;
 
 import static org.junit.Assert.*;
 
@@ -31,12 +33,13 @@ public class ProjectClassLoadersTest {
 
 
     private URLClassLoader compileClassLoader;
+    private File applicationPropertiesInsideTarget;
     @Before
     public void setUp() throws Exception {
         File applicationProp =  new File(getClass().getResource("/util/spring-boot-application.properties").getPath());
         File targetFolder = temporaryFolder.newFolder("target");
         File classesInTarget = new File(targetFolder, "classes");
-        File applicationPropertiesInsideTarget = new File(classesInTarget, "application.properties");
+        applicationPropertiesInsideTarget = new File(classesInTarget, "application.properties");
         FileUtils.copyFile(applicationProp, applicationPropertiesInsideTarget);
         compileClassLoader = ClassUtil.createClassLoader(Arrays.asList(classesInTarget.getAbsolutePath(), applicationProp.getAbsolutePath()), classesInTarget.getAbsolutePath());
     }
@@ -91,6 +94,58 @@ public class ProjectClassLoadersTest {
         //Then
         assertFalse(result);
     }
-}
 
+    @Test
+    public void testGetPropertiesFromResource() {
+        //Given
+        ProjectClassLoaders obj = new ProjectClassLoaders(compileClassLoader);
+
+        //When
+        Properties result = obj.getPropertiesFromResource("application.properties");
+
+        //Then
+        assertEquals("demoservice", result.getProperty("spring.application.name"));
+        assertEquals("9090", result.getProperty("server.port"));
+    }
+
+    @Test
+    public void testGetPropertiesFromResourceWhenNotFound() {
+        //Given
+        ProjectClassLoaders obj = new ProjectClassLoaders(compileClassLoader);
+
+        //When
+        Properties result = obj.getPropertiesFromYamlResource(null, "application.yml");
+
+        //Then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    public void testGetPropertiesFromResourceReturnsCopyOfCachedProperties() {
+        //Given
+        ProjectClassLoaders obj = new ProjectClassLoaders(compileClassLoader);
+        obj.getPropertiesFromResource("application.properties").setProperty("server.port", "1337");
+
+        //When
+        Properties result = obj.getPropertiesFromResource("application.properties");
+
+        //Then
+        assertEquals("9090", result.getProperty("server.port"));
+    }
+
+    @Test
+    public void testGetPropertiesFromResourceWhenFileModified() throws Exception {
+        //Given
+        ProjectClassLoaders obj = new ProjectClassLoaders(compileClassLoader);
+        obj.getPropertiesFromResource("application.properties");
+        FileUtils.write(applicationPropertiesInsideTarget, "server.port=1337", StandardCharsets.UTF_8);
+        assertTrue(applicationPropertiesInsideTarget.setLastModified(applicationPropertiesInsideTarget.lastModified() + 1000L));
 
+        //When
+        Properties result = obj.getPropertiesFromResource("application.properties");
+
+        //Then
+        assertEquals("1337", result.getProperty("server.port"));
+        assertNull(result.getProperty("spring.application.name"));
+    }
+}
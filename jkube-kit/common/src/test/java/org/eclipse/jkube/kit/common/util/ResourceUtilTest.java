@@ -23,6 +23,7 @@ import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.ServiceAccount;
 import io.fabric8.kubernetes.api.model.apiextensions.v1beta1.CustomResourceDefinition;
 import io.fabric8.openshift.api.model.Template;
+import org.eclipse.jkube.kit.common.GenericCustomResource;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.Test;
 
@@ -32,6 +33,7 @@ import java.nio.file.Files;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -130,4 +132,42 @@ public class ResourceUtilTest {
                 .build()
             );
     }
+
+    @Test
+    public void testDeserializeKubernetesListOrTemplateWithRepeatedKindsFile() throws IOException {
+        // Given
+        final File kubernetesListFile = new File(ResourceUtilTest.class.getResource(
+            "/util/resource-util/list-with-repeated-kinds.yml").getFile());
+        // When
+        final List<HasMetadata> result = ResourceUtil.deserializeKubernetesListOrTemplate(
+            kubernetesListFile);
+        // Then
+        assertThat(result)
+            .hasSize(4)
+            .extracting(HasMetadata::getClass, r -> r.getMetadata().getName())
+            .containsExactly(
+                tuple(ConfigMap.class, "first"),
+                tuple(GenericCustomResource.class, "first-cr"),
+                tuple(ConfigMap.class, "second"),
+                tuple(GenericCustomResource.class, "second-cr")
+            );
+    }
+
+    @Test
+    public void testDeserializeKubernetesListOrTemplateWithTemplateWithCustomResourceFile() throws IOException {
+        // Given
+        final File templateFile = new File(ResourceUtilTest.class.getResource(
+            "/util/resource-util/template-with-custom-resource.json").getFile());
+        // When
+        final List<HasMetadata> result = ResourceUtil.deserializeKubernetesListOrTemplate(templateFile);
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0))
+            .isInstanceOf(GenericCustomResource.class)
+            .hasFieldOrPropertyWithValue("metadata.name", "cron-World");
+        assertThat(result.get(1))
+            .isInstanceOf(ConfigMap.class)
+            .extracting("data").asInstanceOf(InstanceOfAssertFactories.MAP)
+            .containsEntry("greeting", "Hello \"World\"");
+    }
 }
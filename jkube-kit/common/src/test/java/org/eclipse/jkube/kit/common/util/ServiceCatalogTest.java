@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.util;
+
+import java.io.File;
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ServiceCatalogTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void getResources_shouldFindDescriptorsInClassLoaders() throws Exception {
+    // Given
+    final File root = temporaryFolder.newFolder("classes");
+    FileUtils.write(new File(root, "META-INF/test-services"), "com.example.Service", StandardCharsets.UTF_8);
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[]{root.toURI().toURL()}, null)) {
+      // When
+      final List<String> result = ServiceCatalog.getResources("META-INF/test-services", new ClassLoader[]{classLoader});
+      // Then
+      assertThat(result).singleElement().asString().endsWith("META-INF/test-services");
+    }
+  }
+
+  @Test
+  public void getDescriptor_shouldSkipCommentsAndEmptyLines() throws Exception {
+    // Given
+    final File descriptor = temporaryFolder.newFile("services");
+    FileUtils.write(descriptor, "# comment\n\ncom.example.One\n!com.example.Two,10\n", StandardCharsets.UTF_8);
+    // When
+    final ServiceCatalog.ServiceDescriptor result = ServiceCatalog.getDescriptor(descriptor.toURI().toURL().toString());
+    // Then
+    assertThat(result.getLines()).containsExactly("com.example.One", "!com.example.Two,10");
+  }
+
+  @Test
+  public void getDescriptor_withModifiedFile_shouldReadDescriptorAgain() throws Exception {
+    // Given
+    final File descriptor = temporaryFolder.newFile("services");
+    FileUtils.write(descriptor, "com.example.One", StandardCharsets.UTF_8);
+    final String url = descriptor.toURI().toURL().toString();
+    final ServiceCatalog.ServiceDescriptor initial = ServiceCatalog.getDescriptor(url);
+    FileUtils.write(descriptor, "com.example.Two", StandardCharsets.UTF_8);
+    assertThat(descriptor.setLastModified(descriptor.lastModified() + 10_000L)).isTrue();
+    // When
+    final ServiceCatalog.ServiceDescriptor result = ServiceCatalog.getDescriptor(url);
+    // Then
+    assertThat(initial.getLines()).containsExactly("com.example.One");
+    assertThat(result.getLines()).containsExactly("com.example.Two");
+    assertThat(ServiceCatalog.getDescriptor(url)).isSameAs(result);
+  }
+
+  @Test
+  public void getConstructor_shouldReturnCachedConstructor() throws Exception {
+    // When
+    final Constructor<StringBuilder> result = ServiceCatalog.getConstructor(StringBuilder.class, String.class);
+    // Then
+    assertThat(result).isSameAs(ServiceCatalog.getConstructor(StringBuilder.class, String.class));
+    assertThat(result.newInstance("value").toString()).isEqualTo("value");
+  }
+}
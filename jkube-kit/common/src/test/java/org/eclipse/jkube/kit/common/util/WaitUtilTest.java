@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.util;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import mockit.Delegate;
+import mockit.Expectations;
+import mockit.Mocked;
+import mockit.Verifications;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SuppressWarnings({"unchecked", "unused"})
+public class WaitUtilTest {
+
+  @Mocked
+  private Resource<ConfigMap> resource;
+  @Mocked
+  private Watch watch;
+
+  private ScheduledExecutorService executorService;
+
+  @Before
+  public void setUp() {
+    executorService = Executors.newSingleThreadScheduledExecutor();
+  }
+
+  @After
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  public void waitUntilCondition_withResourceAlreadyMatching_shouldReturnResource() throws Exception {
+    // Given
+    // @formatter:off
+    new Expectations() {{
+      resource.watch((Watcher<ConfigMap>) any); result = watch;
+      resource.get(); result = configMap("ready");
+    }};
+    // @formatter:on
+    // When
+    final ConfigMap result = WaitUtil.waitUntilCondition(resource, WaitUtilTest::isReady, Duration.ofSeconds(10));
+    // Then
+    assertThat(result).hasFieldOrPropertyWithValue("data.status", "ready");
+    // @formatter:off
+    new Verifications() {{
+      watch.close(); times = 1;
+    }};
+    // @formatter:on
+  }
+
+  @Test
+  public void waitUntilCondition_withMatchingEvent_shouldReturnResourceFromEvent() throws Exception {
+    // Given
+    // @formatter:off
+    new Expectations() {{
+      resource.watch((Watcher<ConfigMap>) any); result = new Delegate<Watch>() {
+        public Watch watch(Watcher<ConfigMap> watcher) {
+          executorService.schedule(() -> {
+            watcher.eventReceived(Watcher.Action.MODIFIED, configMap("pending"));
+            watcher.eventReceived(Watcher.Action.MODIFIED, configMap("ready"));
+          }, 100, TimeUnit.MILLISECONDS);
+          return watch;
+        }
+      };
+      resource.get(); result = configMap("pending");
+    }};
+    // @formatter:on
+    // When
+    final ConfigMap result = WaitUtil.waitUntilCondition(resource, WaitUtilTest::isReady, Duration.ofSeconds(10));
+    // Then
+    assertThat(result).hasFieldOrPropertyWithValue("data.status", "ready");
+    // @formatter:off
+    new Verifications() {{
+      resource.get(); times = 1;
+      watch.close(); times = 1;
+    }};
+    // @formatter:on
+  }
+
+  @Test
+  public void waitUntilCondition_withNoMatchingResource_shouldReturnNullAfterTimeout() throws Exception {
+    // Given
+    // @formatter:off
+    new Expectations() {{
+      resource.watch((Watcher<ConfigMap>) any); result = watch;
+      resource.get(); result = configMap("pending");
+    }};
+    // @formatter:on
+    // When
+    final ConfigMap result = WaitUtil.waitUntilCondition(resource, WaitUtilTest::isReady, Duration.ofMillis(100));
+    // Then
+    assertThat(result).isNull();
+  }
+
+  @Test
+  public void waitUntilCondition_withWatchNotAllowed_shouldPollResource() throws Exception {
+    // Given
+    // @formatter:off
+    new Expectations() {{
+      resource.watch((Watcher<ConfigMap>) any); result = new KubernetesClientException("Forbidden");
+      resource.get(); returns(configMap("pending"), configMap("ready"));
+    }};
+    // @formatter:on
+    // When
+    final ConfigMap result = WaitUtil.waitUntilCondition(resource, WaitUtilTest::isReady, Duration.ofSeconds(10));
+    // Then
+    assertThat(result).hasFieldOrPropertyWithValue("data.status", "ready");
+  }
+
+  private static boolean isReady(ConfigMap configMap) {
+    return "ready".equals(configMap.getData().get("status"));
+  }
+
+  private static ConfigMap configMap(String status) {
+    return new ConfigMapBuilder().withNewMetadata().withName("cm").endMetadata().addToData("status", status).build();
+  }
+}
@@ -25,7 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.UnaryOperator;
 
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -39,5 +39,14 @@ public class RegistryConfig implements Serializable {
   private boolean skipExtendedAuth;
   private Map authConfig;
   private transient UnaryOperator<String> passwordDecryptionMethod;
+  /**
+   * Maximum number of images pushed at the same time (1 or less pushes the images one after another).
+   */
+  private int pushConcurrency;
+  /**
+   * Maximum number of base images pulled at the same time during a build (1 or less pulls the base images of each
+   * image right before it's built).
+   */
+  private int pullConcurrency;
 
 }
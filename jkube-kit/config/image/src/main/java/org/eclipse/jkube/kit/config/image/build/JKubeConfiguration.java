@@ -45,6 +45,7 @@ public class JKubeConfiguration implements Serializable {
   private Map<String, String> buildArgs;
   private RegistryConfig registryConfig;
   private List<JavaProject> reactorProjects;
+  private boolean keepBuildArchive;
 
   public File getBasedir() {
     return project.getBaseDirectory();
@@ -22,9 +22,9 @@ import io.fabric8.openshift.client.DefaultOpenShiftClient;
 import io.fabric8.openshift.client.OpenShiftAPIGroups;
 import io.fabric8.openshift.client.OpenShiftClient;
 import org.eclipse.jkube.kit.common.KitLogger;
-import org.eclipse.jkube.kit.common.util.OpenshiftHelper;
 
 import java.net.UnknownHostException;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * @author roland
@@ -33,11 +33,30 @@ public class ClusterAccess {
 
     private final KitLogger kitLogger;
     private final ClusterConfiguration clusterConfiguration;
+    // Shared with the instances created by withKitLogger
+    private final AtomicReference<ClusterCapabilities> clusterCapabilities;
 
     public ClusterAccess(KitLogger kitLogger, ClusterConfiguration clusterConfiguration) {
+        this(kitLogger, clusterConfiguration == null ? ClusterConfiguration.builder().build() : clusterConfiguration,
+            new AtomicReference<>());
+    }
+
+    private ClusterAccess(KitLogger kitLogger, ClusterConfiguration clusterConfiguration,
+        AtomicReference<ClusterCapabilities> clusterCapabilities) {
         this.kitLogger = kitLogger;
-        this.clusterConfiguration = clusterConfiguration == null ?
-            ClusterConfiguration.builder().build() : clusterConfiguration;
+        this.clusterConfiguration = clusterConfiguration;
+        this.clusterCapabilities = clusterCapabilities;
+    }
+
+    /**
+     * Returns a ClusterAccess for the same cluster which logs to the provided logger, the cluster capabilities are
+     * shared with this instance (and discovered only once for both).
+     *
+     * @param kitLogger the logger to use
+     * @return a ClusterAccess sharing the cluster capabilities of this instance
+     */
+    public ClusterAccess withKitLogger(KitLogger kitLogger) {
+        return new ClusterAccess(kitLogger, clusterConfiguration, clusterCapabilities);
     }
 
     public <T extends KubernetesClient> T createDefaultClient() {
@@ -69,16 +88,14 @@ public class ClusterAccess {
      */
     public boolean isOpenShiftImageStream() {
         if (isOpenShift()) {
-            try (final OpenShiftClient client = createOpenShiftClient()) {
-                return client.supportsOpenShiftAPIGroup(OpenShiftAPIGroups.IMAGE);
-            }
+            return getClusterCapabilities().supportsOpenShiftApiGroup(OpenShiftAPIGroups.IMAGE);
         }
         return false;
     }
 
     public boolean isOpenShift() {
-        try (KubernetesClient client = createKubernetesClient()) {
-            return OpenshiftHelper.isOpenShift(client);
+        try {
+            return getClusterCapabilities().isOpenShift();
         } catch (KubernetesClientException exp) {
             Throwable cause = exp.getCause();
             String prefix = cause instanceof UnknownHostException ? "Unknown host " : "";
@@ -89,5 +106,37 @@ public class ClusterAccess {
         return false;
     }
 
+    /**
+     * Returns the capabilities of the configured cluster, these are discovered only once for the session.
+     *
+     * @return the cluster capabilities
+     * @throws KubernetesClientException if the cluster can't be accessed
+     */
+    public ClusterCapabilities getClusterCapabilities() {
+        synchronized (clusterCapabilities) {
+            if (clusterCapabilities.get() == null) {
+                try (KubernetesClient client = createKubernetesClient()) {
+                    clusterCapabilities.set(ClusterCapabilities.discover(client));
+                }
+            }
+            return clusterCapabilities.get();
+        }
+    }
+
+    /**
+     * Discovers the capabilities of the configured cluster again (e.g. after new API groups have been installed).
+     *
+     * @return the refreshed cluster capabilities
+     * @throws KubernetesClientException if the cluster can't be accessed
+     */
+    public ClusterCapabilities refreshClusterCapabilities() {
+        synchronized (clusterCapabilities) {
+            try (KubernetesClient client = createKubernetesClient()) {
+                clusterCapabilities.set(ClusterCapabilities.discover(client));
+            }
+            return clusterCapabilities.get();
+        }
+    }
+
 }
 
@@ -0,0 +1,180 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.config.access;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fabric8.kubernetes.api.model.RootPaths;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.kubernetes.client.utils.URLUtils;
+import io.fabric8.openshift.client.OpenShiftClient;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Snapshot of the capabilities (OpenShift flavor, API groups, served resource kinds) of a cluster.
+ *
+ * <p> The snapshot is discovered once and then kept by {@link ClusterAccess} (and used through it by JKubeServiceHub) for the
+ * rest of the session, so that repeated checks don't query the API server discovery endpoints again.
+ * Served resource kinds are discovered lazily, once per API version.
+ */
+public class ClusterCapabilities {
+
+  private static final String CORE_GROUP_VERSION = "v1";
+  private static final String APIS = "/apis/";
+  private static final String OAPI = "/oapi";
+  private static final String OPENSHIFT_API_GROUP = "openshift.io";
+
+  private final boolean openShift;
+  private final boolean legacyOpenShiftApi;
+  private final Map<String, Set<String>> apiGroupVersions;
+  private final Map<String, Set<String>> resourceKinds;
+
+  private ClusterCapabilities(boolean openShift, boolean legacyOpenShiftApi, Map<String, Set<String>> apiGroupVersions) {
+    this.openShift = openShift;
+    this.legacyOpenShiftApi = legacyOpenShiftApi;
+    this.apiGroupVersions = apiGroupVersions;
+    this.resourceKinds = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Discovers the capabilities of the cluster the provided client is connected to.
+   *
+   * <p> Everything is taken from the root paths of the API server (a single request). The cluster is an OpenShift
+   * cluster if it serves the legacy <code>/oapi</code> REST API or any <code>*.openshift.io</code> API group. Only
+   * if the root paths are not available, the OpenShift flavor is detected by the client itself.
+   *
+   * @param client client connected to the cluster.
+   * @return the capabilities of the cluster.
+   * @throws KubernetesClientException if the cluster can't be accessed.
+   */
+  public static ClusterCapabilities discover(KubernetesClient client) {
+    final List<String> rootPaths = rootPaths(client);
+    final Map<String, Set<String>> apiGroupVersions = new TreeMap<>();
+    boolean legacyOpenShiftApi = false;
+    for (String path : rootPaths) {
+      if (path.equals(OAPI)) {
+        legacyOpenShiftApi = true;
+      } else if (path.startsWith(APIS)) {
+        final String[] groupVersion = path.substring(APIS.length()).split("/");
+        final Set<String> versions = apiGroupVersions.computeIfAbsent(groupVersion[0], g -> new TreeSet<>());
+        if (groupVersion.length > 1) {
+          versions.add(groupVersion[1]);
+        }
+      }
+    }
+    final boolean openShift;
+    if (rootPaths.isEmpty()) {
+      openShift = Boolean.TRUE.equals(client.isAdaptable(OpenShiftClient.class));
+    } else {
+      openShift = legacyOpenShiftApi || apiGroupVersions.keySet().stream().anyMatch(ClusterCapabilities::isOpenShiftApiGroup);
+    }
+    apiGroupVersions.replaceAll((group, versions) -> Collections.unmodifiableSet(versions));
+    return new ClusterCapabilities(openShift, legacyOpenShiftApi, Collections.unmodifiableMap(apiGroupVersions));
+  }
+
+  public boolean isOpenShift() {
+    return openShift;
+  }
+
+  /**
+   * Returns the names of the API groups served by the cluster (the core group is not included).
+   *
+   * @return the names of the served API groups.
+   */
+  public Set<String> getApiGroups() {
+    return apiGroupVersions.keySet();
+  }
+
+  public boolean supportsApiGroup(String apiGroup) {
+    return apiGroupVersions.containsKey(apiGroup);
+  }
+
+  /**
+   * Returns true if the cluster supports the provided OpenShift API group, either through the legacy
+   * <code>/oapi</code> REST API or through the <code>/apis/&lt;group&gt;</code> API group.
+   *
+   * @param apiGroup name of the OpenShift API group (e.g. <code>image.openshift.io</code>).
+   * @return true if the API group is supported.
+   */
+  public boolean supportsOpenShiftApiGroup(String apiGroup) {
+    return openShift && (legacyOpenShiftApi || supportsApiGroup(apiGroup));
+  }
+
+  /**
+   * Returns the kinds of the resources served by the cluster for the provided API version
+   * (e.g. <code>v1</code>, <code>apps/v1</code>).
+   *
+   * @param client client connected to the cluster, used if the API version wasn't discovered yet.
+   * @param apiVersion the API version (group/version).
+   * @return the served resource kinds, empty if the API version isn't served.
+   */
+  public Set<String> getResourceKinds(KubernetesClient client, String apiVersion) {
+    return resourceKinds.computeIfAbsent(apiVersion, gv -> discoverResourceKinds(client, gv));
+  }
+
+  public boolean servesKind(KubernetesClient client, String apiVersion, String kind) {
+    return getResourceKinds(client, apiVersion).contains(kind);
+  }
+
+  private static boolean isOpenShiftApiGroup(String apiGroup) {
+    return apiGroup.equals(OPENSHIFT_API_GROUP) || apiGroup.endsWith("." + OPENSHIFT_API_GROUP);
+  }
+
+  private static List<String> rootPaths(KubernetesClient client) {
+    try {
+      return Optional.ofNullable(client.rootPaths()).map(RootPaths::getPaths).orElse(Collections.emptyList());
+    } catch (KubernetesClientException e) {
+      // Root paths might not be accessible for the current user, API groups are unknown
+      return Collections.emptyList();
+    }
+  }
+
+  private static Set<String> discoverResourceKinds(KubernetesClient client, String apiVersion) {
+    final OkHttpClient httpClient = client.adapt(OkHttpClient.class);
+    if (httpClient == null || client.getMasterUrl() == null) {
+      return Collections.emptySet();
+    }
+    final String path = CORE_GROUP_VERSION.equals(apiVersion) ? "/api/" + apiVersion : APIS + apiVersion;
+    final Request request = new Request.Builder().get()
+        .url(URLUtils.join(client.getMasterUrl().toString(), path)).build();
+    try (Response response = httpClient.newCall(request).execute()) {
+      final ResponseBody body = response.body();
+      if (!response.isSuccessful() || body == null) {
+        return Collections.emptySet();
+      }
+      // APIResourceList, only the kinds are relevant
+      final Set<String> kinds = new TreeSet<>();
+      for (JsonNode resource : Serialization.jsonMapper().readTree(body.string()).path("resources")) {
+        kinds.add(resource.path("kind").asText());
+      }
+      return Collections.unmodifiableSet(kinds);
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+  }
+}
@@ -89,6 +89,61 @@ public class ClusterAccessTest {
     // @formatter:on
   }
 
+  @Test
+  public void isOpenShiftCalledTwiceShouldDiscoverClusterOnce() {
+    // Given
+    // @formatter:off
+    new Expectations() {{
+      defaultKubernetesClient.isAdaptable(OpenShiftClient.class); result = true; times = 1;
+    }};
+    // @formatter:on
+    final ClusterAccess clusterAccess = new ClusterAccess(logger, null);
+    // When
+    final boolean first = clusterAccess.isOpenShift();
+    final boolean result = clusterAccess.isOpenShift();
+    // Then
+    assertTrue(first);
+    assertTrue(result);
+  }
+
+  @Test
+  public void withKitLoggerShouldShareClusterCapabilitiesAndUseNewLogger(@Mocked KitLogger otherLogger) {
+    // Given
+    // @formatter:off
+    new Expectations() {{
+      defaultKubernetesClient.isAdaptable(OpenShiftClient.class); result = new KubernetesClientException("ERROR"); times = 1;
+    }};
+    // @formatter:on
+    final ClusterAccess clusterAccess = new ClusterAccess(logger, null);
+    // When
+    final boolean result = clusterAccess.withKitLogger(otherLogger).isOpenShift();
+    // Then
+    assertFalse(result);
+    // @formatter:off
+    new Verifications() {{
+      otherLogger.warn(withPrefix("Cannot access cluster for detecting mode"), "", "ERROR"); times = 1;
+      logger.warn(anyString, (Object[]) any); times = 0;
+    }};
+    // @formatter:on
+  }
+
+  @Test
+  public void withKitLoggerShouldDiscoverClusterOnce() {
+    // Given
+    // @formatter:off
+    new Expectations() {{
+      defaultKubernetesClient.isAdaptable(OpenShiftClient.class); result = true; times = 1;
+    }};
+    // @formatter:on
+    final ClusterAccess clusterAccess = new ClusterAccess(logger, null);
+    // When
+    final boolean first = clusterAccess.isOpenShift();
+    final boolean result = clusterAccess.withKitLogger(logger).isOpenShift();
+    // Then
+    assertTrue(first);
+    assertTrue(result);
+  }
+
   @Test
   public void createDefaultClientInKubernetesShouldReturnKubernetesClient() {
     // When
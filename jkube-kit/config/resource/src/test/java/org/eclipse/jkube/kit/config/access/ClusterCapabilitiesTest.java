@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.config.access;
+
+import io.fabric8.kubernetes.api.model.RootPathsBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.openshift.client.OpenShiftClient;
+import mockit.Expectations;
+import mockit.Mocked;
+import mockit.Verifications;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClusterCapabilitiesTest {
+
+  @Mocked
+  private KubernetesClient kubernetesClient;
+
+  @Test
+  public void discover_withOpenShiftRootPaths_shouldDiscoverApiGroups() {
+    // Given
+    // @formatter:off
+    new Expectations() {{
+      kubernetesClient.rootPaths(); result = new RootPathsBuilder().withPaths(
+          "/api", "/api/v1", "/apis", "/apis/apps", "/apis/apps/v1",
+          "/apis/image.openshift.io", "/apis/image.openshift.io/v1", "/healthz").build();
+    }};
+    // @formatter:on
+    // When
+    final ClusterCapabilities result = ClusterCapabilities.discover(kubernetesClient);
+    // Then
+    assertThat(result.isOpenShift()).isTrue();
+    assertThat(result.getApiGroups()).containsExactly("apps", "image.openshift.io");
+    assertThat(result.supportsOpenShiftApiGroup("image.openshift.io")).isTrue();
+    assertThat(result.supportsOpenShiftApiGroup("route.openshift.io")).isFalse();
+    // @formatter:off
+    new Verifications() {{
+      kubernetesClient.isAdaptable(OpenShiftClient.class); times = 0;
+    }};
+    // @formatter:on
+  }
+
+  @Test
+  public void discover_withLegacyOpenShiftApi_shouldSupportOpenShiftApiGroups() {
+    // Given
+    // @formatter:off
+    new Expectations() {{
+      kubernetesClient.rootPaths(); result = new RootPathsBuilder().withPaths("/api/v1", "/oapi", "/oapi/v1").build();
+    }};
+    // @formatter:on
+    // When
+    final ClusterCapabilities result = ClusterCapabilities.discover(kubernetesClient);
+    // Then
+    assertThat(result.isOpenShift()).isTrue();
+    assertThat(result.getApiGroups()).isEmpty();
+    assertThat(result.supportsOpenShiftApiGroup("image.openshift.io")).isTrue();
+  }
+
+  @Test
+  public void discover_withKubernetesCluster_shouldNotSupportOpenShiftApiGroups() {
+    // Given
+    // @formatter:off
+    new Expectations() {{
+      kubernetesClient.rootPaths(); result = new RootPathsBuilder().withPaths("/apis/apps/v1").build();
+    }};
+    // @formatter:on
+    // When
+    final ClusterCapabilities result = ClusterCapabilities.discover(kubernetesClient);
+    // Then
+    assertThat(result.isOpenShift()).isFalse();
+    assertThat(result.supportsApiGroup("apps")).isTrue();
+    assertThat(result.supportsOpenShiftApiGroup("image.openshift.io")).isFalse();
+  }
+
+  @Test
+  public void discover_withApiGroupOnlyEndingWithOpenShiftDomain_shouldNotBeOpenShift() {
+    // Given
+    // @formatter:off
+    new Expectations() {{
+      kubernetesClient.rootPaths(); result = new RootPathsBuilder().withPaths(
+          "/apis/apps/v1", "/apis/example.notopenshift.io/v1").build();
+    }};
+    // @formatter:on
+    // When
+    final ClusterCapabilities result = ClusterCapabilities.discover(kubernetesClient);
+    // Then
+    assertThat(result.isOpenShift()).isFalse();
+    assertThat(result.supportsApiGroup("example.notopenshift.io")).isTrue();
+  }
+
+  @Test
+  public void discover_withInaccessibleRootPaths_shouldDetectOpenShiftWithClient() {
+    // Given
+    // @formatter:off
+    new Expectations() {{
+      kubernetesClient.rootPaths(); result = new KubernetesClientException("Forbidden", 403, null);
+      kubernetesClient.isAdaptable(OpenShiftClient.class); result = true;
+    }};
+    // @formatter:on
+    // When
+    final ClusterCapabilities result = ClusterCapabilities.discover(kubernetesClient);
+    // Then
+    assertThat(result.isOpenShift()).isTrue();
+    assertThat(result.getApiGroups()).isEmpty();
+  }
+}
@@ -31,6 +31,18 @@ public interface BuildService {
      */
     void build(ImageConfiguration imageConfig) throws JKubeServiceException;
 
+    /**
+     * Builds the given images using the specified configuration.
+     *
+     * <p> Implementations may build the images concurrently, by default they're built one after the other.
+     *
+     * @param imageConfigs the images to build
+     */
+    default void build(Collection<ImageConfiguration> imageConfigs) throws JKubeServiceException {
+        for (ImageConfiguration imageConfig : imageConfigs) {
+            build(imageConfig);
+        }
+    }
 
     /**
      * Pushes to given image to specified Registry
@@ -21,11 +21,13 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.eclipse.jkube.kit.build.service.docker.ImagePullManager;
 import org.eclipse.jkube.kit.build.service.docker.helper.Task;
+import org.eclipse.jkube.kit.config.image.RegistryConfig;
 import org.eclipse.jkube.kit.config.image.build.JKubeBuildStrategy;
 import org.eclipse.jkube.kit.config.resource.BuildRecreateMode;
 import org.eclipse.jkube.kit.config.resource.ResourceConfig;
 
 import java.io.File;
+import java.util.Optional;
 
 /**
  * Class to hold configuration parameters for the building service.
@@ -37,6 +39,9 @@ import java.io.File;
 @EqualsAndHashCode
 public class BuildServiceConfig {
 
+    public static final int DEFAULT_OPENSHIFT_BUILD_ARCHIVE_COMPRESSION_LEVEL = 3;
+    public static final int DEFAULT_OPENSHIFT_BUILD_ARCHIVE_UPLOAD_RETRIES = 3;
+
     private BuildRecreateMode buildRecreateMode;
     private JKubeBuildStrategy jKubeBuildStrategy;
     private boolean forcePull;
@@ -49,6 +54,34 @@ public class BuildServiceConfig {
     private boolean s2iImageStreamLookupPolicyLocal;
     private ResourceConfig resourceConfig;
     private File resourceDir;
+    /**
+     * Whether the JIB build should push the image directly to the registry instead of creating an image tarball.
+     */
+    private boolean jibPushOnBuild;
+    /**
+     * Registry (and credentials) where the JIB build pushes the image if {@link #jibPushOnBuild} is enabled.
+     */
+    private RegistryConfig jibPushRegistryConfig;
+    /**
+     * Gzip compression level (1-9) applied to uncompressed OpenShift build archives before they are uploaded, 0 to
+     * upload them uncompressed ({@value #DEFAULT_OPENSHIFT_BUILD_ARCHIVE_COMPRESSION_LEVEL} if not set).
+     */
+    private Integer openshiftBuildArchiveCompressionLevel;
+    /**
+     * Number of times a failed OpenShift build archive upload is retried
+     * ({@value #DEFAULT_OPENSHIFT_BUILD_ARCHIVE_UPLOAD_RETRIES} if not set).
+     */
+    private Integer openshiftBuildArchiveUploadRetries;
+
+    public int getOpenshiftBuildArchiveCompressionLevel() {
+        return Optional.ofNullable(openshiftBuildArchiveCompressionLevel)
+            .orElse(DEFAULT_OPENSHIFT_BUILD_ARCHIVE_COMPRESSION_LEVEL);
+    }
+
+    public int getOpenshiftBuildArchiveUploadRetries() {
+        return Optional.ofNullable(openshiftBuildArchiveUploadRetries)
+            .orElse(DEFAULT_OPENSHIFT_BUILD_ARCHIVE_UPLOAD_RETRIES);
+    }
 
     public void attachArtifact(String classifier, File destFile) {
         if (attacher != null) {
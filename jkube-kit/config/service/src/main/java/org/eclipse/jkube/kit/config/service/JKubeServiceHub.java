@@ -14,6 +14,7 @@
 package org.eclipse.jkube.kit.config.service;
 
 import java.io.Closeable;
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -27,8 +28,10 @@ import org.eclipse.jkube.kit.common.service.MigrateService;
 import org.eclipse.jkube.kit.build.service.docker.ServiceHub;
 import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.service.ArtifactResolverService;
+import org.eclipse.jkube.kit.common.service.ProjectResourcesService;
 import org.eclipse.jkube.kit.common.util.LazyBuilder;
 import org.eclipse.jkube.kit.config.access.ClusterAccess;
+import org.eclipse.jkube.kit.config.access.ClusterCapabilities;
 import org.eclipse.jkube.kit.config.access.ClusterConfiguration;
 import org.eclipse.jkube.kit.config.image.build.JKubeBuildStrategy;
 import org.eclipse.jkube.kit.config.image.build.JKubeConfiguration;
@@ -39,8 +42,6 @@ import org.eclipse.jkube.kit.config.service.kubernetes.KubernetesUndeployService
 import org.eclipse.jkube.kit.config.service.openshift.OpenshiftBuildService;
 import org.eclipse.jkube.kit.config.service.openshift.OpenshiftUndeployService;
 
-import static org.eclipse.jkube.kit.common.util.OpenshiftHelper.isOpenShift;
-
 /**
  * @author nicola
  */
@@ -58,8 +59,9 @@ public class JKubeServiceHub implements Closeable {
     private ServiceHub dockerServiceHub;
     @Getter
     private BuildServiceConfig buildServiceConfig;
+    private LazyBuilder<KubernetesClient> client;
     @Getter
-    private KubernetesClient client;
+    private ProjectResourcesService projectResourcesService;
     private LazyBuilder<ArtifactResolverService> artifactResolverService;
     private LazyBuilder<BuildService> buildService;
     private LazyBuilder<ResourceService> resourceService;
@@ -93,9 +95,11 @@ public class JKubeServiceHub implements Closeable {
             clusterAccess = new ClusterAccess(log,
                 ClusterConfiguration.from(System.getProperties(), configuration.getProject().getProperties()).build());
         }
-        this.client = clusterAccess.createDefaultClient();
+        // Goals that don't interact with the cluster (e.g. build, resource) never create a client
+        this.client = new LazyBuilder<>(clusterAccess::createDefaultClient);
+        this.projectResourcesService = new ProjectResourcesService(configuration.getProject());
 
-        applyService = new LazyBuilder<>(() -> new ApplyService(client, log));
+        applyService = new LazyBuilder<>(() -> new ApplyService(getClient(), log));
         buildService = new LazyBuilder<>(() -> {
             BuildService ret;
             if (JKubeBuildStrategy.jib == buildServiceConfig.getJKubeBuildStrategy()) {
@@ -103,11 +107,11 @@ public class JKubeServiceHub implements Closeable {
             }
             // Creating platform-dependent services
             if (platformMode == RuntimeMode.OPENSHIFT) {
-                if (!isOpenShift(client)) {
+                if (!getClusterCapabilities().isOpenShift()) {
                     throw new IllegalStateException("OpenShift platform has been specified but OpenShift has not been detected!");
                 }
                 // OpenShift services
-                ret = new OpenshiftBuildService((OpenShiftClient) client, log, JKubeServiceHub.this);
+                ret = new OpenshiftBuildService((OpenShiftClient) getClient(), log, JKubeServiceHub.this);
             } else {
                 // Kubernetes services
                 ret = new DockerBuildService(JKubeServiceHub.this);
@@ -116,20 +120,53 @@ public class JKubeServiceHub implements Closeable {
         });
         artifactResolverService = new LazyBuilder<>(() -> new JKubeArtifactResolverService(configuration.getProject()));
         undeployService = new LazyBuilder<>(() -> {
-            if (platformMode == RuntimeMode.OPENSHIFT && isOpenShift(client)) {
+            if (platformMode == RuntimeMode.OPENSHIFT && getClusterCapabilities().isOpenShift()) {
                 return new OpenshiftUndeployService(this, log);
             }
             return new KubernetesUndeployService(this, log);
         });
         migrateService = new LazyBuilder<>(() -> new MigrateService(getConfiguration().getBasedir(), log));
-        portForwardService = new LazyBuilder<>(() -> new PortForwardService(client, log));
-        debugService = new LazyBuilder<>(() -> new DebugService(log, client, portForwardService.get(), applyService.get()));
+        portForwardService = new LazyBuilder<>(() -> new PortForwardService(getClient(), log));
+        debugService = new LazyBuilder<>(() -> new DebugService(log, getClient(), portForwardService.get(), applyService.get()));
     }
 
     @Override
     public void close() {
-        Optional.ofNullable(client).ifPresent(KubernetesClient::close);
+        client.getIfPresent().ifPresent(KubernetesClient::close);
         Optional.ofNullable(dockerServiceHub).map(ServiceHub::getDockerAccess).ifPresent(DockerAccess::shutdown);
+        try {
+            projectResourcesService.close();
+        } catch (IOException e) {
+            log.warn("Error while releasing project resources: %s", e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the capabilities (OpenShift flavor, API groups, served resource kinds) of the configured cluster,
+     * discovered once by the {@link ClusterAccess} (and shared with everything else using it).
+     *
+     * @return the cluster capabilities
+     */
+    public ClusterCapabilities getClusterCapabilities() {
+        return clusterAccess.getClusterCapabilities();
+    }
+
+    /**
+     * Discovers the capabilities of the cluster again (e.g. after new API groups or CRDs have been installed).
+     *
+     * @return the refreshed cluster capabilities
+     */
+    public ClusterCapabilities refreshClusterCapabilities() {
+        return clusterAccess.refreshClusterCapabilities();
+    }
+
+    /**
+     * Returns the client for the configured cluster, created on first use.
+     *
+     * @return the cluster client
+     */
+    public KubernetesClient getClient() {
+        return client.get();
     }
 
     public RuntimeMode getRuntimeMode() {
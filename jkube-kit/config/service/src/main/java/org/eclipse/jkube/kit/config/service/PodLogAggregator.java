@@ -0,0 +1,210 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.config.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.fabric8.kubernetes.api.model.ContainerStatus;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodStatus;
+import io.fabric8.kubernetes.client.dsl.LogWatch;
+import io.fabric8.kubernetes.client.dsl.PodResource;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.util.KubernetesHelper;
+
+/**
+ * Follows the log of several pods concurrently and prints their lines, prefixed with the pod name, through a single
+ * logger.
+ *
+ * <p> Each log stream is pumped by its own thread into a line splitter which pushes the prefixed lines into a bounded
+ * buffer. A single printer thread drains the buffer, so slow console output applies backpressure to the log streams
+ * instead of buffering an unbounded number of lines.
+ *
+ * <p> When a log stream ends (e.g. the container was restarted) the pod is detached and, if its container is still
+ * running, followed again.
+ */
+class PodLogAggregator implements Closeable {
+
+  static final int DEFAULT_BUFFER_LINES = 1000;
+
+  private final KitLogger log;
+  private final BlockingQueue<String> lines;
+  private final Map<String, LogWatch> logWatches;
+  private final Thread printer;
+  private boolean closed;
+
+  PodLogAggregator(KitLogger log, int bufferLines) {
+    this.log = log;
+    lines = new ArrayBlockingQueue<>(bufferLines);
+    logWatches = new ConcurrentHashMap<>();
+    printer = new Thread(this::print, "pod log aggregator");
+    printer.setDaemon(true);
+    printer.start();
+  }
+
+  /**
+   * Starts following the log of the provided pod (unless already followed).
+   *
+   * @param podResource the pod to follow.
+   * @param podName the name of the pod, used as the line prefix.
+   * @param containerName the container to follow or null to follow the pod's single container.
+   * @return true if the pod's log wasn't followed yet.
+   */
+  synchronized boolean attach(PodResource<Pod> podResource, String podName, String containerName) {
+    if (closed || logWatches.containsKey(podName)) {
+      return false;
+    }
+    final LogWatch logWatch = StringUtils.isBlank(containerName) ?
+        podResource.watchLog() : podResource.inContainer(containerName).watchLog();
+    logWatches.put(podName, logWatch);
+    final Thread pump = new Thread(() -> pump(podResource, podName, containerName, logWatch), "pod log " + podName);
+    pump.setDaemon(true);
+    pump.start();
+    return true;
+  }
+
+  /**
+   * Stops following the log of the provided pod.
+   *
+   * @param podName the name of the pod.
+   * @return true if the pod's log was being followed.
+   */
+  synchronized boolean detach(String podName) {
+    final LogWatch logWatch = logWatches.remove(podName);
+    if (logWatch != null) {
+      logWatch.close();
+      return true;
+    }
+    return false;
+  }
+
+  boolean isAttached(String podName) {
+    return logWatches.containsKey(podName);
+  }
+
+  @Override
+  public synchronized void close() {
+    closed = true;
+    logWatches.keySet().forEach(this::detach);
+    printer.interrupt();
+  }
+
+  static String prefix(String podName, String containerName) {
+    return "[" + podName + (StringUtils.isBlank(containerName) ? "" : "/" + containerName) + "] ";
+  }
+
+  private void pump(PodResource<Pod> podResource, String podName, String containerName, LogWatch logWatch) {
+    try (OutputStream out = new PrefixedLineOutputStream(prefix(podName, containerName), lines)) {
+      IOUtils.copy(logWatch.getOutput(), out);
+    } catch (IOException e) {
+      // The stream was closed while reading, the partial line (if any) is still flushed
+    }
+    onLogEnded(podResource, podName, containerName, logWatch);
+  }
+
+  private synchronized void onLogEnded(PodResource<Pod> podResource, String podName, String containerName, LogWatch logWatch) {
+    if (!logWatches.remove(podName, logWatch)) {
+      // Detached or already replaced
+      return;
+    }
+    logWatch.close();
+    if (isContainerRunning(podResource.get(), containerName)) {
+      attach(podResource, podName, containerName);
+    }
+  }
+
+  private static boolean isContainerRunning(Pod pod, String containerName) {
+    if (pod == null || !KubernetesHelper.isPodRunning(pod)) {
+      return false;
+    }
+    return Optional.ofNullable(pod.getStatus()).map(PodStatus::getContainerStatuses)
+        .flatMap(statuses -> statuses.stream()
+            .filter(status -> StringUtils.isBlank(containerName) || Objects.equals(containerName, status.getName()))
+            .findFirst())
+        .map(ContainerStatus::getState)
+        .map(state -> state.getRunning() != null)
+        .orElse(false);
+  }
+
+  private void print() {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        log.info("[[s]]%s", lines.take());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Splits the bytes read from a log stream into lines and pushes them, prefixed, into the shared buffer.
+   */
+  static final class PrefixedLineOutputStream extends OutputStream {
+
+    private final String prefix;
+    private final BlockingQueue<String> lines;
+    private final ByteArrayOutputStream current;
+
+    PrefixedLineOutputStream(String prefix, BlockingQueue<String> lines) {
+      this.prefix = prefix;
+      this.lines = lines;
+      current = new ByteArrayOutputStream();
+    }
+
+    @Override
+    public synchronized void write(int b) {
+      if (b == '\n') {
+        pushLine();
+      } else if (b != '\r') {
+        current.write(b);
+      }
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) {
+      for (int i = off; i < off + len; i++) {
+        write(b[i]);
+      }
+    }
+
+    @Override
+    public synchronized void close() {
+      if (current.size() > 0) {
+        pushLine();
+      }
+    }
+
+    private void pushLine() {
+      final String line = prefix + new String(current.toByteArray(), StandardCharsets.UTF_8);
+      current.reset();
+      try {
+        lines.put(line);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
@@ -34,6 +34,7 @@ import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.util.KubernetesHelper;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -67,6 +68,7 @@ public class PodLogService {
     private CountDownLatch terminateLatch = new CountDownLatch(1);
     private String watchingPodName;
     private CountDownLatch logWatchTerminateLatch;
+    private PodLogAggregator podLogAggregator;
 
     public PodLogService(PodLogServiceContext context) {
         this.context = context;
@@ -108,6 +110,7 @@ public class PodLogService {
                             podWatcher.close();
                         }
                         closeLogWatcher();
+                        closePodLogAggregator();
                     }
                 });
             }
@@ -127,6 +130,7 @@ public class PodLogService {
             log.info("Watching pods with selector %s waiting for a running pod...", selector);
         }
         Pod latestPod = null;
+        final List<Pod> candidatePods = new ArrayList<>();
         boolean runningPod = false;
         PodList list = pods.list();
         if (list != null) {
@@ -134,13 +138,9 @@ public class PodLogService {
             if (items != null) {
                 for (Pod pod : items) {
                     if (KubernetesHelper.isPodRunning(pod) || KubernetesHelper.isPodWaiting(pod)) {
-                        if (latestPod == null || KubernetesHelper.isNewerResource(pod, latestPod)) {
-                            if (ignorePodsOlderThan != null) {
-                                Date podCreateTime = KubernetesHelper.getCreationTimestamp(pod);
-                                if (podCreateTime != null && podCreateTime.compareTo(ignorePodsOlderThan) > 0) {
-                                    latestPod = pod;
-                                }
-                            } else {
+                        if (isNotOlderThan(pod, ignorePodsOlderThan)) {
+                            candidatePods.add(pod);
+                            if (latestPod == null || KubernetesHelper.isNewerResource(pod, latestPod)) {
                                 latestPod = pod;
                             }
                         }
@@ -150,7 +150,12 @@ public class PodLogService {
             }
         }
         // we may have missed the ADDED event so lets simulate one
-        if (latestPod != null) {
+        if (context.isAggregate()) {
+            candidatePods.forEach(pod -> onPod(Watcher.Action.ADDED, pod, kubernetes, namespace, ctrlCMessage, followLog));
+            if (!followLog) {
+                terminateLatch.countDown();
+            }
+        } else if (latestPod != null) {
             onPod(Watcher.Action.ADDED, latestPod, kubernetes, namespace, ctrlCMessage, followLog);
         }
         if (!watchAddedPodsOnly && !runningPod) {
@@ -180,7 +185,19 @@ public class PodLogService {
         }
     }
 
+    private static boolean isNotOlderThan(Pod pod, Date ignorePodsOlderThan) {
+        if (ignorePodsOlderThan == null) {
+            return true;
+        }
+        Date podCreateTime = KubernetesHelper.getCreationTimestamp(pod);
+        return podCreateTime != null && podCreateTime.compareTo(ignorePodsOlderThan) > 0;
+    }
+
     private void onPod(Watcher.Action action, Pod pod, KubernetesClient kubernetes, String namespace, String ctrlCMessage, boolean followLog) {
+        if (context.isAggregate()) {
+            onAggregatedPod(action, pod, kubernetes, namespace, ctrlCMessage, followLog);
+            return;
+        }
         String name = KubernetesHelper.getName(pod);
         if (action.equals(Watcher.Action.DELETED)) {
             addedPods.remove(name);
@@ -247,6 +264,61 @@ public class PodLogService {
         }
     }
 
+    /**
+     * Follows the log of every running pod matching the selector. Pods are attached and detached as their events are
+     * received, the pod list is never requested again.
+     */
+    private void onAggregatedPod(Watcher.Action action, Pod pod, KubernetesClient kubernetes, String namespace, String ctrlCMessage, boolean followLog) {
+        String name = KubernetesHelper.getName(pod);
+        if (action.equals(Watcher.Action.DELETED) || action.equals(Watcher.Action.ERROR)) {
+            addedPods.remove(name);
+            if (podLogAggregator != null && podLogAggregator.detach(name)) {
+                context.getOldPodLog().info("Stopped tailing log of pod: %s", name);
+            }
+            context.getOldPodLog().info("%s status: %s%s", name, getPodStatusDescription(pod), getPodStatusMessagePostfix(action));
+            return;
+        }
+        final boolean known = addedPods.put(name, pod) != null;
+        final boolean attached = podLogAggregator != null && podLogAggregator.isAttached(name);
+        if (!known || !action.equals(Watcher.Action.MODIFIED) || !attached) {
+            context.getNewPodLog().info("%s status: %s%s", name, getPodStatusDescription(pod), getPodStatusMessagePostfix(action));
+        }
+        if (attached || !KubernetesHelper.isPodRunning(pod)) {
+            return;
+        }
+        PodResource<Pod> podResource = kubernetes.pods().inNamespace(namespace).withName(name);
+        List<Container> containers = KubernetesHelper.getContainers(pod);
+        String containerName = containers.size() < 2 ? null : getLogContainerName(containers);
+        if (followLog) {
+            if (getPodLogAggregator().attach(podResource, name, containerName)) {
+                context.getNewPodLog().info("Tailing log of pod: " + name + containerNameMessage(containerName));
+                context.getNewPodLog().info("Press Ctrl-C to " + ctrlCMessage);
+            }
+        } else {
+            String logText = containerName == null ? podResource.getLog() : podResource.inContainer(containerName).getLog();
+            if (logText != null) {
+                final String prefix = PodLogAggregator.prefix(name, containerName);
+                for (String line : logText.split("\n")) {
+                    log.info("[[s]]%s%s", prefix, line);
+                }
+            }
+        }
+    }
+
+    private synchronized PodLogAggregator getPodLogAggregator() {
+        if (podLogAggregator == null) {
+            podLogAggregator = new PodLogAggregator(log, PodLogAggregator.DEFAULT_BUFFER_LINES);
+        }
+        return podLogAggregator;
+    }
+
+    private synchronized void closePodLogAggregator() {
+        if (podLogAggregator != null) {
+            podLogAggregator.close();
+            podLogAggregator = null;
+        }
+    }
+
     private String getLogContainerName(List<Container> containers) {
         if (StringUtils.isNotBlank(context.getLogContainerName())) {
             for (Container container : containers) {
@@ -300,6 +372,7 @@ public class PodLogService {
         private String logContainerName;
         private String podName;
         private String s2iBuildNameSuffix;
+        private boolean aggregate;
 
         public String getS2iBuildNameSuffix() {
             return Optional.ofNullable(s2iBuildNameSuffix).orElse(DEFAULT_S2I_BUILD_NAME_SUFFIX);
@@ -53,6 +53,19 @@ public class DockerBuildService implements BuildService {
         }
     }
 
+    @Override
+    public void build(Collection<ImageConfiguration> imageConfigs) throws JKubeServiceException {
+        try {
+            // Base images of all the images are pulled in parallel while the build contexts are prepared
+            jKubeServiceHub.getDockerServiceHub().getBuildService().buildImages(
+                imageConfigs,
+                jKubeServiceHub.getBuildServiceConfig().getImagePullManager(),
+                jKubeServiceHub.getConfiguration());
+        } catch (IOException ex) {
+            throw new JKubeServiceException("Error while trying to build the image: " + ex.getMessage(), ex);
+        }
+    }
+
     @Override
     public void push(Collection<ImageConfiguration> imageConfigs, int retries, RegistryConfig registryConfig, boolean skipTag) throws JKubeServiceException {
         try {
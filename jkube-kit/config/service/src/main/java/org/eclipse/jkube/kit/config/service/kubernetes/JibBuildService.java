@@ -42,6 +42,8 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -54,6 +56,7 @@ public class JibBuildService implements BuildService {
             "docker.io", "index.docker.io", "registry.hub.docker.com"
     );
     private static final String PUSH_REGISTRY = "jkube.docker.push.registry";
+    private static final String REGISTRY = "jkube.docker.registry";
     private final JKubeServiceHub jKubeServiceHub;
     private final KitLogger log;
 
@@ -71,13 +74,18 @@ public class JibBuildService implements BuildService {
             if (imageConfig.getBuildConfiguration().isDockerFileMode()) {
                 throw new JKubeServiceException("Dockerfile mode is not supported with JIB build strategy");
             }
-            prependRegistry(imageConfig, configuration.getProperties().getProperty(PUSH_REGISTRY));
+            final boolean pushOnBuild = jKubeServiceHub.getBuildServiceConfig().isJibPushOnBuild();
+            final RegistryConfig pushRegistryConfig = pushOnBuild ?
+                getPushRegistryConfig(jKubeServiceHub.getBuildServiceConfig(), configuration) : null;
+            prependRegistry(imageConfig, pushOnBuild ?
+                pushRegistryConfig.getRegistry() : configuration.getProperties().getProperty(PUSH_REGISTRY));
             BuildDirs buildDirs = new BuildDirs(imageConfig.getName(), configuration);
             final Credential pullRegistryCredential = getRegistryCredentials(
                 configuration.getRegistryConfig(), false, imageConfig, log);
             final JibContainerBuilder containerBuilder = containerFromImageConfiguration(imageConfig, pullRegistryCredential);
 
-            File dockerTarArchive = getAssemblyTarArchive(imageConfig, configuration, log);
+            // The docker tar archive is only needed as the location of the local image tarball
+            File dockerTarArchive = pushOnBuild ? null : getAssemblyTarArchive(imageConfig, configuration, log);
             // TODO: Improve Assembly Manager so that the effective assemblyFileEntries computed can be properly shared
             // the call to AssemblyManager.getInstance().createDockerTarArchive should not be necessary,
             // files should be added using the AssemblyFileEntry list. AssemblyManager, should provide
@@ -92,9 +100,15 @@ public class JibBuildService implements BuildService {
             JibServiceUtil.copyToContainer(
                 containerBuilder, buildDirs.getOutputDirectory(), buildDirs.getOutputDirectory().getAbsolutePath(), files);
 
-            JibServiceUtil.buildContainer(containerBuilder,
+            if (pushOnBuild) {
+                JibServiceUtil.buildAndPushContainer(containerBuilder, imageConfig,
+                    getRegistryCredentials(pushRegistryConfig, true, imageConfig, log), log);
+                log.info(" %s successfully built and pushed", imageConfig.getName());
+            } else {
+                JibServiceUtil.buildContainer(containerBuilder,
                     TarImage.at(dockerTarArchive.toPath()).named(imageConfig.getName()), log);
-            log.info(" %s successfully built", dockerTarArchive.getAbsolutePath());
+                log.info(" %s successfully built", dockerTarArchive.getAbsolutePath());
+            }
         } catch (Exception ex) {
             throw new JKubeServiceException("Error when building JIB image", ex);
         }
@@ -102,6 +116,13 @@ public class JibBuildService implements BuildService {
 
     @Override
     public void push(Collection<ImageConfiguration> imageConfigs, int retries, RegistryConfig registryConfig, boolean skipTag) throws JKubeServiceException {
+        if (jKubeServiceHub.getBuildServiceConfig().isJibPushOnBuild()) {
+            // Images were already pushed straight to the registry during the build
+            for (ImageConfiguration imageConfiguration : imageConfigs) {
+                log.info("%s was pushed during the build, skipping", imageConfiguration.getName());
+            }
+            return;
+        }
         try {
             for (ImageConfiguration imageConfiguration : imageConfigs) {
                 prependRegistry(imageConfiguration, registryConfig.getRegistry());
@@ -132,6 +153,22 @@ public class JibBuildService implements BuildService {
         return imageConfiguration;
     }
 
+    /**
+     * Returns the registry configuration used to push images during the build. It's resolved the same way as for the
+     * push goal: push registry, then default registry.
+     */
+    static RegistryConfig getPushRegistryConfig(BuildServiceConfig buildServiceConfig, JKubeConfiguration configuration) {
+        if (buildServiceConfig.getJibPushRegistryConfig() != null) {
+            return buildServiceConfig.getJibPushRegistryConfig();
+        }
+        final RegistryConfig registryConfig = Optional.ofNullable(configuration.getRegistryConfig())
+            .orElse(RegistryConfig.builder().build());
+        final Properties properties = Optional.ofNullable(configuration.getProperties()).orElse(new Properties());
+        return registryConfig.toBuilder()
+            .registry(properties.getProperty(PUSH_REGISTRY, properties.getProperty(REGISTRY, registryConfig.getRegistry())))
+            .build();
+    }
+
     static File getAssemblyTarArchive(ImageConfiguration imageConfig, JKubeConfiguration configuration, KitLogger log) throws IOException {
         log.info("Preparing assembly files");
         final String targetImage = imageConfig.getName();
@@ -18,6 +18,7 @@ import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
 import io.fabric8.kubernetes.api.model.ObjectReference;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.openshift.api.model.ImageStream;
 import io.fabric8.openshift.api.model.ImageStreamBuilder;
 import io.fabric8.openshift.api.model.ImageStreamSpec;
@@ -29,6 +30,7 @@ import io.fabric8.openshift.client.OpenShiftClient;
 import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.util.KubernetesHelper;
 import org.eclipse.jkube.kit.common.util.ResourceUtil;
+import org.eclipse.jkube.kit.common.util.WaitUtil;
 import org.eclipse.jkube.kit.config.image.ImageName;
 import org.apache.commons.lang3.StringUtils;
 
@@ -36,6 +38,7 @@ import java.io.File;
 import java.io.IOException;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
@@ -53,8 +56,7 @@ public class ImageStreamService {
 
 
     public static final String DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss'Z'";
-    private static final int IMAGE_STREAM_TAG_RETRIES = 15;
-    private static final long IMAGE_STREAM_TAG_RETRY_TIMEOUT_IN_MILLIS = 1000;
+    private static final Duration IMAGE_STREAM_TAG_WAIT_TIMEOUT = Duration.ofSeconds(15);
 
     private final OpenShiftClient client;
     private final KitLogger log;
@@ -173,61 +175,51 @@ public class ImageStreamService {
     }
 
     private String findTagSha(OpenShiftClient client, String imageStreamName, String namespace) {
-        ImageStream currentImageStream = null;
-
-        for (int i = 0; i < IMAGE_STREAM_TAG_RETRIES; i++) {
-            if (i > 0) {
-                log.info("Retrying to find tag on ImageStream %s", imageStreamName);
-                try {
-                    Thread.sleep(IMAGE_STREAM_TAG_RETRY_TIMEOUT_IN_MILLIS);
-                } catch (InterruptedException e) {
-                    log.debug("interrupted", e);
-                    Thread.currentThread().interrupt();
-                }
-            }
-            currentImageStream = client.imageStreams().withName(imageStreamName).get();
-            if (currentImageStream == null) {
-                continue;
-            }
-            ImageStreamStatus status = currentImageStream.getStatus();
-            if (status == null) {
-                continue;
-            }
-            List<NamedTagEventList> tags = status.getTags();
-            if (tags == null || tags.isEmpty()) {
-                continue;
-            }
-
-            // Iterate all imagestream tags and get the latest one by 'created' attribute
-            TagEvent latestTag = null;
-
-            TAG_EVENT_LIST:
-            for (NamedTagEventList list : tags) {
-                List<TagEvent> items = list.getItems();
-                if (items == null || items.isEmpty()) {
-                    continue TAG_EVENT_LIST;
-                }
-
-                for (TagEvent tag : items) {
-                    latestTag = latestTag == null ? tag : newerTag(tag, latestTag);
-                }
-            }
-
-            if (latestTag != null && StringUtils.isNotBlank(latestTag.getImage())) {
-                String image = latestTag.getImage();
-                log.info("Found tag on ImageStream " + imageStreamName + " tag: " + image);
-                return image;
-            }
+        final Resource<ImageStream> imageStreamResource = client.imageStreams().withName(imageStreamName);
+        final ImageStream currentImageStream;
+        try {
+            currentImageStream = WaitUtil.waitUntilCondition(imageStreamResource,
+                is -> findLatestTagImage(is) != null, IMAGE_STREAM_TAG_WAIT_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a tag in the ImageStream " + imageStreamName, e);
+        }
+        if (currentImageStream != null) {
+            String image = findLatestTagImage(currentImageStream);
+            log.info("Found tag on ImageStream " + imageStreamName + " tag: " + image);
+            return image;
         }
 
-        // No image found, even after several retries:
-        if (currentImageStream == null) {
+        // No image found, even after waiting:
+        if (imageStreamResource.get() == null) {
             throw new IllegalStateException("Could not find a current ImageStream with name " + imageStreamName + " in namespace " + namespace);
         } else {
             throw new IllegalStateException("Could not find a tag in the ImageStream " + imageStreamName);
         }
     }
 
+    private String findLatestTagImage(ImageStream imageStream) {
+        ImageStreamStatus status = imageStream.getStatus();
+        if (status == null || status.getTags() == null) {
+            return null;
+        }
+        // Iterate all imagestream tags and get the latest one by 'created' attribute
+        TagEvent latestTag = null;
+        for (NamedTagEventList list : status.getTags()) {
+            List<TagEvent> items = list.getItems();
+            if (items == null) {
+                continue;
+            }
+            for (TagEvent tag : items) {
+                latestTag = latestTag == null ? tag : newerTag(tag, latestTag);
+            }
+        }
+        if (latestTag != null && StringUtils.isNotBlank(latestTag.getImage())) {
+            return latestTag.getImage();
+        }
+        return null;
+    }
+
     public TagEvent newerTag(TagEvent tag1, TagEvent tag2) {
         Date tag1Date = extractDate(tag1);
         Date tag2Date = extractDate(tag2);
@@ -0,0 +1,302 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.config.service.openshift;
+
+import io.fabric8.kubernetes.client.HttpClientAware;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.base.OperationSupport;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.kubernetes.client.utils.URLUtils;
+import io.fabric8.openshift.api.model.Build;
+import io.fabric8.openshift.api.model.BuildConfig;
+import io.fabric8.openshift.api.model.BuildConfigStatus;
+import io.fabric8.openshift.client.OpenShiftClient;
+import io.fabric8.openshift.client.OpenShiftConfig;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.BufferedSink;
+import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.archive.ArchiveCompression;
+import org.eclipse.jkube.kit.common.util.KubernetesHelper;
+import org.eclipse.jkube.kit.common.util.OpenshiftHelper;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Uploads build archives as the binary input of OpenShift BuildConfigs.
+ *
+ * <p> Uncompressed archives are gzip compressed before the upload (the binary build endpoint accepts gzip compressed
+ * tar archives), the upload progress is logged and failed uploads caused by network or server errors are retried.
+ * The archive is posted with a known length through the HTTP client of the provided OpenShift client, so that the
+ * progress can be tracked while the request body is written.
+ *
+ * <p> Instantiating a binary build isn't idempotent, a request that failed after the archive was completely sent may
+ * still have created a Build. Before such a request is retried, the Builds of the BuildConfig numbered after its
+ * last version (<code>openshift.io/build.number</code>) are looked up, and a Build created by the failed request is
+ * used instead of starting a new one.
+ */
+class OpenshiftBuildArchiveUploader {
+
+    private static final int BUFFER_SIZE = 65536;
+    private static final int PROGRESS_STEPS = 10;
+    private static final String BUILD_CONFIG_LABEL = "openshift.io/build-config.name";
+    private static final String BUILD_NUMBER_ANNOTATION = "openshift.io/build.number";
+    private static final MediaType OCTET_STREAM = MediaType.parse("application/octet-stream");
+
+    private final OpenShiftClient client;
+    private final KitLogger log;
+    private final int compressionLevel;
+    private final int retries;
+    private final long retryWaitMillis;
+
+    /**
+     * @param client client used for the upload
+     * @param log logger for progress and retries
+     * @param compressionLevel gzip compression level (1-9) for uncompressed archives, 0 to upload them as they are
+     * @param retries number of times a failed upload is retried
+     * @param retryWaitMillis time to wait before the first retry, doubled for each subsequent one
+     */
+    OpenshiftBuildArchiveUploader(OpenShiftClient client, KitLogger log, int compressionLevel, int retries, long retryWaitMillis) {
+        if (compressionLevel < 0 || compressionLevel > 9) {
+            throw new IllegalArgumentException("Invalid build archive compression level " + compressionLevel + ", must be between 0 and 9");
+        }
+        this.client = client;
+        this.log = log;
+        this.compressionLevel = compressionLevel;
+        this.retries = Math.max(0, retries);
+        this.retryWaitMillis = retryWaitMillis;
+    }
+
+    /**
+     * Compresses and uploads the provided archive as the binary input of a new Build for the given BuildConfig.
+     *
+     * @param buildConfigName name of the BuildConfig to instantiate
+     * @param archive the build archive
+     * @return the Build started with the uploaded archive
+     * @throws IOException if the archive can't be compressed or read, or the thread is interrupted while waiting to retry
+     */
+    Build upload(String buildConfigName, File archive) throws IOException {
+        final File uploadArchive = compress(archive);
+        for (int attempt = 0; ; attempt++) {
+            final ArchiveRequestBody requestBody = new ArchiveRequestBody(uploadArchive, buildConfigName);
+            long lastVersion = 0L;
+            try {
+                if (retries > 0) {
+                    lastVersion = getLastVersion(buildConfigName);
+                }
+                return instantiateBinary(buildConfigName, requestBody);
+            } catch (KubernetesClientException exp) {
+                if (!isRetryable(exp)) {
+                    throw exp;
+                }
+                if (retries > 0 && requestBody.isSent()) {
+                    final Build created = findBuildCreatedAfter(buildConfigName, lastVersion, exp);
+                    if (created != null) {
+                        log.warn("Upload of the build archive for %s failed (%s) after the archive was sent, using the started build %s",
+                            buildConfigName, exp.getCause() != null ? exp.getCause().getMessage() : exp.getMessage(),
+                            created.getMetadata().getName());
+                        return created;
+                    }
+                }
+                if (attempt >= retries) {
+                    throw exp;
+                }
+                log.warn("Upload of the build archive for %s failed (%s), retrying (%d/%d)",
+                    buildConfigName, exp.getCause() != null ? exp.getCause().getMessage() : exp.getMessage(), attempt + 1, retries);
+                waitBeforeRetry(attempt);
+            }
+        }
+    }
+
+    private Build instantiateBinary(String buildConfigName, ArchiveRequestBody requestBody) {
+        if (!(client instanceof HttpClientAware)) {
+            // The request can't be tracked, so it's considered as sent
+            requestBody.sent = true;
+            return client.buildConfigs().withName(buildConfigName).instantiateBinary().fromFile(requestBody.archive);
+        }
+        final String namespace = client.getNamespace();
+        final Request request = new Request.Builder()
+            .post(requestBody)
+            .url(URLUtils.join(client.getMasterUrl().toString(), "apis", "build.openshift.io", "v1", "namespaces",
+                namespace, "buildconfigs", buildConfigName, "instantiatebinary")
+                + "?name=" + buildConfigName + "&namespace=" + namespace)
+            .build();
+        // Same timeouts the OpenShift client uses for binary builds
+        final long timeoutMillis = getBuildTimeoutMillis();
+        final OkHttpClient httpClient = ((HttpClientAware) client).getHttpClient().newBuilder()
+            .readTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+            .writeTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+            .build();
+        try (Response response = httpClient.newCall(request).execute()) {
+            if (!response.isSuccessful()) {
+                throw OperationSupport.requestFailure(request, OperationSupport.createStatus(response));
+            }
+            return Serialization.unmarshal(Objects.requireNonNull(response.body()).byteStream(), Build.class);
+        } catch (IOException e) {
+            throw OperationSupport.requestException(request, e);
+        }
+    }
+
+    private long getBuildTimeoutMillis() {
+        if (client.getConfiguration() instanceof OpenShiftConfig) {
+            return ((OpenShiftConfig) client.getConfiguration()).getBuildTimeout();
+        }
+        return OpenShiftConfig.DEFAULT_BUILD_TIMEOUT;
+    }
+
+    private long getLastVersion(String buildConfigName) {
+        final BuildConfig buildConfig = client.buildConfigs().withName(buildConfigName).get();
+        return Optional.ofNullable(buildConfig)
+            .map(BuildConfig::getStatus)
+            .map(BuildConfigStatus::getLastVersion)
+            .orElse(0L);
+    }
+
+    /**
+     * Returns the Build of the given BuildConfig numbered after <code>lastVersion</code> which is still viable
+     * (not failed, errored or cancelled), or null if there is none.
+     *
+     * <p> If the Builds can't be listed, there is no way to tell whether the failed request started a Build, so the
+     * original failure is rethrown instead of risking a duplicate build.
+     */
+    private Build findBuildCreatedAfter(String buildConfigName, long lastVersion, KubernetesClientException failure) {
+        try {
+            return client.builds().withLabel(BUILD_CONFIG_LABEL, buildConfigName).list().getItems().stream()
+                .filter(build -> getBuildNumber(build) > lastVersion)
+                .filter(build -> !isUnsuccessful(KubernetesHelper.getBuildStatusPhase(build)))
+                .max(Comparator.comparingLong(OpenshiftBuildArchiveUploader::getBuildNumber))
+                .orElse(null);
+        } catch (KubernetesClientException exp) {
+            log.debug("Cannot look up the builds of %s: %s", buildConfigName, exp.getMessage());
+            throw failure;
+        }
+    }
+
+    private static long getBuildNumber(Build build) {
+        final String buildNumber = Optional.ofNullable(build.getMetadata().getAnnotations())
+            .map(annotations -> annotations.get(BUILD_NUMBER_ANNOTATION))
+            .orElse(null);
+        try {
+            return buildNumber != null ? Long.parseLong(buildNumber) : 0L;
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private static boolean isUnsuccessful(String phase) {
+        return OpenshiftHelper.isFailed(phase) || OpenshiftHelper.isCancelled(phase);
+    }
+
+    /**
+     * Returns a gzip compressed copy of the archive, or the archive itself if it's already compressed or compression
+     * is disabled.
+     */
+    File compress(File archive) throws IOException {
+        if (compressionLevel == 0 || ArchiveCompression.fromFileName(archive.getName()) != ArchiveCompression.none) {
+            return archive;
+        }
+        final File compressed = new File(archive.getParentFile(), archive.getName() + ".gz");
+        try (OutputStream out = new LeveledGZIPOutputStream(new FileOutputStream(compressed), compressionLevel)) {
+            Files.copy(archive.toPath(), out);
+        }
+        log.info("Compressed build archive %s from %d to %d KB", archive.getName(), archive.length() / 1024, compressed.length() / 1024);
+        return compressed;
+    }
+
+    static boolean isRetryable(KubernetesClientException exp) {
+        if (exp.getCause() instanceof IOException) {
+            return true;
+        }
+        return exp.getCode() == 0 || exp.getCode() >= 500;
+    }
+
+    private void waitBeforeRetry(int attempt) throws IOException {
+        try {
+            Thread.sleep(retryWaitMillis << attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting to retry the build archive upload", e);
+        }
+    }
+
+    private static final class LeveledGZIPOutputStream extends GZIPOutputStream {
+        private LeveledGZIPOutputStream(OutputStream out, int level) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(level);
+        }
+    }
+
+    private final class ArchiveRequestBody extends RequestBody {
+
+        private final File archive;
+        private final String buildConfigName;
+        // Whether the whole archive was written, the server might have started a build from it
+        private volatile boolean sent;
+
+        private ArchiveRequestBody(File archive, String buildConfigName) {
+            this.archive = archive;
+            this.buildConfigName = buildConfigName;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return OCTET_STREAM;
+        }
+
+        @Override
+        public long contentLength() {
+            return archive.length();
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            final long length = archive.length();
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            long written = 0;
+            int reportedStep = 0;
+            try (InputStream in = new FileInputStream(archive)) {
+                for (int count = in.read(buffer); count >= 0; count = in.read(buffer)) {
+                    sink.write(buffer, 0, count);
+                    written += count;
+                    final int step = length > 0 ? (int) (written * PROGRESS_STEPS / length) : PROGRESS_STEPS;
+                    if (step > reportedStep) {
+                        reportedStep = step;
+                        log.info("Uploading build archive for %s: %d%% (%d of %d KB)",
+                            buildConfigName, step * 100 / PROGRESS_STEPS, written / 1024, length / 1024);
+                    }
+                }
+            }
+            sink.flush();
+            sent = true;
+        }
+
+        private boolean isSent() {
+            return sent;
+        }
+    }
+}
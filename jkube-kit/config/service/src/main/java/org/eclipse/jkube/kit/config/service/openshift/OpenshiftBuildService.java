@@ -20,16 +20,11 @@ import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
 import io.fabric8.kubernetes.api.model.ObjectReference;
-import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.fabric8.kubernetes.api.model.Status;
 import io.fabric8.kubernetes.client.KubernetesClientException;
-import io.fabric8.kubernetes.client.Watch;
-import io.fabric8.kubernetes.client.Watcher;
-import io.fabric8.kubernetes.client.WatcherException;
-import io.fabric8.kubernetes.client.dsl.LogWatch;
 import io.fabric8.openshift.api.model.Build;
 import io.fabric8.openshift.api.model.BuildConfig;
 import io.fabric8.openshift.api.model.BuildConfigBuilder;
@@ -72,6 +67,7 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -79,9 +75,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * @author nicola
@@ -92,11 +89,13 @@ public class OpenshiftBuildService implements BuildService {
     public static final String DEFAULT_S2I_SOURCE_TYPE = "Binary";
     public static final String REQUESTS = "requests";
     public static final String LIMITS = "limits";
+    private static final long UPLOAD_RETRY_WAIT_MILLIS = 2000L;
 
     private final OpenShiftClient client;
     private final KitLogger log;
     private final JKubeServiceHub jKubeServiceHub;
     private final BuildServiceConfig config;
+    private final OpenshiftBuildArchiveUploader archiveUploader;
     private AuthConfigFactory authConfigFactory;
 
 
@@ -111,38 +110,77 @@ public class OpenshiftBuildService implements BuildService {
         this.log = log;
         this.jKubeServiceHub = jKubeServiceHub;
         config = jKubeServiceHub.getBuildServiceConfig();
+        archiveUploader = new OpenshiftBuildArchiveUploader(client, log, config.getOpenshiftBuildArchiveCompressionLevel(),
+            config.getOpenshiftBuildArchiveUploadRetries(), UPLOAD_RETRY_WAIT_MILLIS);
     }
 
     @Override
     public void build(ImageConfiguration imageConfig) throws JKubeServiceException {
+        build(Collections.singletonList(imageConfig));
+    }
+
+    /**
+     * Builds the given images in OpenShift.
+     *
+     * <p> The build archive of each image is uploaded as soon as its BuildConfig and ImageStream are in place, so
+     * archives for several images are uploaded concurrently. The resulting Builds are then tracked with a single
+     * shared watch until all of them finish.
+     *
+     * @param imageConfigs the images to build
+     */
+    @Override
+    public void build(Collection<ImageConfiguration> imageConfigs) throws JKubeServiceException {
         String buildName = null;
+        final ExecutorService uploadExecutor = Executors.newFixedThreadPool(Math.max(1, imageConfigs.size()));
         try {
-            ImageName imageName = new ImageName(imageConfig.getName());
+            final List<ImageName> imageNames = new ArrayList<>();
+            final List<String> buildConfigNames = new ArrayList<>();
+            final List<Future<Build>> uploads = new ArrayList<>();
+            for (ImageConfiguration imageConfig : imageConfigs) {
+                ImageName imageName = new ImageName(imageConfig.getName());
 
-            File dockerTar = createBuildArchive(imageConfig);
+                File dockerTar = createBuildArchive(imageConfig);
 
-            KubernetesListBuilder builder = new KubernetesListBuilder();
+                KubernetesListBuilder builder = new KubernetesListBuilder();
 
-            // Check for buildconfig / imagestream / pullSecret and create them if necessary
-            String openshiftPullSecret = config.getOpenshiftPullSecret();
-            final boolean usePullSecret = checkOrCreatePullSecret(client, builder, openshiftPullSecret, imageConfig);
-            if (usePullSecret) {
-                buildName = updateOrCreateBuildConfig(config, client, builder, imageConfig, openshiftPullSecret);
-            } else {
-                buildName = updateOrCreateBuildConfig(config, client, builder, imageConfig, null);
-            }
+                // Check for buildconfig / imagestream / pullSecret and create them if necessary
+                String openshiftPullSecret = config.getOpenshiftPullSecret();
+                final boolean usePullSecret = checkOrCreatePullSecret(client, builder, openshiftPullSecret, imageConfig);
+                if (usePullSecret) {
+                    buildName = updateOrCreateBuildConfig(config, client, builder, imageConfig, openshiftPullSecret);
+                } else {
+                    buildName = updateOrCreateBuildConfig(config, client, builder, imageConfig, null);
+                }
 
-            checkOrCreateImageStream(config, client, builder, getImageStreamName(imageName));
-            applyResourceObjects(config, client, builder);
+                checkOrCreateImageStream(config, client, builder, getImageStreamName(imageName));
+                applyResourceObjects(config, client, builder);
 
-            // Start the actual build
-            Build build = startBuild(client, dockerTar, buildName);
+                // Start the actual build, the upload runs while the next image is prepared
+                final String buildConfigName = buildName;
+                uploads.add(uploadExecutor.submit(() -> startBuild(client, dockerTar, buildConfigName)));
+                imageNames.add(imageName);
+                buildConfigNames.add(buildConfigName);
+            }
 
-            // Wait until the build finishes
-            waitForOpenShiftBuildToComplete(client, build);
+            final List<String> buildNames = new ArrayList<>();
+            for (int i = 0; i < uploads.size(); i++) {
+                buildName = buildConfigNames.get(i);
+                buildNames.add(KubernetesHelper.getName(waitForUpload(uploads.get(i))));
+            }
+
+            // Wait until the builds finish
+            try (OpenshiftBuildTracker tracker = new OpenshiftBuildTracker(client, buildConfigNames, buildNames, log)) {
+                tracker.start();
+                for (int i = 0; i < buildNames.size(); i++) {
+                    buildName = buildConfigNames.get(i);
+                    waitForOpenShiftBuildToComplete(tracker, buildNames.get(i));
+                }
+            }
 
             // Create a file with generated image streams
-            addImageStreamToFile(getImageStreamFile(), imageName, client);
+            for (ImageName imageName : imageNames) {
+                addImageStreamToFile(getImageStreamFile(), imageName, client);
+            }
         } catch (JKubeServiceException e) {
             throw e;
         } catch (Exception ex) {
@@ -153,6 +191,8 @@ public class OpenshiftBuildService implements BuildService {
             } else {
                 throw new JKubeServiceException("Unable to build the image using the OpenShift build service", ex);
             }
+        } finally {
+            uploadExecutor.shutdownNow();
         }
     }
 
@@ -534,12 +574,10 @@ public class OpenshiftBuildService implements BuildService {
         }
     }
 
-    private Build startBuild(OpenShiftClient client, File dockerTar, String buildName) {
+    private Build startBuild(OpenShiftClient client, File dockerTar, String buildName) throws IOException {
         log.info("Starting Build %s", buildName);
         try {
-            return client.buildConfigs().withName(buildName)
-                    .instantiateBinary()
-                    .fromFile(dockerTar);
+            return archiveUploader.upload(buildName, dockerTar);
         } catch (KubernetesClientException exp) {
             Status status = exp.getStatus();
             if (status != null) {
@@ -553,120 +591,29 @@ public class OpenshiftBuildService implements BuildService {
         }
     }
 
-    private void waitForOpenShiftBuildToComplete(OpenShiftClient client, Build build) throws IOException {
-        final CountDownLatch latch = new CountDownLatch(1);
-        final CountDownLatch logTerminateLatch = new CountDownLatch(1);
-        final String buildName = KubernetesHelper.getName(build);
-
-        final AtomicReference<Build> buildHolder = new AtomicReference<>();
-
-        // Don't query for logs directly, Watch over the build pod:
-        waitUntilPodIsReady(buildName + "-build", 120, log);
-        log.info("Waiting for build " + buildName + " to complete...");
-        try (LogWatch logWatch = client.pods().withName(buildName + "-build").watchLog()) {
-            KubernetesHelper.printLogsAsync(logWatch,
-                    "Failed to tail build log", logTerminateLatch, log);
-            Watcher<Build> buildWatcher = getBuildWatcher(latch, buildName, buildHolder);
-            try (Watch watcher = client.builds().withName(buildName).watch(buildWatcher)) {
-                // Check if the build is already finished to avoid waiting indefinitely
-                Build lastBuild = client.builds().withName(buildName).get();
-                if (OpenshiftHelper.isFinished(KubernetesHelper.getBuildStatusPhase(lastBuild))) {
-                    log.debug("Build %s is already finished", buildName);
-                    buildHolder.set(lastBuild);
-                    latch.countDown();
-                }
-
-                waitUntilBuildFinished(latch);
-                logTerminateLatch.countDown();
-
-                build = buildHolder.get();
-                if (build == null) {
-                    log.debug("Build watcher on %s was closed prematurely", buildName);
-                    build = client.builds().withName(buildName).get();
-                }
-                String status = KubernetesHelper.getBuildStatusPhase(build);
-                if (OpenshiftHelper.isFailed(status) || OpenshiftHelper.isCancelled(status)) {
-                    throw new IOException("OpenShift Build " + buildName + " failed: " + KubernetesHelper.getBuildStatusReason(build));
-                }
-
-                if (!OpenshiftHelper.isFinished(status)) {
-                    log.warn("Could not wait for the completion of build %s. It may be  may be still running (status=%s)", buildName, status);
-                } else {
-                    log.info("Build %s in status %s", buildName, status);
-                }
+    private static Build waitForUpload(Future<Build> upload) throws Exception {
+        try {
+            return upload.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
             }
+            throw e;
         }
     }
 
-    /**
-     * A Simple utility function to watch over pod until it gets ready
-     *
-     * @param podName Name of the pod
-     * @param nAwaitTimeout Time in seconds upto which pod must be watched
-     * @param log Logger object
-     */
-    private void waitUntilPodIsReady(String podName, int nAwaitTimeout, final KitLogger log) {
-        final CountDownLatch readyLatch = new CountDownLatch(1);
-        try (Watch watch = client.pods().withName(podName).watch(new Watcher<Pod>() {
-            @Override
-            public void eventReceived(Action action, Pod aPod) {
-                if(KubernetesHelper.isPodReady(aPod)) {
-                    readyLatch.countDown();
-                }
-            }
-
-            @Override
-            public void onClose(WatcherException e) {
-                // ignore
-            }
-        })) {
-            readyLatch.await(nAwaitTimeout, TimeUnit.SECONDS);
-        } catch (KubernetesClientException e) {
-            log.error("Could not watch pod", e);
-        } catch (InterruptedException e) {
-            log.error("Could not watch pod (Thread interrupted)", e);
-            Thread.currentThread().interrupt();
-        }
-    }
-
-    private void waitUntilBuildFinished(CountDownLatch latch) {
-        while (latch.getCount() > 0L) {
-            try {
-                latch.await();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
+    private void waitForOpenShiftBuildToComplete(OpenshiftBuildTracker tracker, String buildName) throws IOException {
+        final Build build = tracker.waitUntilFinished(buildName);
+        String status = KubernetesHelper.getBuildStatusPhase(build);
+        if (OpenshiftHelper.isFailed(status) || OpenshiftHelper.isCancelled(status)) {
+            throw new IOException("OpenShift Build " + buildName + " failed: " + KubernetesHelper.getBuildStatusReason(build));
         }
-    }
-
-    private Watcher<Build> getBuildWatcher(final CountDownLatch latch, final String buildName, final AtomicReference<Build> buildHolder) {
-        return new Watcher<Build>() {
-
-            String lastStatus = "";
 
-            @Override
-            public void eventReceived(Action action, Build build) {
-                buildHolder.set(build);
-                String status = KubernetesHelper.getBuildStatusPhase(build);
-                log.verbose("BuildWatch: Received event %s , build status: %s", action, build.getStatus());
-                if (!lastStatus.equals(status)) {
-                    lastStatus = status;
-                    log.verbose("Build %s status: %s", buildName, status);
-                }
-                if (OpenshiftHelper.isFinished(status)) {
-                    latch.countDown();
-                }
-            }
-
-            @Override
-            public void onClose(WatcherException cause) {
-                if (cause != null) {
-                    log.error("Error while watching for build to finish: %s ",
-                            cause.getMessage());
-                }
-                latch.countDown();
-            }
-        };
+        if (!OpenshiftHelper.isFinished(status)) {
+            log.warn("Could not wait for the completion of build %s. It may be  may be still running (status=%s)", buildName, status);
+        } else {
+            log.info("Build %s in status %s", buildName, status);
+        }
     }
 
     private void logBuildFailedDetails(OpenShiftClient client, String buildName) {
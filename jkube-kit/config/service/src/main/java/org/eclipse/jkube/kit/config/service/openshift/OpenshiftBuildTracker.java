@@ -0,0 +1,211 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.config.service.openshift;
+
+import io.fabric8.kubernetes.api.model.ContainerStatus;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.dsl.LogWatch;
+import io.fabric8.openshift.api.model.Build;
+import io.fabric8.openshift.client.OpenShiftClient;
+import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.util.KubernetesHelper;
+import org.eclipse.jkube.kit.common.util.OpenshiftHelper;
+
+import java.io.Closeable;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Tracks several OpenShift Builds until they finish.
+ *
+ * <p> A single watch is opened for the Builds of the tracked BuildConfigs and a single watch for all the build Pods of
+ * the tracked Builds. The log of each build Pod is followed as soon as its build container is started (or terminated),
+ * without waiting for the Pod to be ready, each line is prefixed with the name of its Build.
+ */
+class OpenshiftBuildTracker implements Closeable {
+
+    static final String BUILD_NAME_LABEL = "openshift.io/build.name";
+    static final String BUILD_CONFIG_NAME_LABEL = "openshift.io/build-config.name";
+
+    private final OpenShiftClient client;
+    private final KitLogger log;
+    private final Set<String> buildConfigNames;
+    private final Map<String, CompletableFuture<Build>> builds;
+    private final Map<String, Build> lastBuilds;
+    private final Map<String, LogWatch> logWatches;
+    private final CountDownLatch logTerminateLatch;
+    private Watch buildWatch;
+    private Watch podWatch;
+
+    OpenshiftBuildTracker(OpenShiftClient client, Collection<String> buildConfigNames, Collection<String> buildNames,
+        KitLogger log) {
+        this.client = client;
+        this.log = log;
+        this.buildConfigNames = new LinkedHashSet<>(buildConfigNames);
+        builds = new LinkedHashMap<>();
+        buildNames.forEach(buildName -> builds.put(buildName, new CompletableFuture<>()));
+        lastBuilds = new ConcurrentHashMap<>();
+        logWatches = new ConcurrentHashMap<>();
+        logTerminateLatch = new CountDownLatch(1);
+    }
+
+    /**
+     * Opens the shared Build and build Pod watches.
+     */
+    void start() {
+        try {
+            podWatch = client.pods().withLabelIn(BUILD_NAME_LABEL, builds.keySet().toArray(new String[0]))
+                .watch(new BuildPodWatcher());
+        } catch (KubernetesClientException e) {
+            log.warn("Could not watch build pods, build logs won't be displayed: %s", e.getMessage());
+        }
+        buildWatch = client.builds().withLabelIn(BUILD_CONFIG_NAME_LABEL, buildConfigNames.toArray(new String[0]))
+            .watch(new BuildWatcher());
+        // Check if the builds are already finished to avoid waiting indefinitely
+        for (String buildName : builds.keySet()) {
+            final Build lastBuild = client.builds().withName(buildName).get();
+            if (OpenshiftHelper.isFinished(KubernetesHelper.getBuildStatusPhase(lastBuild))) {
+                log.debug("Build %s is already finished", buildName);
+                builds.get(buildName).complete(lastBuild);
+            }
+        }
+    }
+
+    /**
+     * Waits until the given Build finishes or the Build watch is closed.
+     *
+     * @param buildName name of the tracked Build
+     * @return the latest version of the Build
+     */
+    Build waitUntilFinished(String buildName) {
+        log.info("Waiting for build " + buildName + " to complete...");
+        final CompletableFuture<Build> future = Objects.requireNonNull(builds.get(buildName), "Build is not tracked");
+        boolean interrupted = false;
+        Build build = null;
+        while (true) {
+            try {
+                build = future.get();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            } catch (ExecutionException e) {
+                break;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (build == null) {
+            log.debug("Build watcher on %s was closed prematurely", buildName);
+            build = client.builds().withName(buildName).get();
+        }
+        return build;
+    }
+
+    @Override
+    public void close() {
+        logTerminateLatch.countDown();
+        logWatches.values().forEach(LogWatch::close);
+        if (podWatch != null) {
+            podWatch.close();
+        }
+        if (buildWatch != null) {
+            buildWatch.close();
+        }
+    }
+
+    private void followLog(Pod pod) {
+        final String podName = KubernetesHelper.getName(pod);
+        logWatches.computeIfAbsent(podName, name -> {
+            final LogWatch logWatch = client.pods().withName(name).watchLog();
+            KubernetesHelper.printLogsAsync(logWatch, "Failed to tail build log", logTerminateLatch, log,
+                "[" + Optional.ofNullable(KubernetesHelper.getLabels(pod).get(BUILD_NAME_LABEL)).orElse(name) + "] ");
+            return logWatch;
+        });
+    }
+
+    static boolean hasStartedContainer(Pod pod) {
+        final List<ContainerStatus> containerStatuses = Optional.ofNullable(pod.getStatus())
+            .map(status -> status.getContainerStatuses()).orElse(null);
+        if (containerStatuses == null) {
+            return false;
+        }
+        return containerStatuses.stream().map(ContainerStatus::getState).filter(Objects::nonNull)
+            .anyMatch(state -> state.getRunning() != null || state.getTerminated() != null);
+    }
+
+    private class BuildPodWatcher implements Watcher<Pod> {
+
+        @Override
+        public void eventReceived(Action action, Pod pod) {
+            if (action != Action.DELETED && logTerminateLatch.getCount() > 0 && hasStartedContainer(pod)) {
+                try {
+                    followLog(pod);
+                } catch (KubernetesClientException e) {
+                    log.error("Failed to tail build log of %s: %s", KubernetesHelper.getName(pod), e.getMessage());
+                }
+            }
+        }
+
+        @Override
+        public void onClose(WatcherException cause) {
+            // ignore
+        }
+    }
+
+    private class BuildWatcher implements Watcher<Build> {
+
+        private final Map<String, String> lastStatus = new ConcurrentHashMap<>();
+
+        @Override
+        public void eventReceived(Action action, Build build) {
+            final String buildName = KubernetesHelper.getName(build);
+            final CompletableFuture<Build> future = buildName == null ? null : builds.get(buildName);
+            if (future == null) {
+                return;
+            }
+            lastBuilds.put(buildName, build);
+            final String status = KubernetesHelper.getBuildStatusPhase(build);
+            log.verbose("BuildWatch: Received event %s , build status: %s", action, build.getStatus());
+            if (!Objects.equals(lastStatus.put(buildName, String.valueOf(status)), String.valueOf(status))) {
+                log.verbose("Build %s status: %s", buildName, status);
+            }
+            if (OpenshiftHelper.isFinished(status)) {
+                future.complete(build);
+            }
+        }
+
+        @Override
+        public void onClose(WatcherException cause) {
+            if (cause != null) {
+                log.error("Error while watching for build to finish: %s ", cause.getMessage());
+            }
+            builds.forEach((buildName, future) -> future.complete(lastBuilds.get(buildName)));
+        }
+    }
+}
@@ -26,6 +26,7 @@ import org.eclipse.jkube.kit.config.service.kubernetes.JibBuildService;
 import org.eclipse.jkube.kit.config.service.kubernetes.KubernetesUndeployService;
 import org.eclipse.jkube.kit.config.service.openshift.OpenshiftBuildService;
 import mockit.Mocked;
+import mockit.Verifications;
 import org.eclipse.jkube.kit.config.service.openshift.OpenshiftUndeployService;
 import org.junit.Test;
 
@@ -104,6 +105,42 @@ public class JKubeServiceHubTest {
     }
   }
 
+  @Test
+  public void testClientNotCreatedIfNotUsed() {
+    // When
+    commonInit().platformMode(RuntimeMode.KUBERNETES).build().close();
+    // Then
+    // @formatter:off
+    new Verifications() {{
+      clusterAccess.createDefaultClient(); times = 0;
+    }};
+    // @formatter:on
+  }
+
+  @Test
+  public void testClientCreatedOnceOnFirstUse() {
+    // Given
+    // @formatter:off
+    new Expectations() {{
+      clusterAccess.createDefaultClient(); result = openShiftClient;
+    }};
+    // @formatter:on
+    JKubeServiceHub hub = commonInit()
+        .platformMode(RuntimeMode.KUBERNETES)
+        .build();
+    // When
+    hub.getClient();
+    hub.getApplyService();
+    hub.close();
+    // Then
+    // @formatter:off
+    new Verifications() {{
+      clusterAccess.createDefaultClient(); times = 1;
+      openShiftClient.close(); times = 1;
+    }};
+    // @formatter:on
+  }
+
   @Test
   public void testGetBuildServiceInKubernetes() {
     // Given
@@ -123,7 +160,7 @@ public class JKubeServiceHubTest {
     // @formatter:off
       new Expectations() {{
         buildServiceConfig.getJKubeBuildStrategy(); result = null;
-        openShiftClient.isAdaptable(OpenShiftClient.class); result = true;
+        clusterAccess.getClusterCapabilities().isOpenShift(); result = true;
       }};
       // @formatter:on
     JKubeServiceHub hub = commonInit()
@@ -181,7 +218,7 @@ public class JKubeServiceHubTest {
     // Given
     // @formatter:off
     new Expectations() {{
-      openShiftClient.isAdaptable(OpenShiftClient.class); result = false;
+      clusterAccess.getClusterCapabilities().isOpenShift(); result = false;
     }};
     // @formatter:on
     JKubeServiceHub hub = commonInit()
@@ -199,7 +236,7 @@ public class JKubeServiceHubTest {
     // Given
     // @formatter:off
     new Expectations() {{
-      openShiftClient.isAdaptable(OpenShiftClient.class); result = true;
+      clusterAccess.getClusterCapabilities().isOpenShift(); result = true;
     }};
     // @formatter:on
     JKubeServiceHub hub = commonInit()
@@ -0,0 +1,205 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.config.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import io.fabric8.kubernetes.api.model.ContainerState;
+import io.fabric8.kubernetes.api.model.ContainerStateBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.dsl.LogWatch;
+import io.fabric8.kubernetes.client.dsl.PodResource;
+import mockit.Expectations;
+import mockit.Mocked;
+import mockit.Verifications;
+import org.eclipse.jkube.kit.common.KitLogger;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SuppressWarnings("unused")
+public class PodLogAggregatorTest {
+
+  @Mocked
+  private PodResource<Pod> podResource;
+  @Mocked
+  private LogWatch logWatch;
+
+  @Test
+  public void prefixedLineOutputStream_shouldSplitAndPrefixLines() throws Exception {
+    // Given
+    final BlockingQueue<String> lines = new ArrayBlockingQueue<>(10);
+    final OutputStream out = new PodLogAggregator.PrefixedLineOutputStream("[pod-1] ", lines);
+    // When
+    out.write("first line\r\nsecond ".getBytes(StandardCharsets.UTF_8));
+    out.write("line\nincomplete".getBytes(StandardCharsets.UTF_8));
+    out.close();
+    // Then
+    assertThat(lines).containsExactly("[pod-1] first line", "[pod-1] second line", "[pod-1] incomplete");
+  }
+
+  @Test
+  public void attach_shouldFollowEachPodOnceAndPrintPrefixedLines() throws Exception {
+    // Given
+    final BlockingQueue<String> printed = new ArrayBlockingQueue<>(10);
+    final PipedOutputStream logStream = new PipedOutputStream();
+    final PipedInputStream output = new PipedInputStream(logStream);
+    // @formatter:off
+    new Expectations() {{
+      podResource.watchLog(); result = logWatch;
+      logWatch.getOutput(); result = output;
+    }};
+    // @formatter:on
+    final PodLogAggregator podLogAggregator = new PodLogAggregator(recordingLogger(printed), 2);
+    // When
+    final boolean firstAttach = podLogAggregator.attach(podResource, "pod-1", null);
+    final boolean secondAttach = podLogAggregator.attach(podResource, "pod-1", null);
+    logStream.write("Started\n".getBytes(StandardCharsets.UTF_8));
+    logStream.flush();
+    // Then
+    assertThat(firstAttach).isTrue();
+    assertThat(secondAttach).isFalse();
+    assertThat(podLogAggregator.isAttached("pod-1")).isTrue();
+    assertThat(printed.poll(10, TimeUnit.SECONDS)).isEqualTo("[pod-1] Started");
+    podLogAggregator.close();
+  }
+
+  @Test
+  public void detach_shouldCloseLogWatch() throws IOException {
+    // Given
+    final PipedOutputStream logStream = new PipedOutputStream();
+    final PipedInputStream output = new PipedInputStream(logStream);
+    // @formatter:off
+    new Expectations() {{
+      logWatch.getOutput(); result = output;
+    }};
+    // @formatter:on
+    final PodLogAggregator podLogAggregator = new PodLogAggregator(new KitLogger.StdoutLogger(), 2);
+    podLogAggregator.attach(podResource, "pod-1", "container");
+    // When
+    final boolean result = podLogAggregator.detach("pod-1");
+    // Then
+    assertThat(result).isTrue();
+    assertThat(podLogAggregator.isAttached("pod-1")).isFalse();
+    assertThat(podLogAggregator.detach("pod-1")).isFalse();
+    // @formatter:off
+    new Verifications() {{
+      podResource.inContainer("container").watchLog(); times = 1;
+      logWatch.close(); times = 1;
+    }};
+    // @formatter:on
+    logStream.close();
+    podLogAggregator.close();
+  }
+
+  @Test
+  public void logEnded_withContainerNotRunning_shouldFlushPartialLineAndDetach() throws Exception {
+    // Given
+    final BlockingQueue<String> printed = new ArrayBlockingQueue<>(10);
+    // @formatter:off
+    new Expectations() {{
+      podResource.watchLog(); result = logWatch;
+      logWatch.getOutput(); result = new ByteArrayInputStream("Stopping\nBye".getBytes(StandardCharsets.UTF_8));
+      podResource.get(); result = pod(false);
+    }};
+    // @formatter:on
+    final PodLogAggregator podLogAggregator = new PodLogAggregator(recordingLogger(printed), 2);
+    // When
+    podLogAggregator.attach(podResource, "pod-1", null);
+    // Then
+    assertThat(printed.poll(10, TimeUnit.SECONDS)).isEqualTo("[pod-1] Stopping");
+    assertThat(printed.poll(10, TimeUnit.SECONDS)).isEqualTo("[pod-1] Bye");
+    waitUntilDetached(podLogAggregator, "pod-1");
+    assertThat(podLogAggregator.isAttached("pod-1")).isFalse();
+    // @formatter:off
+    new Verifications() {{
+      podResource.watchLog(); times = 1;
+      logWatch.close(); times = 1;
+    }};
+    // @formatter:on
+    podLogAggregator.close();
+  }
+
+  @Test
+  public void logEnded_withContainerRestarted_shouldFollowNewContainerLog() throws Exception {
+    // Given
+    final BlockingQueue<String> printed = new ArrayBlockingQueue<>(10);
+    final PipedOutputStream restartedLogStream = new PipedOutputStream();
+    final PipedInputStream restartedOutput = new PipedInputStream(restartedLogStream);
+    // @formatter:off
+    new Expectations() {{
+      podResource.watchLog(); result = logWatch;
+      logWatch.getOutput();
+      result = new ByteArrayInputStream("Crashed\n".getBytes(StandardCharsets.UTF_8));
+      result = restartedOutput;
+      podResource.get(); result = pod(true);
+    }};
+    // @formatter:on
+    final PodLogAggregator podLogAggregator = new PodLogAggregator(recordingLogger(printed), 2);
+    // When
+    podLogAggregator.attach(podResource, "pod-1", null);
+    assertThat(printed.poll(10, TimeUnit.SECONDS)).isEqualTo("[pod-1] Crashed");
+    restartedLogStream.write("Restarted\n".getBytes(StandardCharsets.UTF_8));
+    restartedLogStream.flush();
+    // Then
+    assertThat(printed.poll(10, TimeUnit.SECONDS)).isEqualTo("[pod-1] Restarted");
+    assertThat(podLogAggregator.isAttached("pod-1")).isTrue();
+    // @formatter:off
+    new Verifications() {{
+      podResource.watchLog(); times = 2;
+      logWatch.close(); times = 1;
+    }};
+    // @formatter:on
+    restartedLogStream.close();
+    podLogAggregator.close();
+  }
+
+  private static Pod pod(boolean containerRunning) {
+    final ContainerState state = containerRunning ?
+        new ContainerStateBuilder().withNewRunning().endRunning().build() :
+        new ContainerStateBuilder().withNewWaiting().withReason("CrashLoopBackOff").endWaiting().build();
+    // @formatter:off
+    return new PodBuilder()
+        .withNewStatus()
+          .withPhase("Running")
+          .addNewContainerStatus().withName("container").withState(state).endContainerStatus()
+        .endStatus()
+        .build();
+    // @formatter:on
+  }
+
+  private static void waitUntilDetached(PodLogAggregator podLogAggregator, String podName) throws InterruptedException {
+    for (int it = 0; it < 100 && podLogAggregator.isAttached(podName); it++) {
+      TimeUnit.MILLISECONDS.sleep(100L);
+    }
+  }
+
+  private static KitLogger recordingLogger(BlockingQueue<String> printed) {
+    return new KitLogger.StdoutLogger() {
+      @Override
+      public void info(String format, Object... params) {
+        printed.add(String.format(format.replace("[[s]]", ""), params));
+      }
+    };
+  }
+}
@@ -25,6 +25,9 @@ import org.eclipse.jkube.kit.config.service.BuildServiceConfig;
 import org.eclipse.jkube.kit.config.service.JKubeServiceHub;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.List;
+
 public class DockerBuildServiceTest {
 
     @Mocked
@@ -61,6 +64,29 @@ public class DockerBuildServiceTest {
         }};
     }
 
+    @Test
+    public void testSuccessfulMultipleImageBuild() throws Exception {
+        final BuildServiceConfig config = BuildServiceConfig.builder()
+                .imagePullManager(new ImagePullManager(new TestCacheStore(), ImagePullPolicy.Always.name(), AutoPullMode.ALWAYS.name()))
+                .build();
+        // @formatter:off
+        new Expectations() {{
+           jKubeServiceHub.getBuildServiceConfig();
+           result = config;
+        }};
+        // @formatter:on
+        final List<ImageConfiguration> images = Arrays.asList(
+                ImageConfiguration.builder().name("first").build(BuildConfiguration.builder().from("from").build()).build(),
+                ImageConfiguration.builder().name("second").build(BuildConfiguration.builder().from("from").build()).build());
+
+        new DockerBuildService(jKubeServiceHub).build(images);
+
+        new VerificationsInOrder() {{
+            jKubeServiceHub.getDockerServiceHub().getBuildService()
+                .buildImages(images, config.getImagePullManager(), jKubeServiceHub.getConfiguration());
+        }};
+    }
+
     private static class TestCacheStore implements ImagePullManager.CacheStore {
 
         String cache;
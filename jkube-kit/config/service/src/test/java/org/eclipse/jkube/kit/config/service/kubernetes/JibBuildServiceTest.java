@@ -28,6 +28,7 @@ import org.eclipse.jkube.kit.config.image.ImageConfiguration;
 import org.eclipse.jkube.kit.config.image.RegistryConfig;
 import org.eclipse.jkube.kit.config.image.build.BuildConfiguration;
 import org.eclipse.jkube.kit.config.image.build.JKubeConfiguration;
+import org.eclipse.jkube.kit.config.service.BuildServiceConfig;
 import org.eclipse.jkube.kit.config.service.JKubeServiceHub;
 import org.eclipse.jkube.kit.service.jib.JibServiceUtil;
 import org.junit.Test;
@@ -35,13 +36,16 @@ import org.junit.Test;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.function.UnaryOperator;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 
 
 public class JibBuildServiceTest {
@@ -165,6 +169,66 @@ public class JibBuildServiceTest {
         // @formatter:on
     }
 
+    @Test
+    public void testPushWithPushOnBuild(@Mocked JibServiceUtil jibServiceUtil) throws Exception {
+        // Given
+        // @formatter:off
+        new Expectations() {{
+            serviceHub.getBuildServiceConfig().isJibPushOnBuild(); result = true;
+        }};
+        // @formatter:on
+        // When
+        new JibBuildService(serviceHub, logger).push(Collections.singletonList(getImageConfiguration()), 1, null, false);
+        // Then
+        // @formatter:off
+        new Verifications() {{
+            JibServiceUtil.jibPush((ImageConfiguration)any, (Credential)any, (File)any, logger); times = 0;
+        }};
+        // @formatter:on
+    }
+
+    @Test
+    public void testGetPushRegistryConfigWithOnlyDefaultRegistryProperty() throws IOException {
+        // Given
+        final Properties properties = new Properties();
+        properties.put("jkube.docker.registry", "registry.example.com");
+        final JKubeConfiguration configuration = JKubeConfiguration.builder()
+            .project(JavaProject.builder().properties(properties).build())
+            .registryConfig(RegistryConfig.builder().settings(Collections.emptyList()).build())
+            .build();
+        final List<String> authRegistries = new ArrayList<>();
+        new MockUp<AuthConfigFactory>() {
+            @Mock
+            AuthConfig createAuthConfig(boolean isPush, boolean skipExtendedAuth, Map authConfig, List<RegistryServerConfiguration> settings, String user, String registry, UnaryOperator<String> passwordDecryptionMethod) {
+                authRegistries.add(registry);
+                return AuthConfig.builder().username("testuserpush").password("testpass").build();
+            }
+        };
+        // When
+        final RegistryConfig result = JibBuildService.getPushRegistryConfig(BuildServiceConfig.builder().build(), configuration);
+        final ImageConfiguration imageConfiguration = JibBuildService.prependRegistry(getImageConfiguration(), result.getRegistry());
+        JibBuildService.getRegistryCredentials(result, true, imageConfiguration, logger);
+        // Then
+        assertEquals("registry.example.com", result.getRegistry());
+        assertEquals("registry.example.com/test/testimage:0.0.1", imageConfiguration.getName());
+        assertEquals(Collections.singletonList("registry.example.com"), authRegistries);
+    }
+
+    @Test
+    public void testGetPushRegistryConfigWithBuildServiceConfig() {
+        // Given
+        final RegistryConfig pushRegistryConfig = RegistryConfig.builder().registry("push.example.com").build();
+        final JKubeConfiguration configuration = JKubeConfiguration.builder()
+            .project(JavaProject.builder().properties(new Properties()).build())
+            .registryConfig(RegistryConfig.builder().registry("pull.example.com").build())
+            .build();
+        // When
+        final RegistryConfig result = JibBuildService.getPushRegistryConfig(
+            BuildServiceConfig.builder().jibPushRegistryConfig(pushRegistryConfig).build(), configuration);
+        // Then
+        assertSame(pushRegistryConfig, result);
+    }
+
     private ImageConfiguration getImageConfiguration() {
         return ImageConfiguration.builder()
                 .name("test/testimage:0.0.1")
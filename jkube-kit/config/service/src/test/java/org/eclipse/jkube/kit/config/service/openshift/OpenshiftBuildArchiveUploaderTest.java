@@ -0,0 +1,246 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.config.service.openshift;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import io.fabric8.kubernetes.api.model.StatusBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.openshift.api.model.Build;
+import io.fabric8.openshift.api.model.BuildBuilder;
+import io.fabric8.openshift.api.model.BuildConfig;
+import io.fabric8.openshift.api.model.BuildConfigBuilder;
+import io.fabric8.openshift.api.model.BuildListBuilder;
+import io.fabric8.openshift.client.server.mock.OpenShiftServer;
+import mockit.Mocked;
+import mockit.Verifications;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.eclipse.jkube.kit.common.KitLogger;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
+
+public class OpenshiftBuildArchiveUploaderTest {
+
+  private static final String INSTANTIATE_BINARY_PATH =
+      "/apis/build.openshift.io/v1/namespaces/test/buildconfigs/app-s2i/instantiatebinary?name=app-s2i&namespace=test";
+  private static final String BUILD_CONFIG_PATH = "/apis/build.openshift.io/v1/namespaces/test/buildconfigs/app-s2i";
+  private static final String BUILDS_PATH =
+      "/apis/build.openshift.io/v1/namespaces/test/builds?labelSelector=openshift.io%2Fbuild-config.name%3Dapp-s2i";
+
+  @Rule
+  public final OpenShiftServer mockServer = new OpenShiftServer(false);
+
+  @Rule
+  public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Mocked
+  private KitLogger log;
+
+  private File archive;
+
+  @Before
+  public void setUp() throws IOException {
+    archive = temporaryFolder.newFile("docker-build.tar");
+    FileUtils.write(archive, "build archive content", StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void upload_withCompression_shouldUploadGzipArchive() throws Exception {
+    // Given
+    mockServer.expect().post().withPath(INSTANTIATE_BINARY_PATH).andReturn(201, build()).once();
+    // When
+    final Build result = new OpenshiftBuildArchiveUploader(mockServer.getOpenshiftClient(), log, 9, 0, 0L)
+        .upload("app-s2i", archive);
+    // Then
+    assertThat(result).hasFieldOrPropertyWithValue("metadata.name", "app-s2i-1");
+    assertThat(IOUtils.toString(new GZIPInputStream(
+        uploadRequests().get(0).getBody().inputStream()), StandardCharsets.UTF_8))
+        .isEqualTo("build archive content");
+    assertThat(new File(archive.getParentFile(), "docker-build.tar.gz")).exists();
+    // @formatter:off
+    new Verifications() {{
+      log.info("Uploading build archive for %s: %d%% (%d of %d KB)", "app-s2i", 100, 0L, 0L); times = 1;
+    }};
+    // @formatter:on
+  }
+
+  @Test
+  public void upload_withoutCompression_shouldUploadArchive() throws Exception {
+    // Given
+    mockServer.expect().post().withPath(INSTANTIATE_BINARY_PATH).andReturn(201, build()).once();
+    // When
+    new OpenshiftBuildArchiveUploader(mockServer.getOpenshiftClient(), log, 0, 0, 0L).upload("app-s2i", archive);
+    // Then
+    assertThat(uploadRequests().get(0).getBody().readUtf8()).isEqualTo("build archive content");
+    assertThat(new File(archive.getParentFile(), "docker-build.tar.gz")).doesNotExist();
+  }
+
+  @Test
+  public void upload_withAlreadyCompressedArchive_shouldUploadArchive() throws Exception {
+    // Given
+    final File compressed = temporaryFolder.newFile("docker-build.tar.gz");
+    FileUtils.write(compressed, "compressed content", StandardCharsets.UTF_8);
+    mockServer.expect().post().withPath(INSTANTIATE_BINARY_PATH).andReturn(201, build()).once();
+    // When
+    new OpenshiftBuildArchiveUploader(mockServer.getOpenshiftClient(), log, 3, 0, 0L).upload("app-s2i", compressed);
+    // Then
+    assertThat(uploadRequests().get(0).getBody().readUtf8()).isEqualTo("compressed content");
+    assertThat(new File(compressed.getParentFile(), "docker-build.tar.gz.gz")).doesNotExist();
+  }
+
+  @Test
+  public void upload_withServerErrors_shouldRetry() throws Exception {
+    // Given
+    mockServer.expect().get().withPath(BUILDS_PATH).andReturn(200, new BuildListBuilder().build()).always();
+    mockServer.expect().post().withPath(INSTANTIATE_BINARY_PATH).andReturn(503, "Service Unavailable").times(2);
+    mockServer.expect().post().withPath(INSTANTIATE_BINARY_PATH).andReturn(201, build()).once();
+    // When
+    final Build result = new OpenshiftBuildArchiveUploader(mockServer.getOpenshiftClient(), log, 3, 2, 1L)
+        .upload("app-s2i", archive);
+    // Then
+    assertThat(result).hasFieldOrPropertyWithValue("metadata.name", "app-s2i-1");
+    assertThat(uploadRequests()).hasSize(3);
+  }
+
+  @Test
+  public void upload_withRetriesExhausted_shouldThrowException() throws Exception {
+    // Given
+    mockServer.expect().get().withPath(BUILDS_PATH).andReturn(200, new BuildListBuilder().build()).always();
+    mockServer.expect().post().withPath(INSTANTIATE_BINARY_PATH).andReturn(503, "Service Unavailable").always();
+    final OpenshiftBuildArchiveUploader uploader =
+        new OpenshiftBuildArchiveUploader(mockServer.getOpenshiftClient(), log, 3, 1, 1L);
+    // When
+    final KubernetesClientException result = assertThrows(KubernetesClientException.class,
+        () -> uploader.upload("app-s2i", archive));
+    // Then
+    assertThat(result.getCode()).isEqualTo(503);
+    assertThat(uploadRequests()).hasSize(2);
+  }
+
+  @Test
+  public void upload_withServerErrorAfterBuildStarted_shouldReturnStartedBuild() throws Exception {
+    // Given
+    mockServer.expect().get().withPath(BUILD_CONFIG_PATH).andReturn(200, buildConfig(1L)).always();
+    mockServer.expect().post().withPath(INSTANTIATE_BINARY_PATH).andReturn(504, "Gateway Timeout").once();
+    mockServer.expect().get().withPath(BUILDS_PATH).andReturn(200, new BuildListBuilder()
+        .addToItems(build("app-s2i-1", "1", "Complete"), build("app-s2i-2", "2", "Running"))
+        .build()).always();
+    // When
+    final Build result = new OpenshiftBuildArchiveUploader(mockServer.getOpenshiftClient(), log, 3, 2, 1L)
+        .upload("app-s2i", archive);
+    // Then
+    assertThat(result).hasFieldOrPropertyWithValue("metadata.name", "app-s2i-2");
+    assertThat(uploadRequests()).hasSize(1);
+  }
+
+  @Test
+  public void upload_withServerErrorAfterBuildFailed_shouldRetry() throws Exception {
+    // Given
+    mockServer.expect().get().withPath(BUILD_CONFIG_PATH).andReturn(200, buildConfig(1L)).always();
+    mockServer.expect().post().withPath(INSTANTIATE_BINARY_PATH).andReturn(504, "Gateway Timeout").once();
+    mockServer.expect().post().withPath(INSTANTIATE_BINARY_PATH).andReturn(201, build()).once();
+    mockServer.expect().get().withPath(BUILDS_PATH).andReturn(200, new BuildListBuilder()
+        .addToItems(build("app-s2i-2", "2", "Failed"))
+        .build()).always();
+    // When
+    final Build result = new OpenshiftBuildArchiveUploader(mockServer.getOpenshiftClient(), log, 3, 2, 1L)
+        .upload("app-s2i", archive);
+    // Then
+    assertThat(result).hasFieldOrPropertyWithValue("metadata.name", "app-s2i-1");
+    assertThat(uploadRequests()).hasSize(2);
+  }
+
+  @Test
+  public void upload_withBuildLookupFailure_shouldNotRetry() throws Exception {
+    // Given
+    mockServer.expect().post().withPath(INSTANTIATE_BINARY_PATH).andReturn(504, "Gateway Timeout").always();
+    mockServer.expect().get().withPath(BUILDS_PATH).andReturn(500, "Internal Server Error").always();
+    final OpenshiftBuildArchiveUploader uploader =
+        new OpenshiftBuildArchiveUploader(mockServer.getOpenshiftClient(), log, 3, 2, 1L);
+    // When
+    final KubernetesClientException result = assertThrows(KubernetesClientException.class,
+        () -> uploader.upload("app-s2i", archive));
+    // Then
+    assertThat(result.getCode()).isEqualTo(504);
+    assertThat(uploadRequests()).hasSize(1);
+  }
+
+  @Test
+  public void upload_withClientError_shouldNotRetry() throws Exception {
+    // Given
+    mockServer.expect().post().withPath(INSTANTIATE_BINARY_PATH)
+        .andReturn(404, new StatusBuilder().withCode(404).withMessage("Not found").build()).always();
+    final OpenshiftBuildArchiveUploader uploader =
+        new OpenshiftBuildArchiveUploader(mockServer.getOpenshiftClient(), log, 3, 2, 1L);
+    // When
+    final KubernetesClientException result = assertThrows(KubernetesClientException.class,
+        () -> uploader.upload("app-s2i", archive));
+    // Then
+    assertThat(result.getCode()).isEqualTo(404);
+    assertThat(uploadRequests()).hasSize(1);
+  }
+
+  @Test
+  public void isRetryable_withNetworkError_shouldReturnTrue() {
+    assertThat(OpenshiftBuildArchiveUploader.isRetryable(
+        new KubernetesClientException("Stream Closed", new IOException("Stream Closed")))).isTrue();
+  }
+
+  @Test
+  public void constructor_withInvalidCompressionLevel_shouldThrowException() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new OpenshiftBuildArchiveUploader(mockServer.getOpenshiftClient(), log, 10, 0, 0L));
+  }
+
+  private List<RecordedRequest> uploadRequests() throws InterruptedException {
+    final List<RecordedRequest> ret = new ArrayList<>();
+    for (int i = mockServer.getMockServer().getRequestCount(); i > 0; i--) {
+      final RecordedRequest request = mockServer.getMockServer().takeRequest();
+      if (request.getPath().equals(INSTANTIATE_BINARY_PATH)) {
+        ret.add(request);
+      }
+    }
+    return ret;
+  }
+
+  private static Build build() {
+    return new BuildBuilder().withNewMetadata().withName("app-s2i-1").endMetadata().build();
+  }
+
+  private static Build build(String name, String buildNumber, String phase) {
+    return new BuildBuilder()
+        .withNewMetadata().withName(name).addToAnnotations("openshift.io/build.number", buildNumber).endMetadata()
+        .withNewStatus().withPhase(phase).endStatus()
+        .build();
+  }
+
+  private static BuildConfig buildConfig(long lastVersion) {
+    return new BuildConfigBuilder()
+        .withNewMetadata().withName("app-s2i").endMetadata()
+        .withNewStatus().withLastVersion(lastVersion).endStatus()
+        .build();
+  }
+}
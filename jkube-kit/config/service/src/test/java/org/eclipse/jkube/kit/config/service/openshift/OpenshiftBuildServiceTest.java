@@ -590,7 +590,7 @@ public class OpenshiftBuildServiceTest {
 
         String buildStatus = success ? "Complete" : "Fail";
         Build build = new BuildBuilder()
-                .withNewMetadata().withResourceVersion("2").endMetadata()
+                .withNewMetadata().withName(projectName).withResourceVersion("2").endMetadata()
                 .withNewStatus().withPhase(buildStatus).endStatus()
                 .build();
 
@@ -637,7 +637,8 @@ public class OpenshiftBuildServiceTest {
                 .always();
 
         mockServer.expect().withPath("/apis/build.openshift.io/v1/namespaces/test/builds/" + projectName).andReturn(200, build).always();
-        mockServer.expect().withPath("/apis/build.openshift.io/v1/namespaces/test/builds?fieldSelector=metadata.name%3D" + projectName + "&watch=true")
+        mockServer.expect().withPath("/apis/build.openshift.io/v1/namespaces/test/builds?labelSelector="
+                + "openshift.io%2Fbuild-config.name%20in%20%28" + projectName + s2iBuildNameSuffix + "%29&watch=true")
                 .andUpgradeToWebSocket().open()
                 .waitFor(buildDelay)
                 .andEmit(new WatchEvent(build, "MODIFIED"))
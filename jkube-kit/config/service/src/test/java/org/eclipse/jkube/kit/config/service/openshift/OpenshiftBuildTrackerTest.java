@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.config.service.openshift;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.WatchEvent;
+import io.fabric8.openshift.api.model.Build;
+import io.fabric8.openshift.api.model.BuildBuilder;
+import io.fabric8.openshift.client.server.mock.OpenShiftServer;
+import org.eclipse.jkube.kit.common.KitLogger;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OpenshiftBuildTrackerTest {
+
+  @Rule
+  public final OpenShiftServer mockServer = new OpenShiftServer(false);
+
+  private static final String BUILDS_WATCH_PATH = "/apis/build.openshift.io/v1/namespaces/test/builds"
+      + "?labelSelector=openshift.io%2Fbuild-config.name%20in%20%28app%29&watch=true";
+
+  private final KitLogger log = new KitLogger.StdoutLogger();
+
+  @Test
+  public void waitUntilFinished_withBuildsFinishedInWatch_shouldReturnFinishedBuilds() {
+    // Given
+    expectBuild(build("app-1", "Running"));
+    expectBuild(build("app-2", "Running"));
+    mockServer.expect().withPath(BUILDS_WATCH_PATH)
+        .andUpgradeToWebSocket().open()
+        .waitFor(50).andEmit(new WatchEvent(build("other-1", "Complete"), "MODIFIED"))
+        .waitFor(50).andEmit(new WatchEvent(build("app-2", "Failed"), "MODIFIED"))
+        .waitFor(50).andEmit(new WatchEvent(build("app-1", "Complete"), "MODIFIED"))
+        .done().always();
+    try (OpenshiftBuildTracker tracker = new OpenshiftBuildTracker(
+        mockServer.getOpenshiftClient(), Collections.singletonList("app"), Arrays.asList("app-1", "app-2"), log)) {
+      tracker.start();
+      // When
+      final Build app1 = tracker.waitUntilFinished("app-1");
+      final Build app2 = tracker.waitUntilFinished("app-2");
+      // Then
+      assertThat(app1).hasFieldOrPropertyWithValue("status.phase", "Complete");
+      assertThat(app2).hasFieldOrPropertyWithValue("status.phase", "Failed");
+    }
+  }
+
+  @Test
+  public void waitUntilFinished_withAlreadyFinishedBuild_shouldReturnBuild() {
+    // Given
+    expectBuild(build("app-1", "Complete"));
+    mockServer.expect().withPath(BUILDS_WATCH_PATH)
+        .andUpgradeToWebSocket().open().done().always();
+    try (OpenshiftBuildTracker tracker = new OpenshiftBuildTracker(
+        mockServer.getOpenshiftClient(), Collections.singletonList("app"), Collections.singletonList("app-1"), log)) {
+      tracker.start();
+      // When
+      final Build result = tracker.waitUntilFinished("app-1");
+      // Then
+      assertThat(result).hasFieldOrPropertyWithValue("status.phase", "Complete");
+    }
+  }
+
+  @Test
+  public void waitUntilFinished_withForeignBuild_shouldIgnoreForeignBuild() {
+    // Given
+    expectBuild(build("app-1", "Running"));
+    mockServer.expect().withPath(BUILDS_WATCH_PATH)
+        .andUpgradeToWebSocket().open()
+        .waitFor(50).andEmit(new WatchEvent(build("other-1", "Failed"), "MODIFIED"))
+        .waitFor(50).andEmit(new WatchEvent(build("app-1", "Complete"), "MODIFIED"))
+        .done().always();
+    try (OpenshiftBuildTracker tracker = new OpenshiftBuildTracker(
+        mockServer.getOpenshiftClient(), Collections.singletonList("app"), Collections.singletonList("app-1"), log)) {
+      tracker.start();
+      // When
+      final Build result = tracker.waitUntilFinished("app-1");
+      // Then
+      assertThat(result)
+          .hasFieldOrPropertyWithValue("metadata.name", "app-1")
+          .hasFieldOrPropertyWithValue("status.phase", "Complete");
+    }
+  }
+
+  @Test
+  public void hasStartedContainer_withWaitingContainer_shouldReturnFalse() {
+    assertThat(OpenshiftBuildTracker.hasStartedContainer(new PodBuilder()
+        .withNewStatus().addNewContainerStatus().withNewState().withNewWaiting().endWaiting().endState()
+        .endContainerStatus().endStatus().build())).isFalse();
+    assertThat(OpenshiftBuildTracker.hasStartedContainer(new PodBuilder().build())).isFalse();
+  }
+
+  @Test
+  public void hasStartedContainer_withRunningContainer_shouldReturnTrue() {
+    assertThat(OpenshiftBuildTracker.hasStartedContainer(new PodBuilder()
+        .withNewStatus().addNewContainerStatus().withNewState().withNewRunning().endRunning().endState()
+        .endContainerStatus().endStatus().build())).isTrue();
+  }
+
+  private void expectBuild(Build build) {
+    mockServer.expect().get()
+        .withPath("/apis/build.openshift.io/v1/namespaces/test/builds/" + build.getMetadata().getName())
+        .andReturn(200, build).always();
+  }
+
+  private static Build build(String name, String phase) {
+    return new BuildBuilder()
+        .withNewMetadata().withName(name)
+        .addToLabels("openshift.io/build-config.name", name.substring(0, name.lastIndexOf('-')))
+        .endMetadata()
+        .withNewStatus().withPhase(phase).endStatus()
+        .build();
+  }
+}
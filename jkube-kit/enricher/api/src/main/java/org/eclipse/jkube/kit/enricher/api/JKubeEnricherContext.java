@@ -13,11 +13,14 @@
  */
 package org.eclipse.jkube.kit.enricher.api;
 
+import java.io.Closeable;
 import java.io.File;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
@@ -34,7 +37,7 @@ import org.eclipse.jkube.kit.common.JavaProject;
 import org.eclipse.jkube.kit.common.Dependency;
 import org.eclipse.jkube.kit.common.Plugin;
 import org.eclipse.jkube.kit.common.KitLogger;
-import org.eclipse.jkube.kit.common.util.ClassUtil;
+import org.eclipse.jkube.kit.common.service.ProjectResourcesService;
 import org.eclipse.jkube.kit.common.util.JKubeProjectUtil;
 import org.eclipse.jkube.kit.config.resource.GroupArtifactVersion;
 import org.eclipse.jkube.kit.config.resource.ProcessorConfig;
@@ -52,7 +55,7 @@ import org.apache.commons.lang3.StringUtils;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
 @EqualsAndHashCode
-public class JKubeEnricherContext implements EnricherContext {
+public class JKubeEnricherContext implements EnricherContext, Closeable {
 
     /**
      * overall configuration for the build.
@@ -62,16 +65,22 @@ public class JKubeEnricherContext implements EnricherContext {
     private Map<String, String> processingInstruction;
     private JavaProject project;
     private KitLogger log;
+    private ProjectClassLoaders projectClassLoaders;
+    // Owns the class loader created when no project class loaders were provided, released by close()
+    @Getter(AccessLevel.NONE)
+    private final transient AtomicReference<ProjectResourcesService> projectResources = new AtomicReference<>();
 
     @Builder
     public JKubeEnricherContext(
         @Singular  List<RegistryServerConfiguration> settings, @Singular Map<String, String> processingInstructions,
         JavaProject project, KitLogger log,
-        ResourceConfig resources, @Singular List<ImageConfiguration> images, ProcessorConfig processorConfig) {
+        ResourceConfig resources, @Singular List<ImageConfiguration> images, ProcessorConfig processorConfig,
+        ProjectClassLoaders projectClassLoaders) {
         this.settings = settings;
         this.processingInstruction = processingInstructions;
         this.project = project;
         this.log = log;
+        this.projectClassLoaders = projectClassLoaders;
         this.configuration = Configuration.builder()
             .images(images)
             .resource(resources)
@@ -143,9 +152,25 @@ public class JKubeEnricherContext implements EnricherContext {
 
     @Override
     public ProjectClassLoaders getProjectClassLoaders() {
-        return new ProjectClassLoaders(ClassUtil.createClassLoader(
-            getProject().getCompileClassPathElements(), getProject().getOutputDirectory().getAbsolutePath())
-        );
+        if (projectClassLoaders != null) {
+            return projectClassLoaders;
+        }
+        if (projectResources.get() == null) {
+            projectResources.compareAndSet(null, new ProjectResourcesService(getProject()));
+        }
+        return projectResources.get().getProjectClassLoaders();
+    }
+
+    /**
+     * Closes the project class loaders created by this context, if any. Project class loaders provided through the
+     * builder are owned by the caller and are not closed.
+     */
+    @Override
+    public void close() throws IOException {
+        final ProjectResourcesService service = projectResources.getAndSet(null);
+        if (service != null) {
+            service.close();
+        }
     }
 
     @Override
@@ -46,12 +46,7 @@ import org.eclipse.jkube.kit.config.resource.GroupArtifactVersion;
 import org.eclipse.jkube.kit.config.resource.PlatformMode;
 import org.eclipse.jkube.kit.config.resource.ResourceVersioning;
 
-import com.fasterxml.jackson.core.JsonFactory;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.api.model.Container;
@@ -112,6 +107,9 @@ public class KubernetesResourceUtil {
 
     protected static final String DATE_TIME_FORMAT = "yyyy-MM-dd'T'HH:mm:ssX";
 
+    // Thread-safe once configured, shared by all the fragment conversions
+    private static final ObjectMapper FRAGMENT_MAPPER = new ObjectMapper();
+
     static {
         KubernetesResourceUtil.SIMPLE_FIELD_TYPES.add(String.class);
         KubernetesResourceUtil.SIMPLE_FIELD_TYPES.add(Double.class);
@@ -146,9 +144,8 @@ public class KubernetesResourceUtil {
                                                                   File[] resourceFiles) throws IOException {
         KubernetesListBuilder builder = new KubernetesListBuilder();
         if (resourceFiles != null) {
-            for (File file : resourceFiles) {
-                builder.addToItems(convertFragmentToHasMetadata(platformMode, apiVersions, defaultName, file));
-            }
+            builder.addAllToItems(ResourceFragmentLoader.convertAll(resourceFiles,
+                file -> convertFragmentToHasMetadata(platformMode, apiVersions, defaultName, file)));
         }
         return builder;
     }
@@ -189,9 +186,8 @@ public class KubernetesResourceUtil {
     public static HasMetadata getResource(PlatformMode platformMode, ResourceVersioning apiVersions,
                                           File file, String appName) throws IOException {
         Map<String,Object> fragment = readAndEnrichFragment(platformMode, apiVersions, file, appName);
-        ObjectMapper mapper = new ObjectMapper();
         try {
-            return mapper.convertValue(fragment, HasMetadata.class);
+            return FRAGMENT_MAPPER.convertValue(fragment, HasMetadata.class);
         } catch (ClassCastException exp) {
             throw new IllegalArgumentException(String.format("Resource fragment %s has an invalid syntax (%s)", file.getPath(), exp.getMessage()));
         }
@@ -248,7 +244,7 @@ public class KubernetesResourceUtil {
         String ext = matcher.group("ext").toLowerCase();
         String kind;
 
-        Map<String,Object> fragment = readFragment(file, ext);
+        Map<String,Object> fragment = ResourceFragmentLoader.readFragment(file, "json".equals(ext));
 
         if (type != null) {
             kind = getAndValidateKindFromType(file, type);
@@ -351,17 +347,6 @@ public class KubernetesResourceUtil {
         }
     }
 
-    private static Map<String,Object> readFragment(File file, String ext) throws IOException {
-        ObjectMapper mapper = new ObjectMapper("json".equals(ext) ? new JsonFactory() : new YAMLFactory());
-        TypeReference<HashMap<String,Object>> typeRef = new TypeReference<HashMap<String,Object>>() {};
-        try {
-            Map<String, Object> ret = mapper.readValue(file, typeRef);
-            return ret != null ? ret : new HashMap<>();
-        } catch (JsonProcessingException e) {
-            throw new JsonMappingException(String.format("[%s] %s", file, e.getMessage()), e.getLocation(), e);
-        }
-    }
-
     public static String getNameWithSuffix(String name, String kind) {
         String suffix =  KIND_TO_FILENAME_MAPPER.get(kind);
         return suffix != null ? name +  "-" + suffix : name;
@@ -0,0 +1,212 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.enricher.api.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+/**
+ * Loads resource fragments for {@link KubernetesResourceUtil}.
+ *
+ * <p> Fragments are parsed with shared, preconfigured (thread-safe) readers. Parsed fragments are cached by path and
+ * invalidated when the file's modification time or size changes, so that several goals in the same build don't
+ * re-read unchanged fragments. The cache keeps the {@value #MAX_CACHED_FRAGMENTS} most recently read fragments only.
+ * Callers always get their own copy of the cached fragment, since fragments are enriched in place.
+ *
+ * <p> Fragments are converted on a single shared pool of (daemon) threads, idle threads are discarded after a while.
+ */
+final class ResourceFragmentLoader {
+
+  private static final TypeReference<HashMap<String, Object>> FRAGMENT_TYPE = new TypeReference<HashMap<String, Object>>() {};
+  private static final ObjectReader JSON_READER = new ObjectMapper(new JsonFactory()).readerFor(FRAGMENT_TYPE);
+  private static final ObjectReader YAML_READER = new ObjectMapper(new YAMLFactory()).readerFor(FRAGMENT_TYPE);
+  static final int MAX_CACHED_FRAGMENTS = 256;
+  private static final long IDLE_THREAD_TIMEOUT_SECONDS = 30L;
+  private static final Map<String, CachedFragment> FRAGMENTS = Collections.synchronizedMap(
+      new LinkedHashMap<String, CachedFragment>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedFragment> eldest) {
+          return size() > MAX_CACHED_FRAGMENTS;
+        }
+      });
+  private static final ExecutorService EXECUTOR = executor();
+
+  private ResourceFragmentLoader() { }
+
+  /**
+   * Functional interface for a fragment conversion which may throw an IOException.
+   */
+  @FunctionalInterface
+  interface FragmentConverter<T> {
+    T convert(File file) throws IOException;
+  }
+
+  /**
+   * Converts the provided files in parallel, preserving their order.
+   *
+   * @param files the fragment files.
+   * @param converter the conversion to apply to each file.
+   * @param <T> type of the converted fragments.
+   * @return the converted fragments in the same order as the files.
+   * @throws IOException the first error (in file order) thrown by the conversion.
+   */
+  static <T> List<T> convertAll(File[] files, FragmentConverter<T> converter) throws IOException {
+    final List<T> ret = new ArrayList<>(files.length);
+    if (files.length < 2) {
+      for (File file : files) {
+        ret.add(converter.convert(file));
+      }
+      return ret;
+    }
+    // Deserialization of resources relies on the caller's (plugin) class loader
+    final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+    final List<Future<T>> futures = new ArrayList<>(files.length);
+    try {
+      for (File file : files) {
+        futures.add(EXECUTOR.submit(() -> convert(file, converter, contextClassLoader)));
+      }
+      for (Future<T> future : futures) {
+        ret.add(future.get());
+      }
+      return ret;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while reading resource fragments", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      if (e.getCause() instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) e.getCause()).getCause();
+      }
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IOException(e.getCause());
+    } finally {
+      futures.forEach(future -> future.cancel(true));
+    }
+  }
+
+  private static <T> T convert(File file, FragmentConverter<T> converter, ClassLoader contextClassLoader)
+      throws IOException {
+    final Thread thread = Thread.currentThread();
+    final ClassLoader previous = thread.getContextClassLoader();
+    thread.setContextClassLoader(contextClassLoader);
+    try {
+      return converter.convert(file);
+    } finally {
+      thread.setContextClassLoader(previous);
+    }
+  }
+
+  /**
+   * Returns a (mutable) copy of the fragment parsed from the provided file.
+   *
+   * @param file the fragment file.
+   * @param json whether the file is JSON (YAML otherwise).
+   * @return the parsed fragment.
+   * @throws IOException if the file can't be read or parsed.
+   */
+  static Map<String, Object> readFragment(File file, boolean json) throws IOException {
+    final String key = file.getAbsolutePath();
+    final long lastModified = file.lastModified();
+    final long length = file.length();
+    CachedFragment cached = FRAGMENTS.get(key);
+    if (cached == null || cached.lastModified != lastModified || cached.length != length || lastModified == 0L) {
+      cached = new CachedFragment(lastModified, length, parse(file, json));
+      FRAGMENTS.put(key, cached);
+    }
+    return copyOf(cached.fragment);
+  }
+
+  static void clearCache() {
+    FRAGMENTS.clear();
+  }
+
+  static int cacheSize() {
+    return FRAGMENTS.size();
+  }
+
+  private static Map<String, Object> parse(File file, boolean json) throws IOException {
+    try {
+      final Map<String, Object> ret = (json ? JSON_READER : YAML_READER).readValue(file);
+      return ret != null ? ret : new HashMap<>();
+    } catch (JsonProcessingException e) {
+      throw new JsonMappingException(String.format("[%s] %s", file, e.getMessage()), e.getLocation(), e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T copyOf(T value) {
+    if (value instanceof Map) {
+      final Map<String, Object> copy = new LinkedHashMap<>();
+      ((Map<String, Object>) value).forEach((k, v) -> copy.put(k, copyOf(v)));
+      return (T) copy;
+    }
+    if (value instanceof List) {
+      final List<Object> copy = new ArrayList<>();
+      ((List<Object>) value).forEach(v -> copy.add(copyOf(v)));
+      return (T) copy;
+    }
+    return value;
+  }
+
+  private static ExecutorService executor() {
+    final int threads = Runtime.getRuntime().availableProcessors();
+    final AtomicInteger count = new AtomicInteger();
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads,
+        IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+          final Thread thread = new Thread(runnable, "jkube-fragment-loader-" + count.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  private static final class CachedFragment {
+    private final long lastModified;
+    private final long length;
+    private final Map<String, Object> fragment;
+
+    private CachedFragment(long lastModified, long length, Map<String, Object> fragment) {
+      this.lastModified = lastModified;
+      this.length = length;
+      this.fragment = fragment;
+    }
+  }
+}
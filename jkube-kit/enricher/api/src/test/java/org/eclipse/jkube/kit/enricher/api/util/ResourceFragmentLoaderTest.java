@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.enricher.api.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
+
+@SuppressWarnings("unchecked")
+public class ResourceFragmentLoaderTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Before
+  public void setUp() {
+    ResourceFragmentLoader.clearCache();
+  }
+
+  @Test
+  public void readFragment_withUnmodifiedFile_shouldReturnIndependentCopies() throws Exception {
+    // Given
+    final File fragment = temporaryFolder.newFile("app-cm.yml");
+    FileUtils.write(fragment, "metadata:\n  labels:\n    app: test\n", StandardCharsets.UTF_8);
+    final Map<String, Object> first = ResourceFragmentLoader.readFragment(fragment, false);
+    ((Map<String, Object>) first.get("metadata")).put("name", "modified");
+    // When
+    final Map<String, Object> result = ResourceFragmentLoader.readFragment(fragment, false);
+    // Then
+    assertThat(result).extracting("metadata").asInstanceOf(InstanceOfAssertFactories.MAP)
+        .containsOnlyKeys("labels");
+  }
+
+  @Test
+  public void readFragment_withModifiedFile_shouldParseFileAgain() throws Exception {
+    // Given
+    final File fragment = temporaryFolder.newFile("app-cm.json");
+    FileUtils.write(fragment, "{\"data\":{\"key\":\"value\"}}", StandardCharsets.UTF_8);
+    ResourceFragmentLoader.readFragment(fragment, true);
+    FileUtils.write(fragment, "{\"data\":{\"key\":\"other-value\"}}", StandardCharsets.UTF_8);
+    // When
+    final Map<String, Object> result = ResourceFragmentLoader.readFragment(fragment, true);
+    // Then
+    assertThat(result).extracting("data").hasFieldOrPropertyWithValue("key", "other-value");
+  }
+
+  @Test
+  public void convertAll_shouldPreserveFileOrder() throws Exception {
+    // Given
+    final File[] files = new File[20];
+    for (int i = 0; i < files.length; i++) {
+      files[i] = new File("fragment-" + i);
+    }
+    // When
+    final List<String> result = ResourceFragmentLoader.convertAll(files, File::getName);
+    // Then
+    assertThat(result).hasSize(20).startsWith("fragment-0", "fragment-1").endsWith("fragment-19");
+  }
+
+  @Test
+  public void convertAll_withFailures_shouldThrowFirstFailureInFileOrder() {
+    // Given
+    final File[] files = { new File("ok"), new File("first"), new File("second") };
+    // When
+    final IOException result = assertThrows(IOException.class, () -> ResourceFragmentLoader.convertAll(files, f -> {
+      if (!f.getName().equals("ok")) {
+        throw new IOException("Failed " + f.getName());
+      }
+      return f;
+    }));
+    // Then
+    assertThat(result).hasMessage("Failed first");
+  }
+
+  @Test
+  public void readFragment_withManyFiles_shouldKeepCacheBounded() throws Exception {
+    // Given
+    final File folder = temporaryFolder.newFolder("fragments");
+    for (int i = 0; i < ResourceFragmentLoader.MAX_CACHED_FRAGMENTS + 10; i++) {
+      final File fragment = new File(folder, "cm-" + i + ".json");
+      FileUtils.write(fragment, "{\"data\":{\"key\":\"value\"}}", StandardCharsets.UTF_8);
+      // When
+      ResourceFragmentLoader.readFragment(fragment, true);
+    }
+    // Then
+    assertThat(ResourceFragmentLoader.cacheSize()).isEqualTo(ResourceFragmentLoader.MAX_CACHED_FRAGMENTS);
+  }
+
+  @Test
+  public void convertAll_shouldUseSharedThreadsWithCallerContextClassLoader() throws Exception {
+    // Given
+    final File[] files = { new File("first"), new File("second"), new File("third") };
+    final ClassLoader contextClassLoader = new URLClassLoader(new URL[0]);
+    final ClassLoader previous = Thread.currentThread().getContextClassLoader();
+    Thread.currentThread().setContextClassLoader(contextClassLoader);
+    try {
+      // When
+      final List<ClassLoader> result = ResourceFragmentLoader.convertAll(files,
+          f -> Thread.currentThread().getContextClassLoader());
+      // Then
+      assertThat(result).containsOnly(contextClassLoader);
+    } finally {
+      Thread.currentThread().setContextClassLoader(previous);
+    }
+  }
+}
@@ -188,7 +188,7 @@ public class DefaultServiceEnricher extends BaseEnricher {
         try {
             if (getContext().getProjectClassLoaders().isClassInCompileClasspath(true)) {
                 Properties
-                    properties = SpringBootUtil.getSpringBootApplicationProperties(getContext().getProjectClassLoaders().getCompileClassLoader());
+                    properties = SpringBootUtil.getSpringBootApplicationProperties(getContext().getProjectClassLoaders());
                 return properties.getProperty("spring.application.name");
             }
         } catch (Exception ex) {
@@ -22,11 +22,16 @@ import lombok.NoArgsConstructor;
 import org.eclipse.jkube.kit.common.JavaProject;
 import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.service.ArtifactResolverService;
+import org.eclipse.jkube.kit.common.service.ProjectResourcesService;
+import org.eclipse.jkube.kit.common.util.ProjectClassLoaders;
 import org.eclipse.jkube.kit.config.image.build.JKubeBuildStrategy;
 import org.eclipse.jkube.kit.config.resource.RuntimeMode;
 import org.eclipse.jkube.kit.config.resource.ProcessorConfig;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * @author roland
@@ -36,7 +41,7 @@ import java.util.Optional;
 @AllArgsConstructor
 @Getter
 @EqualsAndHashCode
-public class GeneratorContext {
+public class GeneratorContext implements Closeable {
     private JavaProject project;
     private ProcessorConfig config;
     private KitLogger logger;
@@ -48,9 +53,34 @@ public class GeneratorContext {
     private ArtifactResolverService artifactResolver;
 
     private GeneratorMode generatorMode;
-
+    private ProjectClassLoaders projectClassLoaders;
+    // Owns the class loader created when no project class loaders were provided, released by close()
+    @Getter(AccessLevel.NONE)
+    private final transient AtomicReference<ProjectResourcesService> projectResources = new AtomicReference<>();
 
     public GeneratorMode getGeneratorMode() {
         return Optional.ofNullable(generatorMode).orElse(GeneratorMode.BUILD);
     }
+
+    public ProjectClassLoaders getProjectClassLoaders() {
+        if (projectClassLoaders != null) {
+            return projectClassLoaders;
+        }
+        if (projectResources.get() == null) {
+            projectResources.compareAndSet(null, new ProjectResourcesService(project));
+        }
+        return projectResources.get().getProjectClassLoaders();
+    }
+
+    /**
+     * Closes the project class loaders created by this context, if any. Project class loaders provided through the
+     * builder are owned by the caller and are not closed.
+     */
+    @Override
+    public void close() throws IOException {
+        final ProjectResourcesService service = projectResources.getAndSet(null);
+        if (service != null) {
+            service.close();
+        }
+    }
 }
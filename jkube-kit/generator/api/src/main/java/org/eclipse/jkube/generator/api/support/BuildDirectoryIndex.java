@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.generator.api.support;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Index of the files contained in a project's build directory.
+ *
+ * <p> The directory is walked only once, the first time the index is queried, so that several generators or
+ * handlers can look for files in the build directory without each of them scanning it again.
+ *
+ * <p> Patterns are matched using {@link java.nio.file.FileSystem#getPathMatcher(String)} against the absolute path
+ * of each file, the resulting {@link PathMatcher}s are compiled once and reused.
+ */
+public class BuildDirectoryIndex {
+
+  private final File buildDirectory;
+  private final Map<String, PathMatcher> matchers;
+  private List<Path> paths;
+
+  public BuildDirectoryIndex(File buildDirectory) {
+    this.buildDirectory = buildDirectory;
+    this.matchers = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Check whether one of the given file patterns can be found in the build directory.
+   *
+   * @param patterns patterns to check (e.g. <code>glob:**&#47;WEB-INF/web.xml</code>).
+   * @return true if at least one file matches any of the provided patterns.
+   * @throws IOException if the build directory can't be scanned.
+   */
+  public boolean hasOneOf(String... patterns) throws IOException {
+    final List<PathMatcher> patternMatchers = toMatchers(patterns);
+    return getPaths().stream().anyMatch(path -> patternMatchers.stream().anyMatch(m -> m.matches(path)));
+  }
+
+  private List<PathMatcher> toMatchers(String... patterns) {
+    return Stream.of(patterns)
+        .map(pattern -> matchers.computeIfAbsent(pattern, FileSystems.getDefault()::getPathMatcher))
+        .collect(Collectors.toList());
+  }
+
+  private synchronized List<Path> getPaths() throws IOException {
+    if (paths == null) {
+      if (buildDirectory != null && buildDirectory.exists()) {
+        try (Stream<Path> fileStream = Files.walk(buildDirectory.toPath())) {
+          paths = Collections.unmodifiableList(fileStream.collect(Collectors.toList()));
+        }
+      } else {
+        paths = Collections.emptyList();
+      }
+    }
+    return paths;
+  }
+}
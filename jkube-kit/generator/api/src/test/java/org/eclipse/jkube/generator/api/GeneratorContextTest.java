@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.generator.api;
+
+import java.io.File;
+
+import org.eclipse.jkube.kit.common.JavaProject;
+import org.eclipse.jkube.kit.common.util.ProjectClassLoaders;
+
+import mockit.Mocked;
+import mockit.Verifications;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class GeneratorContextTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void getProjectClassLoaders_withoutProvidedClassLoaders_shouldReuseAndCloseCreatedClassLoaders() throws Exception {
+    // Given
+    final File outputDirectory = folder.newFolder("classes");
+    assertTrue(new File(outputDirectory, "application.properties").createNewFile());
+    final GeneratorContext generatorContext = GeneratorContext.builder()
+        .project(JavaProject.builder().outputDirectory(outputDirectory).build())
+        .build();
+    final ProjectClassLoaders created = generatorContext.getProjectClassLoaders();
+    assertSame(created, generatorContext.getProjectClassLoaders());
+    assertNotNull(created.getCompileClassLoader().findResource("application.properties"));
+    // When
+    generatorContext.close();
+    // Then
+    assertNull(created.getCompileClassLoader().findResource("application.properties"));
+  }
+
+  @Test
+  public void close_withProvidedClassLoaders_shouldNotCloseThem(@Mocked ProjectClassLoaders projectClassLoaders) throws Exception {
+    // Given
+    final GeneratorContext generatorContext = GeneratorContext.builder()
+        .projectClassLoaders(projectClassLoaders)
+        .build();
+    // When
+    generatorContext.close();
+    // Then
+    assertSame(projectClassLoaders, generatorContext.getProjectClassLoaders());
+    // @formatter:off
+    new Verifications() {{
+      projectClassLoaders.close(); times = 0;
+    }};
+    // @formatter:on
+  }
+}
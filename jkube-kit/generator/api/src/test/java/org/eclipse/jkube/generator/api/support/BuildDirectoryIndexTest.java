@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.generator.api.support;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BuildDirectoryIndexTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void hasOneOf_withMatchingFile_shouldReturnTrue() throws IOException {
+    // Given
+    final File webInf = temporaryFolder.newFolder("app", "WEB-INF");
+    assertTrue(new File(webInf, "web.xml").createNewFile());
+    final BuildDirectoryIndex index = new BuildDirectoryIndex(temporaryFolder.getRoot());
+    // When
+    final boolean result = index.hasOneOf("glob:**/META-INF/context.xml", "glob:**/WEB-INF/web.xml");
+    // Then
+    assertTrue(result);
+  }
+
+  @Test
+  public void hasOneOf_withNoMatchingFile_shouldReturnFalse() throws IOException {
+    // Given
+    temporaryFolder.newFolder("app", "WEB-INF");
+    final BuildDirectoryIndex index = new BuildDirectoryIndex(temporaryFolder.getRoot());
+    // When
+    final boolean result = index.hasOneOf("glob:**/WEB-INF/web.xml");
+    // Then
+    assertFalse(result);
+  }
+
+  @Test
+  public void hasOneOf_withNonExistentDirectory_shouldReturnFalse() throws IOException {
+    // Given
+    final BuildDirectoryIndex index = new BuildDirectoryIndex(new File(temporaryFolder.getRoot(), "missing"));
+    // When
+    final boolean result = index.hasOneOf("glob:**/*");
+    // Then
+    assertFalse(result);
+  }
+
+  @Test
+  public void hasOneOf_walksDirectoryOnlyOnce() throws IOException {
+    // Given
+    final BuildDirectoryIndex index = new BuildDirectoryIndex(temporaryFolder.getRoot());
+    assertFalse(index.hasOneOf("glob:**/late.xml"));
+    assertTrue(temporaryFolder.newFile("late.xml").exists());
+    // When
+    final boolean result = index.hasOneOf("glob:**/late.xml");
+    // Then
+    assertFalse(result);
+  }
+}
@@ -18,6 +18,7 @@ import java.util.HashMap;
 import java.util.List;
 
 import org.eclipse.jkube.generator.api.GeneratorContext;
+import org.eclipse.jkube.generator.api.support.BuildDirectoryIndex;
 import org.eclipse.jkube.generator.webapp.handler.JettyAppSeverHandler;
 import org.eclipse.jkube.generator.webapp.handler.TomcatAppSeverHandler;
 import org.eclipse.jkube.generator.webapp.handler.WildFlyAppSeverHandler;
@@ -32,11 +33,14 @@ class AppServerDetector {
     private final HashMap<String, AppServerHandler> serverHandlerMap;
 
     AppServerDetector(GeneratorContext generatorContext) {
+        // Build directory is scanned once and shared by all handlers
+        final BuildDirectoryIndex buildDirectoryIndex = new BuildDirectoryIndex(
+            generatorContext.getProject().getBuildDirectory());
         // Add new handlers to this list for new appservers
-        defaultHandler = new TomcatAppSeverHandler(generatorContext);
+        defaultHandler = new TomcatAppSeverHandler(generatorContext, buildDirectoryIndex);
         serverHandlers = Arrays.asList(
-            new JettyAppSeverHandler(generatorContext),
-            new WildFlyAppSeverHandler(generatorContext),
+            new JettyAppSeverHandler(generatorContext, buildDirectoryIndex),
+            new WildFlyAppSeverHandler(generatorContext, buildDirectoryIndex),
             defaultHandler
         );
         serverHandlerMap = new HashMap<>();
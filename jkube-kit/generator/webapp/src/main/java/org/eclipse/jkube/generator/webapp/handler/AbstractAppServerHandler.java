@@ -14,14 +14,10 @@
 package org.eclipse.jkube.generator.webapp.handler;
 
 import java.io.IOException;
-import java.net.URI;
-import java.nio.file.FileSystems;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.util.stream.Stream;
 
 import org.eclipse.jkube.generator.api.DefaultImageLookup;
 import org.eclipse.jkube.generator.api.GeneratorContext;
+import org.eclipse.jkube.generator.api.support.BuildDirectoryIndex;
 import org.eclipse.jkube.generator.webapp.AppServerHandler;
 import org.eclipse.jkube.kit.common.JavaProject;
 
@@ -33,11 +29,23 @@ public abstract class AbstractAppServerHandler implements AppServerHandler {
     protected final DefaultImageLookup imageLookup;
     protected final GeneratorContext generatorContext;
     private final String name;
+    private BuildDirectoryIndex buildDirectoryIndex;
 
     protected AbstractAppServerHandler(String name, GeneratorContext generatorContext) {
+        this(name, generatorContext, null);
+    }
+
+    /**
+     * @param name of the app server handler.
+     * @param generatorContext the generator context.
+     * @param buildDirectoryIndex index of the project's build directory shared with other handlers, if null the
+     *                            handler will create its own.
+     */
+    protected AbstractAppServerHandler(String name, GeneratorContext generatorContext, BuildDirectoryIndex buildDirectoryIndex) {
         this.generatorContext = generatorContext;
         this.name = name;
         this.imageLookup = new DefaultImageLookup(this.getClass());
+        this.buildDirectoryIndex = buildDirectoryIndex;
     }
 
     @Override
@@ -49,34 +57,6 @@ public abstract class AbstractAppServerHandler implements AppServerHandler {
         return generatorContext.getProject();
     }
 
-    /**
-     * Scan the project's build directory for certain files.
-     *
-     * Patterns will be matched using {@link java.nio.file.FileSystem#getPathMatcher(String)}.
-     *
-     * @param patterns one or more patterns to match files in the build directory.
-     * @return list of files found matching the provided pattern.
-     */
-    private String[] scanFiles(String... patterns) throws IOException {
-        if (getProject().getBuildDirectory().exists()) {
-            try (Stream<Path> fileStream = Files.walk(getProject().getBuildDirectory().toPath())) {
-                return fileStream
-                    .filter(path -> {
-                        for (String pattern : patterns) {
-                            if (FileSystems.getDefault().getPathMatcher(pattern).matches(path)) {
-                                return true;
-                            }
-                        }
-                        return false;
-                    })
-                    .map(Path::toUri).map(URI::toString)
-                    .toArray(String[]::new);
-            }
-        } else {
-            return new String[0];
-        }
-    }
-
     /**
      * Check whether one of the given file patterns can be found in the project build directory.
      *
@@ -86,6 +66,9 @@ public abstract class AbstractAppServerHandler implements AppServerHandler {
      * @return true if at least one file matches any of the provided patterns.
      */
     protected boolean hasOneOf(String... patterns) throws IOException {
-        return scanFiles(patterns).length > 0;
+        if (buildDirectoryIndex == null) {
+            buildDirectoryIndex = new BuildDirectoryIndex(getProject().getBuildDirectory());
+        }
+        return buildDirectoryIndex.hasOneOf(patterns);
     }
 }
\ No newline at end of file
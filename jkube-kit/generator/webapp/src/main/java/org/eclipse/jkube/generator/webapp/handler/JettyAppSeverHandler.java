@@ -17,6 +17,7 @@ import java.io.IOException;
 import java.util.stream.Stream;
 
 import org.eclipse.jkube.generator.api.GeneratorContext;
+import org.eclipse.jkube.generator.api.support.BuildDirectoryIndex;
 import org.eclipse.jkube.kit.common.util.JKubeProjectUtil;
 
 /**
@@ -29,7 +30,11 @@ public class JettyAppSeverHandler extends AbstractAppServerHandler {
   private static final String JETTY_MAVEN_PLUGIN_ARTIFACT_ID = "jetty-maven-plugin";
 
   public JettyAppSeverHandler(GeneratorContext context) {
-    super("jetty", context);
+    this(context, null);
+  }
+
+  public JettyAppSeverHandler(GeneratorContext context, BuildDirectoryIndex buildDirectoryIndex) {
+    super("jetty", context, buildDirectoryIndex);
   }
 
   @Override
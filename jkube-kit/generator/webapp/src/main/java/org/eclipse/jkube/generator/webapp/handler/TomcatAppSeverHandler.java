@@ -17,6 +17,7 @@ import java.io.IOException;
 import java.util.stream.Stream;
 
 import org.eclipse.jkube.generator.api.GeneratorContext;
+import org.eclipse.jkube.generator.api.support.BuildDirectoryIndex;
 import org.eclipse.jkube.kit.common.util.JKubeProjectUtil;
 
 /**
@@ -29,7 +30,11 @@ public class TomcatAppSeverHandler extends AbstractAppServerHandler {
   private static final String TOMCAT_GROUPID = "org.apache.tomcat.maven";
 
   public TomcatAppSeverHandler(GeneratorContext context) {
-    super("tomcat", context);
+    this(context, null);
+  }
+
+  public TomcatAppSeverHandler(GeneratorContext context, BuildDirectoryIndex buildDirectoryIndex) {
+    super("tomcat", context, buildDirectoryIndex);
   }
 
   @Override
@@ -20,6 +20,7 @@ import java.util.Map;
 
 import org.eclipse.jkube.generator.api.FromSelector;
 import org.eclipse.jkube.generator.api.GeneratorContext;
+import org.eclipse.jkube.generator.api.support.BuildDirectoryIndex;
 import org.eclipse.jkube.kit.common.util.JKubeProjectUtil;
 import org.eclipse.jkube.kit.config.image.build.JKubeBuildStrategy;
 import org.eclipse.jkube.kit.config.resource.RuntimeMode;
@@ -37,7 +38,11 @@ public class WildFlyAppSeverHandler extends AbstractAppServerHandler {
   private final FromSelector fromSelector;
 
   public WildFlyAppSeverHandler(GeneratorContext context) {
-    super(HANDLER_NAME, context);
+    this(context, null);
+  }
+
+  public WildFlyAppSeverHandler(GeneratorContext context, BuildDirectoryIndex buildDirectoryIndex) {
+    super(HANDLER_NAME, context, buildDirectoryIndex);
     this.fromSelector = new FromSelector.Default(context, PROPERTY_IMAGE_NAME);
   }
 
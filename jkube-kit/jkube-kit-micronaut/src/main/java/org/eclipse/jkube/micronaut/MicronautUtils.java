@@ -13,12 +13,10 @@
  */
 package org.eclipse.jkube.micronaut;
 
-import java.net.URLClassLoader;
 import java.util.Properties;
 import java.util.function.Supplier;
 
-import static org.eclipse.jkube.kit.common.util.PropertiesUtil.getPropertiesFromResource;
-import static org.eclipse.jkube.kit.common.util.YamlUtil.getPropertiesFromYamlResource;
+import org.eclipse.jkube.kit.common.util.ProjectClassLoaders;
 
 public class MicronautUtils {
 
@@ -33,11 +31,11 @@ public class MicronautUtils {
   }
 
   @SuppressWarnings("unchecked")
-  public static Properties getMicronautConfiguration(URLClassLoader urlClassLoader) {
+  public static Properties getMicronautConfiguration(ProjectClassLoaders projectClassLoaders) {
     final Supplier<Properties>[] sources = new Supplier[]{
-        () -> getPropertiesFromResource(urlClassLoader.findResource("application.properties")),
-        () -> getPropertiesFromYamlResource(urlClassLoader.findResource("application.yml")),
-        () -> getPropertiesFromYamlResource(urlClassLoader.findResource("application.json"))
+        () -> projectClassLoaders.getPropertiesFromResource("application.properties"),
+        () -> projectClassLoaders.getPropertiesFromYamlResource(null, "application.yml"),
+        () -> projectClassLoaders.getPropertiesFromYamlResource(null, "application.json")
     };
     for (Supplier<Properties> source : sources) {
       final Properties props = source.get();
@@ -27,7 +27,6 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import static org.eclipse.jkube.kit.common.Configs.asInteger;
-import static org.eclipse.jkube.kit.common.util.JKubeProjectUtil.getClassLoader;
 import static org.eclipse.jkube.micronaut.MicronautUtils.getMicronautConfiguration;
 import static org.eclipse.jkube.micronaut.MicronautUtils.isHealthEnabled;
 
@@ -76,7 +75,7 @@ public class MicronautHealthCheckEnricher extends AbstractHealthCheckEnricher {
     if (!getContext().hasPlugin("io.micronaut.build", "micronaut-maven-plugin")) {
       return false;
     }
-    return isHealthEnabled(getMicronautConfiguration(getClassLoader(getContext().getProject())));
+    return isHealthEnabled(getMicronautConfiguration(getContext().getProjectClassLoaders()));
   }
 
   private Probe buildProbe(Integer initialDelaySeconds, Integer periodSeconds){
@@ -21,7 +21,6 @@ import org.eclipse.jkube.generator.javaexec.JavaExecGenerator;
 import org.eclipse.jkube.kit.common.util.JKubeProjectUtil;
 import org.eclipse.jkube.kit.config.image.ImageConfiguration;
 
-import static org.eclipse.jkube.kit.common.util.JKubeProjectUtil.getClassLoader;
 import static org.eclipse.jkube.micronaut.MicronautUtils.extractPort;
 import static org.eclipse.jkube.micronaut.MicronautUtils.getMicronautConfiguration;
 
@@ -41,7 +40,7 @@ public class MicronautGenerator extends JavaExecGenerator {
     protected List<String> extractPorts() {
         final List<String> ports = new ArrayList<>();
         addPortIfValid(ports, getConfig(Config.WEB_PORT, extractPort(
-            getMicronautConfiguration(getClassLoader(getProject())), null
+            getMicronautConfiguration(getContext().getProjectClassLoaders()), null
         )));
         addPortIfValid(ports, getConfig(Config.JOLOKIA_PORT));
         addPortIfValid(ports, getConfig(Config.PROMETHEUS_PORT));
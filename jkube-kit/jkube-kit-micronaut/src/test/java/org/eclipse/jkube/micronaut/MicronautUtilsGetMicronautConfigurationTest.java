@@ -19,6 +19,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Properties;
 
+import org.eclipse.jkube.kit.common.util.ProjectClassLoaders;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
@@ -52,7 +53,7 @@ public class MicronautUtilsGetMicronautConfigurationTest {
         MicronautUtilsGetMicronautConfigurationTest.class.getResource(String.format("/utils-test/port-config/%s/", directory))
     });
     // When
-    final Properties props = getMicronautConfiguration(ucl);
+    final Properties props = getMicronautConfiguration(new ProjectClassLoaders(ucl));
     // Then
     assertThat(props).containsExactly(
         entry("micronaut.application.name", "port-config-test-" + nameSuffix),
@@ -17,6 +17,7 @@ import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.Properties;
 
+import org.eclipse.jkube.kit.common.util.ProjectClassLoaders;
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -74,7 +75,7 @@ public class MicronautUtilsTest {
         MicronautUtilsTest.class.getResource("/utils-test/port-config/properties/")
     });
     // When
-    final Properties props = getMicronautConfiguration(ucl);
+    final Properties props = getMicronautConfiguration(new ProjectClassLoaders(ucl));
     // Then
     assertThat(props).containsExactly(
         entry("micronaut.application.name", "port-config-test-PROPERTIES"),
@@ -88,7 +89,7 @@ public class MicronautUtilsTest {
         MicronautUtilsTest.class.getResource("/")
     });
     // When
-    final Properties props = getMicronautConfiguration(ucl);
+    final Properties props = getMicronautConfiguration(new ProjectClassLoaders(ucl));
     // Then
     assertThat(props).isEmpty();
   }
@@ -13,10 +13,12 @@
  */
 package org.eclipse.jkube.micronaut.enricher;
 
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Properties;
 
+import org.eclipse.jkube.kit.common.util.ProjectClassLoaders;
 import org.eclipse.jkube.kit.config.image.ImageConfiguration;
 import org.eclipse.jkube.kit.config.image.build.BuildConfiguration;
 import org.eclipse.jkube.kit.config.resource.PlatformMode;
@@ -188,8 +190,7 @@ public class MicronautHealthCheckEnricherTest {
     // @formatter:off
     new Expectations() {{
       context.hasPlugin("io.micronaut.build", "micronaut-maven-plugin"); result = true;
-      context.getProject().getCompileClassPathElements(); result = Collections.emptyList();
-      context.getProject().getOutputDirectory().getAbsolutePath(); result = "";
+      context.getProjectClassLoaders(); result = new ProjectClassLoaders(new URLClassLoader(new URL[0]));
     }};
     // @formatter:on
   }
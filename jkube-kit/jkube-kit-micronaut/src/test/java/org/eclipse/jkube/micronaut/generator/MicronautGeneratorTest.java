@@ -13,13 +13,15 @@
  */
 package org.eclipse.jkube.micronaut.generator;
 
-import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.jkube.generator.api.GeneratorContext;
 import org.eclipse.jkube.kit.common.JavaProject;
 import org.eclipse.jkube.kit.common.Plugin;
+import org.eclipse.jkube.kit.common.util.ProjectClassLoaders;
 
 import mockit.Expectations;
 import mockit.Mocked;
@@ -79,8 +81,7 @@ public class MicronautGeneratorTest {
     // Given
     // @formatter:off
     new Expectations() {{
-      project.getCompileClassPathElements(); result = Collections.emptyList();
-      project.getOutputDirectory(); result = new File("MOCK");
+      ctx.getProjectClassLoaders(); result = new ProjectClassLoaders(new URLClassLoader(new URL[0]));
     }};
     // @formatter:on
     // When
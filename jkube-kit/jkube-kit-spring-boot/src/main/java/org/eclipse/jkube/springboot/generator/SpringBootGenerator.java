@@ -98,7 +98,7 @@ public class SpringBootGenerator extends JavaExecGenerator {
             // adding dev tools token to env variables to prevent override during recompile
             final String secret = SpringBootUtil.getSpringBootApplicationProperties(
                     SpringBootUtil.getSpringBootActiveProfile(getProject()),
-                    JKubeProjectUtil.getClassLoader(getProject()))
+                    getContext().getProjectClassLoaders())
                 .getProperty(SpringBootConfigurationHelper.DEV_TOOLS_REMOTE_SECRET);
             if (secret != null) {
                 res.put(SpringBootConfigurationHelper.DEV_TOOLS_REMOTE_SECRET_ENV, secret);
@@ -130,7 +130,7 @@ public class SpringBootGenerator extends JavaExecGenerator {
         List<String> answer = new ArrayList<>();
         Properties properties = SpringBootUtil.getSpringBootApplicationProperties(
             SpringBootUtil.getSpringBootActiveProfile(getProject()),
-            JKubeProjectUtil.getClassLoader(getProject()));
+            getContext().getProjectClassLoaders());
         SpringBootConfigurationHelper propertyHelper = new SpringBootConfigurationHelper(SpringBootUtil.getSpringBootVersion(getProject()));
         String port = properties.getProperty(propertyHelper.getServerPortPropertyKey(), DEFAULT_SERVER_PORT);
         addPortIfValid(answer, getConfig(JavaExecGenerator.Config.WEB_PORT, port));
@@ -144,7 +144,7 @@ public class SpringBootGenerator extends JavaExecGenerator {
     private void ensureSpringDevToolSecretToken() {
         Properties properties = SpringBootUtil.getSpringBootApplicationProperties(
             SpringBootUtil.getSpringBootActiveProfile(getProject()),
-            JKubeProjectUtil.getClassLoader(getProject()));
+            getContext().getProjectClassLoaders());
         String remoteSecret = properties.getProperty(DEV_TOOLS_REMOTE_SECRET);
         if (Strings.isNullOrEmpty(remoteSecret)) {
             addSecretTokenToApplicationProperties();
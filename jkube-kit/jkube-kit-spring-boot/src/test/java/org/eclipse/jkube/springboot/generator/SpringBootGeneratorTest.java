@@ -18,9 +18,12 @@ import org.eclipse.jkube.kit.config.image.ImageConfiguration;
 import mockit.Expectations;
 import mockit.Mocked;
 import org.eclipse.jkube.kit.common.JavaProject;
+import org.eclipse.jkube.kit.common.util.ProjectClassLoaders;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -65,6 +68,7 @@ public class SpringBootGeneratorTest {
     private GeneratorContext createGeneratorContext() throws IOException {
         new Expectations() {{
             context.getProject(); result = project;
+            context.getProjectClassLoaders(); result = new ProjectClassLoaders(new URLClassLoader(new URL[0])); minTimes = 0;
             String tempDir = Files.createTempDirectory("springboot-test-project").toFile().getAbsolutePath();
 
             // TODO: Prepare more relastic test setup
@@ -0,0 +1,203 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.profile;
+
+import org.eclipse.jkube.kit.common.util.ClassUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Registry of the profiles available for a given class loader.
+ *
+ * <p> Profile sources are parsed only once and indexed by profile name:
+ * <ul>
+ *   <li>Classpath profiles (<code>META-INF/jkube/profiles*.yml</code>) are read once per class loader and extension.
+ *   Class loaders are weakly referenced so that discarded project class loaders can be collected.</li>
+ *   <li>Profiles from a resource directory are read once per profile file, and re-read if the file is modified.</li>
+ *   <li>The merged profile for each name and directory is memoized until the directory's profile file changes.</li>
+ * </ul>
+ *
+ * <p> Profiles are mutable, so every {@link Profile} returned by the registry is a fresh copy.
+ */
+final class ProfileRegistry {
+
+    private static final Map<ClassLoader, ProfileRegistry> REGISTRIES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    // extension -> profile name -> profiles (in classpath order)
+    private final Map<String, Map<String, List<Profile>>> classpathProfiles = new ConcurrentHashMap<>();
+    // profile file -> profiles indexed by name
+    private final Map<File, FileProfiles> fileProfiles = new ConcurrentHashMap<>();
+    // profile name + directory -> merged profile
+    private final Map<String, MergedProfile> mergedProfiles = new ConcurrentHashMap<>();
+
+    private ProfileRegistry() { }
+
+    static ProfileRegistry get() {
+        synchronized (REGISTRIES) {
+            return REGISTRIES.computeIfAbsent(Thread.currentThread().getContextClassLoader(), cl -> new ProfileRegistry());
+        }
+    }
+
+    /**
+     * Returns the profiles with the given name found in the classpath for the given extension.
+     *
+     * @param name name of the profile
+     * @param ext extension of the profile files (e.g. 'default' for 'profiles-default.yml'), can be empty
+     * @param locations classpath locations of the profile files for the given extension
+     * @return copies of the matching profiles
+     * @throws IOException if reading of a profile fails
+     */
+    List<Profile> getClasspathProfiles(String name, String ext, List<String> locations) throws IOException {
+        final Map<String, List<Profile>> index = unchecked(() ->
+            classpathProfiles.computeIfAbsent(ext == null ? "" : ext, e -> indexClasspath(locations)));
+        return copy(index.getOrDefault(name, Collections.emptyList()));
+    }
+
+    /**
+     * Returns the merged profile with the given name, computing it only if it wasn't already computed for the same
+     * directory and profile file.
+     *
+     * @param name name of the profile
+     * @param directory the directory where the profile file was looked up
+     * @param profileFile the profile file found in the directory or null if none
+     * @param merger computes the merged profile in case it wasn't memoized
+     * @return a copy of the merged profile or null if the profile isn't defined
+     * @throws IOException if reading of a profile fails
+     */
+    Profile getMergedProfile(String name, File directory, File profileFile, ProfileMerger merger) throws IOException {
+        final String key = name + File.pathSeparator + (directory == null ? "" : directory.getAbsolutePath());
+        final String fingerprint = fingerprint(profileFile);
+        final MergedProfile merged = unchecked(() -> mergedProfiles.compute(key, (k, current) -> {
+            if (current != null && current.fingerprint.equals(fingerprint)) {
+                return current;
+            }
+            try {
+                return new MergedProfile(fingerprint, merger.merge());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+        return merged.profile.map(Profile::new).orElse(null);
+    }
+
+    /**
+     * Returns the profile with the given name defined in the given profile file.
+     *
+     * @param name name of the profile
+     * @param profileFile the profile file
+     * @return a copy of the profile or null if the file doesn't define it
+     * @throws IOException if reading of the profile file fails
+     */
+    Profile getFileProfile(String name, File profileFile) throws IOException {
+        final String fingerprint = fingerprint(profileFile);
+        final FileProfiles profiles = unchecked(() -> fileProfiles.compute(profileFile.getAbsoluteFile(), (f, current) -> {
+            if (current != null && current.fingerprint.equals(fingerprint)) {
+                return current;
+            }
+            try (InputStream is = Files.newInputStream(f.toPath())) {
+                return new FileProfiles(fingerprint, index(ProfileUtil.fromYaml(is)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+        final List<Profile> ret = profiles.profiles.get(name);
+        return ret == null ? null : new Profile(ret.get(0));
+    }
+
+    private static Map<String, List<Profile>> indexClasspath(List<String> locations) {
+        final List<Profile> profiles = new ArrayList<>();
+        try {
+            for (String location : locations) {
+                for (String url : ClassUtil.getResources(location)) {
+                    try (InputStream is = new URL(url).openStream()) {
+                        profiles.addAll(ProfileUtil.fromYaml(is));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return index(profiles);
+    }
+
+    private static Map<String, List<Profile>> index(List<Profile> profiles) {
+        final Map<String, List<Profile>> ret = new HashMap<>();
+        for (Profile profile : profiles) {
+            ret.computeIfAbsent(profile.getName(), n -> new ArrayList<>()).add(profile);
+        }
+        return ret;
+    }
+
+    private static List<Profile> copy(List<Profile> profiles) {
+        final List<Profile> ret = new ArrayList<>(profiles.size());
+        for (Profile profile : profiles) {
+            ret.add(new Profile(profile));
+        }
+        return ret;
+    }
+
+    private static String fingerprint(File file) {
+        if (file == null) {
+            return "";
+        }
+        return file.getAbsolutePath() + File.pathSeparator + file.lastModified() + File.pathSeparator + file.length();
+    }
+
+    private static <T> T unchecked(Supplier<T> supplier) throws IOException {
+        try {
+            return supplier.get();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    interface ProfileMerger {
+        Profile merge() throws IOException;
+    }
+
+    private static final class FileProfiles {
+        private final String fingerprint;
+        private final Map<String, List<Profile>> profiles;
+
+        private FileProfiles(String fingerprint, Map<String, List<Profile>> profiles) {
+            this.fingerprint = fingerprint;
+            this.profiles = profiles;
+        }
+    }
+
+    private static final class MergedProfile {
+        private final String fingerprint;
+        private final Optional<Profile> profile;
+
+        private MergedProfile(String fingerprint, Profile profile) {
+            this.fingerprint = fingerprint;
+            this.profile = Optional.ofNullable(profile);
+        }
+    }
+}
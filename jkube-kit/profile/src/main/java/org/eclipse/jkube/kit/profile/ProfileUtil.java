@@ -16,17 +16,14 @@ package org.eclipse.jkube.kit.profile;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
-import org.eclipse.jkube.kit.common.util.ClassUtil;
 import org.eclipse.jkube.kit.config.resource.ProcessorConfig;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -116,7 +113,8 @@ public class ProfileUtil {
 
     /**
      * Lookup profiles from a given directory and merge it with a profile of the
-     * same name found in the classpath
+     * same name found in the classpath. The merged profile is memoized per name and directory
+     * (until the directory's profile file is modified).
      *
      * @param name name of the profile to lookup
      * @param directory directory to lookup
@@ -124,22 +122,21 @@ public class ProfileUtil {
      * @throws IOException if somethings fails during lookup
      */
     public static Profile lookup(String name, File directory) throws IOException {
-        // First check from the classpath, these profiles are used as a basis
-        List<Profile> profiles = readProfileFromClasspath(name);
-
-        File profileFile = findProfileYaml(directory);
-        if (profileFile != null) {
-            List<Profile> fileProfiles = fromYaml(new FileInputStream(profileFile));
-            for (Profile profile : fileProfiles) {
-                if (profile.getName().equals(name)) {
-                    profiles.add(profile);
-                    break;
+        final ProfileRegistry registry = ProfileRegistry.get();
+        final File profileFile = findProfileYaml(directory);
+        return registry.getMergedProfile(name, directory, profileFile, () -> {
+            // First check from the classpath, these profiles are used as a basis
+            List<Profile> profiles = readProfileFromClasspath(name);
+            if (profileFile != null) {
+                Profile fileProfile = registry.getFileProfile(name, profileFile);
+                if (fileProfile != null) {
+                    profiles.add(fileProfile);
                 }
             }
-        }
-        // "larger" orders are "earlier" in the list
-        Collections.sort(profiles, Collections.<Profile>reverseOrder());
-        return mergeProfiles(profiles);
+            // "larger" orders are "earlier" in the list
+            Collections.sort(profiles, Collections.<Profile>reverseOrder());
+            return mergeProfiles(profiles);
+        });
     }
 
     private static ProcessorConfig extractProcesssorConfiguration(ProcessorConfigurationExtractor extractor,
@@ -182,17 +179,7 @@ public class ProfileUtil {
      * @throws IOException if reading of a profile fails
      */
     public static List<Profile> readAllFromClasspath(String name, String ext) throws IOException {
-        List<Profile > ret = new ArrayList<>();
-        for (String location : getMetaInfProfilePaths(ext)) {
-            for (String url : ClassUtil.getResources(location)) {
-                for (Profile profile : fromYaml(new URL(url).openStream())) {
-                    if (name.equals(profile.getName())) {
-                        ret.add(profile);
-                    }
-                }
-            }
-        }
-        return ret;
+        return ProfileRegistry.get().getClasspathProfiles(name, ext, getMetaInfProfilePaths(ext));
     }
 
     // ================================================================================
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.profile;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ProfileRegistryTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void getSameClassLoader() {
+        assertSame(ProfileRegistry.get(), ProfileRegistry.get());
+    }
+
+    @Test
+    public void lookupReturnsCopies() throws IOException {
+        File dir = temporaryFolder.newFolder();
+        writeProfiles(new File(dir, "profiles.yml"), "foo-generator");
+        Profile first = ProfileUtil.lookup("cached", dir);
+        first.setGeneratorConfig(null);
+
+        Profile second = ProfileUtil.lookup("cached", dir);
+
+        assertNotSame(first, second);
+        assertTrue(second.getGeneratorConfig().use("foo-generator"));
+    }
+
+    @Test
+    public void lookupWithModifiedProfileFileReadsItAgain() throws IOException {
+        File dir = temporaryFolder.newFolder();
+        File profileFile = new File(dir, "profiles.yml");
+        writeProfiles(profileFile, "foo-generator");
+        assertTrue(ProfileUtil.lookup("cached", dir).getGeneratorConfig().use("foo-generator"));
+        writeProfiles(profileFile, "other-generator");
+        assertTrue(profileFile.setLastModified(profileFile.lastModified() + 2000L));
+
+        Profile result = ProfileUtil.lookup("cached", dir);
+
+        assertTrue(result.getGeneratorConfig().use("other-generator"));
+        assertFalse(result.getGeneratorConfig().use("foo-generator"));
+    }
+
+    @Test
+    public void lookupWithMissingProfileIsMemoizedAsNull() throws IOException {
+        File dir = temporaryFolder.newFolder();
+        assertNull(ProfileUtil.lookup("not-there", dir));
+        assertNull(ProfileUtil.lookup("not-there", dir));
+    }
+
+    @Test
+    public void readAllFromClasspathReturnsCopies() throws IOException {
+        Profile first = ProfileUtil.readAllFromClasspath("one", "").get(0);
+        first.setGeneratorConfig(null);
+
+        Profile second = ProfileUtil.readAllFromClasspath("one", "").get(0);
+
+        assertEquals("one", second.getName());
+        assertTrue(second.getGeneratorConfig().use("foobar"));
+    }
+
+    private static void writeProfiles(File file, String generator) throws IOException {
+        Files.write(file.toPath(), Collections.singletonList(
+            "- name: cached\n  generator:\n    includes:\n    - " + generator), StandardCharsets.UTF_8);
+    }
+}
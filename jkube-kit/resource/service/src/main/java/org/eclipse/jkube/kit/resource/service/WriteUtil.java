@@ -13,6 +13,12 @@
  */
 package org.eclipse.jkube.kit.resource.service;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.openshift.api.model.Template;
@@ -23,8 +29,20 @@ import org.eclipse.jkube.kit.common.util.KubernetesHelper;
 import org.eclipse.jkube.kit.common.util.ResourceUtil;
 import org.eclipse.jkube.kit.enricher.api.util.KubernetesResourceUtil;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.eclipse.jkube.kit.resource.service.TemplateUtil.getSingletonTemplate;
 
@@ -32,44 +50,64 @@ class WriteUtil {
 
   private WriteUtil(){ }
 
+  /**
+   * Writes the composite resource file and one file for each of the resource items.
+   *
+   * <p> Each item is serialized exactly once (in parallel), the serialized tokens are then reused both for the
+   * composite document and for the individual files, which are also written in parallel. Files whose content is
+   * byte-identical to the existing one aren't rewritten, so their modification time is preserved.
+   */
   static File writeResourcesIndividualAndComposite(
       KubernetesList resources, File resourceFileBase, ResourceFileType resourceFileType, KitLogger log) throws IOException {
 
-    // entity is object which will be sent to writeResource for openshift.yml
-    // if generateRoute is false, this will be set to resources with new list
-    // otherwise it will be set to resources with old list.
-    Object entity = resources;
-
-    // if the list contains a single Template lets unwrap it
-    // in resources already new or old as per condition is set.
-    // no need to worry about this for dropping Route.
-    Template template = getSingletonTemplate(resources);
-    if (template != null) {
-      entity = template;
-    }
+    final ObjectMapper mapper = ResourceUtil.getObjectMapper(resourceFileType);
+    final List<HasMetadata> items = Optional.ofNullable(resources.getItems()).orElse(Collections.emptyList());
+    final ExecutorService executor = Executors.newFixedThreadPool(
+        Math.max(1, Math.min(items.size(), Runtime.getRuntime().availableProcessors())));
+    try {
+      final List<TokenBuffer> serializedItems = invokeAll(executor, items, item -> serialize(mapper, item));
 
-    File file = writeResource(resourceFileBase, entity, resourceFileType);
+      // if the list contains a single Template lets unwrap it
+      // in resources already new or old as per condition is set.
+      // no need to worry about this for dropping Route.
+      final byte[] composite;
+      Template template = getSingletonTemplate(resources);
+      if (template != null) {
+        composite = render(mapper, serializedItems.get(0));
+      } else {
+        composite = renderList(mapper, resources, serializedItems);
+      }
+      File file = writeContent(resourceFileBase, composite, resourceFileType);
 
-    // write separate files, one for each resource item
-    // resources passed to writeIndividualResources is also new one.
-    writeIndividualResources(resources, resourceFileBase, resourceFileType, log);
-    return file;
+      // write separate files, one for each resource item
+      // resources passed to writeIndividualResources is also new one.
+      writeIndividualResources(executor, mapper, items, serializedItems, resourceFileBase, resourceFileType, log);
+      return file;
+    } finally {
+      executor.shutdownNow();
+    }
   }
 
-  private static void writeIndividualResources(KubernetesList resources, File targetDir,
-                                               ResourceFileType resourceFileType, KitLogger log) throws IOException {
-    for (HasMetadata item : resources.getItems()) {
+  private static void writeIndividualResources(ExecutorService executor, ObjectMapper mapper, List<HasMetadata> items,
+      List<TokenBuffer> serializedItems, File targetDir, ResourceFileType resourceFileType, KitLogger log) throws IOException {
+    final List<Integer> indexes = new ArrayList<>();
+    for (int i = 0; i < items.size(); i++) {
+      HasMetadata item = items.get(i);
       String name = KubernetesHelper.getName(item);
       if (StringUtils.isBlank(name)) {
         log.error("No name for generated item %s", item);
         continue;
       }
-      String itemFile = KubernetesResourceUtil.getNameWithSuffix(name, item.getKind());
+      indexes.add(i);
+    }
+    invokeAll(executor, indexes, i -> {
+      final HasMetadata item = items.get(i);
+      String itemFile = KubernetesResourceUtil.getNameWithSuffix(KubernetesHelper.getName(item), item.getKind());
 
       // Here we are writing individual file for all the resources.
       File itemTarget = new File(targetDir, itemFile);
-      writeResource(itemTarget, item, resourceFileType);
-    }
+      return writeContent(itemTarget, render(mapper, serializedItems.get(i)), resourceFileType);
+    });
   }
 
   static File writeResource(File resourceFileBase, Object entity, ResourceFileType resourceFileType)
@@ -80,4 +118,102 @@ class WriteUtil {
       throw new IOException("Failed to write resource to " + resourceFileBase + ".", e);
     }
   }
+
+  private static File writeContent(File resourceFileBase, byte[] content, ResourceFileType resourceFileType)
+      throws IOException {
+    try {
+      return ResourceUtil.saveIfChanged(resourceFileBase, content, resourceFileType);
+    } catch (IOException e) {
+      throw new IOException("Failed to write resource to " + resourceFileBase + ".", e);
+    }
+  }
+
+  private static TokenBuffer serialize(ObjectMapper mapper, Object entity) throws IOException {
+    final TokenBuffer buffer = new TokenBuffer(mapper, false);
+    mapper.writeValue(buffer, entity);
+    return buffer;
+  }
+
+  private static byte[] render(ObjectMapper mapper, TokenBuffer serialized) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (JsonGenerator generator = createGenerator(mapper, out)) {
+      serialized.serialize(generator);
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * Renders the list exactly as the {@link ObjectMapper} would, but with the already serialized items.
+   */
+  private static byte[] renderList(ObjectMapper mapper, KubernetesList resources, List<TokenBuffer> serializedItems)
+      throws IOException {
+    final KubernetesList shell = new KubernetesList(
+        resources.getApiVersion(), Collections.emptyList(), resources.getKind(), resources.getMetadata());
+    final ObjectNode shellTree = mapper.valueToTree(shell);
+    shellTree.remove("items");
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (JsonGenerator generator = createGenerator(mapper, out)) {
+      generator.writeStartObject();
+      final Iterator<Map.Entry<String, JsonNode>> fields = shellTree.fields();
+      while (fields.hasNext()) {
+        final Map.Entry<String, JsonNode> field = fields.next();
+        generator.writeFieldName(field.getKey());
+        generator.writeTree(field.getValue());
+      }
+      if (!serializedItems.isEmpty()) {
+        generator.writeArrayFieldStart("items");
+        for (TokenBuffer item : serializedItems) {
+          item.serialize(generator);
+        }
+        generator.writeEndArray();
+      }
+      for (Map.Entry<String, Object> additionalProperty : resources.getAdditionalProperties().entrySet()) {
+        generator.writeFieldName(additionalProperty.getKey());
+        mapper.writeValue(generator, additionalProperty.getValue());
+      }
+      generator.writeEndObject();
+    }
+    return out.toByteArray();
+  }
+
+  private static JsonGenerator createGenerator(ObjectMapper mapper, ByteArrayOutputStream out) throws IOException {
+    final JsonGenerator generator = mapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+    generator.setCodec(mapper);
+    mapper.getSerializationConfig().initialize(generator);
+    return generator;
+  }
+
+  @FunctionalInterface
+  private interface IOFunction<T, R> {
+    R apply(T t) throws IOException;
+  }
+
+  private static <T, R> List<R> invokeAll(ExecutorService executor, List<T> values, IOFunction<T, R> function)
+      throws IOException {
+    final List<Future<R>> futures = new ArrayList<>(values.size());
+    for (T value : values) {
+      futures.add(executor.submit(() -> function.apply(value)));
+    }
+    final List<R> ret = new ArrayList<>(values.size());
+    try {
+      for (Future<R> future : futures) {
+        ret.add(future.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while writing resources", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      if (e.getCause() instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) e.getCause()).getCause();
+      }
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IOException(e.getCause());
+    }
+    return ret;
+  }
 }
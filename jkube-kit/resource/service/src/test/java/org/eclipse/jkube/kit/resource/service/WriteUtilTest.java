@@ -15,12 +15,17 @@ package org.eclipse.jkube.kit.resource.service;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 
 import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.ResourceFileType;
 import org.eclipse.jkube.kit.common.util.ResourceUtil;
 
+import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
 import mockit.Expectations;
 import mockit.Mocked;
@@ -42,9 +47,6 @@ public class WriteUtilTest {
   @SuppressWarnings("unused")
   @Mocked
   private KitLogger log;
-  @SuppressWarnings("unused")
-  @Mocked
-  private ResourceUtil resourceUtil;
 
   private KubernetesListBuilder klb;
   private File resourceFileBase;
@@ -52,14 +54,14 @@ public class WriteUtilTest {
   @Before
   public void initGlobalVariables() throws IOException {
     klb = new KubernetesListBuilder();
-    resourceFileBase = temporaryFolder.newFolder();
+    resourceFileBase = new File(temporaryFolder.newFolder(), "kubernetes");
   }
 
   @Test
-  public void writeResource() throws IOException {
+  public void writeResource(@Mocked ResourceUtil resourceUtil) throws IOException {
     // Given
     final File baton = temporaryFolder.newFile();
-    mockResourceUtilSave(baton);
+    mockResourceUtilSave(resourceUtil, baton);
     // When
     final File result = WriteUtil.writeResource(null, null, null);
     // Then
@@ -67,10 +69,10 @@ public class WriteUtilTest {
   }
 
   @Test
-  public void writeResourceThrowsException() throws IOException {
+  public void writeResourceThrowsException(@Mocked ResourceUtil resourceUtil) throws IOException {
     // Given
     final File resource = temporaryFolder.newFolder("resource-base");
-    mockResourceUtilSave(new IOException("Message"));
+    mockResourceUtilSave(resourceUtil, new IOException("Message"));
     // When
     final IOException result = assertThrows(IOException.class,
         () -> WriteUtil.writeResource(resource, null, null)
@@ -85,41 +87,90 @@ public class WriteUtilTest {
   @Test
   public void writeResourcesIndividualAndCompositeWithNoResourcesShouldOnlyWriteComposite() throws IOException {
     // When
-    WriteUtil.writeResourcesIndividualAndComposite(klb.build(), resourceFileBase, null, log);
+    final File result = WriteUtil.writeResourcesIndividualAndComposite(
+        klb.build(), resourceFileBase, ResourceFileType.yaml, log);
     // Then
-    verifyResourceUtilSave(resourceFileBase, 1);
+    assertThat(result).isEqualTo(new File(resourceFileBase.getParentFile(), "kubernetes.yml"));
+    assertThat(resourceFileBase.getParentFile().list()).containsExactly("kubernetes.yml");
   }
 
   @Test
   public void writeResourcesIndividualAndCompositeWithResourcesShouldWriteAll() throws IOException {
     // Given
+    final ConfigMap configMap = new ConfigMapBuilder().withNewMetadata().withName("cm-1").endMetadata().build();
     klb.addToItems(
-      new ConfigMapBuilder().withNewMetadata().withName("cm-1").endMetadata().build(),
+      configMap,
       new SecretBuilder().withNewMetadata().withName("secret-1").endMetadata().build(),
       new SecretBuilder().withNewMetadata().withName(" ").withClusterName("skipped (blank name)").endMetadata().build()
     );
     // When
-    WriteUtil.writeResourcesIndividualAndComposite(klb.build(), resourceFileBase, null, log);
+    WriteUtil.writeResourcesIndividualAndComposite(klb.build(), resourceFileBase, ResourceFileType.yaml, log);
     // Then
-    verifyResourceUtilSave(null, 3);
-    verifyResourceUtilSave(resourceFileBase, 1);
-    verifyResourceUtilSave(new File(resourceFileBase, "cm-1-configmap"), 1);
-    verifyResourceUtilSave(new File(resourceFileBase, "secret-1-secret"), 1);
-  }
-
-  private void mockResourceUtilSave(Object returnValue) throws IOException {
+    assertThat(resourceFileBase.getParentFile().list())
+        .containsExactlyInAnyOrder("kubernetes.yml", "kubernetes");
+    assertThat(resourceFileBase.list())
+        .containsExactlyInAnyOrder("cm-1-configmap.yml", "secret-1-secret.yml");
+    assertThat(new String(Files.readAllBytes(new File(resourceFileBase, "cm-1-configmap.yml").toPath())))
+        .isEqualTo(ResourceUtil.toYaml(configMap));
     // @formatter:off
-    new Expectations() {{
-      resourceUtil.save((File)any, null, null); result = returnValue;
+    new Verifications() {{
+      log.error("No name for generated item %s", any); times = 1;
     }};
     // @formatter:on
   }
 
-  private void verifyResourceUtilSave(File file, int numTimes) throws IOException {
+  @Test
+  public void writeResourcesIndividualAndCompositeWithYamlShouldWriteSameCompositeAsObjectMapper() throws IOException {
+    // Given
+    final KubernetesList list = resourceList();
+    // When
+    final File result = WriteUtil.writeResourcesIndividualAndComposite(list, resourceFileBase, ResourceFileType.yaml, log);
+    // Then
+    assertThat(Files.readAllBytes(result.toPath()))
+        .isEqualTo(ResourceUtil.getObjectMapper(ResourceFileType.yaml).writeValueAsBytes(list));
+  }
+
+  @Test
+  public void writeResourcesIndividualAndCompositeWithJsonShouldWriteSameCompositeAsObjectMapper() throws IOException {
+    // Given
+    final KubernetesList list = resourceList();
+    // When
+    final File result = WriteUtil.writeResourcesIndividualAndComposite(list, resourceFileBase, ResourceFileType.json, log);
+    // Then
+    assertThat(Files.readAllBytes(result.toPath()))
+        .isEqualTo(ResourceUtil.getObjectMapper(ResourceFileType.json).writeValueAsBytes(list));
+    assertThat(new String(Files.readAllBytes(new File(resourceFileBase, "secret-1-secret.json").toPath())))
+        .isEqualTo(ResourceUtil.toJson(list.getItems().stream().filter(Secret.class::isInstance).findFirst().get()));
+  }
+
+  @Test
+  public void writeResourcesIndividualAndCompositeWithUnchangedResourcesShouldNotRewriteFiles() throws IOException {
+    // Given
+    final File composite = WriteUtil.writeResourcesIndividualAndComposite(
+        resourceList(), resourceFileBase, ResourceFileType.yaml, log);
+    final File item = new File(resourceFileBase, "cm-1-configmap.yml");
+    assertThat(composite.setLastModified(1000L)).isTrue();
+    assertThat(item.setLastModified(1000L)).isTrue();
+    // When
+    WriteUtil.writeResourcesIndividualAndComposite(resourceList(), resourceFileBase, ResourceFileType.yaml, log);
+    // Then
+    assertThat(composite.lastModified()).isEqualTo(1000L);
+    assertThat(item.lastModified()).isEqualTo(1000L);
+  }
+
+  private static KubernetesList resourceList() {
+    return new KubernetesListBuilder()
+        .withNewMetadata().withResourceVersion("1").endMetadata()
+        .addToItems(
+            new ConfigMapBuilder().withNewMetadata().withName("cm-1").endMetadata().addToData("key", "value").build(),
+            new SecretBuilder().withNewMetadata().withName("secret-1").endMetadata().build())
+        .build();
+  }
+
+  private static void mockResourceUtilSave(ResourceUtil resourceUtil, Object returnValue) throws IOException {
     // @formatter:off
-    new Verifications() {{
-      String s;
-      resourceUtil.save(file, any, null); times = numTimes;
+    new Expectations() {{
+      resourceUtil.save((File)any, null, null); result = returnValue;
     }};
     // @formatter:on
   }
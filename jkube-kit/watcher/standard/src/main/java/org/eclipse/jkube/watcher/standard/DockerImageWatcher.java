@@ -14,23 +14,17 @@
 package org.eclipse.jkube.watcher.standard;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.PipedInputStream;
-import java.io.PipedOutputStream;
-import java.io.PrintWriter;
 import java.time.Duration;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
-import java.util.function.Consumer;
 
 import org.eclipse.jkube.kit.build.service.docker.ServiceHub;
 import org.eclipse.jkube.kit.build.service.docker.WatchService;
 import org.eclipse.jkube.kit.build.service.docker.helper.ImageNameFormatter;
 import org.eclipse.jkube.kit.build.service.docker.watch.WatchContext;
 import org.eclipse.jkube.kit.build.service.docker.watch.WatchException;
-import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.util.KubernetesHelper;
 import org.eclipse.jkube.kit.common.util.OpenshiftHelper;
 import org.eclipse.jkube.kit.config.access.ClusterAccess;
@@ -54,14 +48,13 @@ import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.openshift.api.model.DeploymentConfig;
 import io.fabric8.openshift.api.model.DeploymentConfigSpec;
 import io.fabric8.openshift.client.OpenShiftClient;
-import okhttp3.Response;
-import org.apache.commons.codec.binary.Base64InputStream;
-import org.apache.commons.io.IOUtils;
 
 public class DockerImageWatcher extends BaseWatcher {
 
     private static final Duration WAIT_TIMEOUT = Duration.ofSeconds(60);
 
+    private PodFileSync podFileSync;
+
     public DockerImageWatcher(WatcherContext watcherContext) {
         super(watcherContext, "docker-image");
     }
@@ -90,6 +83,8 @@ public class DockerImageWatcher extends BaseWatcher {
             hub.getWatchService().watch(watchContext, getContext().getBuildContext(), configs);
         } catch (Exception ex) {
             throw new RuntimeException("Error while watching", ex);
+        } finally {
+            closePodFileSync();
         }
     }
 
@@ -191,20 +186,28 @@ public class DockerImageWatcher extends BaseWatcher {
     }
 
     private void copyFileToPod(File fileToUpload, Set<HasMetadata> resources) throws IOException, WatchException {
-        ClusterAccess clusterAccess = getContext().getJKubeServiceHub().getClusterAccess();
-        try (
-            final PipedOutputStream pos = new PipedOutputStream();
-            final PipedInputStream pis = new PipedInputStream(pos)
-        ) {
-            final Consumer<Response> filePusher = uploadFilesConsumer(fileToUpload, pos, log);
-            final PodExecutor podExecutor = new PodExecutor(clusterAccess, pis, WAIT_TIMEOUT, filePusher);
-            podExecutor.executeCommandInPod(resources, "sh");
+        try {
+            getPodFileSync().sync(fileToUpload, resources);
         } catch(InterruptedException exception) {
             log.error("Copy files task interrupted");
             Thread.currentThread().interrupt();
         }
     }
 
+    private synchronized PodFileSync getPodFileSync() {
+        if (podFileSync == null) {
+            podFileSync = new PodFileSync(getContext().getJKubeServiceHub().getClusterAccess(), WAIT_TIMEOUT, true, log);
+        }
+        return podFileSync;
+    }
+
+    private synchronized void closePodFileSync() {
+        if (podFileSync != null) {
+            podFileSync.close();
+            podFileSync = null;
+        }
+    }
+
     private boolean updateImageName(HasMetadata entity, PodTemplateSpec template, String imagePrefix, String imageName) {
         boolean answer = false;
         PodSpec spec = template.getSpec();
@@ -223,18 +226,4 @@ public class DockerImageWatcher extends BaseWatcher {
         }
         return answer;
     }
-
-    static Consumer<Response> uploadFilesConsumer(File fileToUpload, PipedOutputStream pos, KitLogger log) {
-        return response -> {
-            try(PrintWriter pw = new PrintWriter(pos, true)) {
-                pw.println("base64 -d << EOF | tar --no-overwrite-dir -C / -xf - && exit 0 || exit 1");
-                IOUtils.copy(new Base64InputStream(new FileInputStream(fileToUpload), true, 0, new byte[]{'\r', '\n'}), pos);
-                pw.println();
-                pw.println("EOF");
-                pw.flush();
-            } catch (IOException e) {
-                log.error("Error uploading files to Pod");
-            }
-        };
-    }
 }
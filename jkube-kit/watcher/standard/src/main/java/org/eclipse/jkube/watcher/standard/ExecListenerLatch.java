@@ -63,6 +63,13 @@ public class ExecListenerLatch implements ExecListener {
     return cdl.await(timeout, timeUnit);
   }
 
+  /**
+   * @return true if the exec session hasn't been closed or failed yet.
+   */
+  public boolean isOpen() {
+    return cdl.getCount() > 0;
+  }
+
   /**
    * Endpoints MAY use the following pre-defined status codes when sending
    * a Close frame:
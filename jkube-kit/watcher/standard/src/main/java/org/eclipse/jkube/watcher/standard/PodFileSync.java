@@ -0,0 +1,218 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.watcher.standard;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.jkube.kit.build.service.docker.watch.WatchException;
+import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.util.KubernetesHelper;
+import org.eclipse.jkube.kit.config.access.ClusterAccess;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.ExecWatch;
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Synchronizes changed files archives (tar) into the newest application Pod.
+ *
+ * <p> A single exec session running {@link #SYNC_SCRIPT} is kept open and reused across change batches. Each batch is
+ * sent as a header line (<code>size flags</code>) followed by the raw (optionally gzip compressed) tar bytes, which are
+ * extracted by <code>tar</code> in the container. The script acknowledges every batch with an
+ * {@link #ACK_OK}/{@link #ACK_FAILED} line before the next one is sent.
+ *
+ * <p> The session is reopened if it's closed by the cluster or if the newest application Pod changes (e.g. after a
+ * restart).
+ */
+public class PodFileSync implements Closeable {
+
+  static final String ACK_OK = "jkube-sync:ok";
+  static final String ACK_FAILED = "jkube-sync:failed";
+  static final String SYNC_SCRIPT = "exec 2>&1; while read -r size flags; do " +
+      "head -c \"$size\" | { tar --no-overwrite-dir -C / -x${flags}f -; r=$?; cat > /dev/null; exit $r; } " +
+      "&& echo " + ACK_OK + " || echo " + ACK_FAILED + "; done";
+
+  private final ClusterAccess clusterAccess;
+  private final Duration waitTimeout;
+  private final KitLogger log;
+  private final BlockingQueue<String> outputLines;
+  private boolean compress;
+  private KubernetesClient client;
+  private ExecWatch execWatch;
+  private ExecListenerLatch latch;
+  private String podName;
+
+  public PodFileSync(ClusterAccess clusterAccess, Duration waitTimeout, boolean compress, KitLogger log) {
+    this.clusterAccess = clusterAccess;
+    this.waitTimeout = waitTimeout;
+    this.compress = compress;
+    this.log = log;
+    outputLines = new LinkedBlockingQueue<>();
+  }
+
+  /**
+   * Extracts the provided tar archive into the root of the newest application Pod's file system.
+   *
+   * @param archive uncompressed tar archive with the changed files.
+   * @param resources the application resources used to look up the Pod.
+   * @throws IOException if the archive can't be read or sent.
+   * @throws WatchException if the files couldn't be extracted in the Pod.
+   * @throws InterruptedException if interrupted while waiting for the Pod's acknowledgement.
+   */
+  public synchronized void sync(File archive, Set<HasMetadata> resources)
+      throws IOException, WatchException, InterruptedException {
+    try {
+      connect(resources);
+      if (compress) {
+        final List<String> failure = send(archive, true);
+        if (failure == null) {
+          return;
+        }
+        log.warn("Compressed files couldn't be extracted in the Pod, falling back to uncompressed transfer: %s",
+            String.join(" ", failure));
+        compress = false;
+      }
+      final List<String> failure = send(archive, false);
+      if (failure != null) {
+        throw new WatchException("Files couldn't be extracted in the Pod: " + String.join(" ", failure));
+      }
+    } catch (KubernetesClientException e) {
+      close();
+      throw new WatchException("File sync failed due to a KubernetesClient error: " + e.getMessage(), e);
+    } catch (IOException | WatchException e) {
+      close();
+      throw e;
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    if (execWatch != null) {
+      execWatch.close();
+      execWatch = null;
+    }
+    if (client != null) {
+      client.close();
+      client = null;
+    }
+    podName = null;
+    latch = null;
+    outputLines.clear();
+  }
+
+  private void connect(Set<HasMetadata> resources) {
+    if (client == null) {
+      client = clusterAccess.createDefaultClient();
+    }
+    final String namespace = clusterAccess.getNamespace();
+    final String newestPodName = KubernetesHelper.getNewestApplicationPodName(client, namespace, resources);
+    if (execWatch != null && latch.isOpen() && newestPodName != null && newestPodName.equals(podName)) {
+      return;
+    }
+    if (execWatch != null) {
+      execWatch.close();
+    }
+    outputLines.clear();
+    latch = new ExecListenerLatch();
+    podName = newestPodName;
+    execWatch = client.pods().inNamespace(namespace)
+        .withName(podName)
+        .redirectingInput()
+        .writingOutput(new LineOutputStream(outputLines))
+        .usingListener(latch)
+        .exec("sh", "-c", SYNC_SCRIPT);
+  }
+
+  private List<String> send(File archive, boolean gzip) throws IOException, WatchException, InterruptedException {
+    final OutputStream input = execWatch.getInput();
+    writeBatch(input, archive, gzip);
+    input.flush();
+    final List<String> output = new ArrayList<>();
+    final long deadline = System.currentTimeMillis() + waitTimeout.toMillis();
+    while (true) {
+      final String line = outputLines.poll(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+      if (line == null) {
+        throw new WatchException("File sync timed out" + (latch.isOpen() ? "" :
+            ", socket closed unexpectedly " + latch.getCloseReason()));
+      }
+      if (line.equals(ACK_OK)) {
+        return null;
+      }
+      if (line.equals(ACK_FAILED)) {
+        return output;
+      }
+      output.add(line);
+    }
+  }
+
+  /**
+   * Writes a sync batch (header line + tar bytes) for the provided archive to the given stream.
+   */
+  static void writeBatch(OutputStream out, File archive, boolean gzip) throws IOException {
+    if (gzip) {
+      final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+      try (GZIPOutputStream gz = new GZIPOutputStream(compressed)) {
+        Files.copy(archive.toPath(), gz);
+      }
+      out.write(String.format("%d z\n", compressed.size()).getBytes(StandardCharsets.UTF_8));
+      compressed.writeTo(out);
+    } else {
+      out.write(String.format("%d\n", archive.length()).getBytes(StandardCharsets.UTF_8));
+      try (InputStream is = Files.newInputStream(archive.toPath())) {
+        IOUtils.copy(is, out);
+      }
+    }
+  }
+
+  /**
+   * Splits the exec session output into lines.
+   */
+  static final class LineOutputStream extends OutputStream {
+
+    private final BlockingQueue<String> lines;
+    private final ByteArrayOutputStream current;
+
+    LineOutputStream(BlockingQueue<String> lines) {
+      this.lines = lines;
+      current = new ByteArrayOutputStream();
+    }
+
+    @Override
+    public synchronized void write(int b) {
+      if (b == '\n') {
+        lines.offer(new String(current.toByteArray(), StandardCharsets.UTF_8).trim());
+        current.reset();
+      } else {
+        current.write(b);
+      }
+    }
+  }
+}
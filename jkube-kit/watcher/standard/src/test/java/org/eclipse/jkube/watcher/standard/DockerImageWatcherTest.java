@@ -14,18 +14,13 @@
 package org.eclipse.jkube.watcher.standard;
 
 import java.io.File;
-import java.io.InputStream;
-import java.io.PipedInputStream;
-import java.io.PipedOutputStream;
-import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.List;
-import java.util.function.Consumer;
 
 import org.eclipse.jkube.kit.build.service.docker.WatchService;
-import org.eclipse.jkube.kit.build.service.docker.watch.CopyFilesTask;
 import org.eclipse.jkube.kit.build.service.docker.watch.ExecTask;
 import org.eclipse.jkube.kit.build.service.docker.watch.WatchContext;
+import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.config.image.ImageConfiguration;
 import org.eclipse.jkube.kit.config.image.build.JKubeConfiguration;
 import org.eclipse.jkube.watcher.api.WatcherContext;
@@ -35,8 +30,6 @@ import mockit.Mock;
 import mockit.MockUp;
 import mockit.Mocked;
 import mockit.Verifications;
-import okhttp3.Response;
-import org.apache.commons.io.IOUtils;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -96,36 +89,27 @@ public class DockerImageWatcherTest {
     // @formatter:on
   }
 
-  @SuppressWarnings("unchecked")
   @Test
-  public void watchCopyFileToPod(@Mocked PodExecutor podExecutor) throws Exception {
+  public void watchCopyFileToPodReusesPodFileSync(@Mocked PodFileSync podFileSync) throws Exception {
     // Given
-    dockerImageWatcher.watch(null, null, null);
-    final CopyFilesTask copyFilesTask = watchContext.getContainerCopyTask();
+    final File file = new File("changed-files.tar");
+    new MockUp<WatchService>() {
+      @Mock
+      void watch(WatchContext context, JKubeConfiguration buildContext, List<ImageConfiguration> images) throws Exception {
+        context.getContainerCopyTask().copy(file);
+        context.getContainerCopyTask().copy(file);
+      }
+    };
     // When
-    copyFilesTask.copy(null);
+    dockerImageWatcher.watch(null, null, null);
     // Then
     // @formatter:off
     new Verifications() {{
-      new PodExecutor(watcherContext.getJKubeServiceHub().getClusterAccess(),
-          (InputStream)any, Duration.ofMinutes(1), (Consumer<Response>)any); times = 1;
-      podExecutor.executeCommandInPod(null, "sh"); times = 1;
+      new PodFileSync(watcherContext.getJKubeServiceHub().getClusterAccess(), Duration.ofMinutes(1), true,
+          (KitLogger)any); times = 1;
+      podFileSync.sync(file, null); times = 2;
+      podFileSync.close(); times = 1;
     }};
     // @formatter:on
   }
-
-  @Test
-  public void uploadFilesConsumer() throws Exception {
-    // Given
-    final PipedOutputStream pipedOutputStream = new PipedOutputStream();
-    final PipedInputStream pipedInputStream = new PipedInputStream(pipedOutputStream);
-    // When
-    DockerImageWatcher.uploadFilesConsumer(
-        new File(DockerImageWatcherTest.class.getResource("/file.txt").toURI().getPath()),
-        pipedOutputStream,
-        watcherContext.getLogger()
-    ).accept(null);
-    assertThat(IOUtils.toString(pipedInputStream, StandardCharsets.UTF_8))
-      .isEqualTo("base64 -d << EOF | tar --no-overwrite-dir -C / -xf - && exit 0 || exit 1\nQSBmaWxl\nEOF\n");
-  }
 }
@@ -0,0 +1,202 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.watcher.standard;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import org.eclipse.jkube.kit.build.service.docker.watch.WatchException;
+import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.util.KubernetesHelper;
+import org.eclipse.jkube.kit.config.access.ClusterAccess;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.ExecWatch;
+import io.fabric8.kubernetes.client.dsl.TtyExecErrorable;
+import io.fabric8.kubernetes.client.dsl.internal.core.v1.PodOperationsImpl;
+import mockit.Expectations;
+import mockit.Mock;
+import mockit.MockUp;
+import mockit.Mocked;
+import mockit.Verifications;
+import org.apache.commons.io.IOUtils;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
+
+@SuppressWarnings({"unused", "ResultOfMethodCallIgnored"})
+public class PodFileSyncTest {
+
+  @Mocked
+  private ClusterAccess clusterAccess;
+  @Mocked
+  private PodOperationsImpl podOperations;
+  @Mocked
+  private KubernetesClient kubernetesClient;
+  @Mocked
+  private ExecWatch execWatch;
+  @Mocked
+  private KitLogger logger;
+
+  private File file;
+  private ByteArrayOutputStream podInput;
+  private AtomicInteger sessions;
+
+  @Before
+  public void setUp() throws Exception {
+    file = new File(PodFileSyncTest.class.getResource("/file.txt").toURI().getPath());
+    podInput = new ByteArrayOutputStream();
+    sessions = new AtomicInteger();
+    // @formatter:off
+    new Expectations() {{
+      clusterAccess.getNamespace(); result = "default"; minTimes = 0;
+      clusterAccess.createDefaultClient(); result = kubernetesClient; minTimes = 0;
+      execWatch.getInput(); result = podInput; minTimes = 0;
+    }};
+    // @formatter:on
+    new MockUp<KubernetesHelper>() {
+      @Mock
+      String getNewestApplicationPodName(KubernetesClient client, String namespace, Set<?> resources) {
+        return "the-pod";
+      }
+    };
+  }
+
+  @Test
+  public void writeBatchUncompressed() throws Exception {
+    // Given
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    // When
+    PodFileSync.writeBatch(out, file, false);
+    // Then
+    assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("6\nA file");
+  }
+
+  @Test
+  public void writeBatchCompressed() throws Exception {
+    // Given
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    // When
+    PodFileSync.writeBatch(out, file, true);
+    // Then
+    final byte[] bytes = out.toByteArray();
+    final int headerEnd = indexOf(bytes, (byte) '\n');
+    final byte[] payload = Arrays.copyOfRange(bytes, headerEnd + 1, bytes.length);
+    assertThat(new String(bytes, 0, headerEnd, StandardCharsets.UTF_8)).isEqualTo(payload.length + " z");
+    assertThat(IOUtils.toString(new GZIPInputStream(new ByteArrayInputStream(payload)), StandardCharsets.UTF_8))
+        .isEqualTo("A file");
+  }
+
+  @Test
+  public void syncReusesExecSessionAcrossBatches() throws Exception {
+    // Given
+    podAcknowledges(PodFileSync.ACK_OK, PodFileSync.ACK_OK);
+    final PodFileSync podFileSync = new PodFileSync(clusterAccess, Duration.ofSeconds(1), false, logger);
+    // When
+    podFileSync.sync(file, Collections.emptySet());
+    podFileSync.sync(file, Collections.emptySet());
+    // Then
+    assertThat(sessions.get()).isEqualTo(1);
+    assertThat(new String(podInput.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("6\nA file6\nA file");
+    // @formatter:off
+    new Verifications() {{
+      podOperations.exec("sh", "-c", PodFileSync.SYNC_SCRIPT); times = 1;
+    }};
+    // @formatter:on
+  }
+
+  @Test
+  public void syncWithCompressionFailureFallsBackToUncompressed() throws Exception {
+    // Given
+    podAcknowledges("tar: invalid option -- 'z'", PodFileSync.ACK_FAILED, PodFileSync.ACK_OK);
+    final PodFileSync podFileSync = new PodFileSync(clusterAccess, Duration.ofSeconds(1), true, logger);
+    // When
+    podFileSync.sync(file, Collections.emptySet());
+    // Then
+    assertThat(new String(podInput.toByteArray(), StandardCharsets.UTF_8)).endsWith("6\nA file");
+    // @formatter:off
+    new Verifications() {{
+      logger.warn(anyString, "tar: invalid option -- 'z'"); times = 1;
+    }};
+    // @formatter:on
+  }
+
+  @Test
+  public void syncWithFailureThrowsException() {
+    // Given
+    podAcknowledges("tar: error", PodFileSync.ACK_FAILED);
+    final PodFileSync podFileSync = new PodFileSync(clusterAccess, Duration.ofSeconds(1), false, logger);
+    // When
+    final WatchException result = assertThrows(WatchException.class,
+        () -> podFileSync.sync(file, Collections.emptySet()));
+    // Then
+    assertThat(result).hasMessage("Files couldn't be extracted in the Pod: tar: error");
+  }
+
+  @Test
+  public void syncWithNoAcknowledgementTimesOut() {
+    // Given
+    podAcknowledges();
+    final PodFileSync podFileSync = new PodFileSync(clusterAccess, Duration.ZERO, false, logger);
+    // When
+    final WatchException result = assertThrows(WatchException.class,
+        () -> podFileSync.sync(file, Collections.emptySet()));
+    // Then
+    assertThat(result).hasMessage("File sync timed out");
+  }
+
+  private void podAcknowledges(String... lines) {
+    // @formatter:off
+    new Expectations() {{
+      kubernetesClient.pods().inNamespace(anyString).withName(anyString); result = podOperations;
+    }};
+    // @formatter:on
+    new MockUp<PodOperationsImpl>() {
+      @Mock
+      public TtyExecErrorable<String, OutputStream, PipedInputStream, ExecWatch> writingOutput(OutputStream out) {
+        sessions.incrementAndGet();
+        try {
+          for (String line : lines) {
+            out.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+          }
+        } catch (IOException e) {
+          throw new IllegalStateException(e);
+        }
+        return podOperations;
+      }
+    };
+  }
+
+  private static int indexOf(byte[] bytes, byte b) {
+    for (int i = 0; i < bytes.length; i++) {
+      if (bytes[i] == b) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
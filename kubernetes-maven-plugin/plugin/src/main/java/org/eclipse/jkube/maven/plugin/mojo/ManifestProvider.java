@@ -15,16 +15,14 @@ package org.eclipse.jkube.maven.plugin.mojo;
 
 import java.io.File;
 
-import org.eclipse.jkube.kit.common.util.OpenshiftHelper;
-
-import io.fabric8.kubernetes.client.KubernetesClient;
+import org.eclipse.jkube.kit.config.access.ClusterAccess;
 
 public interface ManifestProvider extends KitLoggerProvider{
 
   File getKubernetesManifest();
 
-  default File getManifest(KubernetesClient kubernetesClient) {
-    if (OpenshiftHelper.isOpenShift(kubernetesClient)) {
+  default File getManifest(ClusterAccess clusterAccess) {
+    if (clusterAccess.isOpenShift()) {
       getKitLogger().warn("OpenShift cluster detected, using Kubernetes manifests");
       getKitLogger().warn("Switch to openshift-maven-plugin in case there are any problems");
     }
@@ -0,0 +1,321 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.maven.plugin.mojo;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
+
+import org.eclipse.jkube.kit.build.service.docker.helper.ConfigHelper;
+import org.eclipse.jkube.kit.build.service.docker.config.handler.property.PropertyConfigHandler;
+import org.eclipse.jkube.kit.common.JavaProject;
+import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.util.JKubeProjectUtil;
+import org.eclipse.jkube.kit.common.util.KubernetesHelper;
+import org.eclipse.jkube.kit.config.access.ClusterAccess;
+import org.eclipse.jkube.kit.config.access.ClusterConfiguration;
+import org.eclipse.jkube.kit.config.image.ImageConfiguration;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.HasMetadataComparator;
+import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.openshift.api.model.Template;
+import org.apache.commons.lang3.SerializationException;
+import org.apache.commons.lang3.SerializationUtils;
+
+/**
+ * Cache for results shared between the goals executed for the same project in a Maven session.
+ *
+ * <p> The cache lives in the Maven plugin context (one per plugin and project) so that e.g. <code>k8s:build</code>
+ * followed by <code>k8s:push</code>, or <code>k8s:resource</code> followed by <code>k8s:apply</code>, don't need to
+ * compute the same results again.
+ *
+ * <p> Each entry is stored along with a fingerprint (a copy of the list of values it was computed from), the entry is
+ * only reused if the fingerprint is equal. Values are stored in their serialized form and deserialized when retrieved,
+ * consumers may mutate the returned values freely. Values that can't be serialized are not cached.
+ */
+public class SessionCache {
+
+  static final String CONTEXT_KEY_SESSION_CACHE = "CONTEXT_KEY_SESSION_CACHE";
+  private static final String KEY_MANIFEST = "manifest:";
+  private static final String KEY_RESOLVED_IMAGES = "resolved-images";
+  private static final Map<Object, Map<ClusterConfiguration, ClusterAccess>> CLUSTER_ACCESS =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  private final Map<String, Entry> entries;
+  private final KitLogger log;
+
+  private SessionCache(Map<String, Entry> entries, KitLogger log) {
+    this.entries = entries;
+    this.log = log;
+  }
+
+  /**
+   * Returns the cache stored in the provided plugin context, or a cache bound to the current goal only if no plugin
+   * context is available.
+   *
+   * @param pluginContext the Maven plugin context (may be null).
+   * @return the session cache.
+   */
+  public static SessionCache from(Map<String, Object> pluginContext) {
+    return from(pluginContext, null);
+  }
+
+  /**
+   * Returns the cache stored in the provided plugin context, or a cache bound to the current goal only if no plugin
+   * context is available, logging to the provided logger.
+   *
+   * @param pluginContext the Maven plugin context (may be null).
+   * @param log the logger of the current goal (may be null).
+   * @return the session cache.
+   */
+  @SuppressWarnings("unchecked")
+  public static SessionCache from(Map<String, Object> pluginContext, KitLogger log) {
+    if (pluginContext == null) {
+      return new SessionCache(new HashMap<>(), log);
+    }
+    final SessionCache shared;
+    synchronized (pluginContext) {
+      shared = (SessionCache) pluginContext.computeIfAbsent(CONTEXT_KEY_SESSION_CACHE,
+          k -> new SessionCache(new HashMap<>(), null));
+    }
+    return log == null ? shared : new SessionCache(shared.entries, log);
+  }
+
+  /**
+   * Returns a cluster access logging to the provided logger, which shares the cluster capabilities with all the goals
+   * and projects of the provided Maven session with an equal cluster configuration, so that the cluster capabilities
+   * are discovered at most once per session.
+   *
+   * @param session the Maven session (may be null, the cluster capabilities are not shared then).
+   * @param log the logger used by the returned cluster access.
+   * @param clusterConfiguration the cluster configuration.
+   * @return the cluster access.
+   */
+  public static ClusterAccess clusterAccess(Object session, KitLogger log, ClusterConfiguration clusterConfiguration) {
+    if (session == null) {
+      return new ClusterAccess(log, clusterConfiguration);
+    }
+    synchronized (CLUSTER_ACCESS) {
+      return CLUSTER_ACCESS.computeIfAbsent(session, k -> new HashMap<>())
+          .computeIfAbsent(clusterConfiguration, k -> new ClusterAccess(null, clusterConfiguration))
+          .withKitLogger(log);
+    }
+  }
+
+  /**
+   * Returns a copy of the cached value for the provided key if it was computed from an equal fingerprint, otherwise
+   * computes, stores and returns a new value.
+   *
+   * @param key the cache key.
+   * @param fingerprint the values the result depends on, see {@link #fingerprint(Object...)}.
+   * @param loader computes the value if not cached.
+   * @param <T> type of the value.
+   * @param <E> exception thrown by the loader.
+   * @return the (copy of the) cached or computed value.
+   * @throws E if the loader fails.
+   */
+  public <T extends Serializable, E extends Exception> T computeIfAbsent(
+      String key, List<?> fingerprint, Loader<T, E> loader) throws E {
+
+    final Optional<T> cached = get(key, fingerprint);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+    // Snapshot the fingerprint before loading, the loader might modify the values it is composed of
+    final List<?> snapshot = copy(key, fingerprint);
+    final T value = loader.load();
+    if (snapshot != null) {
+      put(key, snapshot, value);
+    }
+    return value;
+  }
+
+  public <T extends Serializable> void put(String key, List<?> fingerprint, T value) {
+    final byte[] serialized = value == null ? null : serialize(key, value);
+    synchronized (entries) {
+      entries.remove(key);
+      if (serialized != null) {
+        entries.put(key, new Entry(fingerprint, serialized));
+      }
+    }
+  }
+
+  public <T extends Serializable> Optional<T> get(String key, List<?> fingerprint) {
+    final Entry entry;
+    synchronized (entries) {
+      entry = entries.get(key);
+    }
+    if (entry == null || !entry.fingerprint.equals(fingerprint)) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(SerializationUtils.deserialize(entry.value));
+    } catch (SerializationException ex) {
+      debug("Cannot deserialize cached value for %s, recomputing it: %s", key, ex.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Resolves the external configuration (property or Docker Compose configuration) of the provided images, reusing
+   * the images resolved by a previous goal of the session if neither the images nor the properties they can be
+   * resolved from changed.
+   *
+   * <p> Generators (image customizers) must be applied to the returned images by the caller, their results are not
+   * cached since they depend on the contents of the build directory and some of them have side effects (e.g. the
+   * Spring Boot generator adding the devtools secret for the watch goal).
+   *
+   * @param images the images to resolve.
+   * @param project the project the images are resolved for.
+   * @param resolver the resolver for the external image configuration.
+   * @return the (copy of the) resolved images.
+   */
+  public List<ImageConfiguration> resolveImages(
+      List<ImageConfiguration> images, JavaProject project, ConfigHelper.Resolver resolver) {
+
+    final ConfigHelper.Customizer noCustomization = configs -> configs;
+    if (images != null && images.stream().anyMatch(SessionCache::usesComposeFile)) {
+      // Compose files aren't part of the fingerprint
+      return ConfigHelper.resolveImages(log, images, resolver, null, noCustomization);
+    }
+    return computeIfAbsent(KEY_RESOLVED_IMAGES, fingerprint(images, imageProperties(images, project)),
+        () -> new ArrayList<>(ConfigHelper.resolveImages(log, images, resolver, null, noCustomization)));
+  }
+  /**
+   * Stores the resources that were written to the provided manifest file, so that they can be retrieved by
+   * {@link #loadResources(File)} as long as the file isn't modified.
+   *
+   * <p> Resources containing templates are not stored since the written manifest is post-processed
+   * (parameter interpolation, local template processing).
+   *
+   * @param manifest the written manifest file.
+   * @param resources the resources contained in the manifest file.
+   */
+  public void putResources(File manifest, KubernetesList resources) {
+    if (resources.getItems().stream().noneMatch(Template.class::isInstance)) {
+      put(KEY_MANIFEST + manifest.getAbsolutePath(), manifestFingerprint(manifest), resources);
+    }
+  }
+
+  /**
+   * Loads the resources from the provided manifest, reusing the resources stored by a previous goal if the file
+   * hasn't been modified since.
+   *
+   * @param manifest the manifest file to load.
+   * @return the resources in the manifest.
+   * @throws IOException if the manifest can't be read.
+   */
+  public Set<HasMetadata> loadResources(File manifest) throws IOException {
+    final Optional<KubernetesList> cached = get(KEY_MANIFEST + manifest.getAbsolutePath(), manifestFingerprint(manifest));
+    if (cached.isPresent()) {
+      final Set<HasMetadata> entities = new TreeSet<>(new HasMetadataComparator());
+      entities.addAll(cached.get().getItems());
+      return entities;
+    }
+    return KubernetesHelper.loadResources(manifest);
+  }
+
+  /**
+   * Creates a fingerprint out of the provided values. Values are compared using equals, the fingerprint is copied when
+   * an entry is stored so that further modifications to the values don't affect the stored entry.
+   *
+   * @param values the values the fingerprint is composed of.
+   * @return the fingerprint.
+   */
+  public List<Object> fingerprint(Object... values) {
+    return Arrays.asList(values);
+  }
+
+  private List<?> copy(String key, List<?> fingerprint) {
+    final ArrayList<Object> copy = new ArrayList<>(fingerprint);
+    if (copy.stream().allMatch(v -> v == null || v instanceof Serializable)) {
+      final byte[] serialized = serialize(key + " fingerprint", copy);
+      return serialized == null ? null : SerializationUtils.deserialize(serialized);
+    }
+    debug("Cannot copy fingerprint of %s, not caching it", key);
+    return null;
+  }
+
+  private byte[] serialize(String key, Serializable value) {
+    try {
+      return SerializationUtils.serialize(value);
+    } catch (SerializationException ex) {
+      debug("Cannot serialize %s (%s), not caching it: %s", key, value.getClass().getName(), ex.getMessage());
+      return null;
+    }
+  }
+
+  private void debug(String format, Object... params) {
+    if (log != null) {
+      log.debug(format, params);
+    }
+  }
+
+  private static List<Object> manifestFingerprint(File manifest) {
+    return Arrays.asList(manifest.lastModified(), manifest.length());
+  }
+
+  private static boolean usesComposeFile(ImageConfiguration image) {
+    return image.getExternalConfig() != null && "compose".equals(image.getExternalConfig().get("type"));
+  }
+
+  // Only the properties the property configuration handler can read are relevant for the resolved images
+  private static Map<String, String> imageProperties(List<ImageConfiguration> images, JavaProject project) {
+    final Set<String> prefixes = new HashSet<>();
+    prefixes.add(PropertyConfigHandler.DEFAULT_PREFIX + ".");
+    Optional.ofNullable(images).orElse(Collections.emptyList()).stream()
+        .map(ImageConfiguration::getExternalConfig)
+        .filter(Objects::nonNull)
+        .map(external -> external.get("prefix"))
+        .filter(Objects::nonNull)
+        .forEach(prefix -> prefixes.add(prefix + "."));
+    final Map<String, String> ret = new HashMap<>();
+    final Properties properties = JKubeProjectUtil.getPropertiesWithSystemOverrides(project);
+    for (String name : properties.stringPropertyNames()) {
+      if (name.equals(ConfigHelper.EXTERNALCONFIG_ACTIVATION_PROPERTY) || prefixes.stream().anyMatch(name::startsWith)) {
+        ret.put(name, properties.getProperty(name));
+      }
+    }
+    return ret;
+  }
+
+  @FunctionalInterface
+  public interface Loader<T, E extends Exception> {
+    T load() throws E;
+  }
+
+  private static final class Entry {
+    private final List<?> fingerprint;
+    private final byte[] value;
+
+    private Entry(List<?> fingerprint, byte[] value) {
+      this.fingerprint = fingerprint;
+      this.value = value;
+    }
+  }
+}
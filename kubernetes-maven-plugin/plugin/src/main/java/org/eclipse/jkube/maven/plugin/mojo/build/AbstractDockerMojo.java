@@ -21,6 +21,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Enumeration;
@@ -68,9 +69,9 @@ import org.eclipse.jkube.kit.config.resource.RuntimeMode;
 import org.eclipse.jkube.kit.config.service.BuildServiceConfig;
 import org.eclipse.jkube.kit.config.service.JKubeServiceHub;
 import org.eclipse.jkube.kit.profile.ProfileUtil;
-import org.eclipse.jkube.kit.enricher.api.EnricherContext;
 import org.eclipse.jkube.kit.enricher.api.JKubeEnricherContext;
 import org.eclipse.jkube.maven.plugin.enricher.DefaultEnricherManager;
+import org.eclipse.jkube.maven.plugin.mojo.SessionCache;
 import org.eclipse.jkube.maven.plugin.generator.GeneratorManager;
 
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
@@ -195,6 +196,14 @@ public abstract class AbstractDockerMojo extends AbstractMojo
     @Parameter(property = "jkube.docker.pull.registry")
     protected String pullRegistry;
 
+    // Maximum number of base images to pull at the same time when building several images
+    @Parameter(property = "jkube.docker.pull.concurrency", defaultValue = "1")
+    protected int pullConcurrency;
+
+    // Registry to use for push operations if no registry is specified
+    @Parameter(property = "jkube.docker.push.registry")
+    protected String pushRegistry;
+
     /**
      * Build mode when build is performed.
      * Can be either "s2i" for an s2i binary build mode (in case of OpenShift) or
@@ -204,6 +213,13 @@ public abstract class AbstractDockerMojo extends AbstractMojo
     @Parameter(property = "jkube.build.strategy")
     protected JKubeBuildStrategy buildStrategy;
 
+    /**
+     * Whether the "jib" build strategy should push the image straight to the registry during the build
+     * instead of creating a local image tarball (push is skipped then).
+     */
+    @Parameter(property = "jkube.build.jib.pushOnBuild", defaultValue = "false")
+    protected boolean jibPushOnBuild;
+
     /**
      * Profile to use. A profile contains the enrichers and generators to
      * use as well as their configuration. Profiles are looked up
@@ -281,6 +297,10 @@ public abstract class AbstractDockerMojo extends AbstractMojo
     @Parameter(property = "jkube.skip.build.pom")
     protected Boolean skipBuildPom;
 
+    // Write the Docker build context archive to the output directory instead of only streaming it to the daemon
+    @Parameter(property = "jkube.docker.build.keepArchive", defaultValue = "false")
+    protected boolean keepBuildArchive;
+
     /**
      * Generator specific options. This is a generic prefix where the keys have the form
      * <code>&lt;generator-prefix&gt;-&lt;option&gt;</code>.
@@ -340,6 +360,9 @@ public abstract class AbstractDockerMojo extends AbstractMojo
     // The JKube service hub
     protected JKubeServiceHub jkubeServiceHub;
 
+    // The JKube project model, converted once per execution
+    protected JavaProject javaProject;
+
     // Mode which is resolved, also when 'auto' is set
     protected RuntimeMode runtimeMode;
 
@@ -406,7 +429,7 @@ public abstract class AbstractDockerMojo extends AbstractMojo
         log = new AnsiLogger(getLog(), useColorForLogging(), verbose, !settings.getInteractiveMode(), getLogPrefix());
         authConfigFactory = new AuthConfigFactory(log);
         imageConfigResolver.setLog(log);
-        clusterAccess = new ClusterAccess(log, initClusterConfiguration());
+        clusterAccess = SessionCache.clusterAccess(session, log, initClusterConfiguration());
         runtimeMode = getConfiguredRuntimeMode();
     }
 
@@ -459,15 +482,16 @@ public abstract class AbstractDockerMojo extends AbstractMojo
     protected abstract void executeInternal() throws IOException, MojoExecutionException;
 
     protected JKubeConfiguration initJKubeConfiguration() throws DependencyResolutionRequiredException {
-        final JavaProject javaProject = MavenUtil.convertMavenProjectToJKubeProject(project, session);
+        javaProject = MavenUtil.convertMavenProjectToJKubeProject(project, session);
         ConfigHelper.validateExternalPropertyActivation(javaProject, images);
         return JKubeConfiguration.builder()
-            .project(MavenUtil.convertMavenProjectToJKubeProject(project, session))
+            .project(javaProject)
             .sourceDirectory(sourceDirectory)
             .outputDirectory(outputDirectory)
             .reactorProjects(Collections.singletonList(javaProject))
             .buildArgs(buildArgs)
             .registryConfig(getRegistryConfig(pullRegistry))
+            .keepBuildArchive(keepBuildArchive)
             .build();
     }
 
@@ -489,16 +513,17 @@ public abstract class AbstractDockerMojo extends AbstractMojo
      * @param aImageConfig ImageConfiguration that would be forwarded to build and tag
      * @throws MojoExecutionException
      */
-    private void processImageConfig(ImageConfiguration aImageConfig) throws MojoExecutionException {
+    private boolean shouldBuild(ImageConfiguration aImageConfig) {
         BuildConfiguration buildConfig = aImageConfig.getBuildConfiguration();
 
         if (buildConfig != null) {
             if (buildConfig.getSkip()) {
                 log.info("%s : Skipped building", aImageConfig.getDescription());
             } else {
-                buildAndTag(aImageConfig);
+                return true;
             }
         }
+        return false;
     }
 
     protected File getAndEnsureOutputDirectory() {
@@ -551,6 +576,7 @@ public abstract class AbstractDockerMojo extends AbstractMojo
                 .authConfig(authConfig != null ? authConfig.toMap() : null)
                 .skipExtendedAuth(skipExtendedAuth)
                 .registry(specificRegistry != null ? specificRegistry : registry)
+                .pullConcurrency(pullConcurrency)
                 .passwordDecryptionMethod(password -> {
                     try {
                         // Done by reflection since I have classloader issues otherwise
@@ -623,9 +649,15 @@ public abstract class AbstractDockerMojo extends AbstractMojo
         // Check for build plugins
         executeBuildPlugins();
 
-        // Iterate over all the ImageConfigurations and process one by one
+        // Collect the ImageConfigurations to build, the build service decides whether to build them concurrently
+        final List<ImageConfiguration> imagesToBuild = new ArrayList<>();
         for (ImageConfiguration imageConfig : getResolvedImages()) {
-            processImageConfig(imageConfig);
+            if (shouldBuild(imageConfig)) {
+                imagesToBuild.add(imageConfig);
+            }
+        }
+        if (!imagesToBuild.isEmpty()) {
+            buildAndTag(imagesToBuild);
         }
     }
 
@@ -648,14 +680,14 @@ public abstract class AbstractDockerMojo extends AbstractMojo
         return true;
     }
 
-    private void buildAndTag(ImageConfiguration imageConfig)
+    private void buildAndTag(List<ImageConfiguration> imageConfigs)
             throws MojoExecutionException {
 
         try {
             // TODO need to refactor d-m-p to avoid this call
             EnvUtil.storeTimestamp(getBuildTimestampFile(), getBuildTimestamp());
 
-            jkubeServiceHub.getBuildService().build(imageConfig);
+            jkubeServiceHub.getBuildService().build(imageConfigs);
 
         } catch (Exception ex) {
             throw new MojoExecutionException("Failed to execute the build", ex);
@@ -669,15 +701,19 @@ public abstract class AbstractDockerMojo extends AbstractMojo
                 .forcePull(forcePull)
                 .imagePullManager(getImagePullManager(imagePullPolicy, autoPull))
                 .buildDirectory(project.getBuild().getDirectory())
+                .jibPushOnBuild(jibPushOnBuild)
+                .jibPushRegistryConfig(jibPushOnBuild ? getRegistryConfig(pushRegistry) : null)
                 .attacher((classifier, destFile) -> {
                     if (destFile.exists()) {
                         projectHelper.attachArtifact(project, "yml", classifier, destFile);
                     }
                 })
                 .enricherTask(builder -> {
-                    DefaultEnricherManager enricherManager = new DefaultEnricherManager(getEnricherContext(), MavenUtil.getCompileClasspathElementsIfRequested(project, useProjectClasspath));
-                    enricherManager.enrich(PlatformMode.kubernetes, builder);
-                    enricherManager.enrich(PlatformMode.openshift, builder);
+                    try (JKubeEnricherContext enricherContext = getEnricherContext()) {
+                        DefaultEnricherManager enricherManager = new DefaultEnricherManager(enricherContext, MavenUtil.getCompileClasspathElementsIfRequested(project, useProjectClasspath));
+                        enricherManager.enrich(PlatformMode.kubernetes, builder);
+                        enricherManager.enrich(PlatformMode.openshift, builder);
+                    }
                 });
     }
 
@@ -692,10 +728,12 @@ public abstract class AbstractDockerMojo extends AbstractMojo
         if (runtimeMode != RuntimeMode.OPENSHIFT) {
             log.info("Building Docker image in [[B]]Kubernetes[[B]] mode");
         }
-        try {
-            return GeneratorManager.generate(configs, generatorContextBuilder().build(), false);
+        try (GeneratorContext generatorContext = generatorContextBuilder().build()) {
+            return GeneratorManager.generate(configs, generatorContext, false);
         } catch (DependencyResolutionRequiredException de) {
             throw new IllegalArgumentException("Instructed to use project classpath, but cannot. Continuing build if we can: ", de);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot close the generator context: " + e, e);
         }
     }
 
@@ -713,13 +751,14 @@ public abstract class AbstractDockerMojo extends AbstractMojo
     // ==================================================================================================
 
     // Get enricher context
-    public EnricherContext getEnricherContext() throws DependencyResolutionRequiredException {
+    public JKubeEnricherContext getEnricherContext() throws DependencyResolutionRequiredException {
         return JKubeEnricherContext.builder()
-                .project(MavenUtil.convertMavenProjectToJKubeProject(project, session))
+                .project(javaProject)
                 .processorConfig(extractEnricherConfig())
                 .images(getResolvedImages())
                 .resources(resources)
                 .log(log)
+                .projectClassLoaders(jkubeServiceHub.getProjectResourcesService().getProjectClassLoaders())
                 .build();
     }
 
@@ -727,11 +766,12 @@ public abstract class AbstractDockerMojo extends AbstractMojo
     protected GeneratorContext.GeneratorContextBuilder generatorContextBuilder() throws DependencyResolutionRequiredException {
         return GeneratorContext.builder()
                 .config(extractGeneratorConfig())
-                .project(MavenUtil.convertMavenProjectToJKubeProject(project, session))
+                .project(javaProject)
                 .logger(log)
                 .runtimeMode(runtimeMode)
                 .useProjectClasspath(useProjectClasspath)
-                .artifactResolver(jkubeServiceHub.getArtifactResolverService());
+                .artifactResolver(jkubeServiceHub.getArtifactResolverService())
+                .projectClassLoaders(jkubeServiceHub.getProjectResourcesService().getProjectClassLoaders());
     }
 
     // Get generator config
@@ -789,20 +829,14 @@ public abstract class AbstractDockerMojo extends AbstractMojo
 
     // Resolve and customize image configuration
     protected String initImageConfiguration(Date buildTimeStamp) throws DependencyResolutionRequiredException {
-        // Resolve images
+        // Resolve images (reusing the images resolved by a previous goal with the same configuration)
         resolvedImages = ConfigHelper.resolveImages(
-                log,
-                images,                  // Unresolved images
-                (ImageConfiguration image) -> {
-                    try {
-                        return imageConfigResolver.resolve(image, MavenUtil.convertMavenProjectToJKubeProject(project, session));
-                    } catch (DependencyResolutionRequiredException exception) {
-                        log.warn("Instructed to use project classpath, but cannot.Continuing build if we can: ", exception);
-                    }
-                    return null;
-                },
-                filter,                   // A filter which image to process
-                this);                     // customizer (can be overwritten by a subclass)
+            log,
+            SessionCache.from(getPluginContext(), log).resolveImages(images, javaProject,
+                (ImageConfiguration image) -> imageConfigResolver.resolve(image, javaProject)),
+            Collections::singletonList,
+            filter,                   // A filter which image to process
+            this);                     // customizer (can be overwritten by a subclass)
 
         // Check for simple Dockerfile mode
         if (DockerFileUtil.isSimpleDockerFileMode(project.getBasedir())) {
@@ -815,7 +849,7 @@ public abstract class AbstractDockerMojo extends AbstractMojo
         }
 
         // Initialize configuration and detect minimal API version
-        return ConfigHelper.initAndValidate(resolvedImages, apiVersion, new ImageNameFormatter(MavenUtil.convertMavenProjectToJKubeProject(project, session), buildTimeStamp));
+        return ConfigHelper.initAndValidate(resolvedImages, apiVersion, new ImageNameFormatter(javaProject, buildTimeStamp));
     }
 
     /**
@@ -34,6 +34,7 @@ import org.eclipse.jkube.kit.config.image.build.JKubeConfiguration;
 import org.eclipse.jkube.kit.config.resource.RuntimeMode;
 import org.eclipse.jkube.kit.config.service.JKubeServiceHub;
 import org.eclipse.jkube.maven.plugin.mojo.KitLoggerProvider;
+import org.eclipse.jkube.maven.plugin.mojo.SessionCache;
 
 import java.util.Collections;
 import java.util.Optional;
@@ -70,13 +71,16 @@ public abstract class AbstractJKubeMojo extends AbstractMojo implements KitLogge
     protected KitLogger log;
     protected ClusterAccess clusterAccess;
 
+    // The JKube project model, converted once per execution
+    protected JavaProject javaProject;
+
     // The JKube service hub
     protected JKubeServiceHub jkubeServiceHub;
 
     protected void init() throws DependencyResolutionRequiredException {
         log = createLogger(null);
-        clusterAccess = new ClusterAccess(log, initClusterConfiguration());
-        final JavaProject javaProject = MavenUtil.convertMavenProjectToJKubeProject(project, session);
+        clusterAccess = SessionCache.clusterAccess(session, log, initClusterConfiguration());
+        javaProject = MavenUtil.convertMavenProjectToJKubeProject(project, session);
         jkubeServiceHub = initJKubeServiceHubBuilder(javaProject).build();
     }
 
@@ -93,6 +97,8 @@ public abstract class AbstractJKubeMojo extends AbstractMojo implements KitLogge
             }
         } catch (DependencyResolutionRequiredException e) {
             throw new MojoFailureException(e.getMessage());
+        } finally {
+            Optional.ofNullable(jkubeServiceHub).ifPresent(JKubeServiceHub::close);
         }
     }
 
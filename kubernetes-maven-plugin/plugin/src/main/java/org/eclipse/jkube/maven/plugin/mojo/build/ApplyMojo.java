@@ -17,9 +17,7 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import org.eclipse.jkube.kit.common.KitLogger;
-import org.eclipse.jkube.kit.common.util.KubernetesHelper;
 import org.eclipse.jkube.kit.common.util.MavenUtil;
-import org.eclipse.jkube.kit.common.util.OpenshiftHelper;
 import org.eclipse.jkube.kit.config.service.ApplyService;
 import org.eclipse.jkube.kit.enricher.api.util.KubernetesResourceUtil;
 import org.apache.maven.plugin.MojoExecutionException;
@@ -30,6 +28,7 @@ import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.apache.maven.project.MavenProject;
 import org.eclipse.jkube.maven.plugin.mojo.ManifestProvider;
+import org.eclipse.jkube.maven.plugin.mojo.SessionCache;
 
 import java.io.File;
 import java.net.URL;
@@ -163,7 +162,7 @@ public class ApplyMojo extends AbstractJKubeMojo implements ManifestProvider {
             initServices(kubernetes);
 
             URL masterUrl = kubernetes.getMasterUrl();
-            final File manifest = getManifest(kubernetes);
+            final File manifest = getManifest(clusterAccess);
             if (!manifest.exists() || !manifest.isFile()) {
                 if (failOnNoKubernetesJson) {
                     throw new MojoFailureException("No such generated manifest file: " + manifest);
@@ -173,19 +172,20 @@ public class ApplyMojo extends AbstractJKubeMojo implements ManifestProvider {
                 }
             }
 
+            final boolean openShift = jkubeServiceHub.getClusterCapabilities().isOpenShift();
             String clusterKind = "Kubernetes";
-            if (OpenshiftHelper.isOpenShift(kubernetes)) {
+            if (openShift) {
                 clusterKind = "OpenShift";
             }
             KubernetesResourceUtil.validateKubernetesMasterUrl(masterUrl);
-            Set<HasMetadata> entities = KubernetesHelper.loadResources(manifest);
+            Set<HasMetadata> entities = SessionCache.from(getPluginContext(), log).loadResources(manifest);
             log.info("Using %s at %s in namespace %s with manifest %s ", clusterKind, masterUrl, clusterAccess.getNamespace(), manifest);
 
-            configureApplyService(kubernetes);
+            configureApplyService(openShift);
 
             // Apply rest of the entities present in manifest
             applyEntities(kubernetes, manifest.getName(), entities);
-            log.info("[[B]]HINT:[[B]] Use the command `%s get pods -w` to watch your pods start up", clusterAccess.isOpenShift() ? "oc" : "kubectl");
+            log.info("[[B]]HINT:[[B]] Use the command `%s get pods -w` to watch your pods start up", openShift ? "oc" : "kubectl");
         } catch (KubernetesClientException e) {
             KubernetesResourceUtil.handleKubernetesClientException(e, this.log);
         } catch (Exception e) {
@@ -220,7 +220,7 @@ public class ApplyMojo extends AbstractJKubeMojo implements ManifestProvider {
         applyService.setProcessTemplatesLocally(true);
     }
 
-    private void configureApplyService(KubernetesClient kubernetes) {
+    private void configureApplyService(boolean openShift) {
         applyService.setAllowCreate(createNewResources);
         applyService.setServicesOnlyMode(servicesOnly);
         applyService.setIgnoreServiceMode(ignoreServices);
@@ -239,7 +239,6 @@ public class ApplyMojo extends AbstractJKubeMojo implements ManifestProvider {
                 .orElse(clusterAccess.getNamespace())
         );
 
-        boolean openShift = OpenshiftHelper.isOpenShift(kubernetes);
         if (openShift) {
             log.info("[[B]]OpenShift[[B]] platform detected");
         } else {
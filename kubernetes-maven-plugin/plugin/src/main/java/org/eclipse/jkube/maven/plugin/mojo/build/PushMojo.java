@@ -18,6 +18,7 @@ import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.eclipse.jkube.kit.config.image.RegistryConfig;
 
 /**
  * Uploads the built Docker images to a Docker registry
@@ -31,10 +32,6 @@ public class PushMojo extends AbstractDockerMojo {
     @Parameter(property = "jkube.skip.push", defaultValue = "false")
     protected boolean skipPush;
 
-    // Registry to use for push operations if no registry is specified
-    @Parameter(property = "jkube.docker.push.registry")
-    private String pushRegistry;
-
     /**
      * Skip building tags
      */
@@ -44,6 +41,12 @@ public class PushMojo extends AbstractDockerMojo {
     @Parameter(property = "jkube.docker.push.retries", defaultValue = "0")
     private int retries;
 
+    /**
+     * Maximum number of images to push at the same time
+     */
+    @Parameter(property = "jkube.docker.push.concurrency", defaultValue = "1")
+    private int pushConcurrency;
+
     @Override
     protected boolean canExecute() {
         return super.canExecute() && !skipPush;
@@ -56,7 +59,10 @@ public class PushMojo extends AbstractDockerMojo {
         }
 
         try {
-            jkubeServiceHub.getBuildService().push(getResolvedImages(), retries, getRegistryConfig(pushRegistry), skipTag);
+            final RegistryConfig registryConfig = getRegistryConfig(pushRegistry).toBuilder()
+                .pushConcurrency(pushConcurrency)
+                .build();
+            jkubeServiceHub.getBuildService().push(getResolvedImages(), retries, registryConfig, skipTag);
         } catch (Exception exp) {
             throw new MojoExecutionException(exp.getMessage());
         }
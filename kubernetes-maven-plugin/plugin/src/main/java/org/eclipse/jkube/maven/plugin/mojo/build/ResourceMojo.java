@@ -16,6 +16,7 @@ package org.eclipse.jkube.maven.plugin.mojo.build;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -53,6 +54,7 @@ import org.eclipse.jkube.kit.profile.ProfileUtil;
 import org.eclipse.jkube.kit.resource.service.DefaultResourceService;
 import org.eclipse.jkube.maven.plugin.enricher.DefaultEnricherManager;
 import org.eclipse.jkube.maven.plugin.generator.GeneratorManager;
+import org.eclipse.jkube.maven.plugin.mojo.SessionCache;
 
 import io.fabric8.kubernetes.api.model.KubernetesList;
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
@@ -233,6 +235,8 @@ public class ResourceMojo extends AbstractJKubeMojo {
                 final File resourceClassifierDir = new File(this.targetDir, resourceClassifier.getValue());
                 validateIfRequired(resourceClassifierDir, resourceClassifier);
                 final File artifact = jkubeServiceHub.getResourceService().writeResources(resourceList, resourceClassifier, log);
+                // Keep the generated resources so that later goals (e.g. apply) don't need to parse them again
+                SessionCache.from(getPluginContext(), log).putResources(artifact, resourceList);
                 // Attach it to the Maven reactor so that it will also get deployed
                 projectHelper.attachArtifact(project, this.resourceFileType.getArtifactType(), resourceClassifier.getValue(), artifact);
             }
@@ -315,7 +319,8 @@ public class ResourceMojo extends AbstractJKubeMojo {
         RuntimeMode runtimeMode = getRuntimeMode();
         jkubeServiceHub.setPlatformMode(runtimeMode);
         if (runtimeMode.equals(RuntimeMode.OPENSHIFT)) {
-            Properties properties = project.getProperties();
+            // Only the project model of this execution is used by the enrichers
+            Properties properties = javaProject.getProperties();
             if (!properties.contains(DOCKER_IMAGE_USER)) {
                 String namespaceToBeUsed = this.namespace != null && !this.namespace.isEmpty() ?
                         this.namespace: clusterAccess.getNamespace();
@@ -332,17 +337,20 @@ public class ResourceMojo extends AbstractJKubeMojo {
         throws IOException, DependencyResolutionRequiredException {
 
         JKubeEnricherContext.JKubeEnricherContextBuilder ctxBuilder = JKubeEnricherContext.builder()
-                .project(MavenUtil.convertMavenProjectToJKubeProject(project, session))
+                .project(javaProject)
                 .processorConfig(extractEnricherConfig())
                 .settings(MavenUtil.getRegistryServerFromMavenSettings(settings))
                 .resources(resources)
                 .images(resolvedImages)
-                .log(log);
+                .log(log)
+                .projectClassLoaders(jkubeServiceHub.getProjectResourcesService().getProjectClassLoaders());
 
-        DefaultEnricherManager enricherManager = new DefaultEnricherManager(ctxBuilder.build(),
-            MavenUtil.getCompileClasspathElementsIfRequested(project, useProjectClasspath));
+        try (JKubeEnricherContext enricherContext = ctxBuilder.build()) {
+            DefaultEnricherManager enricherManager = new DefaultEnricherManager(enricherContext,
+                MavenUtil.getCompileClasspathElementsIfRequested(project, useProjectClasspath));
 
-        return jkubeServiceHub.getResourceService().generateResources(getPlatformMode(), enricherManager, log);
+            return jkubeServiceHub.getResourceService().generateResources(getPlatformMode(), enricherManager, log);
+        }
     }
 
     private ProcessorConfig extractEnricherConfig() throws IOException {
@@ -357,23 +365,23 @@ public class ResourceMojo extends AbstractJKubeMojo {
 
     private List<ImageConfiguration> getResolvedImages(List<ImageConfiguration> images, final KitLogger log)
         throws MojoExecutionException, DependencyResolutionRequiredException {
-        List<ImageConfiguration> ret;
-        JavaProject jkubeProject = MavenUtil.convertMavenProjectToJKubeProject(project, session);
-        ret = ConfigHelper.resolveImages(
+        // Reuse the external image configuration resolved by a previous goal, generators are always applied
+        List<ImageConfiguration> ret = ConfigHelper.resolveImages(
             log,
-            images,
-            (ImageConfiguration image) -> imageConfigResolver.resolve(image, jkubeProject),
+            SessionCache.from(getPluginContext(), log).resolveImages(images, javaProject,
+                (ImageConfiguration image) -> imageConfigResolver.resolve(image, javaProject)),
+            Collections::singletonList,
             null,  // no filter on image name yet (TODO: Maybe add this, too ?)
                 (List<ImageConfiguration> configs) -> {
-                    try {
-                        GeneratorContext ctx = GeneratorContext.builder()
+                    try (GeneratorContext ctx = GeneratorContext.builder()
                                 .config(extractGeneratorConfig())
-                                .project(jkubeProject)
+                                .project(javaProject)
                                 .runtimeMode(getRuntimeMode())
                                 .logger(log)
                                 .strategy(JKubeBuildStrategy.docker)
                                 .useProjectClasspath(useProjectClasspath)
-                                .build();
+                                .projectClassLoaders(jkubeServiceHub.getProjectResourcesService().getProjectClassLoaders())
+                                .build()) {
                         return GeneratorManager.generate(configs, ctx, true);
                     } catch (Exception e) {
                         throw new IllegalArgumentException("Cannot extract generator: " + e, e);
@@ -392,7 +400,7 @@ public class ResourceMojo extends AbstractJKubeMojo {
             }
         }
         String minimalApiVersion = ConfigHelper.initAndValidate(ret, null /* no minimal api version */,
-            new ImageNameFormatter(MavenUtil.convertMavenProjectToJKubeProject(project, session), now));
+            new ImageNameFormatter(javaProject, now));
         return ret;
     }
 
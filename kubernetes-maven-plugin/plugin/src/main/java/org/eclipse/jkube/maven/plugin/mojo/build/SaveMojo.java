@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.maven.plugin.mojo.build;
+
+import java.io.File;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.eclipse.jkube.kit.build.service.docker.access.DockerAccessException;
+import org.eclipse.jkube.kit.common.archive.ArchiveCompression;
+import org.eclipse.jkube.kit.config.image.ImageConfiguration;
+
+/**
+ * Saves the built Docker images to a single archive file (<code>docker save</code>).
+ *
+ * <p> The compression is detected from the file name, gzip archives are compressed in parallel.
+ */
+@Mojo(name = "save", defaultPhase = LifecyclePhase.PACKAGE, requiresDependencyResolution = ResolutionScope.COMPILE)
+public class SaveMojo extends AbstractDockerMojo {
+
+    @Parameter(property = "jkube.skip.save", defaultValue = "false")
+    protected boolean skipSave;
+
+    /**
+     * File to save the images to, layers shared by several images are only written once
+     */
+    @Parameter(property = "jkube.save.file", defaultValue = "${project.build.directory}/${project.artifactId}-${project.version}.tar.gz")
+    private File saveFile;
+
+    @Override
+    protected boolean canExecute() {
+        return super.canExecute() && !skipSave;
+    }
+
+    @Override
+    public void executeInternal() throws MojoExecutionException {
+        final List<String> imageNames = getResolvedImages().stream()
+            .filter(image -> image.getBuildConfiguration() != null)
+            .map(ImageConfiguration::getName)
+            .collect(Collectors.toList());
+        if (imageNames.isEmpty()) {
+            log.warn("No image build configuration found or detected, nothing to save");
+            return;
+        }
+        final File parent = saveFile.getAbsoluteFile().getParentFile();
+        if (!parent.isDirectory() && !parent.mkdirs()) {
+            throw new MojoExecutionException("Cannot create directory " + parent);
+        }
+        log.info("Saving %s to %s", String.join(", ", imageNames), saveFile);
+        try {
+            jkubeServiceHub.getDockerServiceHub().getDockerAccess().saveImages(
+                imageNames, saveFile.getAbsolutePath(), ArchiveCompression.fromFileName(saveFile.getName()));
+        } catch (DockerAccessException exp) {
+            throw new MojoExecutionException(exp.getMessage(), exp);
+        }
+    }
+}
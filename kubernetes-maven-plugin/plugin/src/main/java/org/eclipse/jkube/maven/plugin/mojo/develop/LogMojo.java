@@ -38,6 +38,8 @@ public class LogMojo extends ApplyMojo {
   private String logContainerName;
   @Parameter(property = "jkube.log.pod")
   private String podName;
+  @Parameter(property = "jkube.log.aggregate", defaultValue = "false")
+  private boolean aggregate;
 
   @Override
   protected void applyEntities(final KubernetesClient kubernetes, String fileName, final Set<HasMetadata> entities) {
@@ -58,6 +60,7 @@ public class LogMojo extends ApplyMojo {
         .log(log)
         .logContainerName(logContainerName)
         .podName(podName)
+        .aggregate(aggregate)
         .newPodLog(createLogger("[[C]][NEW][[C]] "))
         .oldPodLog(createLogger("[[R]][OLD][[R]] "));
   }
@@ -102,7 +102,7 @@ public class UndeployMojo extends AbstractJKubeMojo implements ManifestProvider
 
   protected List<File> getManifestsToUndeploy() {
     final List<File> ret = new ArrayList<>();
-    ret.add(getManifest(jkubeServiceHub.getClient()));
+    ret.add(getManifest(clusterAccess));
     return ret;
   }
 
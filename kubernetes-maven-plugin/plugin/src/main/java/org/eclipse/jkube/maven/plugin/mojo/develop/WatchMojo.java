@@ -22,7 +22,6 @@ import org.apache.maven.plugin.BuildPluginManager;
 import org.eclipse.jkube.generator.api.GeneratorContext;
 import org.eclipse.jkube.generator.api.GeneratorMode;
 import org.eclipse.jkube.kit.build.service.docker.watch.WatchContext;
-import org.eclipse.jkube.kit.common.util.KubernetesHelper;
 import org.eclipse.jkube.kit.config.image.build.JKubeConfiguration;
 import org.eclipse.jkube.kit.build.service.docker.ServiceHub;
 import org.eclipse.jkube.kit.common.KitLogger;
@@ -33,6 +32,7 @@ import org.eclipse.jkube.kit.config.resource.ProcessorConfig;
 import org.eclipse.jkube.kit.profile.ProfileUtil;
 import org.eclipse.jkube.kit.enricher.api.util.KubernetesResourceUtil;
 import org.eclipse.jkube.maven.plugin.mojo.ManifestProvider;
+import org.eclipse.jkube.maven.plugin.mojo.SessionCache;
 import org.eclipse.jkube.maven.plugin.mojo.build.AbstractDockerMojo;
 import org.eclipse.jkube.maven.plugin.watcher.WatcherManager;
 import org.eclipse.jkube.watcher.api.WatcherContext;
@@ -98,7 +98,7 @@ public class WatchMojo extends AbstractDockerMojo implements ManifestProvider {
         KubernetesResourceUtil.validateKubernetesMasterUrl(masterUrl);
 
         try {
-            Set<HasMetadata> resources = KubernetesHelper.loadResources(getManifest(kubernetesClient));
+            Set<HasMetadata> resources = SessionCache.from(getPluginContext(), log).loadResources(getManifest(clusterAccess));
             WatcherContext context = getWatcherContext();
 
             WatcherManager.watch(getResolvedImages(), resources, context);
@@ -136,11 +136,12 @@ public class WatchMojo extends AbstractDockerMojo implements ManifestProvider {
     protected GeneratorContext.GeneratorContextBuilder generatorContextBuilder() throws DependencyResolutionRequiredException {
         return GeneratorContext.builder()
             .config(extractGeneratorConfig())
-            .project(MavenUtil.convertMavenProjectToJKubeProject(project, session))
+            .project(javaProject)
             .logger(log)
             .runtimeMode(getConfiguredRuntimeMode())
             .useProjectClasspath(useProjectClasspath)
             .artifactResolver(jkubeServiceHub.getArtifactResolverService())
+            .projectClassLoaders(jkubeServiceHub.getProjectResourcesService().getProjectClassLoaders())
             .generatorMode(GeneratorMode.WATCH);
     }
 
@@ -0,0 +1,266 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.maven.plugin.mojo;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.client.DefaultKubernetesClient;
+import io.fabric8.openshift.client.OpenShiftClient;
+import mockit.Expectations;
+import mockit.Mocked;
+import mockit.Verifications;
+import org.apache.commons.io.FileUtils;
+import org.eclipse.jkube.kit.build.service.docker.helper.ConfigHelper;
+import org.eclipse.jkube.kit.common.JavaProject;
+import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.config.access.ClusterAccess;
+import org.eclipse.jkube.kit.config.access.ClusterConfiguration;
+import org.eclipse.jkube.kit.config.image.ImageConfiguration;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SessionCacheTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private Map<String, Object> pluginContext;
+
+  @Before
+  public void setUp() {
+    pluginContext = new HashMap<>();
+  }
+
+  @Test
+  public void from_withSamePluginContext_shouldReturnSameCache() {
+    // When
+    final SessionCache result = SessionCache.from(pluginContext);
+    // Then
+    assertThat(result).isSameAs(SessionCache.from(pluginContext));
+    assertThat(SessionCache.from(null)).isNotSameAs(SessionCache.from(null));
+  }
+
+  @Test
+  public void computeIfAbsent_withEqualFingerprint_shouldReuseCopyOfValue() {
+    // Given
+    final AtomicInteger loads = new AtomicInteger();
+    final ArrayList<String> first = SessionCache.from(pluginContext).computeIfAbsent(
+        "key", SessionCache.from(pluginContext).fingerprint("config", 1), () -> {
+          loads.incrementAndGet();
+          return new ArrayList<>(Collections.singletonList("value"));
+        });
+    first.add("modified");
+    // When
+    final ArrayList<String> result = SessionCache.from(pluginContext).computeIfAbsent(
+        "key", SessionCache.from(pluginContext).fingerprint("config", 1), () -> {
+          loads.incrementAndGet();
+          return new ArrayList<>();
+        });
+    // Then
+    assertThat(loads.get()).isEqualTo(1);
+    assertThat(result).containsExactly("value");
+  }
+
+  @Test
+  public void computeIfAbsent_withDifferentFingerprint_shouldRecompute() {
+    // Given
+    SessionCache.from(pluginContext).computeIfAbsent(
+        "key", SessionCache.from(pluginContext).fingerprint("config", 1), () -> new ArrayList<>(Collections.singletonList("value")));
+    // When
+    final ArrayList<String> result = SessionCache.from(pluginContext).computeIfAbsent(
+        "key", SessionCache.from(pluginContext).fingerprint("config", 2), () -> new ArrayList<>(Collections.singletonList("other")));
+    // Then
+    assertThat(result).containsExactly("other");
+  }
+
+  @Test
+  public void computeIfAbsent_withModifiedFingerprintValue_shouldRecompute() {
+    // Given
+    final HashMap<String, String> config = new HashMap<>();
+    config.put("option", "first");
+    final SessionCache sessionCache = SessionCache.from(pluginContext);
+    sessionCache.computeIfAbsent(
+        "key", sessionCache.fingerprint(config), () -> new ArrayList<>(Collections.singletonList("value")));
+    config.put("option", "second");
+    // When
+    final ArrayList<String> result = sessionCache.computeIfAbsent(
+        "key", sessionCache.fingerprint(config), () -> new ArrayList<>(Collections.singletonList("other")));
+    // Then
+    assertThat(result).containsExactly("other");
+  }
+
+  @Test
+  public void computeIfAbsent_withNotSerializableValue_shouldNotCacheAndLogDebug(@Mocked KitLogger log) {
+    // Given
+    final AtomicInteger loads = new AtomicInteger();
+    final SessionCache sessionCache = SessionCache.from(pluginContext, log);
+    final SessionCache.Loader<ArrayList<Object>, RuntimeException> loader = () -> {
+      loads.incrementAndGet();
+      return new ArrayList<>(Collections.singletonList(new Object()));
+    };
+    sessionCache.computeIfAbsent("key", sessionCache.fingerprint("config"), loader);
+    // When
+    sessionCache.computeIfAbsent("key", sessionCache.fingerprint("config"), loader);
+    // Then
+    assertThat(loads.get()).isEqualTo(2);
+    // @formatter:off
+    new Verifications() {{
+      log.debug(withPrefix("Cannot serialize %s"), (Object[]) any); times = 2;
+    }};
+    // @formatter:on
+  }
+
+  @Test
+  public void resolveImages_withUnrelatedPropertyModified_shouldReuseResolvedImages() {
+    // Given
+    final AtomicInteger resolutions = new AtomicInteger();
+    final JavaProject project = JavaProject.builder().properties(new Properties()).build();
+    final List<ImageConfiguration> images = Collections.singletonList(
+        ImageConfiguration.builder().name("foo/bar:latest").build());
+    SessionCache.from(pluginContext).resolveImages(images, project, image -> {
+      resolutions.incrementAndGet();
+      image.setName("modified/by:resolver");
+      return Collections.singletonList(image);
+    });
+    project.getProperties().setProperty("unrelated", "value");
+    // When
+    final List<ImageConfiguration> result = SessionCache.from(pluginContext).resolveImages(
+        Collections.singletonList(ImageConfiguration.builder().name("foo/bar:latest").build()), project, image -> {
+          resolutions.incrementAndGet();
+          return Collections.singletonList(image);
+        });
+    // Then
+    assertThat(resolutions.get()).isEqualTo(1);
+    assertThat(result).singleElement().hasFieldOrPropertyWithValue("name", "modified/by:resolver");
+  }
+
+  @Test
+  public void resolveImages_withImagePropertyModified_shouldResolveAgain() {
+    // Given
+    final AtomicInteger resolutions = new AtomicInteger();
+    final JavaProject project = JavaProject.builder().properties(new Properties()).build();
+    final List<ImageConfiguration> images = Collections.singletonList(
+        ImageConfiguration.builder().name("foo/bar:latest").build());
+    final ConfigHelper.Resolver resolver = image -> {
+      resolutions.incrementAndGet();
+      return Collections.singletonList(image);
+    };
+    SessionCache.from(pluginContext).resolveImages(images, project, resolver);
+    project.getProperties().setProperty("docker.from", "busybox");
+    // When
+    SessionCache.from(pluginContext).resolveImages(images, project, resolver);
+    // Then
+    assertThat(resolutions.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void from_withDifferentLoggers_shouldShareEntries(@Mocked KitLogger log) {
+    // Given
+    SessionCache.from(pluginContext, null).put("key", Collections.emptyList(), "value");
+    // When
+    final Optional<String> result = SessionCache.from(pluginContext, log).get("key", Collections.emptyList());
+    // Then
+    assertThat(result).contains("value");
+  }
+
+  @Test
+  public void loadResources_withUnmodifiedManifest_shouldReuseStoredResources() throws Exception {
+    // Given
+    final File manifest = temporaryFolder.newFile("kubernetes.yml");
+    FileUtils.write(manifest, "---\napiVersion: v1\nkind: List\nitems: []\n", StandardCharsets.UTF_8);
+    SessionCache.from(pluginContext).putResources(manifest, configMapList());
+    // When
+    final Set<HasMetadata> result = SessionCache.from(pluginContext).loadResources(manifest);
+    // Then
+    assertThat(result).singleElement()
+        .hasFieldOrPropertyWithValue("metadata.name", "cached");
+  }
+
+  @Test
+  public void loadResources_withModifiedManifest_shouldParseManifest() throws Exception {
+    // Given
+    final File manifest = temporaryFolder.newFile("kubernetes.yml");
+    SessionCache.from(pluginContext).putResources(manifest, configMapList());
+    FileUtils.write(manifest, "---\napiVersion: v1\nkind: List\nitems: []\n", StandardCharsets.UTF_8);
+    // When
+    final Set<HasMetadata> result = SessionCache.from(pluginContext).loadResources(manifest);
+    // Then
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  public void clusterAccess_withSameSessionAndEqualConfiguration_shouldDiscoverClusterOnce(
+      @Mocked DefaultKubernetesClient kubernetesClient, @Mocked KitLogger firstLog, @Mocked KitLogger secondLog) {
+    // Given
+    // @formatter:off
+    new Expectations() {{
+      kubernetesClient.isAdaptable(OpenShiftClient.class); result = true; times = 1;
+    }};
+    // @formatter:on
+    final Object session = new Object();
+    final ClusterAccess first = SessionCache.clusterAccess(session, firstLog,
+        ClusterConfiguration.builder().namespace("ns").build());
+    // When
+    final ClusterAccess result = SessionCache.clusterAccess(session, secondLog,
+        ClusterConfiguration.builder().namespace("ns").build());
+    // Then
+    assertThat(first.isOpenShift()).isTrue();
+    assertThat(result.isOpenShift()).isTrue();
+    assertThat(result).isNotSameAs(first);
+  }
+
+  @Test
+  public void clusterAccess_withDifferentSessionOrConfiguration_shouldNotShareClusterCapabilities(
+      @Mocked DefaultKubernetesClient kubernetesClient) {
+    // Given
+    final Object session = new Object();
+    final ClusterConfiguration clusterConfiguration = ClusterConfiguration.builder().namespace("ns").build();
+    SessionCache.clusterAccess(session, null, clusterConfiguration).getClusterCapabilities();
+    // When
+    SessionCache.clusterAccess(session, null, ClusterConfiguration.builder().namespace("other").build())
+        .getClusterCapabilities();
+    SessionCache.clusterAccess(new Object(), null, clusterConfiguration).getClusterCapabilities();
+    SessionCache.clusterAccess(null, null, clusterConfiguration).getClusterCapabilities();
+    // Then
+    // @formatter:off
+    new Verifications() {{
+      kubernetesClient.rootPaths(); times = 4;
+    }};
+    // @formatter:on
+  }
+
+  private static KubernetesList configMapList() {
+    return new KubernetesListBuilder()
+        .addToItems(new ConfigMapBuilder().withNewMetadata().withName("cached").endMetadata().build())
+        .build();
+  }
+}
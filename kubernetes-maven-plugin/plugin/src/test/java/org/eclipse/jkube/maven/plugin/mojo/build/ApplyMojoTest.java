@@ -24,7 +24,6 @@ import org.eclipse.jkube.kit.config.service.ApplyService;
 import org.eclipse.jkube.kit.config.service.JKubeServiceHub;
 
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
-import io.fabric8.openshift.client.OpenShiftClient;
 import mockit.Expectations;
 import mockit.Mocked;
 import org.apache.maven.project.MavenProject;
@@ -78,7 +77,7 @@ public class ApplyMojoTest {
       mavenProject.getVersion(); result = "1337";
       mavenProject.getDescription(); result = "A description from Maven";
       mavenProject.getParent(); result = null;
-      defaultKubernetesClient.isAdaptable(OpenShiftClient.class); result = false;
+      clusterAccess.isOpenShift(); result = false;
       defaultKubernetesClient.getMasterUrl();
       result = URI.create("https://www.example.com").toURL();
     }};
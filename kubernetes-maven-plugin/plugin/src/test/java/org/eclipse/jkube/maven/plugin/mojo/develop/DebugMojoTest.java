@@ -25,7 +25,6 @@ import org.eclipse.jkube.kit.config.service.ApplyService;
 import org.eclipse.jkube.kit.config.service.JKubeServiceHub;
 
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
-import io.fabric8.openshift.client.OpenShiftClient;
 import mockit.Expectations;
 import mockit.Mocked;
 import mockit.Verifications;
@@ -79,7 +78,7 @@ public class DebugMojoTest {
       mavenProject.getVersion(); result = "1337";
       mavenProject.getDescription(); result = "A description from Maven";
       mavenProject.getParent(); result = null;
-      defaultKubernetesClient.isAdaptable(OpenShiftClient.class); result = false;
+      clusterAccess.isOpenShift(); result = false;
       defaultKubernetesClient.getMasterUrl();
       result = URI.create("https://www.example.com").toURL();
     }};
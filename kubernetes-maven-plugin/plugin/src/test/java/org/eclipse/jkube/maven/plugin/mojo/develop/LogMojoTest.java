@@ -26,7 +26,6 @@ import org.eclipse.jkube.kit.config.service.JKubeServiceHub;
 import org.eclipse.jkube.kit.config.service.PodLogService;
 
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
-import io.fabric8.openshift.client.OpenShiftClient;
 import mockit.Expectations;
 import mockit.Mocked;
 import org.apache.maven.project.MavenProject;
@@ -81,7 +80,7 @@ public class LogMojoTest {
       mavenProject.getVersion(); result = "1337";
       mavenProject.getDescription(); result = "A description from Maven";
       mavenProject.getParent(); result = null;
-      defaultKubernetesClient.isAdaptable(OpenShiftClient.class); result = false;
+      clusterAccess.isOpenShift(); result = false;
       defaultKubernetesClient.getMasterUrl();
       result = URI.create("https://www.example.com").toURL();
     }};
@@ -13,8 +13,7 @@
  */
 package org.eclipse.jkube.maven.plugin.mojo;
 
-import io.fabric8.kubernetes.client.KubernetesClient;
-import org.eclipse.jkube.kit.common.util.OpenshiftHelper;
+import org.eclipse.jkube.kit.config.access.ClusterAccess;
 
 import java.io.File;
 
@@ -24,8 +23,8 @@ public class OpenShift {
 
   private OpenShift() {}
 
-  public static File getOpenShiftManifest(KubernetesClient kubernetesClient, File kubernetesManifest, File openShiftManifest) {
-    if (OpenshiftHelper.isOpenShift(kubernetesClient)) {
+  public static File getOpenShiftManifest(ClusterAccess clusterAccess, File kubernetesManifest, File openShiftManifest) {
+    if (clusterAccess.isOpenShift()) {
       return openShiftManifest;
     }
     return kubernetesManifest;
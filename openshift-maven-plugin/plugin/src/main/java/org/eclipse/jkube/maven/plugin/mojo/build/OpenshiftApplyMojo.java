@@ -13,8 +13,8 @@
  */
 package org.eclipse.jkube.maven.plugin.mojo.build;
 
-import io.fabric8.kubernetes.client.KubernetesClient;
 import org.apache.maven.plugins.annotations.Parameter;
+import org.eclipse.jkube.kit.config.access.ClusterAccess;
 import org.eclipse.jkube.maven.plugin.mojo.OpenShift;
 
 import org.apache.maven.plugins.annotations.LifecyclePhase;
@@ -36,8 +36,8 @@ public class OpenshiftApplyMojo extends ApplyMojo {
   private File openshiftManifest;
 
   @Override
-  public File getManifest(KubernetesClient kubernetesClient) {
-    return OpenShift.getOpenShiftManifest(kubernetesClient, getKubernetesManifest(), openshiftManifest);
+  public File getManifest(ClusterAccess clusterAccess) {
+    return OpenShift.getOpenShiftManifest(clusterAccess, getKubernetesManifest(), openshiftManifest);
   }
 
   @Override
@@ -58,6 +58,19 @@ public class OpenshiftBuildMojo extends BuildMojo {
     @Parameter(property = "jkube.s2i.imageStreamLookupPolicyLocal", defaultValue = "true")
     protected boolean s2iImageStreamLookupPolicyLocal = true;
 
+    /**
+     * Gzip compression level (1-9) used to compress the build archive before it's uploaded to the cluster.
+     * Use 0 to upload the archive uncompressed.
+     */
+    @Parameter(property = "jkube.build.uploadCompressionLevel", defaultValue = "3")
+    protected int uploadCompressionLevel = 3;
+
+    /**
+     * Number of times the upload of the build archive is retried if it fails because of a network or server error.
+     */
+    @Parameter(property = "jkube.build.uploadRetries", defaultValue = "3")
+    protected int uploadRetries = 3;
+
     @Override
     protected boolean isDockerAccessRequired() {
         return runtimeMode == KUBERNETES;
@@ -80,7 +93,9 @@ public class OpenshiftBuildMojo extends BuildMojo {
         return super.buildServiceConfigBuilder()
             .openshiftPullSecret(openshiftPullSecret)
             .s2iBuildNameSuffix(s2iBuildNameSuffix)
-            .s2iImageStreamLookupPolicyLocal(s2iImageStreamLookupPolicyLocal);
+            .s2iImageStreamLookupPolicyLocal(s2iImageStreamLookupPolicyLocal)
+            .openshiftBuildArchiveCompressionLevel(uploadCompressionLevel)
+            .openshiftBuildArchiveUploadRetries(uploadRetries);
     }
 
     @Override
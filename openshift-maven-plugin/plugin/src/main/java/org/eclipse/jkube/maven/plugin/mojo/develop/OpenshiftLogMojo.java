@@ -13,11 +13,11 @@
  */
 package org.eclipse.jkube.maven.plugin.mojo.develop;
 
-import io.fabric8.kubernetes.client.KubernetesClient;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.eclipse.jkube.kit.config.access.ClusterAccess;
 import org.eclipse.jkube.kit.config.service.PodLogService;
 import org.eclipse.jkube.maven.plugin.mojo.OpenShift;
 
@@ -46,8 +46,8 @@ public class OpenshiftLogMojo extends LogMojo {
   private File openshiftManifest;
 
   @Override
-  public File getManifest(KubernetesClient kubernetesClient) {
-    return OpenShift.getOpenShiftManifest(kubernetesClient, getKubernetesManifest(), openshiftManifest);
+  public File getManifest(ClusterAccess clusterAccess) {
+    return OpenShift.getOpenShiftManifest(clusterAccess, getKubernetesManifest(), openshiftManifest);
   }
 
   @Override
@@ -16,10 +16,10 @@ package org.eclipse.jkube.maven.plugin.mojo.develop;
 import java.io.File;
 import java.util.List;
 
+import org.eclipse.jkube.kit.config.access.ClusterAccess;
 import org.eclipse.jkube.kit.config.resource.RuntimeMode;
 import org.eclipse.jkube.maven.plugin.mojo.OpenShift;
 
-import io.fabric8.kubernetes.client.KubernetesClient;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
@@ -59,8 +59,8 @@ public class OpenshiftUndeployMojo extends UndeployMojo {
     }
 
     @Override
-    public File getManifest(KubernetesClient kubernetesClient) {
-        return OpenShift.getOpenShiftManifest(kubernetesClient, getKubernetesManifest(), openshiftManifest);
+    public File getManifest(ClusterAccess clusterAccess) {
+        return OpenShift.getOpenShiftManifest(clusterAccess, getKubernetesManifest(), openshiftManifest);
     }
 
     @Override
@@ -13,9 +13,9 @@
  */
 package org.eclipse.jkube.maven.plugin.mojo.develop;
 
-import io.fabric8.openshift.client.OpenShiftClient;
 import mockit.Expectations;
 import mockit.Mocked;
+import org.eclipse.jkube.kit.config.access.ClusterAccess;
 import org.eclipse.jkube.kit.config.resource.RuntimeMode;
 import org.eclipse.jkube.kit.config.service.JKubeServiceHub;
 import org.junit.Before;
@@ -38,6 +38,8 @@ public class OpenshiftUndeployMojoTest {
   public TemporaryFolder temporaryFolder = new TemporaryFolder();
   @Mocked
   private JKubeServiceHub mockServiceHub;
+  @Mocked
+  private ClusterAccess mockClusterAccess;
   private File kubernetesManifestFile;
   private File openShiftManifestFile;
   private File openShiftISManifestFile;
@@ -54,6 +56,7 @@ public class OpenshiftUndeployMojoTest {
       openshiftManifest = openShiftManifestFile;
       openshiftImageStreamManifest = openShiftISManifestFile;
       jkubeServiceHub = mockServiceHub;
+      clusterAccess = mockClusterAccess;
     }};
     // @formatter:on
   }
@@ -63,7 +66,7 @@ public class OpenshiftUndeployMojoTest {
     // Given
     // @formatter:off
     new Expectations() {{
-      mockServiceHub.getClient().isAdaptable(OpenShiftClient.class); result = true;
+      mockClusterAccess.isOpenShift(); result = true;
     }};
     // @formatter:on
     // When